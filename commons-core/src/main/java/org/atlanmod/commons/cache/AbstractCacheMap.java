@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * An abstract {@link ConcurrentMap} view of a {@link Cache} that is not backed by Caffeine.
+ * <p>
+ * All the atomic operations of the map are expressed with {@link #compute(Object, BiFunction)}, which must be
+ * implemented atomically by the cache. Iterators are weakly consistent: they iterate over a snapshot of the keys, and
+ * skip the keys that have been removed since.
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ */
+@ParametersAreNonnullByDefault
+abstract class AbstractCacheMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    /**
+     * The cache that backs this map.
+     */
+    @Nonnull
+    protected final Cache<K, V> cache;
+
+    /**
+     * The lazily created view of the entries of this map.
+     */
+    @Nullable
+    private Set<Entry<K, V>> entrySet;
+
+    /**
+     * Constructs a new {@code AbstractCacheMap}.
+     *
+     * @param cache the cache that backs this map
+     */
+    protected AbstractCacheMap(Cache<K, V> cache) {
+        this.cache = checkNotNull(cache, "cache");
+    }
+
+    /**
+     * Atomically computes a new value for the {@code key} from its current value, if any. If the function returns
+     * {@code null}, the mapping is removed.
+     *
+     * @param key               the key with which the value is to be associated
+     * @param remappingFunction the function to compute the new value, from the key and its current value
+     *
+     * @return the new value associated with the key, or {@code null} if none
+     */
+    @Nullable
+    @Override
+    public abstract V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * Returns the value associated with the {@code key} in the cache, without loading it.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the value, or {@code null} if the cache contains no mapping for the key
+     */
+    @Nullable
+    protected abstract V getIfPresent(K key);
+
+    /**
+     * Returns a snapshot of the keys of the cache.
+     *
+     * @return a collection of keys
+     */
+    @Nonnull
+    protected abstract Collection<K> keySnapshot();
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return getIfPresent((K) checkNotNull(key, "key"));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean containsKey(Object key) {
+        return cache.contains((K) checkNotNull(key, "key"));
+    }
+
+    @Nonnegative
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, cache.size());
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Nullable
+    @Override
+    public V put(K key, V value) {
+        checkNotNull(value, "value");
+
+        Object[] previous = new Object[1];
+        compute(key, (k, v) -> {
+            previous[0] = v;
+            return value;
+        });
+        return cast(previous[0]);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        Object[] previous = new Object[1];
+        compute((K) checkNotNull(key, "key"), (k, v) -> {
+            previous[0] = v;
+            return null;
+        });
+        return cast(previous[0]);
+    }
+
+    @Nullable
+    @Override
+    public V putIfAbsent(K key, V value) {
+        checkNotNull(value, "value");
+
+        Object[] previous = new Object[1];
+        compute(key, (k, v) -> {
+            previous[0] = v;
+            return isNull(v) ? value : v;
+        });
+        return cast(previous[0]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object key, Object value) {
+        boolean[] removed = new boolean[1];
+        compute((K) checkNotNull(key, "key"), (k, v) -> {
+            removed[0] = Objects.equals(v, value);
+            return removed[0] ? null : v;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        checkNotNull(newValue, "newValue");
+
+        boolean[] replaced = new boolean[1];
+        compute(key, (k, v) -> {
+            replaced[0] = Objects.equals(v, oldValue);
+            return replaced[0] ? newValue : v;
+        });
+        return replaced[0];
+    }
+
+    @Nullable
+    @Override
+    public V replace(K key, V value) {
+        checkNotNull(value, "value");
+
+        Object[] previous = new Object[1];
+        compute(key, (k, v) -> {
+            previous[0] = v;
+            return isNull(v) ? null : value;
+        });
+        return cast(previous[0]);
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (isNull(entrySet)) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Casts the given {@code value} to the type of values.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private V cast(@Nullable Object value) {
+        return (V) value;
+    }
+
+    /**
+     * A view of the entries of this map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator(keySnapshot().iterator());
+        }
+
+        @Override
+        public int size() {
+            return AbstractCacheMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            AbstractCacheMap.this.clear();
+        }
+    }
+
+    /**
+     * An iterator over the entries of this map, from a snapshot of its keys.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        /**
+         * The snapshot of the keys.
+         */
+        @Nonnull
+        private final Iterator<K> keys;
+
+        /**
+         * The next entry to return, or {@code null} if it has not been found yet.
+         */
+        @Nullable
+        private Entry<K, V> next;
+
+        /**
+         * The last returned entry, or {@code null} if it has been removed.
+         */
+        @Nullable
+        private Entry<K, V> last;
+
+        /**
+         * Constructs a new {@code EntryIterator}.
+         *
+         * @param keys the snapshot of the keys
+         */
+        EntryIterator(Iterator<K> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (isNull(next) && keys.hasNext()) {
+                K key = keys.next();
+                V value = getIfPresent(key);
+                if (nonNull(value)) {
+                    next = new SimpleImmutableEntry<>(key, value);
+                }
+            }
+            return nonNull(next);
+        }
+
+        @Nonnull
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            checkState(nonNull(last), "next() has not been called, or remove() has already been called");
+
+            AbstractCacheMap.this.remove(last.getKey(), last.getValue());
+            last = null;
+        }
+    }
+}
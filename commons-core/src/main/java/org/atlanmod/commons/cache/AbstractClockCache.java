@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkLessThanOrEqualTo;
+
+/**
+ * An abstract bounded cache with primitive keys, stored in a fixed-size open-addressing table with linear probing, and
+ * evicted with the <i>clock</i> algorithm.
+ * <p>
+ * A slot is empty when its value is {@code null}, so that keys do not need any sentinel. Removed entries are not
+ * replaced by tombstones: the following entries of the probe sequence are shifted backward instead. The table is
+ * never resized, and always contains at least one empty slot, so that probe sequences are always bounded.
+ * <p>
+ * Reads are performed without locking, with the optimistic mode of a {@link StampedLock}, and only fall back to a read
+ * lock if a concurrent update has been detected. Updates are performed under the write lock.
+ *
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+abstract class AbstractClockCache<V> {
+
+    /**
+     * The maximum number of entries of a cache.
+     */
+    @Nonnegative
+    public static final long MAXIMUM_SIZE = 1L << 29;
+
+    /**
+     * The multiplier used to spread the keys in the table, from the golden ratio.
+     */
+    protected static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The lock that guards the table.
+     */
+    @Nonnull
+    protected final StampedLock lock = new StampedLock();
+
+    /**
+     * The values of the table; {@code null} for an empty slot.
+     */
+    @Nonnull
+    protected final Object[] values;
+
+    /**
+     * The reference bits of the table, set when an entry is read, and cleared by the clock hand.
+     */
+    @Nonnull
+    protected final boolean[] referenced;
+
+    /**
+     * The number of bits of the index of a slot.
+     */
+    @Nonnegative
+    protected final int bits;
+
+    /**
+     * The mask used to wrap an index around the table.
+     */
+    protected final int mask;
+
+    /**
+     * The maximum number of entries of this cache.
+     */
+    @Nonnegative
+    protected final int maximumSize;
+
+    /**
+     * The statistics of this cache.
+     */
+    @Nonnull
+    protected final StatsCounter stats;
+
+    /**
+     * The number of entries of this cache.
+     */
+    @Nonnegative
+    private volatile int size;
+
+    /**
+     * The current position of the clock hand.
+     */
+    @Nonnegative
+    private int hand;
+
+    /**
+     * Constructs a new {@code AbstractClockCache}.
+     *
+     * @param maximumSize the maximum number of entries of this cache
+     * @param recordStats {@code true} if the statistics must be recorded
+     */
+    protected AbstractClockCache(@Nonnegative long maximumSize, boolean recordStats) {
+        checkGreaterThanOrEqualTo(maximumSize, 0L, "maximumSize (%d) must not be negative", maximumSize);
+        checkLessThanOrEqualTo(maximumSize, MAXIMUM_SIZE, "maximumSize (%d) must not be greater than %d", maximumSize, MAXIMUM_SIZE);
+
+        this.maximumSize = (int) maximumSize;
+        this.stats = new StatsCounter(recordStats);
+
+        // Keep the load factor under 0.75, with at least one empty slot
+        int minimumCapacity = (int) (maximumSize * 4 / 3) + 1;
+        int capacity = Math.max(2, Integer.highestOneBit(minimumCapacity - 1) << 1);
+        this.bits = Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+        this.values = new Object[capacity];
+        this.referenced = new boolean[capacity];
+    }
+
+    /**
+     * Returns the home slot of the key stored in the given {@code slot}.
+     *
+     * @param slot the slot of the key
+     *
+     * @return the index of the first slot of the probe sequence of the key
+     */
+    protected abstract int homeOf(int slot);
+
+    /**
+     * Moves the key stored in the slot {@code from} to the slot {@code to}.
+     *
+     * @param from the current slot of the key
+     * @param to   the new slot of the key
+     */
+    protected abstract void moveKey(int from, int to);
+
+    /**
+     * Returns the value stored in the given {@code slot}, or {@code null} if the {@code slot} is negative.
+     *
+     * @param slot the slot of the value
+     *
+     * @return the value
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected final V valueAt(int slot) {
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * Records the result of a lookup in the slot {@code slot}, found by the given {@code value}.
+     *
+     * @param slot  the slot of the entry
+     * @param value the value of the entry, or {@code null} if the lookup missed
+     *
+     * @return the {@code value}
+     */
+    @Nullable
+    protected final V recordRead(int slot, @Nullable V value) {
+        if (value != null) {
+            // Benign race: the reference bit is only a hint for the clock
+            referenced[slot] = true;
+            stats.recordHit();
+        }
+        else {
+            stats.recordMiss();
+        }
+        return value;
+    }
+
+    /**
+     * Stores the {@code value} in the empty {@code slot}, that has been found after a successful {@link #makeRoom()}.
+     * The caller must hold the write lock.
+     *
+     * @param slot  the slot of the entry
+     * @param value the value of the entry
+     */
+    protected final void insertAt(int slot, Object value) {
+        values[slot] = value;
+        referenced[slot] = false;
+        size++;
+    }
+
+    /**
+     * Evicts entries until this cache can contain a new entry. The caller must hold the write lock.
+     * <p>
+     * The clock hand goes around the table: the entries whose reference bit is set are given a second chance, and the
+     * first entry whose reference bit is clear is evicted. This terminates after at most two rounds.
+     *
+     * @return {@code false} if this cache cannot contain any entry, in which case the new entry is considered as
+     * immediately evicted
+     */
+    protected final boolean makeRoom() {
+        if (maximumSize == 0) {
+            stats.recordEviction();
+            return false;
+        }
+
+        while (size >= maximumSize) {
+            if (values[hand] == null) {
+                hand = (hand + 1) & mask;
+            }
+            else if (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) & mask;
+            }
+            else {
+                // The slot may now contain a shifted entry, that must be examined in turn
+                removeAt(hand);
+                stats.recordEviction();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the entry stored in the given {@code slot}, and shifts backward the following entries of its probe
+     * sequence. The caller must hold the write lock.
+     *
+     * @param slot the slot of the entry to remove
+     */
+    protected final void removeAt(int slot) {
+        int i = slot;
+        int j = slot;
+
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+
+            // The entry stays in place if its home is cyclically in ]i, j]
+            int home = homeOf(j);
+            boolean inPlace = i <= j
+                    ? i < home && home <= j
+                    : i < home || home <= j;
+
+            if (!inPlace) {
+                moveKey(j, i);
+                values[i] = values[j];
+                referenced[i] = referenced[j];
+                i = j;
+            }
+        }
+
+        values[i] = null;
+        referenced[i] = false;
+        size--;
+    }
+
+    /**
+     * Discards all entries in the cache.
+     */
+    public void invalidateAll() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(values, null);
+            Arrays.fill(referenced, false);
+            size = 0;
+            hand = 0;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of mappings
+     */
+    @Nonnegative
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns a current snapshot of this cache's cumulative statistics.
+     *
+     * @return the current snapshot of the statistics of this cache
+     */
+    @Nonnull
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    /**
+     * Returns a current snapshot of this cache's cumulative metrics.
+     *
+     * @return the current snapshot of the metrics of this cache
+     *
+     * @see Cache#metrics()
+     */
+    @Nonnull
+    public CacheMetrics metrics() {
+        return stats.metrics();
+    }
+}
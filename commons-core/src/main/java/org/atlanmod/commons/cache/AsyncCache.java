@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A semi-persistent mapping from keys to values, that loads its values asynchronously. Values are returned as {@link
+ * CompletableFuture}s, so a caller is never blocked by a load.
+ * <p>
+ * Implementations of this interface are expected to be thread-safe, and can be safely accessed by multiple concurrent
+ * threads.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @see CacheBuilder#buildAsync(Function)
+ * @see CacheBuilder#buildAsyncAll(Function)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public interface AsyncCache<K, V> {
+
+    /**
+     * Returns the future of the value associated with the {@code key} in this cache, or {@code null} if there is no
+     * cached future for the {@code key}.
+     *
+     * @param key key whose associated value is to be returned
+     *
+     * @return the current (existing or loading) future of the value, or {@code null}
+     */
+    @Nullable
+    CompletableFuture<V> getIfPresent(K key);
+
+    /**
+     * Returns the future of the value associated with the {@code key} in this cache, loading that value with the loader
+     * of this cache if necessary.
+     * <p>
+     * If the loader fails or returns {@code null}, the future is completed accordingly and the entry is removed from
+     * this cache.
+     *
+     * @param key key with which the specified value is to be associated
+     *
+     * @return the current (existing or loading) future of the value
+     */
+    @Nonnull
+    CompletableFuture<V> get(K key);
+
+    /**
+     * Returns the future of the value associated with the {@code key} in this cache, obtaining that value from the
+     * {@code mappingFunction} if necessary.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the function to asynchronously compute a value
+     *
+     * @return the current (existing or loading) future of the value
+     */
+    @Nonnull
+    CompletableFuture<V> get(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Returns the future of the values associated with the {@code keys}, loading the missing values with the loader of
+     * this cache. If the loader supports it, all the missing values are loaded in a single batch.
+     *
+     * @param keys the keys whose associated values are to be returned
+     *
+     * @return the future of an unmodifiable mapping of keys to values
+     */
+    @Nonnull
+    CompletableFuture<Map<K, V>> getAll(Iterable<? extends K> keys);
+
+    /**
+     * Associates the future {@code value} with the {@code key} in this cache. If the future fails or completes with
+     * {@code null}, the entry is removed.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value the future of the value to be associated with the specified key
+     */
+    void put(K key, CompletableFuture<? extends V> value);
+
+    /**
+     * Returns a view of the entries stored in this cache as a synchronous {@link Cache}. Operations on the view wait
+     * for the loads in progress.
+     *
+     * @return a thread-safe synchronous view of this cache
+     */
+    @Nonnull
+    Cache<K, V> synchronous();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Caffeine {@link CacheLoader} that loads values in batches, using a bulk function.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+@ParametersAreNonnullByDefault
+final class BulkCacheLoader<K, V> implements CacheLoader<K, V> {
+
+    /**
+     * The function used to obtain new values, from a set of keys.
+     */
+    @Nonnull
+    private final Function<? super Set<K>, ? extends Map<K, V>> bulkFunction;
+
+    /**
+     * Constructs a new {@code BulkCacheLoader}.
+     *
+     * @param bulkFunction the function used to obtain new values, from a set of keys
+     */
+    BulkCacheLoader(Function<? super Set<K>, ? extends Map<K, V>> bulkFunction) {
+        this.bulkFunction = checkNotNull(bulkFunction, "bulkFunction");
+    }
+
+    @Nullable
+    @Override
+    public V load(K key) {
+        return bulkFunction.apply(Collections.singleton(key)).get(key);
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<? extends K, ? extends V> loadAll(Set<? extends K> keys) {
+        return bulkFunction.apply(Collections.unmodifiableSet((Set<K>) keys));
+    }
+}
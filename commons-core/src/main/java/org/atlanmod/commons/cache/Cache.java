@@ -8,7 +8,11 @@
 
 package org.atlanmod.commons.cache;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -17,6 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.annotation.concurrent.ThreadSafe;
 
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
 /**
  * A semi-persistent mapping from keys to values. Cache entries are manually added using {@link #get(Object, Function)}
  * or {@link #put(Object, Object)}, and are stored in the cache until either evicted or manually invalidated.
@@ -73,6 +80,53 @@ public interface Cache<K, V> {
     @Nonnull
     Map<K, V> getAll(Iterable<? extends K> keys);
 
+    /**
+     * Returns a map of the values associated with the {@code keys} in this cache, obtaining the missing values from the
+     * {@code mappingFunction} in a single call.
+     * <p>
+     * The function receives the set of the keys that are not present in this cache, and returns the values of those it
+     * can load; the keys without value are not mapped. All the entries returned by the function are entered into this
+     * cache. Unless this cache {@linkplain CacheBuilder#coalesceLoads(java.time.Duration) coalesces its loads}, the
+     * concurrent calls for the same keys may load them several times.
+     * <p>
+     * The default implementation loads the missing keys, and puts the loaded values one by one.
+     *
+     * @param keys            the keys whose associated values are to be returned
+     * @param mappingFunction the function to compute the missing values, from a set of keys
+     *
+     * @return the unmodifiable mapping of keys to values for the specified keys, found in this cache or loaded
+     *
+     * @throws RuntimeException if the mappingFunction does so, in which case the mappings are left unestablished
+     */
+    @Nonnull
+    default Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        Map<K, V> result = new HashMap<>(getAll(keys));
+
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!result.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+
+        if (!missingKeys.isEmpty()) {
+            Map<? extends K, ? extends V> loaded = mappingFunction.apply(Collections.unmodifiableSet(missingKeys));
+            loaded.forEach(this::put);
+
+            for (K key : missingKeys) {
+                V value = loaded.get(key);
+                if (nonNull(value)) {
+                    result.put(key, value);
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
     /**
      * Associates the {@code value} with the {@code key} in this cache. If the cache previously contained a value
      * associated with the {@code key}, the old value is replaced by the new {@code value}.
@@ -142,8 +196,12 @@ public interface Cache<K, V> {
      * will continue to be returned by {@code get(key)} unless it is evicted. If the new value is loaded successfully it
      * will replace the previous value in the cache; if an exception is thrown while refreshing the previous value will
      * remain.
+     * <p>
+     * Only caches built with a loader can refresh their values: for other caches, this method does nothing.
      *
      * @param key key with which a value may be associated
+     *
+     * @see CacheBuilder#refreshAfterWrite(java.time.Duration)
      */
     void refresh(K key);
 
@@ -180,4 +238,21 @@ public interface Cache<K, V> {
      */
     @Nonnull
     CacheStats stats();
+
+    /**
+     * Returns a current snapshot of this cache's cumulative metrics: its {@link #stats()}, the distribution of the time
+     * spent loading new values, and the number of evictions by cause.
+     * <p>
+     * Like statistics, metrics are only recorded if the {@link CacheBuilder#recordStats()} method was called. The
+     * default implementation only reports the statistics of this cache, with an empty distribution of the load times
+     * and no eviction cause.
+     *
+     * @return the current snapshot of the metrics of this cache
+     *
+     * @see CacheMonitor
+     */
+    @Nonnull
+    default CacheMetrics metrics() {
+        return CacheMetrics.of(stats());
+    }
 }
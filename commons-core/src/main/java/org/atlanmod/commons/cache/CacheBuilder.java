@@ -9,9 +9,16 @@
 package org.atlanmod.commons.cache;
 
 import org.atlanmod.commons.annotation.Builder;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
 
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 
@@ -129,6 +136,31 @@ public interface CacheBuilder<K, V> {
      */
     <K1 extends K, V1 extends V> CacheBuilder<K, V> maximumWeight(@Nonnegative long maximumWeight, ToIntBiFunction<? super K1, ? extends V1> weigher);
 
+    /**
+     * Specifies the maximum number of bytes that the entries of the cache may retain in the heap.
+     * <p>
+     * This is a {@link #maximumWeight(long, ToIntBiFunction) maximum weight}, where the weight of each entry is the
+     * size of its key and its value, estimated by {@link MemoryEstimator}, plus the overhead of the entry in the cache.
+     * Like weights, sizes are estimated when entries are inserted into or updated in the cache: a value that is mutated
+     * while cached is not estimated again.
+     * <p>
+     * The estimation is exact for strings, primitive arrays and boxed primitives, and approximate for collections and
+     * other objects: this method is intended to bound caches whose values have very different sizes, where {@link
+     * #maximumSize(long)} is not relevant, and not to precisely account for the heap.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #maximumSize} or {@link #maximumWeight}.
+     *
+     * @param maximumBytes the maximum number of bytes retained by the entries of the cache
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code maximumBytes} is negative
+     * @throws IllegalStateException    if a maximum size or weight was already set
+     * @see MemoryEstimator#weigh(Object, Object)
+     */
+    @Nonnull
+    CacheBuilder<K, V> maximumMemory(@Nonnegative long maximumBytes);
+
     /**
      * Specifies that each key (not value) stored in the cache should be wrapped in a {@link WeakReference} (by default,
      * strong references are used).
@@ -181,6 +213,150 @@ public interface CacheBuilder<K, V> {
     @Nonnull
     CacheBuilder<K, V> softValues();
 
+    /**
+     * Specifies that the values should be stored outside of the Java heap, in direct memory, serialized with the given
+     * {@code serializer}.
+     * <p>
+     * The cache uses at most {@code maximumBytes} bytes of direct memory, allocated lazily, and evicts its entries by
+     * itself when this limit is reached: the entries that have been read recently are more likely to be kept. This
+     * reduces the size of the heap, and the pauses of the garbage collector, at the cost of a serialization on each
+     * write and a deserialization on each read. Note that the direct memory may be limited by the JVM, with the {@code
+     * -XX:MaxDirectMemorySize} option.
+     * <p>
+     * Off-heap caches can only be created with {@link #build()} or {@link #build(Function)}. This feature cannot be used
+     * in conjunction with {@link #maximumSize}, {@link #maximumWeight}, weak or soft references, expiration or
+     * refresh.
+     *
+     * @param maximumBytes the maximum number of bytes of direct memory used by the cache
+     * @param serializer   the serializer used to store the values
+     * @param <V1>         the value type of the cache
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code maximumBytes} is negative or zero
+     * @throws IllegalStateException    if the off-heap storage was already set, or if a second level was set
+     */
+    @Nonnull
+    <V1 extends V> CacheBuilder<K, V> offHeap(@Nonnegative long maximumBytes, BinarySerializer<V1> serializer);
+
+    /**
+     * Specifies that the entries evicted from the cache because of its size should be written to a second level,
+     * stored on the local disk in the given {@code directory} and serialized with the given serializers.
+     * <p>
+     * The second level is made of memory-mapped segment files, where the entries are appended. It is looked up each
+     * time a key is missing from the heap, and the entries found on the disk are promoted back to the heap. Its oldest
+     * segments are deleted when it exceeds {@code maximumBytes}. The index of the second level is rebuilt from its
+     * segments when a cache is created on the same directory: this provides a much larger cache for the same heap, and
+     * warm restarts.
+     * <p>
+     * The caches created with this feature implement {@link java.io.Closeable}: closing them writes the entries that
+     * are still on the heap to the disk, flushes the segments and releases the directory, which can only be used by one
+     * cache at the same time. The size of the heap level should be bounded with {@link #maximumSize} or {@link
+     * #maximumWeight}, otherwise the entries are only written to the disk when the cache is closed.
+     * <p>
+     * Disk-backed caches can only be created once per builder, with {@link #build()} or {@link #build(Function)}. This
+     * feature cannot be used in conjunction with off-heap storage, weak or soft references, expiration or refresh.
+     *
+     * @param directory       the directory of the second level; created if it does not exist
+     * @param maximumBytes    the maximum number of bytes of the second level
+     * @param keySerializer   the serializer used to store the keys on the disk
+     * @param valueSerializer the serializer used to store the values on the disk
+     * @param <K1>            the key type of the cache
+     * @param <V1>            the value type of the cache
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code maximumBytes} is negative or zero
+     * @throws IllegalStateException    if the second level was already set, or if the off-heap storage was set
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> CacheBuilder<K, V> diskTier(Path directory, @Nonnegative long maximumBytes, BinarySerializer<K1> keySerializer, BinarySerializer<V1> valueSerializer);
+
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+     * the entry's creation, or the most recent replacement of its value.
+     *
+     * @param duration the length of time after an entry is created that it should be automatically removed
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws IllegalStateException    if the time to live was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> expireAfterWrite(Duration duration);
+
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+     * the entry's creation, the most recent replacement of its value, or its last read.
+     *
+     * @param duration the length of time after an entry is last accessed that it should be automatically removed
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws IllegalStateException    if the time to idle was already set
+     */
+    @Nonnull
+    CacheBuilder<K, V> expireAfterAccess(Duration duration);
+
+    /**
+     * Specifies that active entries are eligible for automatic refresh once a fixed duration has elapsed after the
+     * entry's creation, or the most recent replacement of its value.
+     * <p>
+     * The refresh is triggered by the first read of an entry after this duration, and is performed asynchronously on
+     * the {@link #executor(Executor) executor}: the previous value is returned until the new value is loaded, so reads
+     * never wait for a refresh.
+     * <p>
+     * This feature is only available for caches built with a loader, such as {@link #build(Function)} or {@link
+     * #buildAll(Function)}.
+     *
+     * @param duration the length of time after an entry is created that it should be considered stale
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative or zero
+     * @throws IllegalStateException    if the refresh interval was already set
+     * @see Cache#refresh(Object)
+     */
+    @Nonnull
+    CacheBuilder<K, V> refreshAfterWrite(Duration duration);
+
+    /**
+     * Specifies the executor to use when running asynchronous tasks, such as refreshes, removal notifications or
+     * asynchronous loads. By default, the {@link ForkJoinPool#commonPool()} is used.
+     *
+     * @param executor the executor to use for asynchronous tasks
+     *
+     * @return this builder (for chaining)
+     */
+    @Nonnull
+    CacheBuilder<K, V> executor(Executor executor);
+
+    /**
+     * Specifies that the concurrent loads of the same keys must be coalesced, to protect the source of the values from
+     * bursts of identical requests when popular keys are missing.
+     * <p>
+     * When a key is missing, {@link Cache#get(Object, Function)} and {@link Cache#getAll(Iterable, Function)} only load
+     * it if no other thread is currently loading it, and otherwise wait for the result of that thread. The loads are
+     * made outside of the locks of the cache, and overlapping bulk loads are merged: a bulk load only loads the keys
+     * that are not already being loaded. The waits are counted by {@link CacheStats#coalescedWaitCount()}.
+     * <p>
+     * A thread waits at most {@code timeout} for the load of another thread, after which it fails with a {@link
+     * java.util.concurrent.CompletionException} caused by a {@link java.util.concurrent.TimeoutException}. A failure of
+     * the load is propagated to all waiting threads.
+     * <p>
+     * This feature is only available for caches built with {@link #build()}.
+     *
+     * @param timeout the maximum time to wait for the load of another thread
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code timeout} is negative or zero
+     */
+    @Nonnull
+    CacheBuilder<K, V> coalesceLoads(Duration timeout);
+
     /**
      * Builds a {@link Cache} which does not automatically load values when keys are requested.
      * <p>
@@ -208,4 +384,88 @@ public interface CacheBuilder<K, V> {
      */
     @Nonnull
     <K1 extends K, V1 extends V> Cache<K1, V1> build(Function<? super K1, ? extends V1> mappingFunction);
+
+    /**
+     * Builds a {@link Cache} that loads its missing values in batches, with the supplied {@code bulkFunction}.
+     * <p>
+     * {@link Cache#getAll(Iterable)} calls the function once with all the missing keys, instead of loading each key
+     * separately. A single missing key is loaded by calling the function with a singleton set. Keys that are absent
+     * from the returned map are not cached; additional entries are cached.
+     *
+     * @param bulkFunction the function used to obtain new values, from a set of keys
+     * @param <K1>         the key type of the loader
+     * @param <V1>         the value type of the loader
+     *
+     * @return a new cache
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> Cache<K1, V1> buildAll(Function<? super Set<K1>, ? extends Map<K1, V1>> bulkFunction);
+
+    /**
+     * Builds an {@link AsyncCache} that loads its values asynchronously on the {@link #executor(Executor) executor},
+     * using the supplied {@link Function}.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #weakValues()} or {@link #softValues()}.
+     *
+     * @param mappingFunction the function used to obtain new values
+     * @param <K1>            the key type of the loader
+     * @param <V1>            the value type of the loader
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if weak or soft values are used
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction);
+
+    /**
+     * Builds an {@link AsyncCache} that loads its values asynchronously on the {@link #executor(Executor) executor}, in
+     * batches, using the supplied {@code bulkFunction}.
+     * <p>
+     * This feature cannot be used in conjunction with {@link #weakValues()} or {@link #softValues()}.
+     *
+     * @param bulkFunction the function used to obtain new values, from a set of keys
+     * @param <K1>         the key type of the loader
+     * @param <V1>         the value type of the loader
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if weak or soft values are used
+     * @see #buildAll(Function)
+     */
+    @Nonnull
+    <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsyncAll(Function<? super Set<K1>, ? extends Map<K1, V1>> bulkFunction);
+
+    /**
+     * Builds a {@link LongCache}, whose keys are primitive {@code long}s stored without boxing.
+     * <p>
+     * A primitive cache is always bounded: its table is allocated once from the {@link #maximumSize(long) maximum
+     * size}, and the {@link #initialCapacity(int) initial capacity} is ignored. Only the maximum size and the {@link
+     * #recordStats() statistics} are supported: weights, weak or soft references, expiration and refresh are not.
+     *
+     * @param <V1> the value type of the cache
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if no maximum size has been set, or if an unsupported feature has been set
+     */
+    @Nonnull
+    <V1 extends V> LongCache<V1> buildLong();
+
+    /**
+     * Builds an {@link IntCache}, whose keys are primitive {@code int}s stored without boxing.
+     * <p>
+     * A primitive cache is always bounded: its table is allocated once from the {@link #maximumSize(long) maximum
+     * size}, and the {@link #initialCapacity(int) initial capacity} is ignored. Only the maximum size and the {@link
+     * #recordStats() statistics} are supported: weights, weak or soft references, expiration and refresh are not.
+     *
+     * @param <V1> the value type of the cache
+     *
+     * @return a new cache
+     *
+     * @throws IllegalStateException if no maximum size has been set, or if an unsupported feature has been set
+     * @see #buildLong()
+     */
+    @Nonnull
+    <V1 extends V> IntCache<V1> buildInt();
 }
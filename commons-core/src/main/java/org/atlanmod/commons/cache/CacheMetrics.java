@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.LatencyDistribution;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * Metrics about the performance of a {@link Cache}: its {@link CacheStats}, the distribution of the time spent loading
+ * new values, and the number of evictions by cause.
+ * <p>
+ * Like {@link CacheStats}, metrics are cumulative: the metrics of an interval are obtained by subtracting two snapshots
+ * with {@link #minus(CacheMetrics)}.
+ *
+ * @see Cache#metrics()
+ * @see CacheMonitor
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+public final class CacheMetrics {
+
+    /**
+     * The statistics of the cache.
+     */
+    @Nonnull
+    private final CacheStats stats;
+
+    /**
+     * The distribution of the load times (success and failure).
+     */
+    @Nonnull
+    private final LatencyDistribution loadLatencies;
+
+    /**
+     * The number of evictions, indexed by the ordinal of their cause.
+     */
+    @Nonnull
+    private final long[] evictionCounts;
+
+    /**
+     * Constructs a new {@code CacheMetrics}.
+     *
+     * @param stats          the statistics of the cache
+     * @param loadLatencies  the distribution of the load times (success and failure)
+     * @param evictionCounts the number of evictions, indexed by the ordinal of their cause
+     */
+    CacheMetrics(CacheStats stats, LatencyDistribution loadLatencies, long[] evictionCounts) {
+        checkArgument(evictionCounts.length == EvictionCause.values().length, "evictionCounts must contain a count for each cause");
+
+        this.stats = checkNotNull(stats, "stats");
+        this.loadLatencies = checkNotNull(loadLatencies, "loadLatencies");
+        this.evictionCounts = evictionCounts;
+    }
+
+    /**
+     * Creates a new {@code CacheMetrics} that only contains the given {@code stats}, without load time nor eviction
+     * cause.
+     *
+     * @param stats the statistics of the cache
+     *
+     * @return new metrics
+     */
+    @Nonnull
+    static CacheMetrics of(CacheStats stats) {
+        return new CacheMetrics(stats, LatencyDistribution.empty(), new long[EvictionCause.values().length]);
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    @Nonnull
+    public CacheStats stats() {
+        return stats;
+    }
+
+    /**
+     * Returns the distribution of the time spent loading new values, successfully or not.
+     *
+     * @return the distribution of the load times
+     */
+    @Nonnull
+    public LatencyDistribution loadLatencies() {
+        return loadLatencies;
+    }
+
+    /**
+     * Returns the number of entries that have been evicted for the given {@code cause}.
+     *
+     * @param cause the cause of the evictions
+     *
+     * @return the number of evictions
+     */
+    @Nonnegative
+    public long evictionCount(EvictionCause cause) {
+        checkNotNull(cause, "cause");
+
+        return evictionCounts[cause.ordinal()];
+    }
+
+    /**
+     * Returns a new {@code CacheMetrics} representing the difference between this {@code CacheMetrics} and {@code
+     * other}. Negative values will be rounded up to zero.
+     *
+     * @param other the metrics to subtract with
+     *
+     * @return the difference between this instance and {@code other}
+     *
+     * @see CacheStats#minus(CacheStats)
+     */
+    @Nonnull
+    public CacheMetrics minus(CacheMetrics other) {
+        long[] difference = new long[evictionCounts.length];
+        for (int i = 0; i < difference.length; i++) {
+            difference[i] = Math.max(0L, evictionCounts[i] - other.evictionCounts[i]);
+        }
+
+        return new CacheMetrics(
+                stats.minus(other.stats),
+                loadLatencies.minus(other.loadLatencies),
+                difference);
+    }
+
+    /**
+     * Returns a new {@code CacheMetrics} representing the sum of this {@code CacheMetrics} and {@code other}.
+     *
+     * @param other the metrics to add with
+     *
+     * @return the sum of the metrics
+     *
+     * @see CacheStats#plus(CacheStats)
+     */
+    @Nonnull
+    public CacheMetrics plus(CacheMetrics other) {
+        long[] sum = new long[evictionCounts.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = evictionCounts[i] + other.evictionCounts[i];
+        }
+
+        return new CacheMetrics(
+                stats.plus(other.stats),
+                loadLatencies.plus(other.loadLatencies),
+                sum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stats, loadLatencies, Arrays.hashCode(evictionCounts));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CacheMetrics that = (CacheMetrics) o;
+        return stats.equals(that.stats)
+                && loadLatencies.equals(that.loadLatencies)
+                && Arrays.equals(evictionCounts, that.evictionCounts);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheMetrics {"
+                        + "Stats = %s, "
+                        + "Load Latencies = %s, "
+                        + "Evictions = %s"
+                        + '}',
+                stats,
+                loadLatencies,
+                Arrays.toString(evictionCounts));
+    }
+}
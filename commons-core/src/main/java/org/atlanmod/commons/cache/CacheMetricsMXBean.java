@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.LatencyDistribution;
+
+/**
+ * The management interface of the metrics of a cache, registered by a {@link JmxCacheReporter}.
+ * <p>
+ * Unless stated otherwise, the attributes describe the last interval reported by a {@link CacheMonitor}, and the
+ * durations are expressed in nanoseconds.
+ */
+public interface CacheMetricsMXBean {
+
+    /**
+     * Returns the number of lookups.
+     *
+     * @return the number of lookups
+     *
+     * @see CacheStats#requestCount()
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of lookups that have returned a cached value.
+     *
+     * @return the number of hits
+     *
+     * @see CacheStats#hitCount()
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups that have returned an uncached value, or {@code null}.
+     *
+     * @return the number of misses
+     *
+     * @see CacheStats#missCount()
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of lookups that were hits.
+     *
+     * @return the hit rate
+     *
+     * @see CacheStats#hitRate()
+     */
+    double getHitRate();
+
+    /**
+     * Returns the number of values that have been successfully loaded.
+     *
+     * @return the number of successful loads
+     *
+     * @see CacheStats#loadSuccessCount()
+     */
+    long getLoadSuccessCount();
+
+    /**
+     * Returns the number of values that have failed to load.
+     *
+     * @return the number of failed loads
+     *
+     * @see CacheStats#loadFailureCount()
+     */
+    long getLoadFailureCount();
+
+    /**
+     * Returns the average time spent loading new values.
+     *
+     * @return the average load penalty
+     *
+     * @see CacheStats#averageLoadPenalty()
+     */
+    double getAverageLoadPenalty();
+
+    /**
+     * Returns the median of the load times.
+     *
+     * @return the 50th percentile of the load times
+     *
+     * @see LatencyDistribution#p50()
+     */
+    long getLoadLatencyP50();
+
+    /**
+     * Returns the 99th percentile of the load times.
+     *
+     * @return the 99th percentile of the load times
+     *
+     * @see LatencyDistribution#p99()
+     */
+    long getLoadLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the load times.
+     *
+     * @return the 99.9th percentile of the load times
+     *
+     * @see LatencyDistribution#p999()
+     */
+    long getLoadLatencyP999();
+
+    /**
+     * Returns the highest load time.
+     *
+     * @return the highest load time
+     *
+     * @see LatencyDistribution#max()
+     */
+    long getLoadLatencyMax();
+
+    /**
+     * Returns the number of evictions, for any cause.
+     *
+     * @return the number of evictions
+     *
+     * @see CacheStats#evictionCount()
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of evictions caused by the size of the cache.
+     *
+     * @return the number of evictions
+     *
+     * @see EvictionCause#SIZE
+     */
+    long getSizeEvictionCount();
+
+    /**
+     * Returns the number of evictions caused by expiration.
+     *
+     * @return the number of evictions
+     *
+     * @see EvictionCause#EXPIRED
+     */
+    long getExpiredEvictionCount();
+
+    /**
+     * Returns the number of evictions caused by the garbage collector.
+     *
+     * @return the number of evictions
+     *
+     * @see EvictionCause#COLLECTED
+     */
+    long getCollectedEvictionCount();
+
+    /**
+     * Returns the number of lookups that have waited for a concurrent load of the same key.
+     *
+     * @return the number of coalesced waits
+     *
+     * @see CacheStats#coalescedWaitCount()
+     */
+    long getCoalescedWaitCount();
+
+    /**
+     * Returns the number of lookups since the creation of the cache.
+     *
+     * @return the cumulative number of lookups
+     */
+    long getTotalRequestCount();
+
+    /**
+     * Returns the ratio of lookups that were hits since the creation of the cache.
+     *
+     * @return the cumulative hit rate
+     */
+    double getTotalHitRate();
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.MetricsMonitor;
+import org.atlanmod.commons.service.ServiceDefinition;
+import org.atlanmod.commons.service.ServiceProvider;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An object that periodically collects the {@link CacheMetrics} of registered caches, and publishes them to {@link
+ * CacheReporter}s.
+ * <p>
+ * On each report, the metrics of each cache are snapshot, and subtracted from the previous snapshot with {@link
+ * CacheMetrics#minus(CacheMetrics)}: the reporters receive both the metrics of the last interval, such as the hit rate
+ * or the load time percentiles of the last minute, and the cumulative metrics. The reports are made by a single daemon
+ * thread, and can also be triggered manually with {@link #report()}.
+ * <p>
+ * The metrics are only recorded by the caches built with {@link CacheBuilder#recordStats()}.
+ *
+ * @see MetricsMonitor
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class CacheMonitor implements Closeable {
+
+    /**
+     * The monitor that collects and reports the metrics.
+     */
+    @Nonnull
+    private final MetricsMonitor<CacheMetrics> monitor;
+
+    /**
+     * Constructs a new {@code CacheMonitor}.
+     *
+     * @param period    the period between two reports
+     * @param reporters the reporters that publish the metrics
+     */
+    private CacheMonitor(Duration period, List<CacheReporter> reporters) {
+        this.monitor = MetricsMonitor.create("cache-monitor", period, CacheMetrics::minus, reporters);
+    }
+
+    /**
+     * Creates a new {@code CacheMonitor} that reports the metrics to the given {@code reporters}.
+     *
+     * @param period    the period between two reports
+     * @param reporters the reporters that publish the metrics
+     *
+     * @return a new monitor
+     *
+     * @throws IllegalArgumentException if {@code period} is negative or zero, or if no reporter is given
+     */
+    @Nonnull
+    public static CacheMonitor create(Duration period, CacheReporter... reporters) {
+        checkNotNull(reporters, "reporters");
+        checkArgument(reporters.length > 0, "at least one reporter must be given");
+
+        return new CacheMonitor(period, Arrays.asList(reporters));
+    }
+
+    /**
+     * Creates a new {@code CacheMonitor} that reports the metrics to the {@link CacheReporter}s registered as
+     * services.
+     *
+     * @param period the period between two reports
+     *
+     * @return a new monitor
+     *
+     * @throws IllegalArgumentException if {@code period} is negative or zero
+     * @see ServiceProvider
+     */
+    @Nonnull
+    public static CacheMonitor createWithServices(Duration period) {
+        List<CacheReporter> reporters = ServiceProvider.getInstance()
+                .load(CacheReporter.class)
+                .map(ServiceDefinition::get)
+                .collect(Collectors.toList());
+
+        return new CacheMonitor(period, reporters);
+    }
+
+    /**
+     * Starts monitoring the {@code cache}.
+     *
+     * @param name  the name of the cache, unique in this monitor
+     * @param cache the cache to monitor
+     *
+     * @throws IllegalStateException if a cache with the same name is already monitored
+     */
+    public void register(String name, Cache<?, ?> cache) {
+        checkNotNull(cache, "cache");
+
+        monitor.register(name, cache::metrics);
+    }
+
+    /**
+     * Starts monitoring a cache from its {@code metrics}, such as the metrics of a {@link LongCache}.
+     *
+     * @param name    the name of the cache, unique in this monitor
+     * @param metrics the function that returns the current metrics of the cache
+     *
+     * @throws IllegalStateException if a cache with the same name is already monitored
+     */
+    public void register(String name, Supplier<CacheMetrics> metrics) {
+        monitor.register(name, metrics);
+    }
+
+    /**
+     * Stops monitoring a cache, and removes it from the reporters.
+     *
+     * @param name the name of the cache
+     */
+    public void unregister(String name) {
+        monitor.unregister(name);
+    }
+
+    /**
+     * Collects the metrics of all the monitored caches, and publishes them to the reporters.
+     */
+    public void report() {
+        monitor.report();
+    }
+
+    /**
+     * Stops the periodic reports, publishes a last report of the current interval, and removes all the caches from the
+     * reporters.
+     */
+    @Override
+    public void close() {
+        monitor.close();
+    }
+}
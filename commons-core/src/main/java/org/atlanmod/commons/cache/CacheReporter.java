@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.MetricsReporter;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A service that publishes the {@link CacheMetrics} periodically collected by a {@link CacheMonitor}, for instance to a
+ * monitoring system.
+ * <p>
+ * Reporters are either given to {@link CacheMonitor#create(java.time.Duration, CacheReporter...)}, or registered as
+ * services and discovered by {@link CacheMonitor#createWithServices(java.time.Duration)}. A reporter is always called
+ * from a single thread at a time.
+ *
+ * @see JmxCacheReporter
+ */
+@ParametersAreNonnullByDefault
+public interface CacheReporter extends MetricsReporter<CacheMetrics> {
+}
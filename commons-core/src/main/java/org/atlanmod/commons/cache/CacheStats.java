@@ -62,6 +62,12 @@ public final class CacheStats {
     @Nonnegative
     private final long evictionCount;
 
+    /**
+     * The number of lookups that have waited for a load of the same key by another thread.
+     */
+    @Nonnegative
+    private final long coalescedWaitCount;
+
     /**
      * Constructs a new {@code CacheStats}.
      *
@@ -73,12 +79,28 @@ public final class CacheStats {
      * @param evictionCount    the number of entries evicted from the cache
      */
     protected CacheStats(@Nonnegative long hitCount, @Nonnegative long missCount, @Nonnegative long loadSuccessCount, @Nonnegative long loadFailureCount, @Nonnegative long totalLoadTime, @Nonnegative long evictionCount) {
+        this(hitCount, missCount, loadSuccessCount, loadFailureCount, totalLoadTime, evictionCount, 0L);
+    }
+
+    /**
+     * Constructs a new {@code CacheStats}.
+     *
+     * @param hitCount           the number of cache hits
+     * @param missCount          the number of cache misses
+     * @param loadSuccessCount   the number of successful cache loads
+     * @param loadFailureCount   the number of failed cache loads
+     * @param totalLoadTime      the total load time (success and failure) in nanoseconds
+     * @param evictionCount      the number of entries evicted from the cache
+     * @param coalescedWaitCount the number of lookups that have waited for a load of the same key by another thread
+     */
+    protected CacheStats(@Nonnegative long hitCount, @Nonnegative long missCount, @Nonnegative long loadSuccessCount, @Nonnegative long loadFailureCount, @Nonnegative long totalLoadTime, @Nonnegative long evictionCount, @Nonnegative long coalescedWaitCount) {
         checkGreaterThanOrEqualTo(hitCount, 0L, "hitCount (%d) must not be negative", hitCount);
         checkGreaterThanOrEqualTo(missCount, 0L, "missCount (%d) must not be negative", missCount);
         checkGreaterThanOrEqualTo(loadSuccessCount, 0L, "loadSuccessCount (%d) must not be negative", loadSuccessCount);
         checkGreaterThanOrEqualTo(loadFailureCount, 0L, "loadFailureCount (%d) must not be negative", loadFailureCount);
         checkGreaterThanOrEqualTo(totalLoadTime, 0L, "totalLoadTime (%d) must not be negative", totalLoadTime);
         checkGreaterThanOrEqualTo(evictionCount, 0L, "evictionCount (%d) must not be negative", evictionCount);
+        checkGreaterThanOrEqualTo(coalescedWaitCount, 0L, "coalescedWaitCount (%d) must not be negative", coalescedWaitCount);
 
         this.hitCount = hitCount;
         this.missCount = missCount;
@@ -86,6 +108,7 @@ public final class CacheStats {
         this.loadFailureCount = loadFailureCount;
         this.totalLoadTime = totalLoadTime;
         this.evictionCount = evictionCount;
+        this.coalescedWaitCount = coalescedWaitCount;
     }
 
     /**
@@ -235,6 +258,19 @@ public final class CacheStats {
         return evictionCount;
     }
 
+    /**
+     * Returns the number of times a lookup has waited for a value that was being loaded by another thread, instead of
+     * loading it again. Only the caches that coalesce their loads record this count.
+     *
+     * @return the number of times a lookup has waited for a concurrent load of the same key
+     *
+     * @see CacheBuilder#coalesceLoads(Duration)
+     */
+    @Nonnegative
+    public long coalescedWaitCount() {
+        return coalescedWaitCount;
+    }
+
     /**
      * Returns a new {@code CacheStats} representing the difference between this {@code CacheStats} and {@code other}.
      * Negative values, which aren't supported by {@code CacheStats} will be rounded up to zero.
@@ -251,7 +287,8 @@ public final class CacheStats {
                 Math.max(0L, loadSuccessCount - other.loadSuccessCount),
                 Math.max(0L, loadFailureCount - other.loadFailureCount),
                 Math.max(0L, totalLoadTime - other.totalLoadTime),
-                Math.max(0L, evictionCount - other.evictionCount));
+                Math.max(0L, evictionCount - other.evictionCount),
+                Math.max(0L, coalescedWaitCount - other.coalescedWaitCount));
     }
 
     /**
@@ -269,12 +306,13 @@ public final class CacheStats {
                 loadSuccessCount + other.loadSuccessCount,
                 loadFailureCount + other.loadFailureCount,
                 totalLoadTime + other.totalLoadTime,
-                evictionCount + other.evictionCount);
+                evictionCount + other.evictionCount,
+                coalescedWaitCount + other.coalescedWaitCount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(hitCount, missCount, loadSuccessCount, loadFailureCount, totalLoadTime, evictionCount);
+        return Objects.hash(hitCount, missCount, loadSuccessCount, loadFailureCount, totalLoadTime, evictionCount, coalescedWaitCount);
     }
 
     @Override
@@ -292,7 +330,8 @@ public final class CacheStats {
                 && loadSuccessCount == that.loadSuccessCount
                 && loadFailureCount == that.loadFailureCount
                 && totalLoadTime == that.totalLoadTime
-                && evictionCount == that.evictionCount;
+                && evictionCount == that.evictionCount
+                && coalescedWaitCount == that.coalescedWaitCount;
     }
 
     @Override
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Caffeine {@link AsyncCache} implementation.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ParametersAreNonnullByDefault
+final class CaffeineAsyncCache<K, V> implements AsyncCache<K, V> {
+
+    /**
+     * The internal cache implementation.
+     */
+    @Nonnull
+    private final AsyncLoadingCache<K, V> cache;
+
+    /**
+     * The synchronous view of this cache.
+     */
+    @Nonnull
+    private final Cache<K, V> synchronous;
+
+    /**
+     * Constructs a new {@code CaffeineAsyncCache}.
+     *
+     * @param cache the internal cache implementation
+     * @param stats the counter that accumulates the statistics of the internal cache
+     */
+    CaffeineAsyncCache(AsyncLoadingCache<K, V> cache, StatsCounter stats) {
+        this.cache = cache;
+        this.synchronous = new CaffeineLoadingCache<>(cache.synchronous(), stats);
+    }
+
+    @Nullable
+    @Override
+    public CompletableFuture<V> getIfPresent(K key) {
+        checkNotNull(key, "key");
+
+        return cache.getIfPresent(key);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<V> get(K key) {
+        checkNotNull(key, "key");
+
+        return cache.get(key);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<V> get(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        return cache.get(key, mappingFunction);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Map<K, V>> getAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        return cache.getAll(keys);
+    }
+
+    @Override
+    public void put(K key, CompletableFuture<? extends V> value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        cache.put(key, value);
+    }
+
+    @Nonnull
+    @Override
+    public Cache<K, V> synchronous() {
+        return synchronous;
+    }
+}
@@ -10,14 +10,27 @@ package org.atlanmod.commons.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
 import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
 import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
 
 /**
  * A Caffeine {@link CacheBuilder} implementation.
@@ -34,6 +47,94 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Nonnull
     private final Caffeine<Object, Object> builder;
 
+    /**
+     * The maximum size of the cache, or {@code -1} if not set. Used by primitive caches.
+     */
+    private long maximumSize = -1;
+
+    /**
+     * Whether the statistics must be recorded. Used by primitive caches.
+     */
+    private boolean recordStats;
+
+    /**
+     * The counter of the Caffeine cache being built, given to Caffeine when it creates the cache, or {@code null} if no
+     * cache is being built.
+     */
+    @Nullable
+    private StatsCounter pendingStatsCounter;
+
+    /**
+     * The last disk-backed cache built, to which the entries evicted from the first level are handed over, or {@code
+     * null} if none. A single one can be open at a time, since its directory is locked.
+     */
+    @Nullable
+    private TieredCache<?, ?> currentTier;
+
+    /**
+     * The name of the first feature that has been set and that is not supported by primitive caches, or {@code null}.
+     */
+    @Nullable
+    private String unsupportedFeature;
+
+    /**
+     * The initial capacity of the cache, or {@code -1} if not set. Used by off-heap caches.
+     */
+    private int initialCapacity = -1;
+
+    /**
+     * The executor used to run asynchronous tasks. Used by off-heap caches.
+     */
+    @Nonnull
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * The maximum number of bytes of an off-heap cache, or {@code -1} if not set.
+     */
+    private long maximumBytes = -1;
+
+    /**
+     * The serializer used to store the values of an off-heap cache, or {@code null} if not set.
+     */
+    @Nullable
+    private BinarySerializer<?> serializer;
+
+    /**
+     * The directory of the second level of a disk-backed cache, or {@code null} if not set.
+     */
+    @Nullable
+    private Path directory;
+
+    /**
+     * The maximum number of bytes of the second level of a disk-backed cache, or {@code -1} if not set.
+     */
+    private long maximumDiskBytes = -1;
+
+    /**
+     * The serializer used to store the keys of a disk-backed cache, or {@code null} if not set.
+     */
+    @Nullable
+    private BinarySerializer<?> diskKeySerializer;
+
+    /**
+     * The serializer used to store the values of a disk-backed cache, or {@code null} if not set.
+     */
+    @Nullable
+    private BinarySerializer<?> diskValueSerializer;
+
+    /**
+     * The name of the first feature that has been set and that removes entries without writing them to the disk, or
+     * {@code null}.
+     */
+    @Nullable
+    private String nonPersistentFeature;
+
+    /**
+     * The maximum time to wait for a concurrent load of the same key, or {@code null} if the loads are not coalesced.
+     */
+    @Nullable
+    private Duration coalescingTimeout;
+
     /**
      * Constructs a new {@code CacheBuilder}.
      */
@@ -44,7 +145,14 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Nonnull
     @Override
     public CacheBuilder<K, V> recordStats() {
-        builder.recordStats();
+        if (!recordStats) {
+            // Caffeine can only be configured once: the counter of each cache is created by withStats(Function), and
+            // the caches that keep their own statistics, such as the first level of a tiered cache, do not record any
+            builder.recordStats(() -> nonNull(pendingStatsCounter)
+                    ? new CaffeineStatsCounter(pendingStatsCounter)
+                    : com.github.benmanes.caffeine.cache.stats.StatsCounter.disabledStatsCounter());
+            recordStats = true;
+        }
         return this;
     }
 
@@ -52,6 +160,7 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Override
     public CacheBuilder<K, V> initialCapacity(int initialCapacity) {
         builder.initialCapacity(initialCapacity);
+        this.initialCapacity = initialCapacity;
         return this;
     }
 
@@ -61,6 +170,7 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
         checkGreaterThanOrEqualTo(maximumSize, 0L, "maximumSize (%d) must not be negative", maximumSize);
 
         builder.maximumSize(maximumSize);
+        this.maximumSize = maximumSize;
         return this;
     }
 
@@ -70,6 +180,18 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
 
         builder.maximumWeight(maximumWeight);
         builder.weigher(weigher::applyAsInt);
+        unsupported("maximumWeight");
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> maximumMemory(@Nonnegative long maximumBytes) {
+        checkGreaterThanOrEqualTo(maximumBytes, 0L, "maximumBytes (%d) must not be negative", maximumBytes);
+
+        builder.maximumWeight(maximumBytes);
+        builder.weigher(MemoryEstimator::weigh);
+        unsupported("maximumMemory");
         return this;
     }
 
@@ -77,6 +199,8 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Override
     public CacheBuilder<K, V> weakKeys() {
         builder.weakKeys();
+        unsupported("weakKeys");
+        nonPersistent("weakKeys");
         return this;
     }
 
@@ -84,6 +208,8 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Override
     public CacheBuilder<K, V> weakValues() {
         builder.weakValues();
+        unsupported("weakValues");
+        nonPersistent("weakValues");
         return this;
     }
 
@@ -91,20 +217,326 @@ final class CaffeineCacheBuilder<K, V> implements CacheBuilder<K, V> {
     @Override
     public CacheBuilder<K, V> softValues() {
         builder.softValues();
+        unsupported("softValues");
+        nonPersistent("softValues");
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public <V1 extends V> CacheBuilder<K, V> offHeap(@Nonnegative long maximumBytes, BinarySerializer<V1> serializer) {
+        checkGreaterThan(maximumBytes, 0L, "maximumBytes (%d) must be positive", maximumBytes);
+        checkNotNull(serializer, "serializer");
+        checkState(isNull(this.serializer), "off-heap storage was already set");
+        checkState(isNull(directory), "off-heap storage cannot be used with a disk tier");
+
+        this.maximumBytes = maximumBytes;
+        this.serializer = serializer;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> CacheBuilder<K, V> diskTier(Path directory, @Nonnegative long maximumBytes, BinarySerializer<K1> keySerializer, BinarySerializer<V1> valueSerializer) {
+        checkNotNull(directory, "directory");
+        checkGreaterThan(maximumBytes, 0L, "maximumBytes (%d) must be positive", maximumBytes);
+        checkNotNull(keySerializer, "keySerializer");
+        checkNotNull(valueSerializer, "valueSerializer");
+        checkState(isNull(this.directory), "disk tier was already set");
+        checkState(isNull(serializer), "a disk tier cannot be used with off-heap storage");
+
+        this.directory = directory;
+        this.maximumDiskBytes = maximumBytes;
+        this.diskKeySerializer = keySerializer;
+        this.diskValueSerializer = valueSerializer;
+
+        // Caffeine can only be configured once: the evictions are handed over to the last cache built by withTier(C)
+        builder.evictionListener((k, v, cause) -> {
+            TieredCache<?, ?> tier = currentTier;
+            if (nonNull(tier)) {
+                tier.spill(k, v, cause);
+            }
+        });
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> expireAfterWrite(Duration duration) {
+        checkGreaterThanOrEqualTo(duration, Duration.ZERO, "duration (%s) must not be negative", duration);
+
+        builder.expireAfterWrite(duration);
+        unsupported("expireAfterWrite");
+        nonPersistent("expireAfterWrite");
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> expireAfterAccess(Duration duration) {
+        checkGreaterThanOrEqualTo(duration, Duration.ZERO, "duration (%s) must not be negative", duration);
+
+        builder.expireAfterAccess(duration);
+        unsupported("expireAfterAccess");
+        nonPersistent("expireAfterAccess");
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> refreshAfterWrite(Duration duration) {
+        checkGreaterThan(duration, Duration.ZERO, "duration (%s) must be positive", duration);
+
+        builder.refreshAfterWrite(duration);
+        unsupported("refreshAfterWrite");
+        nonPersistent("refreshAfterWrite");
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> executor(Executor executor) {
+        checkNotNull(executor, "executor");
+
+        builder.executor(executor);
+        this.executor = executor;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public CacheBuilder<K, V> coalesceLoads(Duration timeout) {
+        checkNotNull(timeout, "timeout");
+        checkGreaterThan(timeout, Duration.ZERO, "timeout (%s) must be positive", timeout);
+
+        this.coalescingTimeout = timeout;
+        unsupported("coalesceLoads");
         return this;
     }
 
     @Nonnull
     @Override
     public <K1 extends K, V1 extends V> Cache<K1, V1> build() {
-        return new CaffeineManualCache<>(builder.build());
+        if (nonNull(serializer)) {
+            checkNotCoalescing();
+            checkSupportedByOffHeapCaches();
+            return new OffHeapCache<>(maximumBytes, serializer(), initialCapacity, recordStats);
+        }
+
+        if (nonNull(directory)) {
+            checkNotCoalescing();
+            checkSupportedByDiskTier();
+            return withTier(new TieredCache<>(builder, directory, maximumDiskBytes, diskKeySerializer(), diskValueSerializer(), recordStats));
+        }
+
+        return withStats(stats -> new CaffeineManualCache<>(builder.build(), stats, coalescingTimeout));
     }
 
     @Nonnull
     @Override
     public <K1 extends K, V1 extends V> Cache<K1, V1> build(Function<? super K1, ? extends V1> mappingFunction) {
         checkNotNull(mappingFunction, "mappingFunction");
+        checkNotCoalescing();
+
+        if (nonNull(serializer)) {
+            checkSupportedByOffHeapCaches();
+            return new OffHeapLoadingCache<>(maximumBytes, serializer(), initialCapacity, recordStats, mappingFunction, executor);
+        }
+
+        if (nonNull(directory)) {
+            checkSupportedByDiskTier();
+            return withTier(new TieredLoadingCache<>(builder, directory, maximumDiskBytes, diskKeySerializer(), diskValueSerializer(), recordStats, mappingFunction, executor));
+        }
+
+        return withStats(stats -> new CaffeineLoadingCache<>(builder.build(mappingFunction::apply), stats));
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> Cache<K1, V1> buildAll(Function<? super Set<K1>, ? extends Map<K1, V1>> bulkFunction) {
+        checkNotOffHeap();
+        checkNotCoalescing();
+
+        return withStats(stats -> new CaffeineLoadingCache<>(builder.build(new BulkCacheLoader<>(bulkFunction)), stats));
+    }
+
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsync(Function<? super K1, ? extends V1> mappingFunction) {
+        checkNotNull(mappingFunction, "mappingFunction");
+        checkNotOffHeap();
+        checkNotCoalescing();
+
+        return withStats(stats -> new CaffeineAsyncCache<>(builder.<K1, V1>buildAsync(mappingFunction::apply), stats));
+    }
 
-        return new CaffeineLoadingCache<>(builder.build(mappingFunction::apply));
+    @Nonnull
+    @Override
+    public <K1 extends K, V1 extends V> AsyncCache<K1, V1> buildAsyncAll(Function<? super Set<K1>, ? extends Map<K1, V1>> bulkFunction) {
+        checkNotOffHeap();
+        checkNotCoalescing();
+
+        return withStats(stats -> new CaffeineAsyncCache<>(builder.buildAsync(new BulkCacheLoader<>(bulkFunction)), stats));
+    }
+
+    @Nonnull
+    @Override
+    public <V1 extends V> LongCache<V1> buildLong() {
+        checkSupportedByPrimitiveCaches();
+
+        return new ClockLongCache<>(maximumSize, recordStats);
+    }
+
+    @Nonnull
+    @Override
+    public <V1 extends V> IntCache<V1> buildInt() {
+        checkSupportedByPrimitiveCaches();
+
+        return new ClockIntCache<>(maximumSize, recordStats);
+    }
+
+    /**
+     * Builds a Caffeine cache with a new counter, that is given to both Caffeine and the cache.
+     *
+     * @param factory the function that builds the cache from its counter
+     * @param <C>     the type of the cache
+     *
+     * @return the cache
+     */
+    @Nonnull
+    private <C> C withStats(Function<StatsCounter, C> factory) {
+        StatsCounter stats = new StatsCounter(recordStats);
+        pendingStatsCounter = recordStats ? stats : null;
+        try {
+            return factory.apply(stats);
+        }
+        finally {
+            pendingStatsCounter = null;
+        }
+    }
+
+    /**
+     * Makes the {@code tier} the recipient of the entries evicted from the first level of the caches built by this
+     * builder.
+     *
+     * @param tier the disk-backed cache that has just been built
+     * @param <C>  the type of the cache
+     *
+     * @return the {@code tier}
+     */
+    @Nonnull
+    private <C extends TieredCache<?, ?>> C withTier(C tier) {
+        currentTier = tier;
+        return tier;
+    }
+
+    /**
+     * Records that the {@code feature} has been set, and that this builder can no longer create primitive caches.
+     *
+     * @param feature the name of the feature
+     */
+    private void unsupported(String feature) {
+        if (isNull(unsupportedFeature)) {
+            unsupportedFeature = feature;
+        }
+    }
+
+    /**
+     * Records that the {@code feature} has been set, and that this builder can no longer create disk-backed caches.
+     *
+     * @param feature the name of the feature
+     */
+    private void nonPersistent(String feature) {
+        if (isNull(nonPersistentFeature)) {
+            nonPersistentFeature = feature;
+        }
+    }
+
+    /**
+     * Checks that the current settings can be used by a primitive cache.
+     *
+     * @throws IllegalStateException if no maximum size has been set, or if an unsupported feature has been set
+     */
+    private void checkSupportedByPrimitiveCaches() {
+        checkNotOffHeap();
+        checkState(maximumSize >= 0, "primitive caches must be bounded: maximumSize must be set");
+        checkState(isNull(unsupportedFeature), "primitive caches do not support %s", unsupportedFeature);
+    }
+
+    /**
+     * Checks that the current settings can be used by an off-heap cache.
+     *
+     * @throws IllegalStateException if a maximum size or an unsupported feature has been set
+     */
+    private void checkSupportedByOffHeapCaches() {
+        checkState(maximumSize < 0, "off-heap caches are bounded by their maximum number of bytes, and do not support maximumSize");
+        checkState(isNull(unsupportedFeature), "off-heap caches do not support %s", unsupportedFeature);
+    }
+
+    /**
+     * Checks that the current settings can be used by a disk-backed cache.
+     *
+     * @throws IllegalStateException if a feature that removes entries without writing them to the disk has been set
+     */
+    private void checkSupportedByDiskTier() {
+        checkState(isNull(nonPersistentFeature), "disk-backed caches do not support %s", nonPersistentFeature);
+    }
+
+    /**
+     * Checks that the loads are not coalesced.
+     *
+     * @throws IllegalStateException if the loads must be coalesced
+     */
+    private void checkNotCoalescing() {
+        checkState(isNull(coalescingTimeout), "coalesceLoads is only supported by manual caches, built with build()");
+    }
+
+    /**
+     * Checks that neither off-heap storage nor a disk tier has been set.
+     *
+     * @throws IllegalStateException if an off-heap storage or a disk tier has been set
+     */
+    private void checkNotOffHeap() {
+        checkState(isNull(serializer), "off-heap caches can only be created with build() or build(Function)");
+        checkState(isNull(directory), "disk-backed caches can only be created with build() or build(Function)");
+    }
+
+    /**
+     * Returns the serializer of the off-heap storage.
+     *
+     * @param <V1> the value type of the cache
+     *
+     * @return the serializer
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <V1 extends V> BinarySerializer<V1> serializer() {
+        return (BinarySerializer<V1>) serializer;
+    }
+
+    /**
+     * Returns the serializer of the keys of the disk tier.
+     *
+     * @param <K1> the key type of the cache
+     *
+     * @return the serializer
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <K1 extends K> BinarySerializer<K1> diskKeySerializer() {
+        return (BinarySerializer<K1>) diskKeySerializer;
+    }
+
+    /**
+     * Returns the serializer of the values of the disk tier.
+     *
+     * @param <V1> the value type of the cache
+     *
+     * @return the serializer
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <V1 extends V> BinarySerializer<V1> diskValueSerializer() {
+        return (BinarySerializer<V1>) diskValueSerializer;
     }
 }
@@ -30,9 +30,10 @@ class CaffeineLoadingCache<C extends com.github.benmanes.caffeine.cache.LoadingC
      * Constructs a new {@code CaffeineLoadingCache}.
      *
      * @param cache the internal cache implementation
+     * @param stats the counter that accumulates the statistics of the internal cache
      */
-    protected CaffeineLoadingCache(C cache) {
-        super(cache);
+    protected CaffeineLoadingCache(C cache, StatsCounter stats) {
+        super(cache, stats);
     }
 
     @Nullable
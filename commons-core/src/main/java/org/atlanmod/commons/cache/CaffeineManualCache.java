@@ -8,7 +8,12 @@
 
 package org.atlanmod.commons.cache;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -16,6 +21,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.atlanmod.commons.Guards.checkNotNull;
 
@@ -34,13 +40,42 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
     @Nonnull
     protected final C cache;
 
+    /**
+     * The counter that accumulates the statistics of the internal cache.
+     */
+    @Nonnull
+    private final StatsCounter stats;
+
+    /**
+     * The loader that coalesces the concurrent loads of the same keys, or {@code null} if the loads are not coalesced.
+     */
+    @Nullable
+    private final CoalescingLoader<K, V> loader;
+
     /**
      * Constructs a new {@code CaffeineManualCache}.
      *
      * @param cache the internal cache implementation
+     * @param stats the counter that accumulates the statistics of the internal cache
      */
-    protected CaffeineManualCache(C cache) {
+    protected CaffeineManualCache(C cache, StatsCounter stats) {
+        this(cache, stats, null);
+    }
+
+    /**
+     * Constructs a new {@code CaffeineManualCache}.
+     *
+     * @param cache             the internal cache implementation
+     * @param stats             the counter that accumulates the statistics of the internal cache
+     * @param coalescingTimeout the maximum time to wait for a concurrent load of the same key, or {@code null} if the
+     *                          loads are not coalesced
+     */
+    protected CaffeineManualCache(C cache, StatsCounter stats, @Nullable Duration coalescingTimeout) {
         this.cache = cache;
+        this.stats = stats;
+        this.loader = nonNull(coalescingTimeout)
+                ? new CoalescingLoader<>(cache.asMap(), stats, coalescingTimeout)
+                : null;
     }
 
     @Nullable
@@ -56,7 +91,12 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
         checkNotNull(key, "key");
         checkNotNull(mappingFunction, "mappingFunction");
 
-        return cache.get(key, mappingFunction);
+        if (isNull(loader)) {
+            return cache.get(key, mappingFunction);
+        }
+
+        V value = cache.getIfPresent(key);
+        return nonNull(value) ? value : loader.load(key, mappingFunction);
     }
 
     @Nonnull
@@ -67,6 +107,33 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
         return cache.getAllPresent(keys);
     }
 
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, V> getAll(Iterable<? extends K> keys, Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        checkNotNull(keys, "keys");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        if (isNull(loader)) {
+            return cache.getAll(keys, ks -> mappingFunction.apply((Set<K>) ks));
+        }
+
+        Map<K, V> result = new HashMap<>(cache.getAllPresent(keys));
+
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!result.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+
+        if (!missingKeys.isEmpty()) {
+            result.putAll(loader.loadAll(missingKeys, mappingFunction));
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
     @Override
     public void put(K key, V value) {
         checkNotNull(key, "key");
@@ -77,7 +144,10 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
 
     @Override
     public void putIfAbsent(K key, V value) {
-        get(key, k -> value);
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        cache.asMap().putIfAbsent(key, value);
     }
 
     @Override
@@ -135,14 +205,12 @@ class CaffeineManualCache<C extends com.github.benmanes.caffeine.cache.Cache<K,
     @Nonnull
     @Override
     public CacheStats stats() {
-        com.github.benmanes.caffeine.cache.stats.CacheStats stats = cache.stats();
-
-        return new CacheStats(
-                stats.hitCount(),
-                stats.missCount(),
-                stats.loadSuccessCount(),
-                stats.loadFailureCount(),
-                stats.totalLoadTime(),
-                stats.evictionCount());
+        return stats.snapshot();
+    }
+
+    @Nonnull
+    @Override
+    public CacheMetrics metrics() {
+        return stats.metrics();
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Caffeine {@link com.github.benmanes.caffeine.cache.stats.StatsCounter} that accumulates the statistics of a Caffeine
+ * cache in a {@link StatsCounter}, to also record its metrics.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class CaffeineStatsCounter implements com.github.benmanes.caffeine.cache.stats.StatsCounter {
+
+    /**
+     * The counter that accumulates the statistics.
+     */
+    @Nonnull
+    private final StatsCounter counter;
+
+    /**
+     * The sum of the weights of the evicted entries.
+     */
+    @Nonnull
+    private final LongAdder evictionWeight = new LongAdder();
+
+    /**
+     * Constructs a new {@code CaffeineStatsCounter}.
+     *
+     * @param counter the counter that accumulates the statistics
+     */
+    public CaffeineStatsCounter(StatsCounter counter) {
+        this.counter = checkNotNull(counter, "counter");
+    }
+
+    @Override
+    public void recordHits(@Nonnegative int count) {
+        counter.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(@Nonnegative int count) {
+        counter.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(@Nonnegative long loadTime) {
+        counter.recordLoadSuccess(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(@Nonnegative long loadTime) {
+        counter.recordLoadFailure(loadTime);
+    }
+
+    @Override
+    public void recordEviction(@Nonnegative int weight, RemovalCause cause) {
+        switch (cause) {
+            case EXPIRED:
+                counter.recordEviction(EvictionCause.EXPIRED);
+                break;
+            case COLLECTED:
+                counter.recordEviction(EvictionCause.COLLECTED);
+                break;
+            default:
+                counter.recordEviction(EvictionCause.SIZE);
+                break;
+        }
+        evictionWeight.add(weight);
+    }
+
+    @Nonnull
+    @Override
+    public com.github.benmanes.caffeine.cache.stats.CacheStats snapshot() {
+        CacheStats stats = counter.snapshot();
+
+        return com.github.benmanes.caffeine.cache.stats.CacheStats.of(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.totalLoadTime().toNanos(),
+                stats.evictionCount(),
+                evictionWeight.sum());
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.function.LongFunction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link LongCache} stored in an open-addressing table, and evicted with the clock algorithm.
+ *
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class ClockLongCache<V> extends AbstractClockCache<V> implements LongCache<V> {
+
+    /**
+     * The keys of the table.
+     */
+    @Nonnull
+    private final long[] keys;
+
+    /**
+     * Constructs a new {@code ClockLongCache}.
+     *
+     * @param maximumSize the maximum number of entries of this cache
+     * @param recordStats {@code true} if the statistics must be recorded
+     */
+    public ClockLongCache(@Nonnegative long maximumSize, boolean recordStats) {
+        super(maximumSize, recordStats);
+        this.keys = new long[values.length];
+    }
+
+    @Nullable
+    @Override
+    public V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        int slot = indexOf(key);
+        V value = valueAt(slot);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slot = indexOf(key);
+                value = valueAt(slot);
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return recordRead(slot, value);
+    }
+
+    @Nullable
+    @Override
+    public V get(long key, LongFunction<? extends V> mappingFunction) {
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        long start = System.nanoTime();
+        try {
+            value = mappingFunction.apply(key);
+        }
+        catch (RuntimeException | Error e) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        if (value == null) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            return null;
+        }
+
+        stats.recordLoadSuccess(System.nanoTime() - start);
+        return putInternal(key, value, true);
+    }
+
+    @Override
+    public void put(long key, V value) {
+        checkNotNull(value, "value");
+
+        putInternal(key, value, false);
+    }
+
+    @Override
+    public void putIfAbsent(long key, V value) {
+        checkNotNull(value, "value");
+
+        putInternal(key, value, true);
+    }
+
+    @Override
+    public void invalidate(long key) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = indexOf(key);
+            if (slot >= 0) {
+                removeAt(slot);
+            }
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean contains(long key) {
+        long stamp = lock.tryOptimisticRead();
+        boolean contains = indexOf(key) >= 0;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                contains = indexOf(key) >= 0;
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return contains;
+    }
+
+    @Override
+    protected int homeOf(int slot) {
+        return home(keys[slot]);
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    /**
+     * Associates the {@code value} with the {@code key}, under the write lock.
+     *
+     * @param key          the key with which the specified value is to be associated
+     * @param value        value to be associated with the specified key
+     * @param onlyIfAbsent {@code true} if an existing value must be kept
+     *
+     * @return the value associated with the {@code key} after this call
+     */
+    @Nonnull
+    private V putInternal(long key, V value, boolean onlyIfAbsent) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = indexOf(key);
+            if (slot >= 0) {
+                if (onlyIfAbsent) {
+                    return valueAt(slot);
+                }
+                values[slot] = value;
+                return value;
+            }
+
+            if (makeRoom()) {
+                // Eviction may have shifted the probe sequence of the key
+                slot = emptySlotOf(key);
+                keys[slot] = key;
+                insertAt(slot, value);
+            }
+            return value;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the slot of the given {@code key}.
+     * <p>
+     * This method can be called without locking: the number of probes is bounded by the size of the table, even if the
+     * table is concurrently updated.
+     *
+     * @param key the key to look for
+     *
+     * @return the slot of the key, or {@code -1} if the key is not present
+     */
+    private int indexOf(long key) {
+        for (int i = home(key), probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+            if (values[i] == null) {
+                return -1;
+            }
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first empty slot of the probe sequence of the given {@code key}. The caller must hold the write lock.
+     *
+     * @param key the key to insert
+     *
+     * @return the slot
+     */
+    private int emptySlotOf(long key) {
+        int i = home(key);
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the home slot of the given {@code key}, with Fibonacci hashing.
+     *
+     * @param key the key
+     *
+     * @return the index of the first slot of the probe sequence of the key
+     */
+    private int home(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> (Long.SIZE - bits));
+    }
+}
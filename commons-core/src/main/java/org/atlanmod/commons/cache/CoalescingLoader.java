@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * An object that coalesces the concurrent loads of the same keys into a cache, so that each missing key is loaded at
+ * most once at a time ("single-flight").
+ * <p>
+ * The first thread that misses a key loads it, outside of any lock of the cache, and stores the result in the cache;
+ * the other threads that miss the same key in the meantime wait for this result instead of loading it again. Bulk loads
+ * are merged the same way: a bulk load only loads the keys that are not already being loaded, and waits for the
+ * others.
+ * <p>
+ * Unlike the atomic computations of the cache, the loaded values are stored with a simple put: a value that is
+ * invalidated while being loaded may be stored anyway.
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class CoalescingLoader<K, V> {
+
+    /**
+     * The entries of the cache, used to store the loaded values without recording statistics.
+     */
+    @Nonnull
+    private final ConcurrentMap<K, V> entries;
+
+    /**
+     * The counter that records the loads and the coalesced waits.
+     */
+    @Nonnull
+    private final StatsCounter stats;
+
+    /**
+     * The maximum time to wait for a load of another thread, or {@code null} to wait indefinitely.
+     */
+    @Nullable
+    private final Duration timeout;
+
+    /**
+     * The loads in progress, identified by their key.
+     */
+    @Nonnull
+    private final ConcurrentMap<K, Load<V>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code CoalescingLoader}.
+     *
+     * @param entries the entries of the cache
+     * @param stats   the counter that records the loads and the coalesced waits
+     * @param timeout the maximum time to wait for a load of another thread, or {@code null} to wait indefinitely
+     */
+    CoalescingLoader(ConcurrentMap<K, V> entries, StatsCounter stats, @Nullable Duration timeout) {
+        this.entries = entries;
+        this.stats = stats;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the value of a missing {@code key}, either by loading it with the {@code mappingFunction}, or by waiting
+     * for a concurrent load of the same key.
+     *
+     * @param key             the missing key
+     * @param mappingFunction the function to compute a value
+     *
+     * @return the loaded value, or {@code null} if the function returned {@code null}
+     *
+     * @throws IllegalStateException if the function recursively loads the same key
+     * @throws CompletionException   if the wait for a concurrent load timed out or was interrupted
+     * @throws RuntimeException      if the function does so, either in this thread or in a concurrent load
+     */
+    @Nullable
+    public V load(K key, Function<? super K, ? extends V> mappingFunction) {
+        Load<V> load = new Load<>();
+        Load<V> existing = loads.putIfAbsent(key, load);
+        if (nonNull(existing)) {
+            startWaiting(key, existing);
+            return await(key, existing, deadline());
+        }
+
+        try {
+            // The value may have been stored by a load that has just completed
+            V value = entries.get(key);
+            if (isNull(value)) {
+                long start = System.nanoTime();
+                try {
+                    value = mappingFunction.apply(key);
+                }
+                catch (RuntimeException | Error e) {
+                    stats.recordLoadFailure(System.nanoTime() - start);
+                    throw e;
+                }
+
+                if (nonNull(value)) {
+                    stats.recordLoadSuccess(System.nanoTime() - start);
+                    entries.put(key, value);
+                }
+                else {
+                    stats.recordLoadFailure(System.nanoTime() - start);
+                }
+            }
+
+            load.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            loads.remove(key, load);
+        }
+    }
+
+    /**
+     * Returns the values of the missing {@code keys}, by loading the keys that are not currently being loaded with the
+     * {@code mappingFunction} in a single batch, and by waiting for the concurrent loads of the others.
+     *
+     * @param keys            the missing keys
+     * @param mappingFunction the function to compute the values, from a set of keys
+     *
+     * @return the loaded values; the keys without value are not mapped
+     *
+     * @throws IllegalStateException if the function recursively loads one of the keys
+     * @throws CompletionException   if the wait for a concurrent load timed out or was interrupted
+     * @throws RuntimeException      if the function does so, either in this thread or in a concurrent load
+     */
+    @Nonnull
+    public Map<K, V> loadAll(Set<K> keys, Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> mappingFunction) {
+        long deadline = deadline();
+
+        Map<K, Load<V>> ownLoads = new LinkedHashMap<>();
+        Map<K, Load<V>> concurrentLoads = new HashMap<>();
+        for (K key : keys) {
+            Load<V> load = new Load<>();
+            Load<V> existing = loads.putIfAbsent(key, load);
+            if (isNull(existing)) {
+                ownLoads.put(key, load);
+            }
+            else {
+                concurrentLoads.put(key, existing);
+            }
+        }
+
+        Map<K, V> result = new HashMap<>(keys.size());
+
+        // Load before waiting, so that two overlapping batches never wait for each other
+        try {
+            concurrentLoads.forEach(this::startWaiting);
+
+            if (!ownLoads.isEmpty()) {
+                loadAll(ownLoads, mappingFunction, result);
+            }
+        }
+        catch (RuntimeException | Error e) {
+            ownLoads.values().forEach(l -> l.completeExceptionally(e));
+            throw e;
+        }
+        finally {
+            ownLoads.forEach(loads::remove);
+        }
+
+        concurrentLoads.forEach((key, load) -> {
+            V value = await(key, load, deadline);
+            if (nonNull(value)) {
+                result.put(key, value);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Loads the keys of the {@code ownLoads} in a single batch, completes the loads and fills the {@code result}.
+     *
+     * @param ownLoads        the loads to complete
+     * @param mappingFunction the function to compute the values, from a set of keys
+     * @param result          the map where to put the loaded values
+     */
+    private void loadAll(Map<K, Load<V>> ownLoads, Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> mappingFunction, Map<K, V> result) {
+        // The values may have been stored by loads that have just completed
+        Set<K> missingKeys = new LinkedHashSet<>();
+        ownLoads.forEach((key, load) -> {
+            V value = entries.get(key);
+            if (nonNull(value)) {
+                result.put(key, value);
+                load.complete(value);
+            }
+            else {
+                missingKeys.add(key);
+            }
+        });
+
+        if (missingKeys.isEmpty()) {
+            return;
+        }
+
+        Map<? extends K, ? extends V> loaded;
+        long start = System.nanoTime();
+        try {
+            loaded = mappingFunction.apply(Collections.unmodifiableSet(missingKeys));
+        }
+        catch (RuntimeException | Error e) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        if (isNull(loaded)) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw new IllegalStateException("the mapping function must not return null");
+        }
+        stats.recordLoadSuccess(System.nanoTime() - start);
+
+        loaded.forEach((key, value) -> {
+            if (nonNull(key) && nonNull(value)) {
+                entries.put(key, value);
+            }
+        });
+
+        for (K key : missingKeys) {
+            V value = loaded.get(key);
+            if (nonNull(value)) {
+                result.put(key, value);
+            }
+            ownLoads.get(key).complete(value);
+        }
+    }
+
+    /**
+     * Records that the current thread will wait for a concurrent load.
+     *
+     * @param key  the key being loaded
+     * @param load the concurrent load
+     *
+     * @throws IllegalStateException if the load is performed by the current thread
+     */
+    private void startWaiting(K key, Load<V> load) {
+        checkState(load.owner != Thread.currentThread(), "recursive load of the key %s", key);
+
+        stats.recordCoalescedWait();
+    }
+
+    /**
+     * Waits for the result of a concurrent load.
+     *
+     * @param key      the key being loaded
+     * @param load     the concurrent load
+     * @param deadline the time, as given by {@link System#nanoTime()}, at which the wait times out, or {@link
+     *                 Long#MAX_VALUE} to wait indefinitely
+     *
+     * @return the loaded value, or {@code null} if no value was loaded
+     */
+    @Nullable
+    private V await(K key, Load<V> load, long deadline) {
+        try {
+            if (deadline == Long.MAX_VALUE) {
+                return load.get();
+            }
+            else {
+                return load.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+        catch (TimeoutException e) {
+            throw new CompletionException(new TimeoutException(String.format("timed out after %s waiting for the load of the key %s", timeout, key)));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Returns the time at which a wait starting now times out.
+     *
+     * @return the deadline, as given by {@link System#nanoTime()}, or {@link Long#MAX_VALUE} to wait indefinitely
+     */
+    private long deadline() {
+        return isNull(timeout) ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * A load in progress.
+     *
+     * @param <V> the type of the loaded value
+     */
+    private static final class Load<V> extends CompletableFuture<V> {
+
+        /**
+         * The thread that performs the load.
+         */
+        @Nonnull
+        final Thread owner = Thread.currentThread();
+    }
+}
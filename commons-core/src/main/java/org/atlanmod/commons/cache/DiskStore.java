@@ -0,0 +1,870 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+import org.atlanmod.commons.log.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * A persistent store of serialized entries, appended to memory-mapped segment files in a local directory.
+ * <p>
+ * Each write or removal appends a record to the current segment, and an index on the heap maps each key to the location
+ * of its latest value. When the current segment is full, a new segment is created, and the oldest segment is deleted
+ * when the number of segments exceeds the maximum number of bytes of the store: its entries are evicted. The space of
+ * replaced or removed values is only reclaimed when their segment is deleted.
+ * <p>
+ * The index is rebuilt from the segments when the store is opened. Each record is protected by a checksum: the
+ * scanning of a segment stops at the first record that is truncated or corrupted, for instance after a crash. The
+ * segments are flushed to the disk by {@link #force()} and {@link #close()}; until then, the operating system decides
+ * when the mapped pages are written.
+ * <p>
+ * The directory is locked while the store is open, and cannot be shared by several stores at the same time.
+ *
+ * @param <K> the type of keys maintained by this store
+ * @param <V> the type of stored values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class DiskStore<K, V> implements Closeable {
+
+    /**
+     * The maximum size of a segment, in bytes.
+     */
+    static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The minimum number of segments of a store.
+     */
+    static final int MINIMUM_SEGMENTS = 4;
+
+    /**
+     * The size of the header of a record: its type, the length of its key, the length of its value, and its checksum.
+     */
+    static final int HEADER_SIZE = 1 + 3 * Integer.BYTES;
+
+    /**
+     * The type of the record that marks the end of a segment.
+     */
+    private static final byte END = 0;
+
+    /**
+     * The type of the record that associates a value with a key.
+     */
+    private static final byte PUT = 1;
+
+    /**
+     * The type of the record that removes the value associated with a key.
+     */
+    private static final byte DELETE = 2;
+
+    /**
+     * The name of the file used to lock the directory.
+     */
+    private static final String LOCK_FILE = "store.lock";
+
+    /**
+     * The pattern of the name of segment files, from their identifier.
+     */
+    private static final String SEGMENT_FILE = "segment-%08d.log";
+
+    /**
+     * The pattern used to retrieve the identifier of a segment from the name of its file.
+     */
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("segment-(\\d+)\\.log");
+
+    /**
+     * The directory of the segments.
+     */
+    @Nonnull
+    private final Path directory;
+
+    /**
+     * The serializer used to store the keys.
+     */
+    @Nonnull
+    private final BinarySerializer<K> keySerializer;
+
+    /**
+     * The serializer used to store the values.
+     */
+    @Nonnull
+    private final BinarySerializer<V> valueSerializer;
+
+    /**
+     * The statistics of the cache that uses this store.
+     */
+    @Nonnull
+    private final StatsCounter stats;
+
+    /**
+     * The function called with each key evicted with its segment.
+     */
+    @Nonnull
+    private final Consumer<? super K> evictionListener;
+
+    /**
+     * The lock that guards the index and the segments.
+     */
+    @Nonnull
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The location of the latest value of each key.
+     */
+    @Nonnull
+    private final Map<K, Location> index = new HashMap<>();
+
+    /**
+     * The segments, from the oldest to the newest. The last one is the segment where records are appended.
+     */
+    @Nonnull
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    /**
+     * The size of new segments, in bytes.
+     */
+    @Nonnegative
+    private final int segmentSize;
+
+    /**
+     * The maximum number of segments.
+     */
+    @Nonnegative
+    private final int maximumSegments;
+
+    /**
+     * The channel of the lock file.
+     */
+    @Nonnull
+    private final FileChannel lockChannel;
+
+    /**
+     * The identifier of the next segment to create.
+     */
+    private long nextSegmentId;
+
+    /**
+     * Whether this store has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Opens a {@code DiskStore} in the given {@code directory}, and rebuilds its index from the existing segments.
+     *
+     * @param directory        the directory of the segments; created if it does not exist
+     * @param maximumBytes     the maximum number of bytes of the segments
+     * @param keySerializer    the serializer used to store the keys
+     * @param valueSerializer  the serializer used to store the values
+     * @param stats            the statistics of the cache that uses this store
+     * @param evictionListener the function called with each key evicted with its segment, while this store is locked
+     *
+     * @throws IllegalStateException if the directory is already used by another store
+     * @throws UncheckedIOException  if an I/O error occurs when opening the store
+     */
+    public DiskStore(Path directory, @Nonnegative long maximumBytes, BinarySerializer<K> keySerializer, BinarySerializer<V> valueSerializer, StatsCounter stats, Consumer<? super K> evictionListener) {
+        checkNotNull(directory, "directory");
+        checkGreaterThan(maximumBytes, 0L, "maximumBytes (%d) must be positive", maximumBytes);
+
+        this.directory = directory;
+        this.keySerializer = checkNotNull(keySerializer, "keySerializer");
+        this.valueSerializer = checkNotNull(valueSerializer, "valueSerializer");
+        this.stats = checkNotNull(stats, "stats");
+        this.evictionListener = checkNotNull(evictionListener, "evictionListener");
+
+        this.segmentSize = (int) Math.max(1, Math.min(SEGMENT_SIZE, maximumBytes / MINIMUM_SEGMENTS));
+        this.maximumSegments = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maximumBytes / segmentSize));
+
+        try {
+            Files.createDirectories(directory);
+            lockChannel = lock(directory.resolve(LOCK_FILE));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            for (long id : segmentIds()) {
+                Segment segment = new Segment(id, 0);
+                replay(segment);
+                segments.addLast(segment);
+                nextSegmentId = id + 1;
+            }
+
+            if (segments.isEmpty()) {
+                segments.addLast(new Segment(nextSegmentId++, segmentSize));
+            }
+
+            while (segments.size() > maximumSegments) {
+                dropOldestSegment();
+            }
+        }
+        catch (IOException e) {
+            closeQuietly(lockChannel);
+            throw new UncheckedIOException(e);
+        }
+        catch (RuntimeException e) {
+            closeQuietly(lockChannel);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the value associated with the {@code key}.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the value, or {@code null} if this store contains no mapping for the key
+     */
+    @Nullable
+    public V get(K key) {
+        byte[] data;
+
+        lock.readLock().lock();
+        try {
+            checkOpen();
+
+            Location location = index.get(key);
+            if (isNull(location)) {
+                return null;
+            }
+
+            data = location.readValue();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        return valueSerializer.revert(data);
+    }
+
+    /**
+     * Associates the {@code value} with the {@code key}, by appending a record to the current segment.
+     *
+     * @param key   the key with which the value is to be associated
+     * @param value the value to be associated with the key
+     *
+     * @return {@code true} if the value has been stored, {@code false} if it is larger than a segment
+     *
+     * @throws UncheckedIOException if an I/O error occurs when creating a new segment
+     */
+    public boolean put(K key, V value) {
+        byte[] keyData = keySerializer.convert(key);
+        byte[] valueData = valueSerializer.convert(value);
+
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+
+            Location location = append(PUT, keyData, valueData);
+            if (isNull(location)) {
+                if (nonNull(unindex(key))) {
+                    append(DELETE, keyData, new byte[0]);
+                }
+                return false;
+            }
+
+            index(key, location);
+            return true;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the value associated with the {@code key}, by appending a record to the current segment.
+     *
+     * @param key the key whose mapping is to be removed
+     *
+     * @return {@code true} if this store contained a value for the key
+     *
+     * @throws UncheckedIOException if an I/O error occurs when creating a new segment
+     */
+    public boolean remove(K key) {
+        if (!contains(key)) {
+            return false;
+        }
+
+        byte[] keyData = keySerializer.convert(key);
+
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+
+            if (isNull(unindex(key))) {
+                return false;
+            }
+
+            append(DELETE, keyData, new byte[0]);
+            return true;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all the entries of this store, and deletes all its segments.
+     *
+     * @throws UncheckedIOException if an I/O error occurs when creating a new segment
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+
+            index.clear();
+            segments.forEach(Segment::delete);
+            segments.clear();
+            segments.addLast(new Segment(nextSegmentId++, segmentSize));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if this store contains a value for the {@code key}.
+     *
+     * @param key the key whose presence is to be tested
+     *
+     * @return {@code true} if this store contains a value for the key
+     */
+    public boolean contains(K key) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+
+            return index.containsKey(key);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this store.
+     *
+     * @return the number of entries
+     */
+    @Nonnegative
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the keys of this store.
+     *
+     * @return a collection of keys
+     */
+    @Nonnull
+    public Collection<K> keys() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(index.keySet());
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the segments that have been modified since the last flush to the disk.
+     */
+    public void force() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                segments.forEach(Segment::force);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the segments to the disk, and releases the directory. Any further operation on this store will fail.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            segments.forEach(Segment::force);
+            segments.clear();
+            index.clear();
+            closed = true;
+
+            lockChannel.close();
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks that this store is still open.
+     *
+     * @throws IllegalStateException if this store has been closed
+     */
+    private void checkOpen() {
+        checkState(!closed, "the disk store of %s has been closed", directory);
+    }
+
+    /**
+     * Appends a record to the current segment, and creates a new segment if it is full.
+     *
+     * @param type      the type of the record
+     * @param keyData   the serialized key
+     * @param valueData the serialized value
+     *
+     * @return the location of the record, or {@code null} if it is larger than a segment
+     */
+    @Nullable
+    private Location append(byte type, byte[] keyData, byte[] valueData) {
+        long length = (long) HEADER_SIZE + keyData.length + valueData.length;
+        if (length > segmentSize) {
+            if (type == PUT) {
+                stats.recordEviction();
+            }
+            return null;
+        }
+
+        Segment segment = segments.getLast();
+        if (segment.remaining() < length) {
+            try {
+                segment = new Segment(nextSegmentId++, segmentSize);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            segments.addLast(segment);
+            while (segments.size() > maximumSegments) {
+                dropOldestSegment();
+            }
+        }
+
+        return segment.append(type, keyData, valueData);
+    }
+
+    /**
+     * Deletes the oldest segment, and evicts its entries.
+     */
+    private void dropOldestSegment() {
+        Segment segment = segments.removeFirst();
+
+        for (K key : segment.keys) {
+            index.remove(key);
+            stats.recordEviction();
+            evictionListener.accept(key);
+        }
+
+        segment.delete();
+    }
+
+    /**
+     * Maps the {@code key} to the {@code location} of its latest value, and moves it to the keys of its new segment.
+     *
+     * @param key      the key
+     * @param location the location of the value
+     */
+    private void index(K key, Location location) {
+        Location previous = index.put(key, location);
+        if (nonNull(previous)) {
+            previous.segment.keys.remove(key);
+        }
+        location.segment.keys.add(key);
+    }
+
+    /**
+     * Removes the {@code key} from the index, and from the keys of its segment.
+     *
+     * @param key the key
+     *
+     * @return the previous location of the value, or {@code null} if the index did not contain the key
+     */
+    @Nullable
+    private Location unindex(K key) {
+        Location previous = index.remove(key);
+        if (nonNull(previous)) {
+            previous.segment.keys.remove(key);
+        }
+        return previous;
+    }
+
+    /**
+     * Applies the records of the {@code segment} to the index, and sets the position of the segment after the last
+     * valid record.
+     *
+     * @param segment the segment to read
+     */
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+
+        int position = 0;
+        while (buffer.limit() - position >= HEADER_SIZE) {
+            byte type = buffer.get(position);
+            int keyLength = buffer.getInt(position + 1);
+            int valueLength = buffer.getInt(position + 1 + Integer.BYTES);
+            int checksum = buffer.getInt(position + 1 + 2 * Integer.BYTES);
+
+            boolean valid = (type == PUT || type == DELETE)
+                    && keyLength >= 0
+                    && valueLength >= 0
+                    && (long) keyLength + valueLength <= buffer.limit() - position - HEADER_SIZE;
+
+            if (!valid) {
+                break;
+            }
+
+            byte[] keyData = segment.read(position + HEADER_SIZE, keyLength);
+            byte[] valueData = segment.read(position + HEADER_SIZE + keyLength, valueLength);
+            if (checksum(type, keyData, valueData) != checksum) {
+                Log.warn("Ignoring the corrupted records of {0} from position {1}", segment.file, position);
+                break;
+            }
+
+            K key;
+            try {
+                key = keySerializer.revert(keyData);
+            }
+            catch (RuntimeException e) {
+                Log.warn(e, "Ignoring the unreadable records of {0} from position {1}", segment.file, position);
+                break;
+            }
+
+            if (type == PUT) {
+                index(key, new Location(segment, position + HEADER_SIZE + keyLength, valueLength));
+            }
+            else {
+                unindex(key);
+            }
+
+            position += HEADER_SIZE + keyLength + valueLength;
+        }
+
+        segment.position = position;
+    }
+
+    /**
+     * Returns the identifiers of the existing segments, in ascending order.
+     *
+     * @return a list of identifiers
+     *
+     * @throws IOException if an I/O error occurs when listing the directory
+     */
+    @Nonnull
+    private List<Long> segmentIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    ids.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Computes the checksum of a record.
+     *
+     * @param type      the type of the record
+     * @param keyData   the serialized key
+     * @param valueData the serialized value
+     *
+     * @return the checksum
+     */
+    private static int checksum(byte type, byte[] keyData, byte[] valueData) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(keyData);
+        crc.update(valueData);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Locks the {@code file} for this process.
+     *
+     * @param file the lock file
+     *
+     * @return the channel that holds the lock
+     *
+     * @throws IOException           if an I/O error occurs when opening the file
+     * @throws IllegalStateException if the file is already locked
+     */
+    @Nonnull
+    private static FileChannel lock(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        }
+        catch (OverlappingFileLockException e) {
+            fileLock = null;
+        }
+
+        if (isNull(fileLock)) {
+            closeQuietly(channel);
+            throw new IllegalStateException(String.format("%s is already used by another disk store", file.getParent()));
+        }
+        return channel;
+    }
+
+    /**
+     * Closes the {@code channel}, ignoring any error.
+     *
+     * @param channel the channel to close
+     */
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * The location of a value in a segment.
+     */
+    private final class Location {
+
+        /**
+         * The segment that contains the value.
+         */
+        @Nonnull
+        final Segment segment;
+
+        /**
+         * The offset of the value in the segment.
+         */
+        @Nonnegative
+        final int offset;
+
+        /**
+         * The length of the value.
+         */
+        @Nonnegative
+        final int length;
+
+        /**
+         * Constructs a new {@code Location}.
+         *
+         * @param segment the segment that contains the value
+         * @param offset  the offset of the value in the segment
+         * @param length  the length of the value
+         */
+        Location(Segment segment, @Nonnegative int offset, @Nonnegative int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Reads the value at this location.
+         *
+         * @return the serialized value
+         */
+        @Nonnull
+        byte[] readValue() {
+            return segment.read(offset, length);
+        }
+    }
+
+    /**
+     * A memory-mapped segment file, where records are appended.
+     */
+    private final class Segment {
+
+        /**
+         * The file of this segment.
+         */
+        @Nonnull
+        final Path file;
+
+        /**
+         * The mapped content of the file.
+         */
+        @Nonnull
+        final MappedByteBuffer buffer;
+
+        /**
+         * The keys whose latest value is in this segment.
+         */
+        @Nonnull
+        final Set<K> keys = new HashSet<>();
+
+        /**
+         * The position of the next record.
+         */
+        @Nonnegative
+        int position;
+
+        /**
+         * Whether this segment has been modified since the last flush.
+         */
+        boolean dirty;
+
+        /**
+         * Opens or creates the segment with the given identifier, and maps its file.
+         *
+         * @param id   the identifier of the segment
+         * @param size the minimum size of the file, in bytes
+         *
+         * @throws IOException if an I/O error occurs when mapping the file
+         */
+        Segment(long id, @Nonnegative int size) throws IOException {
+            this.file = directory.resolve(String.format(SEGMENT_FILE, id));
+
+            // The mapping remains valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long length = Math.min(Integer.MAX_VALUE, Math.max(size, channel.size()));
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            }
+        }
+
+        /**
+         * Returns the number of bytes that can still be appended to this segment.
+         *
+         * @return the number of remaining bytes
+         */
+        @Nonnegative
+        int remaining() {
+            return buffer.limit() - position;
+        }
+
+        /**
+         * Appends a record to this segment, followed by an end marker if there is enough room.
+         *
+         * @param type      the type of the record
+         * @param keyData   the serialized key
+         * @param valueData the serialized value
+         *
+         * @return the location of the value of the record
+         */
+        @Nonnull
+        Location append(byte type, byte[] keyData, byte[] valueData) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(position);
+            view.put(type)
+                    .putInt(keyData.length)
+                    .putInt(valueData.length)
+                    .putInt(checksum(type, keyData, valueData))
+                    .put(keyData)
+                    .put(valueData);
+
+            if (view.hasRemaining()) {
+                view.put(END);
+            }
+
+            Location location = new Location(this, position + HEADER_SIZE + keyData.length, valueData.length);
+            position += HEADER_SIZE + keyData.length + valueData.length;
+            dirty = true;
+            return location;
+        }
+
+        /**
+         * Reads {@code length} bytes of this segment, from the {@code offset}.
+         *
+         * @param offset the offset of the first byte to read
+         * @param length the number of bytes to read
+         *
+         * @return the bytes
+         */
+        @Nonnull
+        byte[] read(@Nonnegative int offset, @Nonnegative int length) {
+            byte[] data = new byte[length];
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            view.get(data);
+            return data;
+        }
+
+        /**
+         * Flushes this segment to the disk if it has been modified.
+         */
+        void force() {
+            if (dirty) {
+                buffer.force();
+                dirty = false;
+            }
+        }
+
+        /**
+         * Deletes the file of this segment. The mapping is released by the garbage collector.
+         */
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e) {
+                // Some platforms do not allow to delete a file that is still mapped
+                Log.warn(e, "Unable to delete {0}", file);
+            }
+        }
+    }
+}
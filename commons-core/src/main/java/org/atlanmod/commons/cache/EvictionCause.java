@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+/**
+ * The reason for which an entry has been evicted from a {@link Cache}.
+ *
+ * @see CacheMetrics#evictionCount(EvictionCause)
+ */
+public enum EvictionCause {
+
+    /**
+     * The entry was evicted because the cache exceeded its maximum size, weight or number of bytes.
+     */
+    SIZE,
+
+    /**
+     * The entry was evicted because its expiration time has elapsed.
+     */
+    EXPIRED,
+
+    /**
+     * The entry was evicted because its key or its value has been garbage-collected.
+     */
+    COLLECTED
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import java.util.function.IntFunction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache whose keys are primitive {@code int}s, such as identifiers.
+ * <p>
+ * Keys are stored without boxing in an open-addressing table, allocated once with the maximum size of the cache, so
+ * the lookups and the updates do not create any garbage. When the cache is full, the entries are evicted with the
+ * <i>clock</i> algorithm, an approximation of LRU: each entry has a reference bit that is set when the entry is read,
+ * and that gives the entry a second chance before being evicted.
+ * <p>
+ * Implementations of this interface are expected to be thread-safe, and can be safely accessed by multiple concurrent
+ * threads.
+ *
+ * @param <V> the type of mapped values
+ * @see CacheBuilder#buildInt()
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public interface IntCache<V> {
+
+    /**
+     * Returns the value associated with the {@code key} in this cache, or {@code null} if there is no cached value for
+     * the {@code key}.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the value to which the specified key is mapped, or {@code null} if this cache contains no mapping for the
+     * key
+     */
+    @Nullable
+    V get(int key);
+
+    /**
+     * Returns the value associated with the {@code key} in this cache, obtaining that value from the {@code
+     * mappingFunction} if necessary.
+     * <p>
+     * Unlike {@link Cache#get(Object, java.util.function.Function)}, the value is computed outside of any lock:
+     * several threads may compute the value of the same key concurrently, but only the first computed value is cached
+     * and returned to all of them.
+     *
+     * @param key             the key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     *
+     * @return the current (existing or computed) value associated with the specified key, or {@code null} if the
+     * computed value is {@code null}
+     *
+     * @throws RuntimeException if the mappingFunction does so, in which case the mapping is left unestablished
+     */
+    @Nullable
+    V get(int key, IntFunction<? extends V> mappingFunction);
+
+    /**
+     * Associates the {@code value} with the {@code key} in this cache. If the cache previously contained a value
+     * associated with the {@code key}, the old value is replaced by the new {@code value}.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     */
+    void put(int key, V value);
+
+    /**
+     * Associates the {@code value} with the {@code key} in this cache, only if the {@code key} does not already exist.
+     * If the cache previously contained a value associated with the {@code key}, then the call does nothing.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     */
+    void putIfAbsent(int key, V value);
+
+    /**
+     * Discards any cached value for the {@code key}.
+     *
+     * @param key the key whose mapping is to be removed from the cache
+     */
+    void invalidate(int key);
+
+    /**
+     * Discards all entries in the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns {@code true} if this cache contains a mapping for the specified {@code key}.
+     *
+     * @param key key whose presence in this cache is to be tested
+     *
+     * @return {@code true} if this cache contains a mapping for the specified {@code key}
+     */
+    boolean contains(int key);
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of mappings
+     */
+    @Nonnegative
+    long size();
+
+    /**
+     * Returns a current snapshot of this cache's cumulative statistics.
+     *
+     * @return the current snapshot of the statistics of this cache
+     *
+     * @see Cache#stats()
+     */
+    @Nonnull
+    CacheStats stats();
+
+    /**
+     * Returns a current snapshot of this cache's cumulative metrics.
+     *
+     * @return the current snapshot of the metrics of this cache
+     *
+     * @see Cache#metrics()
+     */
+    @Nonnull
+    CacheMetrics metrics();
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.log.Log;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link CacheReporter} that exposes the metrics of each cache as a {@link CacheMetricsMXBean}, named {@code
+ * org.atlanmod.commons.cache:type=Cache,name=<name>}.
+ * <p>
+ * The bean of a cache is registered on its first report, and unregistered when the cache is no longer monitored.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class JmxCacheReporter implements CacheReporter {
+
+    /**
+     * The domain of the registered beans.
+     */
+    private static final String DOMAIN = "org.atlanmod.commons.cache";
+
+    /**
+     * The server where the beans are registered.
+     */
+    @Nonnull
+    private final MBeanServer server;
+
+    /**
+     * The registered beans, identified by the name of their cache.
+     */
+    @Nonnull
+    private final Map<String, MetricsBean> beans = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code JmxCacheReporter} that registers its beans in the platform server.
+     *
+     * @see ManagementFactory#getPlatformMBeanServer()
+     */
+    public JmxCacheReporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Constructs a new {@code JmxCacheReporter} that registers its beans in the given {@code server}.
+     *
+     * @param server the server where the beans are registered
+     */
+    public JmxCacheReporter(MBeanServer server) {
+        this.server = checkNotNull(server, "server");
+    }
+
+    /**
+     * Returns the name of the bean of a cache.
+     *
+     * @param name the name of the cache
+     *
+     * @return the name of the bean
+     *
+     * @throws IllegalArgumentException if the name of the cache cannot be used in a bean name
+     */
+    @Nonnull
+    public static ObjectName objectName(String name) {
+        checkNotNull(name, "name");
+
+        try {
+            return new ObjectName(DOMAIN + ":type=Cache,name=" + ObjectName.quote(name));
+        }
+        catch (JMException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void report(String name, CacheMetrics interval, CacheMetrics total) {
+        MetricsBean bean = beans.computeIfAbsent(name, n -> register(new MetricsBean(n)));
+        bean.update(interval, total);
+    }
+
+    @Override
+    public void remove(String name) {
+        MetricsBean bean = beans.remove(name);
+        if (nonNull(bean)) {
+            try {
+                server.unregisterMBean(bean.objectName);
+            }
+            catch (JMException e) {
+                Log.warn(e, "Unable to unregister the metrics of the cache {0}", name);
+            }
+        }
+    }
+
+    /**
+     * Registers the {@code bean} in the server. If the registration fails, the bean is still returned, but is not
+     * visible.
+     *
+     * @param bean the bean to register
+     *
+     * @return the bean
+     */
+    @Nonnull
+    private MetricsBean register(MetricsBean bean) {
+        try {
+            server.registerMBean(bean, bean.objectName);
+        }
+        catch (JMException e) {
+            Log.warn(e, "Unable to register the metrics of the cache as {0}", bean.objectName);
+        }
+        return bean;
+    }
+
+    /**
+     * The bean that exposes the metrics of a cache.
+     */
+    private static final class MetricsBean implements CacheMetricsMXBean {
+
+        /**
+         * The name of this bean.
+         */
+        @Nonnull
+        final ObjectName objectName;
+
+        /**
+         * The metrics of the last interval.
+         */
+        @Nonnull
+        private volatile CacheMetrics interval;
+
+        /**
+         * The cumulative metrics.
+         */
+        @Nonnull
+        private volatile CacheMetrics total;
+
+        /**
+         * Constructs a new {@code MetricsBean}.
+         *
+         * @param name the name of the cache
+         */
+        MetricsBean(String name) {
+            this.objectName = objectName(name);
+            this.interval = CacheMetrics.of(new CacheStats(0, 0, 0, 0, 0, 0));
+            this.total = interval;
+        }
+
+        /**
+         * Updates the metrics exposed by this bean.
+         *
+         * @param interval the metrics of the last interval
+         * @param total    the cumulative metrics
+         */
+        void update(CacheMetrics interval, CacheMetrics total) {
+            this.interval = interval;
+            this.total = total;
+        }
+
+        @Override
+        public long getRequestCount() {
+            return interval.stats().requestCount();
+        }
+
+        @Override
+        public long getHitCount() {
+            return interval.stats().hitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return interval.stats().missCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return interval.stats().hitRate();
+        }
+
+        @Override
+        public long getLoadSuccessCount() {
+            return interval.stats().loadSuccessCount();
+        }
+
+        @Override
+        public long getLoadFailureCount() {
+            return interval.stats().loadFailureCount();
+        }
+
+        @Override
+        public double getAverageLoadPenalty() {
+            return interval.stats().averageLoadPenalty();
+        }
+
+        @Override
+        public long getLoadLatencyP50() {
+            return interval.loadLatencies().p50().toNanos();
+        }
+
+        @Override
+        public long getLoadLatencyP99() {
+            return interval.loadLatencies().p99().toNanos();
+        }
+
+        @Override
+        public long getLoadLatencyP999() {
+            return interval.loadLatencies().p999().toNanos();
+        }
+
+        @Override
+        public long getLoadLatencyMax() {
+            return interval.loadLatencies().max().toNanos();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return interval.stats().evictionCount();
+        }
+
+        @Override
+        public long getSizeEvictionCount() {
+            return interval.evictionCount(EvictionCause.SIZE);
+        }
+
+        @Override
+        public long getExpiredEvictionCount() {
+            return interval.evictionCount(EvictionCause.EXPIRED);
+        }
+
+        @Override
+        public long getCollectedEvictionCount() {
+            return interval.evictionCount(EvictionCause.COLLECTED);
+        }
+
+        @Override
+        public long getCoalescedWaitCount() {
+            return interval.stats().coalescedWaitCount();
+        }
+
+        @Override
+        public long getTotalRequestCount() {
+            return total.stats().requestCount();
+        }
+
+        @Override
+        public double getTotalHitRate() {
+            return total.stats().hitRate();
+        }
+    }
+}
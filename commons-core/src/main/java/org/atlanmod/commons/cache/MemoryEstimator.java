@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.primitive.Primitives;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Static utility methods that estimate the number of bytes retained by an object in the heap, used to bound the caches
+ * built with {@link CacheBuilder#maximumMemory(long)}.
+ * <p>
+ * The estimation is exact for strings, primitive arrays and boxed primitives, and approximate for other objects:
+ * <ul>
+ * <li>collections, maps and object arrays are estimated from their structure and from a sample of their first
+ * elements, extrapolated to their size;</li>
+ * <li>other {@link Serializable} objects are estimated by following the references of their fields, for a sample of
+ * the instances of each class and averaged for the others;</li>
+ * <li>any other object is estimated from its own fields, without following its references.</li>
+ * </ul>
+ * The sizes assume a 64-bit virtual machine with compressed references, which is the default for heaps smaller than 32
+ * GB. Shared instances, such as enum constants and classes, are ignored.
+ */
+@Static
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class MemoryEstimator {
+
+    /**
+     * The size of the header of an object.
+     */
+    static final int OBJECT_HEADER = 12;
+
+    /**
+     * The size of the header of an array.
+     */
+    static final int ARRAY_HEADER = 16;
+
+    /**
+     * The size of a reference.
+     */
+    static final int REFERENCE = 4;
+
+    /**
+     * The alignment of objects in the heap.
+     */
+    static final int ALIGNMENT = 8;
+
+    /**
+     * The estimated overhead of an entry in a cache, excluding its key and its value.
+     */
+    static final int ENTRY_OVERHEAD = 64;
+
+    /**
+     * The estimated overhead of an element in a linked or hashed collection, such as the nodes of a {@link
+     * java.util.LinkedList} or of a {@link java.util.HashMap}, including the reference from its table.
+     */
+    static final int NODE_OVERHEAD = 32 + REFERENCE;
+
+    /**
+     * The size of an empty {@link String}, excluding its content.
+     */
+    static final int STRING_OVERHEAD = 24;
+
+    /**
+     * The number of elements of a collection that are estimated; the size of the others is extrapolated.
+     */
+    static final int SAMPLE_SIZE = 16;
+
+    /**
+     * The maximum depth of nested objects that are estimated; deeper objects are estimated from their own fields.
+     */
+    static final int MAXIMUM_DEPTH = 4;
+
+    /**
+     * The number of instances of a class whose fields are always followed.
+     */
+    static final int GRAPH_SAMPLE_SIZE = 16;
+
+    /**
+     * The rate at which the fields of the next instances of a class are followed.
+     */
+    static final int GRAPH_SAMPLE_RATE = 64;
+
+    /**
+     * The estimated size of the instances of each class, from their fields.
+     */
+    @Nonnull
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return computeShallowSize(type);
+        }
+    };
+
+    /**
+     * The samples of the sizes of the instances of each class, with the objects they reference.
+     */
+    @Nonnull
+    private static final ClassValue<GraphSize> GRAPH_SIZES = new ClassValue<GraphSize>() {
+        @Override
+        protected GraphSize computeValue(Class<?> type) {
+            return new GraphSize(referenceFields(type));
+        }
+    };
+
+    private MemoryEstimator() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Estimates the number of bytes retained by the {@code object} in the heap.
+     *
+     * @param object the object to estimate
+     *
+     * @return the estimated number of bytes, or {@code 0} if {@code object} is {@code null} or a shared instance
+     */
+    @Nonnegative
+    public static long sizeOf(@Nullable Object object) {
+        return sizeOf(object, 0);
+    }
+
+    /**
+     * Estimates the number of bytes retained by an entry of a cache, including the overhead of the cache.
+     * <p>
+     * This method can be used as the weigher of {@link CacheBuilder#maximumWeight(long,
+     * java.util.function.ToIntBiFunction)}, to combine a memory bound with a custom weight.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     *
+     * @return the estimated number of bytes, saturated to {@link Integer#MAX_VALUE}
+     */
+    @Nonnegative
+    public static int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + sizeOf(key) + sizeOf(value));
+    }
+
+    /**
+     * Estimates the number of bytes retained by the {@code object} in the heap.
+     *
+     * @param object the object to estimate
+     * @param depth  the depth of the object in the collections that are currently estimated
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOf(@Nullable Object object, int depth) {
+        if (isNull(object) || object instanceof Enum<?> || object instanceof Class<?>) {
+            return 0;
+        }
+
+        if (object instanceof String) {
+            return sizeOfString((String) object);
+        }
+        else if (object.getClass().isArray()) {
+            return sizeOfArray(object, depth);
+        }
+        else if (Primitives.isBoxed(object.getClass())) {
+            return shallowSizeOf(object);
+        }
+        else if (depth >= MAXIMUM_DEPTH) {
+            return shallowSizeOf(object);
+        }
+        else if (object instanceof Collection<?>) {
+            return sizeOfCollection((Collection<?>) object, depth);
+        }
+        else if (object instanceof Map<?, ?>) {
+            return sizeOfMap((Map<?, ?>) object, depth);
+        }
+        else if (object instanceof Serializable) {
+            return sizeOfSerializable(object, depth);
+        }
+        else {
+            return shallowSizeOf(object);
+        }
+    }
+
+    /**
+     * Estimates the size of a {@link String}, stored with one byte per character if possible.
+     *
+     * @param string the string
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfString(String string) {
+        int length = string.length();
+
+        int bytesPerChar = 1;
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+
+        return STRING_OVERHEAD + align(ARRAY_HEADER + (long) length * bytesPerChar);
+    }
+
+    /**
+     * Estimates the size of an array, and of its elements if it is an array of objects.
+     *
+     * @param array the array
+     * @param depth the depth of the array
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfArray(Object array, int depth) {
+        Class<?> componentType = array.getClass().getComponentType();
+
+        if (componentType == byte.class) {
+            return align(ARRAY_HEADER + (long) ((byte[]) array).length);
+        }
+        else if (componentType == boolean.class) {
+            return align(ARRAY_HEADER + (long) ((boolean[]) array).length);
+        }
+        else if (componentType == char.class) {
+            return align(ARRAY_HEADER + (long) ((char[]) array).length * Character.BYTES);
+        }
+        else if (componentType == short.class) {
+            return align(ARRAY_HEADER + (long) ((short[]) array).length * Short.BYTES);
+        }
+        else if (componentType == int.class) {
+            return align(ARRAY_HEADER + (long) ((int[]) array).length * Integer.BYTES);
+        }
+        else if (componentType == float.class) {
+            return align(ARRAY_HEADER + (long) ((float[]) array).length * Float.BYTES);
+        }
+        else if (componentType == long.class) {
+            return align(ARRAY_HEADER + (long) ((long[]) array).length * Long.BYTES);
+        }
+        else if (componentType == double.class) {
+            return align(ARRAY_HEADER + (long) ((double[]) array).length * Double.BYTES);
+        }
+
+        Object[] objects = (Object[]) array;
+        long size = align(ARRAY_HEADER + (long) objects.length * REFERENCE);
+        if (depth < MAXIMUM_DEPTH) {
+            size += sizeOfElements(Arrays.asList(objects).iterator(), objects.length, depth + 1);
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the size of a {@link Collection}, from its structure and a sample of its elements.
+     *
+     * @param collection the collection
+     * @param depth      the depth of the collection
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfCollection(Collection<?> collection, int depth) {
+        int size = collection.size();
+
+        long structure = collection instanceof RandomAccess
+                ? align(ARRAY_HEADER + (long) size * REFERENCE)
+                : (long) size * NODE_OVERHEAD;
+
+        return shallowSizeOf(collection) + structure + sizeOfElements(collection.iterator(), size, depth + 1);
+    }
+
+    /**
+     * Estimates the size of a {@link Map}, from its structure and a sample of its entries.
+     *
+     * @param map   the map
+     * @param depth the depth of the map
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfMap(Map<?, ?> map, int depth) {
+        int size = map.size();
+
+        long sampleSize = 0;
+        int sampleCount = 0;
+        for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator(); it.hasNext() && sampleCount < SAMPLE_SIZE; sampleCount++) {
+            Map.Entry<?, ?> entry = it.next();
+            sampleSize += sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+        }
+
+        return shallowSizeOf(map) + (long) size * NODE_OVERHEAD + extrapolate(sampleSize, sampleCount, size);
+    }
+
+    /**
+     * Estimates the size of the elements of a collection, from a sample of its first elements.
+     *
+     * @param elements the iterator over the elements
+     * @param size     the number of elements
+     * @param depth    the depth of the elements
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfElements(Iterator<?> elements, int size, int depth) {
+        long sampleSize = 0;
+        int sampleCount = 0;
+        for (; elements.hasNext() && sampleCount < SAMPLE_SIZE; sampleCount++) {
+            sampleSize += sizeOf(elements.next(), depth);
+        }
+
+        return extrapolate(sampleSize, sampleCount, size);
+    }
+
+    /**
+     * Extrapolates the size of a sample to the whole population.
+     *
+     * @param sampleSize  the size of the sample
+     * @param sampleCount the number of elements in the sample
+     * @param size        the number of elements in the population
+     *
+     * @return the estimated size of the population
+     */
+    @Nonnegative
+    private static long extrapolate(long sampleSize, int sampleCount, int size) {
+        if (sampleCount == 0 || sampleCount >= size) {
+            return sampleSize;
+        }
+        return (long) ((double) sampleSize / sampleCount * size);
+    }
+
+    /**
+     * Estimates the size of a {@link Serializable} object, from the objects referenced by its fields.
+     *
+     * @param object the object
+     * @param depth  the depth of the object
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long sizeOfSerializable(Object object, int depth) {
+        GraphSize graphSize = GRAPH_SIZES.get(object.getClass());
+
+        long size = graphSize.estimate(object, depth);
+        return size < 0 ? shallowSizeOf(object) : size;
+    }
+
+    /**
+     * Estimates the size of the {@code object}, and of the objects referenced by its {@code fields}.
+     *
+     * @param object the object
+     * @param fields the accessible reference fields of the class of the object
+     * @param depth  the depth of the object
+     *
+     * @return the estimated number of bytes, or {@code -1} if a field cannot be read
+     */
+    private static long sizeOfGraph(Object object, Field[] fields, int depth) {
+        long size = shallowSizeOf(object);
+        for (Field field : fields) {
+            Object value;
+            try {
+                value = field.get(object);
+            }
+            catch (IllegalAccessException e) {
+                return -1;
+            }
+            size += sizeOf(value, depth + 1);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of the {@code object}, excluding the objects it references.
+     *
+     * @param object the object
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long shallowSizeOf(Object object) {
+        return SHALLOW_SIZES.get(object.getClass());
+    }
+
+    /**
+     * Computes the size of the instances of the {@code type}, from the fields of its hierarchy.
+     *
+     * @param type the type of the instances
+     *
+     * @return the estimated number of bytes
+     */
+    @Nonnegative
+    private static long computeShallowSize(Class<?> type) {
+        long size = OBJECT_HEADER;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                Class<?> fieldType = field.getType();
+                if (fieldType == long.class || fieldType == double.class) {
+                    size += Long.BYTES;
+                }
+                else if (fieldType == int.class || fieldType == float.class) {
+                    size += Integer.BYTES;
+                }
+                else if (fieldType == short.class || fieldType == char.class) {
+                    size += Short.BYTES;
+                }
+                else if (fieldType == byte.class || fieldType == boolean.class) {
+                    size += Byte.BYTES;
+                }
+                else {
+                    size += REFERENCE;
+                }
+            }
+        }
+        return align(size);
+    }
+
+    /**
+     * Returns the non-static fields of the hierarchy of the {@code type} that reference objects, made accessible.
+     *
+     * @param type the type of the instances
+     *
+     * @return the fields, or {@code null} if one of them cannot be made accessible
+     */
+    @Nullable
+    private static Field[] referenceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+
+                try {
+                    if (!field.trySetAccessible()) {
+                        return null;
+                    }
+                }
+                catch (SecurityException e) {
+                    return null;
+                }
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * Aligns the {@code size} of an object to the alignment of the heap.
+     *
+     * @param size the size
+     *
+     * @return the aligned size
+     */
+    @Nonnegative
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * The samples of the size of the instances of a class, with the objects they reference.
+     */
+    @ThreadSafe
+    private static final class GraphSize {
+
+        /**
+         * The accessible reference fields of the class, or {@code null} if they cannot be read.
+         */
+        @Nullable
+        private final Field[] fields;
+
+        /**
+         * The number of estimated instances.
+         */
+        @Nonnull
+        private final AtomicLong count = new AtomicLong();
+
+        /**
+         * The total size of the measured instances, or {@code -1} if the fields of the class cannot be read.
+         */
+        @Nonnull
+        private final AtomicLong totalSize;
+
+        /**
+         * The number of measured instances.
+         */
+        @Nonnull
+        private final AtomicLong sampleCount = new AtomicLong();
+
+        /**
+         * Constructs a new {@code GraphSize}.
+         *
+         * @param fields the accessible reference fields of the class, or {@code null} if they cannot be read
+         */
+        GraphSize(@Nullable Field[] fields) {
+            this.fields = fields;
+            this.totalSize = new AtomicLong(nonNull(fields) ? 0 : -1);
+        }
+
+        /**
+         * Estimates the size of the {@code object}, by following its fields or by averaging the previous measures.
+         *
+         * @param object the object
+         * @param depth  the depth of the object
+         *
+         * @return the estimated number of bytes, or {@code -1} if the fields of the class cannot be read
+         */
+        long estimate(Object object, int depth) {
+            long total = totalSize.get();
+            if (total < 0 || isNull(fields)) {
+                return -1;
+            }
+
+            long n = count.getAndIncrement();
+            long samples = sampleCount.get();
+            if (n < GRAPH_SAMPLE_SIZE || n % GRAPH_SAMPLE_RATE == 0 || samples == 0) {
+                long size = sizeOfGraph(object, fields, depth);
+
+                // Once latched, the failure is never overwritten by a concurrent sample
+                if (totalSize.accumulateAndGet(size, (t, s) -> t < 0 || s < 0 ? -1 : t + s) < 0) {
+                    return -1;
+                }
+
+                sampleCount.incrementAndGet();
+                return size;
+            }
+
+            return total / samples;
+        }
+    }
+}
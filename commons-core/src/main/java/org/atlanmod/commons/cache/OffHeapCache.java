@@ -0,0 +1,777 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link Cache} that stores its values outside of the Java heap, serialized in direct memory slabs.
+ * <p>
+ * Keys and a small descriptor per entry are kept on the heap, whereas the serialized values are appended to slabs of
+ * direct memory, which are allocated lazily up to the maximum number of bytes of the cache. When all the slabs are
+ * full, the oldest slab is recycled: the entries that have been read since they were written are given a second chance
+ * and are copied to a spare slab, and the others are evicted. The memory of replaced or invalidated values is only
+ * reclaimed when their slab is recycled.
+ * <p>
+ * Values are copied on each access: {@link #get(Object)} always returns a new deserialized instance. Values larger
+ * than a slab are never cached.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+class OffHeapCache<K, V> implements Cache<K, V> {
+
+    /**
+     * The maximum size of a slab, in bytes.
+     */
+    static final int SLAB_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * The minimum number of slabs of a cache.
+     */
+    static final int MINIMUM_SLABS = 8;
+
+    /**
+     * The serializer used to store the values.
+     */
+    @Nonnull
+    private final BinarySerializer<V> serializer;
+
+    /**
+     * The statistics of this cache.
+     */
+    @Nonnull
+    private final StatsCounter stats;
+
+    /**
+     * The lock that guards the index and the slabs.
+     */
+    @Nonnull
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The entries of this cache.
+     */
+    @Nonnull
+    private final Map<K, Entry<K>> index;
+
+    /**
+     * The slabs that are full, from the oldest to the newest.
+     */
+    @Nonnull
+    private final Deque<Slab<K>> fullSlabs = new ArrayDeque<>();
+
+    /**
+     * The loads in progress, used to apply the mapping function at most once per key.
+     */
+    @Nonnull
+    private final ConcurrentMap<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * The size of each slab, in bytes.
+     */
+    @Nonnegative
+    private final int slabSize;
+
+    /**
+     * The maximum number of slabs, including the spare slab.
+     */
+    @Nonnegative
+    private final int maximumSlabs;
+
+    /**
+     * The number of slabs that have been allocated.
+     */
+    @Nonnegative
+    private int allocatedSlabs;
+
+    /**
+     * The slab where the values are currently written.
+     */
+    @Nullable
+    private Slab<K> currentSlab;
+
+    /**
+     * The slab that receives the entries that are given a second chance, when the oldest slab is recycled.
+     */
+    @Nullable
+    private Slab<K> spareSlab;
+
+    /**
+     * Constructs a new {@code OffHeapCache}.
+     *
+     * @param maximumBytes    the maximum number of bytes of direct memory used by this cache
+     * @param serializer      the serializer used to store the values
+     * @param initialCapacity the initial capacity of the index, or {@code -1} if not set
+     * @param recordStats     {@code true} if the statistics must be recorded
+     */
+    public OffHeapCache(@Nonnegative long maximumBytes, BinarySerializer<V> serializer, int initialCapacity, boolean recordStats) {
+        checkGreaterThan(maximumBytes, 0L, "maximumBytes (%d) must be positive", maximumBytes);
+
+        this.serializer = checkNotNull(serializer, "serializer");
+        this.stats = new StatsCounter(recordStats);
+        this.index = initialCapacity >= 0 ? new HashMap<>(initialCapacity) : new HashMap<>();
+
+        this.slabSize = (int) Math.max(1, Math.min(SLAB_SIZE, maximumBytes / MINIMUM_SLABS));
+        this.maximumSlabs = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maximumBytes / slabSize));
+    }
+
+    @Nullable
+    @Override
+    public V get(K key) {
+        checkNotNull(key, "key");
+
+        return lookup(key);
+    }
+
+    @Nullable
+    @Override
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        V value = lookup(key);
+        if (nonNull(value)) {
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> concurrentLoad = loads.putIfAbsent(key, load);
+        if (nonNull(concurrentLoad)) {
+            return join(concurrentLoad);
+        }
+
+        try {
+            // The value may have been loaded by another thread since the first lookup
+            value = getIfPresent(key);
+            if (isNull(value)) {
+                value = load(key, mappingFunction);
+                if (nonNull(value)) {
+                    put(key, value);
+                }
+            }
+            load.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            loads.remove(key, load);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = get(key);
+            if (nonNull(value)) {
+                result.put(key, value);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        byte[] data = serializer.convert(value);
+
+        lock.writeLock().lock();
+        try {
+            store(key, data);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        if (contains(key)) {
+            return;
+        }
+
+        byte[] data = serializer.convert(value);
+
+        lock.writeLock().lock();
+        try {
+            // The key may have been stored by another thread since the first check
+            if (!index.containsKey(key)) {
+                store(key, data);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        checkNotNull(map, "map");
+
+        map.forEach(this::put);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkNotNull(key, "key");
+
+        lock.writeLock().lock();
+        try {
+            remove(key);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            index.values().forEach(Entry::kill);
+            index.clear();
+
+            // Keep the allocated slabs for the next values
+            Deque<Slab<K>> emptySlabs = new ArrayDeque<>(fullSlabs);
+            if (nonNull(currentSlab)) {
+                emptySlabs.addFirst(currentSlab);
+                currentSlab = null;
+            }
+            emptySlabs.forEach(Slab::reset);
+            fullSlabs.clear();
+            fullSlabs.addAll(emptySlabs);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(K key) {
+        checkNotNull(key, "key");
+
+        lock.readLock().lock();
+        try {
+            return index.containsKey(key);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Nonnegative
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void refresh(K key) {
+        // Do nothing
+    }
+
+    @Override
+    public void cleanUp() {
+        // Do nothing
+    }
+
+    @Nonnull
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        return new AbstractCacheMap<K, V>(this) {
+            @Nullable
+            @Override
+            public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+                return OffHeapCache.this.compute(key, remappingFunction);
+            }
+
+            @Nullable
+            @Override
+            protected V getIfPresent(K key) {
+                return OffHeapCache.this.getIfPresent(key);
+            }
+
+            @Nonnull
+            @Override
+            protected Collection<K> keySnapshot() {
+                return OffHeapCache.this.keySnapshot();
+            }
+        };
+    }
+
+    @Nonnull
+    @Override
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    @Nonnull
+    @Override
+    public CacheMetrics metrics() {
+        return stats.metrics();
+    }
+
+    /**
+     * Returns the value associated with the {@code key}, and records a hit or a miss.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the value, or {@code null} if this cache contains no mapping for the key
+     */
+    @Nullable
+    private V lookup(K key) {
+        V value = getIfPresent(key);
+        if (nonNull(value)) {
+            stats.recordHit();
+        }
+        else {
+            stats.recordMiss();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the {@code key}, without recording any statistics.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return the value, or {@code null} if this cache contains no mapping for the key
+     */
+    @Nullable
+    protected V getIfPresent(K key) {
+        byte[] data;
+
+        lock.readLock().lock();
+        try {
+            Entry<K> entry = index.get(key);
+            if (isNull(entry)) {
+                return null;
+            }
+
+            // Benign race: the reference bit is only a hint for the recycling
+            entry.referenced = true;
+            data = entry.read();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        return serializer.revert(data);
+    }
+
+    /**
+     * Loads the value of the {@code key} with the {@code mappingFunction}, and records the statistics of the load.
+     *
+     * @param key             the key to load
+     * @param mappingFunction the function to compute a value
+     *
+     * @return the loaded value, or {@code null}
+     */
+    @Nullable
+    protected V load(K key, Function<? super K, ? extends V> mappingFunction) {
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = mappingFunction.apply(key);
+        }
+        catch (RuntimeException | Error e) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        if (nonNull(value)) {
+            stats.recordLoadSuccess(System.nanoTime() - start);
+        }
+        else {
+            stats.recordLoadFailure(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Atomically computes a new value for the {@code key} from its current value. If the function returns {@code null},
+     * the mapping is removed.
+     *
+     * @param key               the key with which the value is to be associated
+     * @param remappingFunction the function to compute the new value
+     *
+     * @return the new value, or {@code null} if none
+     */
+    @Nullable
+    protected V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(remappingFunction, "remappingFunction");
+
+        lock.writeLock().lock();
+        try {
+            Entry<K> entry = index.get(key);
+            V oldValue = nonNull(entry) ? serializer.revert(entry.read()) : null;
+
+            V newValue = remappingFunction.apply(key, oldValue);
+            if (isNull(newValue)) {
+                remove(key);
+            }
+            else if (newValue != oldValue) {
+                store(key, serializer.convert(newValue));
+            }
+            return newValue;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the keys of this cache.
+     *
+     * @return a new collection
+     */
+    @Nonnull
+    protected Collection<K> keySnapshot() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(index.keySet());
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the serialized value of the {@code key}. The caller must hold the write lock.
+     *
+     * @param key  the key
+     * @param data the serialized value
+     */
+    private void store(K key, byte[] data) {
+        remove(key);
+
+        if (data.length > slabSize) {
+            stats.recordEviction();
+            return;
+        }
+
+        while (isNull(currentSlab) || currentSlab.remaining() < data.length) {
+            nextSlab();
+        }
+
+        index.put(key, currentSlab.append(key, data));
+    }
+
+    /**
+     * Removes the entry of the {@code key}, if any. The caller must hold the write lock.
+     *
+     * @param key the key
+     */
+    private void remove(K key) {
+        Entry<K> entry = index.remove(key);
+        if (nonNull(entry)) {
+            entry.kill();
+        }
+    }
+
+    /**
+     * Replaces the current slab by a new one, either by allocating a new slab, or by recycling the oldest slab. The
+     * caller must hold the write lock.
+     */
+    private void nextSlab() {
+        if (nonNull(currentSlab)) {
+            fullSlabs.addLast(currentSlab);
+            currentSlab = null;
+        }
+
+        // Reuse the slabs emptied by invalidateAll() first
+        Slab<K> oldest = fullSlabs.peekFirst();
+        if (nonNull(oldest) && oldest.isEmpty()) {
+            currentSlab = fullSlabs.pollFirst();
+            return;
+        }
+
+        // Keep one slab for the recycling
+        if (allocatedSlabs < maximumSlabs - 1) {
+            currentSlab = allocate();
+            return;
+        }
+
+        if (isNull(spareSlab)) {
+            spareSlab = allocate();
+        }
+
+        Slab<K> victim = fullSlabs.pollFirst();
+        currentSlab = spareSlab;
+
+        for (Entry<K> entry : victim.entries) {
+            if (!entry.isAlive()) {
+                continue;
+            }
+
+            if (entry.referenced) {
+                entry.referenced = false;
+                index.put(entry.key, currentSlab.append(entry.key, entry.read()));
+            }
+            else {
+                index.remove(entry.key);
+                stats.recordEviction();
+            }
+            entry.kill();
+        }
+
+        victim.reset();
+        spareSlab = victim;
+    }
+
+    /**
+     * Allocates a new slab of direct memory.
+     *
+     * @return a new slab
+     */
+    @Nonnull
+    private Slab<K> allocate() {
+        allocatedSlabs++;
+        return new Slab<>(ByteBuffer.allocateDirect(slabSize));
+    }
+
+    /**
+     * Waits for the completion of the given {@code load}, performed by another thread.
+     *
+     * @param load the load to wait for
+     *
+     * @return the loaded value, or {@code null}
+     */
+    @Nullable
+    private V join(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        }
+        catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A region of direct memory where serialized values are appended.
+     *
+     * @param <K> the type of keys
+     */
+    private static final class Slab<K> {
+
+        /**
+         * The memory of this slab.
+         */
+        @Nonnull
+        private final ByteBuffer buffer;
+
+        /**
+         * The entries written in this slab, including dead entries.
+         */
+        @Nonnull
+        private final List<Entry<K>> entries = new ArrayList<>();
+
+        /**
+         * The position of the next value.
+         */
+        @Nonnegative
+        private int position;
+
+        /**
+         * Constructs a new {@code Slab}.
+         *
+         * @param buffer the memory of this slab
+         */
+        Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the number of bytes that can still be appended.
+         */
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        /**
+         * Returns {@code true} if no value has been written in this slab.
+         */
+        boolean isEmpty() {
+            return position == 0;
+        }
+
+        /**
+         * Appends the given {@code data}, and creates its entry.
+         *
+         * @param key  the key of the entry
+         * @param data the serialized value
+         *
+         * @return the new entry
+         */
+        @Nonnull
+        Entry<K> append(K key, byte[] data) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(position);
+            target.put(data);
+
+            Entry<K> entry = new Entry<>(key, this, position, data.length);
+            entries.add(entry);
+            position += data.length;
+            return entry;
+        }
+
+        /**
+         * Discards all the values of this slab.
+         */
+        void reset() {
+            entries.clear();
+            position = 0;
+        }
+    }
+
+    /**
+     * The descriptor of a value stored in a slab.
+     *
+     * @param <K> the type of keys
+     */
+    private static final class Entry<K> {
+
+        /**
+         * The key of this entry.
+         */
+        @Nonnull
+        private final K key;
+
+        /**
+         * The position of the value in the slab.
+         */
+        @Nonnegative
+        private final int offset;
+
+        /**
+         * The size of the value, in bytes.
+         */
+        @Nonnegative
+        private final int length;
+
+        /**
+         * The slab that contains the value, or {@code null} if this entry is dead.
+         */
+        @Nullable
+        private Slab<K> slab;
+
+        /**
+         * Whether this entry has been read since it has been written.
+         */
+        private boolean referenced;
+
+        /**
+         * Constructs a new {@code Entry}.
+         *
+         * @param key    the key of this entry
+         * @param slab   the slab that contains the value
+         * @param offset the position of the value in the slab
+         * @param length the size of the value, in bytes
+         */
+        Entry(K key, Slab<K> slab, int offset, int length) {
+            this.key = key;
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns {@code true} if this entry is still mapped in the index.
+         */
+        boolean isAlive() {
+            return nonNull(slab);
+        }
+
+        /**
+         * Marks this entry as dead: its value is no longer reachable.
+         */
+        void kill() {
+            slab = null;
+        }
+
+        /**
+         * Copies the value of this entry from its slab.
+         *
+         * @return the serialized value
+         */
+        @Nonnull
+        byte[] read() {
+            byte[] data = new byte[length];
+
+            ByteBuffer source = slab.buffer.duplicate();
+            source.position(offset);
+            source.get(data);
+            return data;
+        }
+    }
+}
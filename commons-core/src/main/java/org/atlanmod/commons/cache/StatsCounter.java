@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.concurrent.LatencyDistribution;
+import org.atlanmod.commons.concurrent.LatencyRecorder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An object that accumulates the statistics and the metrics of a {@link Cache}, with contention-free counters.
+ * <p>
+ * When disabled, all the recording methods do nothing and {@link #snapshot()} returns zero for all statistics.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class StatsCounter {
+
+    /**
+     * Whether the statistics are recorded.
+     */
+    private final boolean enabled;
+
+    /**
+     * The number of cache hits.
+     */
+    @Nonnull
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of cache misses.
+     */
+    @Nonnull
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of successful cache loads.
+     */
+    @Nonnull
+    private final LongAdder loadSuccessCount = new LongAdder();
+
+    /**
+     * The number of failed cache loads.
+     */
+    @Nonnull
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    /**
+     * The total load time (success and failure) in nanoseconds.
+     */
+    @Nonnull
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * The number of lookups that have waited for a concurrent load of the same key.
+     */
+    @Nonnull
+    private final LongAdder coalescedWaitCount = new LongAdder();
+
+    /**
+     * The number of entries evicted from the cache, indexed by the ordinal of their cause.
+     */
+    @Nonnull
+    private final LongAdder[] evictionCounts;
+
+    /**
+     * The recorder of the load times, or {@code null} if the statistics are not recorded.
+     */
+    @Nullable
+    private final LatencyRecorder loadLatencies;
+
+    /**
+     * Constructs a new {@code StatsCounter}.
+     *
+     * @param enabled {@code true} if the statistics must be recorded
+     */
+    public StatsCounter(boolean enabled) {
+        this.enabled = enabled;
+        this.loadLatencies = enabled ? new LatencyRecorder() : null;
+
+        this.evictionCounts = new LongAdder[EvictionCause.values().length];
+        for (int i = 0; i < evictionCounts.length; i++) {
+            evictionCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a cache hit.
+     */
+    public void recordHit() {
+        if (enabled) {
+            hitCount.increment();
+        }
+    }
+
+    /**
+     * Records cache hits.
+     *
+     * @param count the number of hits to record
+     */
+    public void recordHits(@Nonnegative int count) {
+        if (enabled) {
+            hitCount.add(count);
+        }
+    }
+
+    /**
+     * Records a cache miss.
+     */
+    public void recordMiss() {
+        if (enabled) {
+            missCount.increment();
+        }
+    }
+
+    /**
+     * Records cache misses.
+     *
+     * @param count the number of misses to record
+     */
+    public void recordMisses(@Nonnegative int count) {
+        if (enabled) {
+            missCount.add(count);
+        }
+    }
+
+    /**
+     * Records the successful load of a new value.
+     *
+     * @param loadTime the number of nanoseconds spent to load the value
+     */
+    public void recordLoadSuccess(@Nonnegative long loadTime) {
+        if (enabled) {
+            loadSuccessCount.increment();
+            totalLoadTime.add(loadTime);
+            loadLatencies.record(loadTime);
+        }
+    }
+
+    /**
+     * Records the failed load of a new value, either because the loader returned {@code null} or threw an exception.
+     *
+     * @param loadTime the number of nanoseconds spent before the failure
+     */
+    public void recordLoadFailure(@Nonnegative long loadTime) {
+        if (enabled) {
+            loadFailureCount.increment();
+            totalLoadTime.add(loadTime);
+            loadLatencies.record(loadTime);
+        }
+    }
+
+    /**
+     * Records the eviction of an entry because of the size of the cache.
+     */
+    public void recordEviction() {
+        recordEviction(EvictionCause.SIZE);
+    }
+
+    /**
+     * Records the eviction of an entry.
+     *
+     * @param cause the reason for which the entry was evicted
+     */
+    public void recordEviction(EvictionCause cause) {
+        if (enabled) {
+            evictionCounts[cause.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records a lookup that has waited for a concurrent load of the same key, instead of loading it again.
+     */
+    public void recordCoalescedWait() {
+        if (enabled) {
+            coalescedWaitCount.increment();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this counter.
+     *
+     * @return the current statistics
+     */
+    @Nonnull
+    public CacheStats snapshot() {
+        return new CacheStats(
+                hitCount.sum(),
+                missCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTime.sum(),
+                Arrays.stream(evictionCounts).mapToLong(LongAdder::sum).sum(),
+                coalescedWaitCount.sum());
+    }
+
+    /**
+     * Returns a snapshot of the metrics recorded by this counter.
+     *
+     * @return the current metrics
+     */
+    @Nonnull
+    public CacheMetrics metrics() {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i].sum();
+        }
+
+        LatencyDistribution latencies = enabled ? loadLatencies.snapshot() : LatencyDistribution.empty();
+        return new CacheMetrics(snapshot(), latencies, evictions);
+    }
+}
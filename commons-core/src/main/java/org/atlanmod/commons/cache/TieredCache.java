@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+import org.atlanmod.commons.log.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A two-level {@link Cache}, made of a Caffeine cache on the heap, and of a persistent {@link DiskStore} on the local
+ * disk.
+ * <p>
+ * The entries evicted from the first level because of its size are written to the second level, which is looked up on
+ * each miss of the first level: the values found on the disk are promoted back to the heap, and are kept on the disk
+ * until they are replaced or invalidated. When the cache is closed, all the entries of the first level are written to
+ * the disk, and the next cache opened on the same directory starts with them.
+ * <p>
+ * A hit is counted if the value is found at any level, and an eviction is counted when an entry is removed from both
+ * levels: when it is larger than a segment of the store, or when its segment is deleted.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+class TieredCache<K, V> implements Cache<K, V>, Closeable {
+
+    /**
+     * The first level of this cache.
+     */
+    @Nonnull
+    private final com.github.benmanes.caffeine.cache.Cache<K, V> cache;
+
+    /**
+     * The second level of this cache.
+     */
+    @Nonnull
+    private final DiskStore<K, V> store;
+
+    /**
+     * The statistics of this cache.
+     */
+    @Nonnull
+    private final StatsCounter stats;
+
+    /**
+     * The approximate number of keys that are both in the first level and on the disk, after being promoted.
+     */
+    @Nonnull
+    private final AtomicLong sharedCount = new AtomicLong();
+
+    /**
+     * Constructs a new {@code TieredCache}.
+     *
+     * @param builder         the builder of the first level, whose evictions are handed over to {@link #spill(Object,
+     *                        Object, RemovalCause)}
+     * @param directory       the directory of the second level
+     * @param maximumBytes    the maximum number of bytes of the second level
+     * @param keySerializer   the serializer used to store the keys on the disk
+     * @param valueSerializer the serializer used to store the values on the disk
+     * @param recordStats     {@code true} if the statistics must be recorded
+     */
+    public TieredCache(Caffeine<Object, Object> builder, Path directory, @Nonnegative long maximumBytes, BinarySerializer<K> keySerializer, BinarySerializer<V> valueSerializer, boolean recordStats) {
+        checkNotNull(builder, "builder");
+
+        this.stats = new StatsCounter(recordStats);
+        this.cache = builder.build();
+        this.store = new DiskStore<>(directory, maximumBytes, keySerializer, valueSerializer, stats, this::unshare);
+    }
+
+    @Nullable
+    @Override
+    public V get(K key) {
+        checkNotNull(key, "key");
+
+        V value = cache.getIfPresent(key);
+        if (isNull(value)) {
+            value = cache.get(key, this::promote);
+        }
+
+        if (nonNull(value)) {
+            stats.recordHit();
+        }
+        else {
+            stats.recordMiss();
+        }
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkNotNull(key, "key");
+        checkNotNull(mappingFunction, "mappingFunction");
+
+        boolean[] loaded = new boolean[1];
+        V value = cache.get(key, k -> {
+            V storedValue = promote(k);
+            if (nonNull(storedValue)) {
+                return storedValue;
+            }
+
+            loaded[0] = true;
+            return load(k, mappingFunction);
+        });
+
+        if (loaded[0]) {
+            stats.recordMiss();
+        }
+        else {
+            stats.recordHit();
+        }
+        return value;
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys) {
+            V value = get(key);
+            if (nonNull(value)) {
+                result.put(key, value);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        // The copy on the disk is removed atomically, to never be spilled back over a newer value
+        cache.asMap().compute(key, (k, v) -> {
+            removeFromStore(k, v);
+            return value;
+        });
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+
+        // A value on the disk is left there, without being promoted
+        cache.asMap().compute(key, (k, v) -> nonNull(v) || store.contains(k) ? v : value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        checkNotNull(map, "map");
+
+        map.forEach(this::put);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkNotNull(key, "key");
+
+        cache.asMap().compute(key, (k, v) -> {
+            removeFromStore(k, v);
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidateAll(Iterable<? extends K> keys) {
+        checkNotNull(keys, "keys");
+
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+        store.clear();
+        sharedCount.set(0);
+    }
+
+    @Override
+    public boolean contains(K key) {
+        checkNotNull(key, "key");
+
+        return nonNull(cache.getIfPresent(key)) || store.contains(key);
+    }
+
+    @Nonnegative
+    @Override
+    public long size() {
+        long heapSize = cache.estimatedSize();
+        long diskSize = store.size();
+        return Math.max(heapSize + diskSize - sharedCount.get(), Math.max(heapSize, diskSize));
+    }
+
+    @Override
+    public void refresh(K key) {
+        // Do nothing
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The segments modified since the last call are flushed to the disk.
+     */
+    @Override
+    public void cleanUp() {
+        cache.cleanUp();
+        store.force();
+    }
+
+    @Nonnull
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        return new AbstractCacheMap<K, V>(this) {
+            @Nullable
+            @Override
+            public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+                checkNotNull(key, "key");
+                checkNotNull(remappingFunction, "remappingFunction");
+
+                return TieredCache.this.cache.asMap().compute(key, (k, v) -> {
+                    V currentValue = nonNull(v) ? v : store.get(k);
+                    V newValue = remappingFunction.apply(k, currentValue);
+                    if (newValue != currentValue) {
+                        removeFromStore(k, v);
+                    }
+                    else if (isNull(v) && nonNull(newValue)) {
+                        sharedCount.incrementAndGet();
+                    }
+                    return newValue;
+                });
+            }
+
+            @Nullable
+            @Override
+            protected V getIfPresent(K key) {
+                V value = TieredCache.this.cache.getIfPresent(key);
+                return nonNull(value) ? value : store.get(key);
+            }
+
+            @Nonnull
+            @Override
+            protected Collection<K> keySnapshot() {
+                Set<K> keys = new LinkedHashSet<>(TieredCache.this.cache.asMap().keySet());
+                keys.addAll(store.keys());
+                return keys;
+            }
+        };
+    }
+
+    @Nonnull
+    @Override
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    @Nonnull
+    @Override
+    public CacheMetrics metrics() {
+        return stats.metrics();
+    }
+
+    /**
+     * Writes all the entries of the first level to the disk, and closes the second level. This cache must not be used
+     * after this call.
+     *
+     * @throws IOException if an I/O error occurs when closing the second level
+     */
+    @Override
+    public void close() throws IOException {
+        // Run the pending evictions, before a new cache can be built on the same directory
+        cache.cleanUp();
+
+        cache.asMap().forEach((k, v) -> {
+            if (!store.contains(k)) {
+                store.put(k, v);
+            }
+        });
+        cache.invalidateAll();
+        store.close();
+    }
+
+    /**
+     * Loads the value of the {@code key} with the {@code mappingFunction}, and records the statistics of the load.
+     *
+     * @param key             the key to load
+     * @param mappingFunction the function to compute a value
+     *
+     * @return the loaded value, or {@code null}
+     */
+    @Nullable
+    protected V load(K key, Function<? super K, ? extends V> mappingFunction) {
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = mappingFunction.apply(key);
+        }
+        catch (RuntimeException | Error e) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        if (nonNull(value)) {
+            stats.recordLoadSuccess(System.nanoTime() - start);
+        }
+        else {
+            stats.recordLoadFailure(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of the {@code key} from the disk, to be promoted to the first level.
+     *
+     * @param key the key to read
+     *
+     * @return the stored value, or {@code null}
+     */
+    @Nullable
+    private V promote(K key) {
+        V value = store.get(key);
+        if (nonNull(value)) {
+            sharedCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value of the {@code key} from the disk, when its value in the first level is replaced or removed.
+     *
+     * @param key       the key to remove
+     * @param heapValue the current value in the first level, or {@code null}
+     */
+    private void removeFromStore(K key, @Nullable V heapValue) {
+        if (store.remove(key) && nonNull(heapValue)) {
+            sharedCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Updates the number of shared keys, when the {@code key} is evicted from the disk.
+     *
+     * @param key the evicted key
+     */
+    private void unshare(K key) {
+        if (cache.asMap().containsKey(key)) {
+            sharedCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Writes an entry evicted from the first level to the disk, unless it is already there.
+     *
+     * @param key   the key of the evicted entry
+     * @param value the value of the evicted entry
+     * @param cause the reason for which the entry was removed
+     */
+    @SuppressWarnings("unchecked")
+    void spill(@Nullable Object key, @Nullable Object value, RemovalCause cause) {
+        if (cause != RemovalCause.SIZE || isNull(key) || isNull(value)) {
+            return;
+        }
+
+        try {
+            if (store.contains((K) key)) {
+                sharedCount.decrementAndGet();
+            }
+            else {
+                store.put((K) key, (V) value);
+            }
+        }
+        catch (RuntimeException e) {
+            stats.recordEviction();
+            Log.warn(e, "Unable to write the value of {0} to the disk", key);
+        }
+    }
+}
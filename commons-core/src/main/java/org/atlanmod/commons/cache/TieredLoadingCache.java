@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+import org.atlanmod.commons.log.Log;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link TieredCache} which either returns an already-loaded value for a given key or computes it with a loader.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+class TieredLoadingCache<K, V> extends TieredCache<K, V> {
+
+    /**
+     * The function used to obtain new values.
+     */
+    @Nonnull
+    private final Function<? super K, ? extends V> mappingFunction;
+
+    /**
+     * The executor used to refresh the values.
+     */
+    @Nonnull
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@code TieredLoadingCache}.
+     *
+     * @param builder         the builder of the first level
+     * @param directory       the directory of the second level
+     * @param maximumBytes    the maximum number of bytes of the second level
+     * @param keySerializer   the serializer used to store the keys on the disk
+     * @param valueSerializer the serializer used to store the values on the disk
+     * @param recordStats     {@code true} if the statistics must be recorded
+     * @param mappingFunction the function used to obtain new values
+     * @param executor        the executor used to refresh the values
+     */
+    public TieredLoadingCache(Caffeine<Object, Object> builder, Path directory, @Nonnegative long maximumBytes, BinarySerializer<K> keySerializer, BinarySerializer<V> valueSerializer, boolean recordStats, Function<? super K, ? extends V> mappingFunction, Executor executor) {
+        super(builder, directory, maximumBytes, keySerializer, valueSerializer, recordStats);
+
+        this.mappingFunction = checkNotNull(mappingFunction, "mappingFunction");
+        this.executor = checkNotNull(executor, "executor");
+    }
+
+    @Nullable
+    @Override
+    public V get(K key) {
+        return get(key, mappingFunction);
+    }
+
+    @Override
+    public void refresh(K key) {
+        checkNotNull(key, "key");
+
+        executor.execute(() -> {
+            try {
+                V value = load(key, mappingFunction);
+                if (nonNull(value)) {
+                    put(key, value);
+                }
+            }
+            catch (RuntimeException e) {
+                Log.warn(e, "Unable to refresh the value of {0}", key);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The behavior of a bounded pool when a task is submitted while its queue is full.
+ *
+ * @see ThreadPoolBuilder#backPressure(BackPressure)
+ */
+public enum BackPressure {
+
+    /**
+     * The task is run in the thread that submitted it, which slows down the producers to the pace of the pool. Once
+     * the pool has been shutdown, the task is rejected with a {@link RejectedExecutionException}.
+     */
+    CALLER_RUNS {
+        @Nonnull
+        @Override
+        RejectedExecutionHandler newHandler() {
+            return (task, executor) -> {
+                // Unlike ThreadPoolExecutor.CallerRunsPolicy, don't discard the task silently
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Executor already shutdown");
+                }
+
+                task.run();
+            };
+        }
+    },
+
+    /**
+     * The thread that submitted the task waits until the queue has room for it.
+     */
+    BLOCK {
+        @Nonnull
+        @Override
+        RejectedExecutionHandler newHandler() {
+            return (task, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Executor already shutdown");
+                }
+
+                try {
+                    executor.getQueue().put(task);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for the queue", e);
+                }
+
+                // The executor may have been shutdown while waiting
+                if (executor.isShutdown() && executor.remove(task)) {
+                    throw new RejectedExecutionException("Executor already shutdown");
+                }
+            };
+        }
+    },
+
+    /**
+     * The task is rejected with a {@link RejectedExecutionException}.
+     */
+    REJECT {
+        @Nonnull
+        @Override
+        RejectedExecutionHandler newHandler() {
+            return new ThreadPoolExecutor.AbortPolicy();
+        }
+    };
+
+    /**
+     * Creates a new handler of the tasks that cannot be queued, that implements this behavior.
+     *
+     * @return a new handler
+     */
+    @Nonnull
+    abstract RejectedExecutionHandler newHandler();
+}
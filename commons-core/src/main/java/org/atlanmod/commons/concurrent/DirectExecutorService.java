@@ -10,14 +10,17 @@ package org.atlanmod.commons.concurrent;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import javax.annotation.concurrent.GuardedBy;
 
 /**
  * A {@link ExecutorService} that runs each task in the thread that invokes {@code execute/submit}. This applies both to
@@ -26,32 +29,43 @@ import javax.annotation.concurrent.GuardedBy;
  * returned to the caller (unless the executor has been shutdown).
  * <p>
  * Although all tasks are immediately executed in the thread that submitted the task, this {@code ExecutorService}
- * imposes a small locking overhead on each task submission in order to implement shutdown and termination behavior.
+ * tracks the running tasks in order to implement shutdown and termination behavior. The number of running tasks and
+ * the shutdown flag are held in a single atomic word, updated without locking: only the threads waiting for the
+ * termination are parked.
  * <p>
  * Class adapted from Guava 23.0
  */
 @ParametersAreNonnullByDefault
-class DirectExecutorService extends AbstractExecutorService {
+class DirectExecutorService extends AbstractExecutorService implements ExecutorGauges {
 
     /**
-     * Lock used whenever accessing the state variables (runningTasks, shutdown) of the executor.
+     * The bit of the {@link #state} that indicates whether the executor has been shut down.
      */
-    @Nonnull
-    private final Object lock = new Object();
+    private static final int SHUTDOWN = 1;
+
+    /**
+     * The increment of the {@link #state} for each running task.
+     */
+    private static final int TASK = 2;
 
     /**
-     * Conceptually, these two variables describe the executor being in one of three states:
+     * The state of the executor: the number of running tasks, shifted by one bit, and the {@link #SHUTDOWN} bit.
+     * <p>
+     * Conceptually, the state describes the executor being in one of three states:
      * <ul>
-     * <li>Active: shutdown == {@code false}</li>
-     * <li>Shutdown: runningTasks > 0 and shutdown == {@code true}</li>
-     * <li>Terminated: runningTasks == 0 and shutdown == {@code true}</li>
+     * <li>Active: the {@link #SHUTDOWN} bit is not set</li>
+     * <li>Shutdown: the {@link #SHUTDOWN} bit is set, and some tasks are running</li>
+     * <li>Terminated: the state is equal to {@link #SHUTDOWN}</li>
      * </ul>
      */
-    @GuardedBy("lock")
-    private int runningTasks = 0;
+    @Nonnull
+    private final AtomicInteger state = new AtomicInteger();
 
-    @GuardedBy("lock")
-    private boolean shutdown = false;
+    /**
+     * The threads waiting for the termination of the executor.
+     */
+    @Nonnull
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
 
     @Override
     public void execute(Runnable command) {
@@ -66,11 +80,8 @@ class DirectExecutorService extends AbstractExecutorService {
 
     @Override
     public void shutdown() {
-        synchronized (lock) {
-            shutdown = true;
-            if (runningTasks == 0) {
-                lock.notifyAll();
-            }
+        if (state.updateAndGet(s -> s | SHUTDOWN) == SHUTDOWN) {
+            signalTermination();
         }
     }
 
@@ -83,36 +94,51 @@ class DirectExecutorService extends AbstractExecutorService {
 
     @Override
     public boolean isShutdown() {
-        synchronized (lock) {
-            return shutdown;
-        }
+        return (state.get() & SHUTDOWN) != 0;
     }
 
     @Override
     public boolean isTerminated() {
-        synchronized (lock) {
-            return shutdown && runningTasks == 0;
-        }
+        return state.get() == SHUTDOWN;
     }
 
     @Override
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
-        long nanos = unit.toNanos(timeout);
-        synchronized (lock) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        // Register before checking the state, to not miss the signal
+        Thread current = Thread.currentThread();
+        waiters.add(current);
+        try {
             while (true) {
-                if (shutdown && runningTasks == 0) {
+                if (isTerminated()) {
                     return true;
                 }
-                else if (nanos <= 0) {
-                    return false;
+                else if (Thread.interrupted()) {
+                    throw new InterruptedException();
                 }
-                else {
-                    long now = System.nanoTime();
-                    TimeUnit.NANOSECONDS.timedWait(lock, nanos);
-                    nanos -= System.nanoTime() - now; // subtract the actual time we waited
+
+                long nanos = deadline - System.nanoTime();
+                if (nanos <= 0) {
+                    return false;
                 }
+                LockSupport.parkNanos(this, nanos);
             }
         }
+        finally {
+            waiters.remove(current);
+        }
+    }
+
+    @Override
+    public int queueDepth() {
+        // Tasks are never queued
+        return 0;
+    }
+
+    @Override
+    public int activeCount() {
+        return state.get() >>> 1;
     }
 
     /**
@@ -121,23 +147,30 @@ class DirectExecutorService extends AbstractExecutorService {
      * @throws RejectedExecutionException if the executor has been previously shutdown
      */
     private void startTask() {
-        synchronized (lock) {
-            if (shutdown) {
+        while (true) {
+            int current = state.get();
+            if ((current & SHUTDOWN) != 0) {
                 throw new RejectedExecutionException("Executor already shutdown");
             }
-            runningTasks++;
+            if (state.compareAndSet(current, current + TASK)) {
+                return;
+            }
         }
     }
 
     /**
-     * Decrements the running task count.
+     * Decrements the running task count, and wakes up the waiting threads if the executor is terminated.
      */
     private void endTask() {
-        synchronized (lock) {
-            int numRunning = --runningTasks;
-            if (numRunning == 0) {
-                lock.notifyAll();
-            }
+        if (state.addAndGet(-TASK) == SHUTDOWN) {
+            signalTermination();
         }
     }
+
+    /**
+     * Wakes up the threads waiting for the termination of the executor.
+     */
+    private void signalTermination() {
+        waiters.forEach(LockSupport::unpark);
+    }
 }
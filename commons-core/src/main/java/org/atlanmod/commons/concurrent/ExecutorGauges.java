@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * The instantaneous measures of the load of an {@link Executor}.
+ * <p>
+ * Each measure is an estimate, read without locking: it may already be outdated when returned.
+ *
+ * @see MoreExecutors#gauges(Executor)
+ */
+public interface ExecutorGauges {
+
+    /**
+     * Returns the number of tasks that have been submitted but not yet started.
+     *
+     * @return the number of waiting tasks
+     */
+    @Nonnegative
+    int queueDepth();
+
+    /**
+     * Returns the number of threads that are running a task.
+     *
+     * @return the number of active threads
+     */
+    @Nonnegative
+    int activeCount();
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * Metrics about the load of an executor: the number of submitted, completed, failed and rejected tasks, the time spent
+ * by the tasks waiting for a thread and running, and the current number of waiting tasks and active threads.
+ * <p>
+ * The counts and the distributions are cumulative: the metrics of an interval are obtained by subtracting two snapshots
+ * with {@link #minus(ExecutorMetrics)}. The queue depth and the active count are instantaneous.
+ *
+ * @see InstrumentedExecutorService#metrics()
+ * @see ExecutorMonitor
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+public final class ExecutorMetrics {
+
+    /**
+     * The number of submitted tasks, including the rejected ones.
+     */
+    @Nonnegative
+    private final long submittedCount;
+
+    /**
+     * The number of tasks that have run, successfully or not.
+     */
+    @Nonnegative
+    private final long completedCount;
+
+    /**
+     * The number of tasks that have failed.
+     */
+    @Nonnegative
+    private final long failedCount;
+
+    /**
+     * The number of rejected tasks.
+     */
+    @Nonnegative
+    private final long rejectedCount;
+
+    /**
+     * The number of tasks waiting for a thread.
+     */
+    @Nonnegative
+    private final int queueDepth;
+
+    /**
+     * The number of threads running a task.
+     */
+    @Nonnegative
+    private final int activeCount;
+
+    /**
+     * The distribution of the time spent by the tasks waiting for a thread.
+     */
+    @Nonnull
+    private final LatencyDistribution queueWaits;
+
+    /**
+     * The distribution of the time spent running the tasks.
+     */
+    @Nonnull
+    private final LatencyDistribution runTimes;
+
+    /**
+     * Constructs a new {@code ExecutorMetrics}.
+     *
+     * @param submittedCount the number of submitted tasks, including the rejected ones
+     * @param completedCount the number of tasks that have run, successfully or not
+     * @param failedCount    the number of tasks that have failed
+     * @param rejectedCount  the number of rejected tasks
+     * @param queueDepth     the number of tasks waiting for a thread
+     * @param activeCount    the number of threads running a task
+     * @param queueWaits     the distribution of the time spent by the tasks waiting for a thread
+     * @param runTimes       the distribution of the time spent running the tasks
+     */
+    ExecutorMetrics(long submittedCount, long completedCount, long failedCount, long rejectedCount, int queueDepth, int activeCount, LatencyDistribution queueWaits, LatencyDistribution runTimes) {
+        this.submittedCount = Math.max(0L, submittedCount);
+        this.completedCount = Math.max(0L, completedCount);
+        this.failedCount = Math.max(0L, failedCount);
+        this.rejectedCount = Math.max(0L, rejectedCount);
+        this.queueDepth = Math.max(0, queueDepth);
+        this.activeCount = Math.max(0, activeCount);
+        this.queueWaits = checkNotNull(queueWaits, "queueWaits");
+        this.runTimes = checkNotNull(runTimes, "runTimes");
+    }
+
+    /**
+     * Returns the number of submitted tasks, including the rejected ones.
+     *
+     * @return the number of submitted tasks
+     */
+    @Nonnegative
+    public long submittedCount() {
+        return submittedCount;
+    }
+
+    /**
+     * Returns the number of tasks that have run, successfully or not.
+     *
+     * @return the number of completed tasks
+     */
+    @Nonnegative
+    public long completedCount() {
+        return completedCount;
+    }
+
+    /**
+     * Returns the number of tasks that have thrown an exception.
+     *
+     * @return the number of failed tasks
+     */
+    @Nonnegative
+    public long failedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the number of tasks that have been rejected by the executor.
+     *
+     * @return the number of rejected tasks
+     */
+    @Nonnegative
+    public long rejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the number of tasks that were waiting for a thread when these metrics were collected.
+     *
+     * @return the number of waiting tasks
+     */
+    @Nonnegative
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the number of threads that were running a task when these metrics were collected.
+     *
+     * @return the number of active threads
+     */
+    @Nonnegative
+    public int activeCount() {
+        return activeCount;
+    }
+
+    /**
+     * Returns the distribution of the time spent by the tasks between their submission and the start of their
+     * execution.
+     *
+     * @return the distribution of the queue waits
+     */
+    @Nonnull
+    public LatencyDistribution queueWaits() {
+        return queueWaits;
+    }
+
+    /**
+     * Returns the distribution of the time spent running the tasks, successfully or not.
+     *
+     * @return the distribution of the run times
+     */
+    @Nonnull
+    public LatencyDistribution runTimes() {
+        return runTimes;
+    }
+
+    /**
+     * Returns a new {@code ExecutorMetrics} representing the difference between this {@code ExecutorMetrics} and {@code
+     * other}. Negative values will be rounded up to zero; the queue depth and the active count are those of this
+     * instance.
+     *
+     * @param other the metrics to subtract with
+     *
+     * @return the difference between this instance and {@code other}
+     */
+    @Nonnull
+    public ExecutorMetrics minus(ExecutorMetrics other) {
+        return new ExecutorMetrics(
+                submittedCount - other.submittedCount,
+                completedCount - other.completedCount,
+                failedCount - other.failedCount,
+                rejectedCount - other.rejectedCount,
+                queueDepth,
+                activeCount,
+                queueWaits.minus(other.queueWaits),
+                runTimes.minus(other.runTimes));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(submittedCount, completedCount, failedCount, rejectedCount, queueDepth, activeCount, queueWaits, runTimes);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ExecutorMetrics that = (ExecutorMetrics) o;
+        return submittedCount == that.submittedCount
+                && completedCount == that.completedCount
+                && failedCount == that.failedCount
+                && rejectedCount == that.rejectedCount
+                && queueDepth == that.queueDepth
+                && activeCount == that.activeCount
+                && queueWaits.equals(that.queueWaits)
+                && runTimes.equals(that.runTimes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExecutorMetrics {"
+                        + "Submitted = %d, "
+                        + "Completed = %d, "
+                        + "Failed = %d, "
+                        + "Rejected = %d, "
+                        + "Queue Depth = %d, "
+                        + "Active = %d, "
+                        + "Queue Waits = %s, "
+                        + "Run Times = %s"
+                        + '}',
+                submittedCount,
+                completedCount,
+                failedCount,
+                rejectedCount,
+                queueDepth,
+                activeCount,
+                queueWaits,
+                runTimes);
+    }
+}
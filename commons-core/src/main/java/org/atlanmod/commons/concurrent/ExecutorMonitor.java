@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An object that periodically collects the {@link ExecutorMetrics} of registered executors, and publishes them to
+ * {@link ExecutorReporter}s.
+ * <p>
+ * On each report, the metrics of each executor are snapshot, and subtracted from the previous snapshot with {@link
+ * ExecutorMetrics#minus(ExecutorMetrics)}: the reporters receive both the metrics of the last interval, such as the
+ * queue wait percentiles of the last minute, and the cumulative metrics. The reports are made by a single daemon
+ * thread, and can also be triggered manually with {@link #report()}.
+ *
+ * @see InstrumentedExecutorService
+ * @see MetricsMonitor
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class ExecutorMonitor implements Closeable {
+
+    /**
+     * The monitor that collects and reports the metrics.
+     */
+    @Nonnull
+    private final MetricsMonitor<ExecutorMetrics> monitor;
+
+    /**
+     * Constructs a new {@code ExecutorMonitor}.
+     *
+     * @param monitor the monitor that collects and reports the metrics
+     */
+    private ExecutorMonitor(MetricsMonitor<ExecutorMetrics> monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Creates a new {@code ExecutorMonitor} that reports the metrics to the given {@code reporters}.
+     *
+     * @param period    the period between two reports
+     * @param reporters the reporters that publish the metrics
+     *
+     * @return a new monitor
+     *
+     * @throws IllegalArgumentException if {@code period} is negative or zero, or if no reporter is given
+     */
+    @Nonnull
+    public static ExecutorMonitor create(Duration period, ExecutorReporter... reporters) {
+        checkNotNull(reporters, "reporters");
+        checkArgument(reporters.length > 0, "at least one reporter must be given");
+
+        return new ExecutorMonitor(MetricsMonitor.create("executor-monitor", period, ExecutorMetrics::minus, Arrays.asList(reporters)));
+    }
+
+    /**
+     * Starts monitoring the {@code executor}.
+     *
+     * @param name     the name of the executor, unique in this monitor
+     * @param executor the executor to monitor
+     *
+     * @throws IllegalStateException if an executor with the same name is already monitored
+     */
+    public void register(String name, InstrumentedExecutorService executor) {
+        checkNotNull(executor, "executor");
+
+        monitor.register(name, executor::metrics);
+    }
+
+    /**
+     * Starts monitoring an executor from its {@code metrics}.
+     *
+     * @param name    the name of the executor, unique in this monitor
+     * @param metrics the function that returns the current metrics of the executor
+     *
+     * @throws IllegalStateException if an executor with the same name is already monitored
+     */
+    public void register(String name, Supplier<ExecutorMetrics> metrics) {
+        monitor.register(name, metrics);
+    }
+
+    /**
+     * Stops monitoring an executor, and removes it from the reporters.
+     *
+     * @param name the name of the executor
+     */
+    public void unregister(String name) {
+        monitor.unregister(name);
+    }
+
+    /**
+     * Collects the metrics of all the monitored executors, and publishes them to the reporters.
+     */
+    public void report() {
+        monitor.report();
+    }
+
+    /**
+     * Stops the periodic reports, publishes a last report of the current interval, and removes all the executors from
+     * the reporters.
+     */
+    @Override
+    public void close() {
+        monitor.close();
+    }
+}
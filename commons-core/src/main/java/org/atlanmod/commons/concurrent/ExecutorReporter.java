@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A service that publishes the {@link ExecutorMetrics} periodically collected by an {@link ExecutorMonitor}, for
+ * instance to a monitoring system.
+ * <p>
+ * A reporter is always called from a single thread at a time.
+ */
+@FunctionalInterface
+@ParametersAreNonnullByDefault
+public interface ExecutorReporter extends MetricsReporter<ExecutorMetrics> {
+}
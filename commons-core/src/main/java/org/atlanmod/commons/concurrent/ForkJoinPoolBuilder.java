@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.annotation.Builder;
+import org.atlanmod.commons.log.Log;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+
+/**
+ * A builder of named {@link ForkJoinPool} instances.
+ * <p>
+ * A work-stealing pool balances the tasks of uneven sizes between its threads: an idle thread takes the waiting tasks
+ * of the busy ones. Unlike the {@link ForkJoinPool#commonPool() common pool}, the pools built by this builder are
+ * isolated, named, log the uncaught exceptions of their tasks, and are closed when the application exits.
+ *
+ * @see MoreExecutors#gauges(java.util.concurrent.Executor)
+ */
+@Builder("builder")
+@ParametersAreNonnullByDefault
+public final class ForkJoinPoolBuilder {
+
+    /**
+     * The name of the pool.
+     */
+    @Nullable
+    private String name;
+
+    /**
+     * The targeted parallelism level of the pool.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * {@code true} if the tasks that are never joined are processed in FIFO order.
+     */
+    private boolean asyncMode;
+
+    private ForkJoinPoolBuilder() {
+    }
+
+    /**
+     * Creates a new {@code ForkJoinPoolBuilder} with default settings: a parallelism equal to the number of {@link
+     * Runtime#availableProcessors() available processors}, and the LIFO order.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static ForkJoinPoolBuilder builder() {
+        return new ForkJoinPoolBuilder();
+    }
+
+    /**
+     * Defines the name of the pool, used as prefix of the name of its threads.
+     *
+     * @param name the name of the pool
+     *
+     * @return this builder (for chaining)
+     */
+    @Nonnull
+    public ForkJoinPoolBuilder name(@Nullable String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Defines the targeted parallelism level of the pool, i.e. the number of threads actively running tasks.
+     *
+     * @param parallelism the parallelism level
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code parallelism <= 0}
+     */
+    @Nonnull
+    public ForkJoinPoolBuilder parallelism(@Nonnegative int parallelism) {
+        checkGreaterThan(parallelism, 0, "parallelism (%d) must be greater than 0", parallelism);
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Processes the tasks that are never joined in FIFO order, instead of LIFO. This mode is more appropriate for
+     * event-style tasks, submitted and never joined.
+     *
+     * @return this builder (for chaining)
+     */
+    @Nonnull
+    public ForkJoinPoolBuilder asyncMode() {
+        this.asyncMode = true;
+        return this;
+    }
+
+    /**
+     * Builds a new pool with the settings of this builder, that will be closed when the application will exit.
+     *
+     * @return a new pool
+     *
+     * @see MoreExecutors#shutdownAtExit(ExecutorService, long, TimeUnit, boolean)
+     */
+    @Nonnull
+    public ForkJoinPool build() {
+        final String prefix = name;
+        final AtomicInteger threadCount = new AtomicInteger(1);
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setDaemon(true);
+
+            if (nonNull(prefix)) {
+                thread.setName(prefix + "-" + threadCount.getAndIncrement());
+            }
+
+            return thread;
+        };
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, factory,
+                (t, e) -> Log.error(e, "Uncaught exception in {0}", t.getName()),
+                asyncMode);
+
+        MoreExecutors.shutdownAtExit(pool, 100, TimeUnit.MILLISECONDS, true);
+        return pool;
+    }
+}
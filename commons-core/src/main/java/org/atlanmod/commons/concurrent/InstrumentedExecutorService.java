@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An {@link ExecutorService} that records the {@link ExecutorMetrics} of the tasks executed by another service.
+ * <p>
+ * Each task is wrapped to record the time spent between its submission and the start of its execution, and the time
+ * spent running it. The counters are {@link LongAdder}s and the distributions are {@link LatencyRecorder}s: recording a
+ * task never blocks, and only costs a few atomic increments and two calls to {@link System#nanoTime()}.
+ * <p>
+ * The queue depth is read from the {@linkplain MoreExecutors#gauges(Executor) gauges} of the delegate when it exposes
+ * them, and therefore includes all its waiting tasks. Otherwise, it is measured by this service, and only includes
+ * the tasks submitted through it: a task dropped by the delegate without a {@link RejectedExecutionException} is then
+ * counted as waiting forever. The active count is always measured by this service. The tasks that are run by the
+ * submitting thread, such as with a {@link DirectExecutorService} or with the {@link BackPressure#CALLER_RUNS}
+ * back-pressure, are recorded as tasks that did not wait.
+ *
+ * @see MoreExecutors#instrument(ExecutorService)
+ * @see ExecutorMonitor
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class InstrumentedExecutorService extends AbstractExecutorService implements ExecutorGauges {
+
+    /**
+     * The service that executes the tasks.
+     */
+    @Nonnull
+    private final ExecutorService delegate;
+
+    /**
+     * The gauges of the delegate, or {@code null} if it does not expose its load.
+     */
+    @Nullable
+    private final ExecutorGauges delegateGauges;
+
+    /**
+     * The number of submitted tasks, including the rejected ones.
+     */
+    @Nonnull
+    private final LongAdder submittedCount = new LongAdder();
+
+    /**
+     * The number of tasks that have run, successfully or not.
+     */
+    @Nonnull
+    private final LongAdder completedCount = new LongAdder();
+
+    /**
+     * The number of tasks that have failed.
+     */
+    @Nonnull
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * The number of rejected tasks.
+     */
+    @Nonnull
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * The number of tasks waiting for a thread, used if the delegate does not expose its load.
+     */
+    @Nonnull
+    private final LongAdder queuedCount = new LongAdder();
+
+    /**
+     * The number of tasks being run.
+     */
+    @Nonnull
+    private final LongAdder activeCount = new LongAdder();
+
+    /**
+     * The time spent by the tasks waiting for a thread.
+     */
+    @Nonnull
+    private final LatencyRecorder queueWaits = new LatencyRecorder();
+
+    /**
+     * The time spent running the tasks.
+     */
+    @Nonnull
+    private final LatencyRecorder runTimes = new LatencyRecorder();
+
+    /**
+     * Constructs a new {@code InstrumentedExecutorService}.
+     *
+     * @param delegate the service that executes the tasks
+     */
+    InstrumentedExecutorService(ExecutorService delegate) {
+        this.delegate = checkNotNull(delegate, "delegate");
+
+        ExecutorGauges gauges;
+        try {
+            gauges = MoreExecutors.gauges(delegate);
+        }
+        catch (IllegalArgumentException e) {
+            gauges = null;
+        }
+        this.delegateGauges = gauges;
+    }
+
+    /**
+     * Returns the metrics recorded so far.
+     * <p>
+     * The counters are read one by one, without blocking the running tasks: the tasks submitted or completed during
+     * the snapshot may be partially included.
+     *
+     * @return the current metrics
+     */
+    @Nonnull
+    public ExecutorMetrics metrics() {
+        return new ExecutorMetrics(
+                submittedCount.sum(),
+                completedCount.sum(),
+                failedCount.sum(),
+                rejectedCount.sum(),
+                queueDepth(),
+                activeCount(),
+                queueWaits.snapshot(),
+                runTimes.snapshot());
+    }
+
+    @Override
+    public int queueDepth() {
+        if (nonNull(delegateGauges)) {
+            return delegateGauges.queueDepth();
+        }
+        return (int) Math.max(0L, Math.min(queuedCount.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public int activeCount() {
+        return (int) Math.max(0L, Math.min(activeCount.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        checkNotNull(command, "command");
+
+        Task task = new Task(command);
+        submittedCount.increment();
+        queuedCount.increment();
+
+        try {
+            delegate.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            queuedCount.decrement();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow().stream()
+                .map(r -> {
+                    if (r instanceof Task) {
+                        queuedCount.decrement();
+                        return ((Task) r).command;
+                    }
+                    return r;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Nonnull
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new InstrumentedFuture<>(runnable, value);
+    }
+
+    @Nonnull
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new InstrumentedFuture<>(callable);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedExecutorService {" + delegate + '}';
+    }
+
+    /**
+     * A task that records its queue wait and its run time.
+     */
+    private final class Task implements Runnable {
+
+        /**
+         * The submitted task.
+         */
+        @Nonnull
+        final Runnable command;
+
+        /**
+         * The time of the submission, in nanoseconds.
+         */
+        private final long submissionTime = System.nanoTime();
+
+        /**
+         * Constructs a new {@code Task}.
+         *
+         * @param command the submitted task
+         */
+        Task(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            long startTime = System.nanoTime();
+            queueWaits.record(startTime - submissionTime);
+            queuedCount.decrement();
+            activeCount.increment();
+
+            try {
+                command.run();
+            }
+            catch (RuntimeException | Error e) {
+                failedCount.increment();
+                throw e;
+            }
+            finally {
+                activeCount.decrement();
+                completedCount.increment();
+                runTimes.record(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * A future that records the failure of its computation, which is not propagated to the executing thread.
+     *
+     * @param <T> the result type of the computation
+     */
+    private final class InstrumentedFuture<T> extends FutureTask<T> {
+
+        /**
+         * Constructs a new {@code InstrumentedFuture}.
+         *
+         * @param callable the computation
+         */
+        InstrumentedFuture(Callable<T> callable) {
+            super(callable);
+        }
+
+        /**
+         * Constructs a new {@code InstrumentedFuture}.
+         *
+         * @param runnable the computation
+         * @param result   the result to return on successful completion
+         */
+        InstrumentedFuture(Runnable runnable, T result) {
+            super(runnable, result);
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            failedCount.increment();
+            super.setException(t);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+
+/**
+ * An immutable distribution of latencies, recorded by a {@link LatencyRecorder}.
+ * <p>
+ * The percentiles are computed from the buckets of the histogram: each of them is the highest value of the bucket that
+ * contains the requested rank, and is therefore slightly overestimated.
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+public final class LatencyDistribution {
+
+    /**
+     * The distribution that contains no value.
+     */
+    @Nonnull
+    private static final LatencyDistribution EMPTY = new LatencyDistribution(new long[0]);
+
+    /**
+     * The number of values in each bucket, up to the last bucket that is not empty.
+     */
+    @Nonnull
+    private final long[] counts;
+
+    /**
+     * The total number of values.
+     */
+    @Nonnegative
+    private final long count;
+
+    /**
+     * Constructs a new {@code LatencyDistribution}.
+     *
+     * @param counts the number of values in each bucket
+     */
+    LatencyDistribution(long[] counts) {
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+
+        this.counts = length == counts.length ? counts : Arrays.copyOf(counts, length);
+        this.count = Arrays.stream(this.counts).sum();
+    }
+
+    /**
+     * Returns the distribution that contains no value.
+     *
+     * @return an empty distribution
+     */
+    @Nonnull
+    public static LatencyDistribution empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of values of this distribution.
+     *
+     * @return the number of values
+     */
+    @Nonnegative
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the value below which the given {@code percentile} of the values fall.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     *
+     * @return the value at the percentile, or {@link Duration#ZERO} if this distribution is empty
+     *
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}
+     */
+    @Nonnull
+    public Duration percentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile (%s) must be between 0 and 100", percentile);
+
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        int index = 0;
+        while (index < counts.length - 1) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= rank) {
+                break;
+            }
+            index++;
+        }
+        return Duration.ofNanos(LatencyRecorder.highestValueOf(index));
+    }
+
+    /**
+     * Returns the median of the values.
+     *
+     * @return the 50th percentile
+     *
+     * @see #percentile(double)
+     */
+    @Nonnull
+    public Duration p50() {
+        return percentile(50);
+    }
+
+    /**
+     * Returns the value below which 99% of the values fall.
+     *
+     * @return the 99th percentile
+     *
+     * @see #percentile(double)
+     */
+    @Nonnull
+    public Duration p99() {
+        return percentile(99);
+    }
+
+    /**
+     * Returns the value below which 99.9% of the values fall.
+     *
+     * @return the 99.9th percentile
+     *
+     * @see #percentile(double)
+     */
+    @Nonnull
+    public Duration p999() {
+        return percentile(99.9);
+    }
+
+    /**
+     * Returns the highest value.
+     *
+     * @return the 100th percentile
+     *
+     * @see #percentile(double)
+     */
+    @Nonnull
+    public Duration max() {
+        return percentile(100);
+    }
+
+    /**
+     * Returns a new {@code LatencyDistribution} representing the difference between this distribution and {@code
+     * other}, such as the values recorded between two snapshots of the same recorder. Negative counts will be rounded
+     * up to zero.
+     *
+     * @param other the distribution to subtract with
+     *
+     * @return the difference between this instance and {@code other}
+     */
+    @Nonnull
+    public LatencyDistribution minus(LatencyDistribution other) {
+        long[] difference = Arrays.copyOf(counts, counts.length);
+        for (int i = 0; i < Math.min(counts.length, other.counts.length); i++) {
+            difference[i] = Math.max(0L, counts[i] - other.counts[i]);
+        }
+        return new LatencyDistribution(difference);
+    }
+
+    /**
+     * Returns a new {@code LatencyDistribution} representing the sum of this distribution and {@code other}.
+     *
+     * @param other the distribution to add with
+     *
+     * @return the sum of the distributions
+     */
+    @Nonnull
+    public LatencyDistribution plus(LatencyDistribution other) {
+        long[] sum = Arrays.copyOf(counts, Math.max(counts.length, other.counts.length));
+        for (int i = 0; i < other.counts.length; i++) {
+            sum[i] += other.counts[i];
+        }
+        return new LatencyDistribution(sum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        LatencyDistribution that = (LatencyDistribution) o;
+        return Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyDistribution {"
+                        + "Count = %d, "
+                        + "P50 = %s, "
+                        + "P99 = %s, "
+                        + "P999 = %s, "
+                        + "Max = %s"
+                        + '}',
+                count(),
+                p50(),
+                p99(),
+                p999(),
+                max());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lock-free recorder of latencies, that accumulates them in a histogram with log-linear buckets.
+ * <p>
+ * Like an HdrHistogram, the values are grouped by powers of two, and each group is divided into {@value
+ * #SUB_BUCKET_COUNT} buckets of equal width: the relative error of the recorded values is lower than 2%, whatever their
+ * magnitude, and recording a value is a single atomic increment, without any allocation. The values lower than {@value
+ * #SUB_BUCKET_COUNT} nanoseconds are recorded exactly.
+ *
+ * @see LatencyDistribution
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class LatencyRecorder {
+
+    /**
+     * The number of bits used to select a bucket in a power of two.
+     */
+    static final int SUB_BUCKET_BITS = 6;
+
+    /**
+     * The number of buckets in a power of two.
+     */
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets needed to record any positive {@code long}.
+     */
+    static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    @Nonnull
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(indexOf(Math.max(0L, nanos)));
+    }
+
+    /**
+     * Returns the distribution of the latencies recorded so far.
+     * <p>
+     * The buckets are read one by one, without blocking the recording threads: the values recorded during the snapshot
+     * may be partially included.
+     *
+     * @return the current distribution
+     */
+    @Nonnull
+    public LatencyDistribution snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return new LatencyDistribution(snapshot);
+    }
+
+    /**
+     * Returns the index of the bucket that records the {@code value}.
+     *
+     * @param value the value
+     *
+     * @return the index of the bucket
+     */
+    @Nonnegative
+    static int indexOf(@Nonnegative long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value recorded by the bucket at the given {@code index}.
+     *
+     * @param index the index of the bucket
+     *
+     * @return the highest value of the bucket
+     */
+    @Nonnegative
+    static long highestValueOf(@Nonnegative int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+
+        // Overflows to Long.MAX_VALUE for the last bucket
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
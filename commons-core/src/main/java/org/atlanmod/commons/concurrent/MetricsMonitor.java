@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.log.Log;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * An object that periodically collects the cumulative metrics of registered objects, and publishes them to {@link
+ * MetricsReporter}s.
+ * <p>
+ * On each report, the metrics of each object are snapshot, and subtracted from the previous snapshot: the reporters
+ * receive both the metrics of the last interval, such as the percentiles of the last minute, and the cumulative
+ * metrics. The reports are made by a single daemon thread, and can also be triggered manually with {@link #report()}.
+ *
+ * @param <M> the type of metrics
+ *
+ * @see org.atlanmod.commons.cache.CacheMonitor
+ * @see ExecutorMonitor
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class MetricsMonitor<M> implements Closeable {
+
+    /**
+     * The function that calculates the metrics of an interval, from the current and the previous cumulative metrics.
+     */
+    @Nonnull
+    private final BinaryOperator<M> difference;
+
+    /**
+     * The reporters that publish the metrics.
+     */
+    @Nonnull
+    private final List<MetricsReporter<? super M>> reporters;
+
+    /**
+     * The monitored objects, identified by their name.
+     */
+    @Nonnull
+    private final Map<String, Source<M>> sources = new ConcurrentHashMap<>();
+
+    /**
+     * The executor that periodically reports the metrics.
+     */
+    @Nonnull
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new {@code MetricsMonitor}.
+     *
+     * @param name       the name of the monitor, used as prefix of the name of its thread
+     * @param period     the period between two reports
+     * @param difference the function that calculates the metrics of an interval
+     * @param reporters  the reporters that publish the metrics
+     */
+    private MetricsMonitor(String name, Duration period, BinaryOperator<M> difference, List<MetricsReporter<? super M>> reporters) {
+        this.difference = difference;
+        this.reporters = reporters;
+
+        long nanos = period.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(MoreThreads.newThreadFactory(name));
+        this.scheduler.scheduleAtFixedRate(this::report, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a new {@code MetricsMonitor} that reports the metrics to the given {@code reporters}.
+     *
+     * @param name       the name of the monitor, used as prefix of the name of its thread
+     * @param period     the period between two reports
+     * @param difference the function that calculates the metrics of an interval, from the current and the previous
+     *                   cumulative metrics
+     * @param reporters  the reporters that publish the metrics
+     * @param <M>        the type of metrics
+     *
+     * @return a new monitor
+     *
+     * @throws IllegalArgumentException if {@code period} is negative or zero
+     */
+    @Nonnull
+    public static <M> MetricsMonitor<M> create(String name, Duration period, BinaryOperator<M> difference, List<? extends MetricsReporter<? super M>> reporters) {
+        checkNotNull(name, "name");
+        checkNotNull(period, "period");
+        checkGreaterThan(period, Duration.ZERO, "period (%s) must be positive", period);
+        checkNotNull(difference, "difference");
+        checkNotNull(reporters, "reporters");
+        reporters.forEach(r -> checkNotNull(r, "reporter"));
+
+        return new MetricsMonitor<>(name, period, difference, Collections.unmodifiableList(new ArrayList<>(reporters)));
+    }
+
+    /**
+     * Starts monitoring an object from its {@code metrics}.
+     *
+     * @param name    the name of the object, unique in this monitor
+     * @param metrics the function that returns the current cumulative metrics of the object
+     *
+     * @throws IllegalStateException if an object with the same name is already monitored, or if this monitor has been
+     *                               closed
+     */
+    public void register(String name, Supplier<? extends M> metrics) {
+        checkNotNull(name, "name");
+        checkNotNull(metrics, "metrics");
+        checkState(!scheduler.isShutdown(), "the monitor has been closed");
+
+        Source<M> previous = sources.putIfAbsent(name, new Source<>(metrics));
+        checkState(isNull(previous), "%s is already monitored", name);
+    }
+
+    /**
+     * Stops monitoring an object, and removes it from the reporters.
+     *
+     * @param name the name of the object
+     */
+    public void unregister(String name) {
+        checkNotNull(name, "name");
+
+        Source<M> source = sources.remove(name);
+        if (nonNull(source)) {
+            synchronized (this) {
+                reporters.forEach(r -> remove(r, name));
+            }
+        }
+    }
+
+    /**
+     * Collects the metrics of all the monitored objects, and publishes them to the reporters.
+     */
+    public synchronized void report() {
+        sources.forEach((name, source) -> {
+            M total;
+            try {
+                total = source.metrics.get();
+            }
+            catch (RuntimeException e) {
+                Log.warn(e, "Unable to collect the metrics of {0}", name);
+                return;
+            }
+
+            M interval = isNull(source.previous) ? total : difference.apply(total, source.previous);
+            source.previous = total;
+
+            for (MetricsReporter<? super M> reporter : reporters) {
+                try {
+                    reporter.report(name, interval, total);
+                }
+                catch (RuntimeException e) {
+                    Log.warn(e, "Unable to report the metrics of {0}", name);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops the periodic reports, publishes a last report of the current interval, and removes all the objects from
+     * the reporters.
+     */
+    @Override
+    public void close() {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+
+        scheduler.shutdownNow();
+        report();
+
+        for (String name : sources.keySet()) {
+            unregister(name);
+        }
+    }
+
+    /**
+     * Removes an object from a reporter, ignoring its failures.
+     *
+     * @param reporter the reporter
+     * @param name     the name of the object
+     */
+    private static void remove(MetricsReporter<?> reporter, String name) {
+        try {
+            reporter.remove(name);
+        }
+        catch (RuntimeException e) {
+            Log.warn(e, "Unable to remove {0} from a reporter", name);
+        }
+    }
+
+    /**
+     * A monitored object.
+     *
+     * @param <M> the type of metrics
+     */
+    private static final class Source<M> {
+
+        /**
+         * The function that returns the current metrics of the object.
+         */
+        @Nonnull
+        final Supplier<? extends M> metrics;
+
+        /**
+         * The metrics of the object at the previous report, or {@code null} if it has never been reported.
+         */
+        @Nullable
+        M previous;
+
+        /**
+         * Constructs a new {@code Source}.
+         *
+         * @param metrics the function that returns the current metrics of the object
+         */
+        Source(Supplier<? extends M> metrics) {
+            this.metrics = metrics;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A service that publishes the metrics periodically collected by a {@link MetricsMonitor}, for instance to a
+ * monitoring system.
+ * <p>
+ * A reporter is always called from a single thread at a time.
+ *
+ * @param <M> the type of metrics
+ */
+@FunctionalInterface
+@ParametersAreNonnullByDefault
+public interface MetricsReporter<M> {
+
+    /**
+     * Publishes the metrics of a monitored object.
+     *
+     * @param name     the name of the object
+     * @param interval the metrics of the object since the previous report
+     * @param total    the cumulative metrics of the object
+     */
+    void report(String name, M interval, M total);
+
+    /**
+     * Stops publishing the metrics of an object, which is no longer monitored.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param name the name of the object
+     */
+    default void remove(String name) {
+        // Do nothing
+    }
+}
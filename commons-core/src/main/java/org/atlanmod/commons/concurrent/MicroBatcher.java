@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.log.Log;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+import static org.atlanmod.commons.Guards.checkState;
+
+/**
+ * An object that coalesces the items offered by many threads into batches, handled by a single consumer thread.
+ * <p>
+ * A batch is delivered to the consumer as soon as it contains the {@link MicroBatcherBuilder#maximumSize(int) maximum
+ * number of items}, or when its oldest item has waited for the {@link MicroBatcherBuilder#maximumLatency(long,
+ * TimeUnit) maximum latency}: the cost of handling an item, such as a synchronization or a system call, is amortized
+ * over the whole batch, without delaying any item for too long.
+ * <p>
+ * The items are stored in a lock-free linked queue, with multiple producers and a single consumer: offering an item
+ * is a few atomic operations, and the consumer thread is only woken up when the queue becomes non-empty or when a
+ * batch is full. The number of waiting items is bounded by the {@link MicroBatcherBuilder#capacity(int) capacity} of
+ * the batcher: when it is reached, {@link #offer(Object)} fails and {@link #put(Object)} blocks until the consumer
+ * catches up.
+ * <p>
+ * On {@link #close()}, the batcher stops accepting new items, and delivers all the waiting items before stopping its
+ * thread. The items that have not been delivered when {@code close} returns, because the consumer is too slow or the
+ * closing thread has been interrupted, are still delivered in the background, unless the application exits.
+ *
+ * @param <T> the type of items
+ *
+ * @see MicroBatcherBuilder
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class MicroBatcher<T> implements Closeable {
+
+    /**
+     * The bit of the {@link #state} that indicates whether the batcher has been closed.
+     */
+    private static final long CLOSED = 1L << 62;
+
+    /**
+     * The maximum time {@link #close()} waits for the waiting items to be delivered, in milliseconds.
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * The function that handles the batches.
+     */
+    @Nonnull
+    private final Consumer<? super List<T>> consumer;
+
+    /**
+     * The maximum number of items in a batch.
+     */
+    @Nonnegative
+    private final int maximumSize;
+
+    /**
+     * The maximum time an item waits before its batch is delivered, in nanoseconds.
+     */
+    @Nonnegative
+    private final long maximumLatency;
+
+    /**
+     * The maximum number of waiting items.
+     */
+    @Nonnegative
+    private final int capacity;
+
+    /**
+     * The state of the batcher: the number of waiting items, and the {@link #CLOSED} bit.
+     * <p>
+     * An item is counted before being linked to the queue: the consumer may have to wait for the last counted items.
+     */
+    @Nonnull
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * The last node of the queue, where the producers link the new items.
+     */
+    @Nonnull
+    private final AtomicReference<Node<T>> tail;
+
+    /**
+     * The node preceding the first waiting item; only accessed by the consumer thread.
+     */
+    @Nonnull
+    private Node<T> head;
+
+    /**
+     * The threads waiting for the queue to have room for their item.
+     */
+    @Nonnull
+    private final Queue<Thread> blockedProducers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The thread that delivers the batches.
+     */
+    @Nonnull
+    private final Thread consumerThread;
+
+    /**
+     * Whether the consumer thread is parked, or about to be.
+     */
+    private volatile boolean waiting;
+
+    /**
+     * Constructs a new {@code MicroBatcher}, and starts its consumer thread.
+     *
+     * @param name           the name of the batcher, used as prefix of the name of its thread
+     * @param consumer       the function that handles the batches
+     * @param maximumSize    the maximum number of items in a batch
+     * @param maximumLatency the maximum time an item waits before its batch is delivered, in nanoseconds
+     * @param capacity       the maximum number of waiting items
+     */
+    MicroBatcher(@Nullable String name, Consumer<? super List<T>> consumer, int maximumSize, long maximumLatency, int capacity) {
+        this.consumer = consumer;
+        this.maximumSize = maximumSize;
+        this.maximumLatency = maximumLatency;
+        this.capacity = capacity;
+
+        this.head = new Node<>(null, 0);
+        this.tail = new AtomicReference<>(head);
+
+        this.consumerThread = MoreThreads.newThreadFactory(isNull(name) ? "batcher" : name).newThread(this::run);
+        this.consumerThread.start();
+    }
+
+    /**
+     * Offers an {@code item} to be delivered in a batch, if the batcher has room for it.
+     *
+     * @param item the item to offer
+     *
+     * @return {@code true} if the item has been accepted, {@code false} if the capacity of the batcher has been reached
+     *
+     * @throws NullPointerException  if {@code item} is {@code null}
+     * @throws IllegalStateException if the batcher has been closed
+     */
+    public boolean offer(T item) {
+        checkNotNull(item, "item");
+
+        while (true) {
+            long current = state.get();
+            checkState((current & CLOSED) == 0, "the batcher has been closed");
+
+            if (current >= capacity) {
+                return false;
+            }
+            if (state.compareAndSet(current, current + 1)) {
+                enqueue(item, current + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Offers an {@code item} to be delivered in a batch, waiting for the batcher to have room for it if necessary.
+     *
+     * @param item the item to offer
+     *
+     * @throws NullPointerException  if {@code item} is {@code null}
+     * @throws IllegalStateException if the batcher has been closed
+     * @throws InterruptedException  if interrupted while waiting
+     */
+    public void put(T item) throws InterruptedException {
+        Thread thread = Thread.currentThread();
+
+        while (!offer(item)) {
+            // Register before checking the state, to not miss the signal
+            blockedProducers.add(thread);
+            try {
+                long current = state.get();
+                if ((current & CLOSED) == 0 && current >= capacity) {
+                    LockSupport.park(this);
+                }
+            }
+            finally {
+                blockedProducers.remove(thread);
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items waiting to be delivered.
+     *
+     * @return the number of waiting items
+     */
+    @Nonnegative
+    public int pendingCount() {
+        return (int) (state.get() & ~CLOSED);
+    }
+
+    /**
+     * Stops accepting new items, and waits until all the waiting items have been delivered, for one minute at most.
+     * <p>
+     * If the items have not been delivered in time, or if the current thread is interrupted while waiting, this method
+     * returns anyway: the remaining items are delivered in the background. When called by the consumer, this method
+     * does not wait.
+     *
+     * @see #close(long, TimeUnit)
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() == consumerThread) {
+            close(0, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        if (!close(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            Log.warn("The batcher has been closed with {0} item(s) not delivered yet", pendingCount());
+        }
+    }
+
+    /**
+     * Stops accepting new items, and waits until all the waiting items have been delivered, or until the timeout
+     * expires.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     *
+     * @return {@code true} if all the items have been delivered, {@code false} if the timeout expired, if the current
+     * thread has been interrupted, or if the batcher is closed by its consumer
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        checkNotNull(unit, "unit");
+        checkGreaterThanOrEqualTo(timeout, 0L, "timeout (%d) must not be negative", timeout);
+
+        state.updateAndGet(s -> s | CLOSED);
+        LockSupport.unpark(consumerThread);
+
+        // Wake up the blocked producers, which will fail
+        blockedProducers.forEach(LockSupport::unpark);
+
+        if (Thread.currentThread() == consumerThread) {
+            // Closed by the consumer: the remaining items will be delivered after the current batch
+            return false;
+        }
+
+        try {
+            consumerThread.join(Math.max(1L, unit.toMillis(timeout)));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !consumerThread.isAlive();
+    }
+
+    /**
+     * Links a counted {@code item} to the queue, and wakes up the consumer if it has something to do.
+     *
+     * @param item  the item
+     * @param count the number of waiting items, including this one
+     */
+    private void enqueue(T item, long count) {
+        Node<T> node = new Node<>(item, System.nanoTime());
+        tail.getAndSet(node).next = node;
+
+        // The queue was empty and the consumer waits indefinitely, or a batch is complete
+        if (waiting && (count == 1 || count == maximumSize)) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    /**
+     * Runs the consumer thread. If the thread stops unexpectedly, the batcher is closed to not block the producers.
+     */
+    private void run() {
+        try {
+            deliverAll();
+        }
+        finally {
+            state.updateAndGet(s -> s | CLOSED);
+            blockedProducers.forEach(LockSupport::unpark);
+        }
+    }
+
+    /**
+     * Delivers the batches until the batcher is closed and all the items have been delivered.
+     */
+    private void deliverAll() {
+        while (true) {
+            long current = state.get();
+            int count = (int) (current & ~CLOSED);
+            boolean closed = (current & CLOSED) != 0;
+
+            long remainingLatency = count > 0 ? oldestTime() + maximumLatency - System.nanoTime() : 0;
+
+            if (count >= maximumSize || (count > 0 && (closed || remainingLatency <= 0))) {
+                deliver(Math.min(count, maximumSize));
+            }
+            else if (closed) {
+                return;
+            }
+            else {
+                waiting = true;
+
+                // Check again, in case an item has been offered before the flag was visible
+                long next = state.get();
+                if (next == current) {
+                    if (count == 0) {
+                        // Woken up by the first offered item, or on close
+                        LockSupport.park(this);
+                    }
+                    else {
+                        LockSupport.parkNanos(this, remainingLatency);
+                    }
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code count} items from the queue, and delivers them to the consumer.
+     *
+     * @param count the number of items to deliver
+     */
+    private void deliver(int count) {
+        List<T> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Node<T> next = nextNode();
+            batch.add(next.item);
+            next.item = null;
+            head = next;
+        }
+
+        state.addAndGet(-count);
+        blockedProducers.forEach(LockSupport::unpark);
+
+        try {
+            consumer.accept(batch);
+        }
+        catch (Throwable e) {
+            // The consumer thread must survive, or the producers would wait forever
+            Log.error(e, "Unable to handle a batch of {0} item(s)", count);
+        }
+    }
+
+    /**
+     * Returns the time when the oldest waiting item has been offered.
+     *
+     * @return the time of the oldest item, in nanoseconds
+     */
+    private long oldestTime() {
+        return nextNode().time;
+    }
+
+    /**
+     * Returns the node of the oldest waiting item, waiting for a producer to link it if necessary.
+     *
+     * @return the node of the oldest item
+     */
+    @Nonnull
+    private Node<T> nextNode() {
+        Node<T> next = head.next;
+        while (isNull(next)) {
+            // The item has been counted, but not linked yet
+            Thread.onSpinWait();
+            next = head.next;
+        }
+        return next;
+    }
+
+    /**
+     * A node of the queue.
+     *
+     * @param <T> the type of the item
+     */
+    private static final class Node<T> {
+
+        /**
+         * The time when the item has been offered, in nanoseconds.
+         */
+        final long time;
+
+        /**
+         * The item, or {@code null} if it has been delivered.
+         */
+        @Nullable
+        T item;
+
+        /**
+         * The next node in the queue.
+         */
+        @Nullable
+        volatile Node<T> next;
+
+        /**
+         * Constructs a new {@code Node}.
+         *
+         * @param item the item
+         * @param time the time when the item has been offered, in nanoseconds
+         */
+        Node(@Nullable T item, long time) {
+            this.item = item;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.annotation.Builder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A builder of {@link MicroBatcher} instances.
+ */
+@Builder("builder")
+@ParametersAreNonnullByDefault
+public final class MicroBatcherBuilder {
+
+    /**
+     * The default maximum number of items in a batch.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 128;
+
+    /**
+     * The default maximum latency, in milliseconds.
+     */
+    static final long DEFAULT_MAXIMUM_LATENCY = 10;
+
+    /**
+     * The default capacity.
+     */
+    static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * The name of the batcher.
+     */
+    @Nullable
+    private String name;
+
+    /**
+     * The maximum number of items in a batch.
+     */
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * The maximum time an item waits before its batch is delivered, in nanoseconds.
+     */
+    private long maximumLatency = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAXIMUM_LATENCY);
+
+    /**
+     * The maximum number of waiting items.
+     */
+    private int capacity = DEFAULT_CAPACITY;
+
+    private MicroBatcherBuilder() {
+    }
+
+    /**
+     * Creates a new {@code MicroBatcherBuilder} with default settings: batches of at most {@value
+     * #DEFAULT_MAXIMUM_SIZE} items, delivered after at most {@value #DEFAULT_MAXIMUM_LATENCY} milliseconds, and a
+     * capacity of {@value #DEFAULT_CAPACITY} waiting items.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static MicroBatcherBuilder builder() {
+        return new MicroBatcherBuilder();
+    }
+
+    /**
+     * Defines the name of the batcher, used as prefix of the name of its thread.
+     *
+     * @param name the name of the batcher
+     *
+     * @return this builder (for chaining)
+     */
+    @Nonnull
+    public MicroBatcherBuilder name(@Nullable String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of items in a batch: a batch is delivered as soon as it is full.
+     *
+     * @param maximumSize the maximum number of items in a batch
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code maximumSize <= 0}
+     */
+    @Nonnull
+    public MicroBatcherBuilder maximumSize(@Nonnegative int maximumSize) {
+        checkGreaterThan(maximumSize, 0, "maximumSize (%d) must be greater than 0", maximumSize);
+
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Defines the maximum time an item waits before its batch is delivered, even if the batch is not full.
+     *
+     * @param time the maximum latency
+     * @param unit the time unit of the time argument
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws NullPointerException     if {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code time <= 0}
+     */
+    @Nonnull
+    public MicroBatcherBuilder maximumLatency(long time, TimeUnit unit) {
+        checkNotNull(unit, "unit");
+        checkGreaterThan(time, 0L, "time (%d) must be greater than 0", time);
+
+        this.maximumLatency = unit.toNanos(time);
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of waiting items, beyond which the producers are pushed back.
+     *
+     * @param capacity the maximum number of waiting items
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code capacity <= 0}
+     */
+    @Nonnull
+    public MicroBatcherBuilder capacity(@Nonnegative int capacity) {
+        checkGreaterThan(capacity, 0, "capacity (%d) must be greater than 0", capacity);
+
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Builds a new batcher with the settings of this builder, and starts its consumer thread.
+     *
+     * @param consumer the function that handles the batches; it is called from a single thread
+     * @param <T>      the type of items
+     *
+     * @return a new batcher
+     *
+     * @throws NullPointerException     if {@code consumer} is {@code null}
+     * @throws IllegalArgumentException if the capacity is lower than the maximum size of a batch
+     */
+    @Nonnull
+    public <T> MicroBatcher<T> build(Consumer<? super List<T>> consumer) {
+        checkNotNull(consumer, "consumer");
+        checkGreaterThanOrEqualTo(capacity, maximumSize, "capacity (%d) must be greater than or equal to maximumSize (%d)", capacity, maximumSize);
+
+        return new MicroBatcher<>(name, consumer, maximumSize, maximumLatency, capacity);
+    }
+}
@@ -12,16 +12,30 @@ import org.atlanmod.commons.Throwables;
 import org.atlanmod.commons.annotation.Static;
 import org.atlanmod.commons.log.Log;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import static java.util.Objects.isNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
 import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
 import static org.atlanmod.commons.Guards.checkNotNull;
 
@@ -43,8 +57,8 @@ public final class MoreExecutors {
      * before a {@code Future} is returned to the caller (unless the executor has been shutdown).
      * <p>
      * Although all tasks are immediately executed in the thread that submitted the task, this {@code ExecutorService}
-     * imposes a small locking overhead on each task submission in order to implement shutdown and termination
-     * behavior.
+     * imposes a small overhead on each task submission, a few atomic operations, in order to implement shutdown and
+     * termination behavior.
      *
      * @return a new service
      */
@@ -117,6 +131,182 @@ public final class MoreExecutors {
         return shutdownAtExit(service, 100, TimeUnit.MILLISECONDS, true);
     }
 
+    /**
+     * Creates a new {@link ExecutorService} that starts a new virtual thread for each task, that will be closed when
+     * the application will exit.
+     * <p>
+     * If the running platform does not support virtual threads, the service falls back to a pool of daemon platform
+     * threads that creates new threads as needed, and reuses the idle ones.
+     *
+     * @param name the name of the service, used as prefix of the name of its threads
+     *
+     * @return a new service
+     *
+     * @see MoreThreads#newVirtualThreadFactory(String)
+     * @see #shutdownAtExit(ExecutorService, long, TimeUnit, boolean)
+     */
+    @Nonnull
+    public static ExecutorService newVirtualThreadPerTaskExecutor(@Nullable String name) {
+        ExecutorService service = null;
+
+        if (MoreThreads.isVirtualThreadSupported()) {
+            try {
+                service = (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, MoreThreads.newVirtualThreadFactory(name));
+            }
+            catch (ReflectiveOperationException | RuntimeException ignored) {
+            }
+        }
+
+        if (isNull(service)) {
+            service = Executors.newCachedThreadPool(MoreThreads.newThreadFactory(name));
+        }
+
+        return shutdownAtExit(service, 100, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * Executes the given {@code tasks} with the {@code executor}, running at most {@code parallelism} of them at the
+     * same time, and returns their results when all complete.
+     * <p>
+     * The execution is structured: if a task fails, or if the tasks do not complete before the timeout, the tasks that
+     * are still running are interrupted, and the pending tasks are not started.
+     *
+     * @param executor    the service used to execute the tasks
+     * @param tasks       the tasks to execute
+     * @param parallelism the maximum number of tasks running at the same time
+     * @param timeout     the maximum time to wait for all tasks
+     * @param unit        the time unit of the timeout argument
+     * @param <T>         the type of the values returned from the tasks
+     *
+     * @return the results of the tasks, in the same order as the {@code tasks}
+     *
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code parallelism <= 0} or if {@code timeout < 0}
+     * @throws InterruptedException     if interrupted while waiting, in which case the running tasks are cancelled
+     * @throws ExecutionException       if a task fails, with the failure of the first failed task as cause
+     * @throws TimeoutException         if the tasks do not complete before the timeout
+     */
+    @Nonnull
+    public static <T> List<T> invokeAllBounded(ExecutorService executor, Collection<? extends Callable<T>> tasks, int parallelism, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        checkNotNull(executor, "executor");
+        checkNotNull(tasks, "tasks");
+        checkNotNull(unit, "unit");
+        checkGreaterThan(parallelism, 0, "parallelism (%d) must be greater than 0", parallelism);
+        checkGreaterThanOrEqualTo(timeout, 0L, "timeout (%d) must not be negative", timeout);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        List<Callable<T>> pending = new ArrayList<>(tasks);
+        List<Future<T>> futures = new ArrayList<>(pending.size());
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+
+        boolean completed = false;
+        try {
+            int submittedCount = 0;
+            int completedCount = 0;
+
+            while (completedCount < pending.size()) {
+                while (submittedCount < pending.size() && submittedCount - completedCount < parallelism) {
+                    futures.add(completionService.submit(pending.get(submittedCount++)));
+                }
+
+                Future<T> future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (isNull(future)) {
+                    throw new TimeoutException(String.format("%d task(s) on %d have not completed in time", pending.size() - completedCount, pending.size()));
+                }
+
+                // Fail fast
+                future.get();
+                completedCount++;
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+
+            completed = true;
+            return results;
+        }
+        finally {
+            if (!completed) {
+                futures.forEach(f -> f.cancel(true));
+            }
+        }
+    }
+
+    /**
+     * Wraps the {@code service} to record the metrics of the tasks it executes: their queue wait, their run time, and
+     * the number of submitted, failed and rejected tasks.
+     * <p>
+     * The returned service is closed when the {@code service} is closed, and vice versa.
+     *
+     * @param service the service to instrument
+     *
+     * @return a new service that records the metrics of the tasks submitted through it
+     *
+     * @throws NullPointerException if {@code service} is {@code null}
+     * @see InstrumentedExecutorService#metrics()
+     * @see ExecutorMonitor
+     */
+    @Nonnull
+    public static InstrumentedExecutorService instrument(ExecutorService service) {
+        return new InstrumentedExecutorService(service);
+    }
+
+    /**
+     * Returns a view of the load of the {@code executor}.
+     * <p>
+     * The supported executors are the {@link ThreadPoolExecutor}s, including the pools created by this class and by
+     * {@link ThreadPoolBuilder}, the {@link ForkJoinPool}s, and the executors that implement {@link ExecutorGauges}.
+     *
+     * @param executor the executor to observe
+     *
+     * @return a view of the load of the executor
+     *
+     * @throws NullPointerException     if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if the {@code executor} does not expose its load
+     */
+    @Nonnull
+    public static ExecutorGauges gauges(Executor executor) {
+        checkNotNull(executor, "executor");
+
+        if (executor instanceof ExecutorGauges) {
+            return (ExecutorGauges) executor;
+        }
+        else if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            return new ExecutorGauges() {
+                @Override
+                public int queueDepth() {
+                    return pool.getQueue().size();
+                }
+
+                @Override
+                public int activeCount() {
+                    return pool.getActiveCount();
+                }
+            };
+        }
+        else if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            return new ExecutorGauges() {
+                @Override
+                public int queueDepth() {
+                    return (int) Math.min(pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount(), Integer.MAX_VALUE);
+                }
+
+                @Override
+                public int activeCount() {
+                    return pool.getActiveThreadCount();
+                }
+            };
+        }
+
+        throw new IllegalArgumentException(String.format("%s does not expose its load", executor.getClass().getName()));
+    }
+
     /**
      * Cleanly closes the {@code service}.
      *
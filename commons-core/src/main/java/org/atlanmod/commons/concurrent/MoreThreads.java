@@ -80,6 +80,63 @@ public final class MoreThreads {
         };
     }
 
+    /**
+     * Creates a new {@link ThreadFactory} that creates virtual threads with a defined prefixed name, if the running
+     * platform supports them. Otherwise, the factory creates daemon platform threads, as {@link
+     * #newThreadFactory(String)} does.
+     * <p>
+     * Virtual threads are cheap to create and to block: they are intended for tasks that spend most of their time
+     * waiting for I/O, and should not be pooled.
+     *
+     * @param prefix the prefix of the name of created threads; if {@code null} the default name will be used
+     *
+     * @return a new thread factory
+     *
+     * @see #isVirtualThreadSupported()
+     */
+    @Nonnull
+    public static ThreadFactory newVirtualThreadFactory(@Nullable String prefix) {
+        ThreadFactory factory = virtualThreadFactory(prefix);
+        return nonNull(factory) ? factory : newThreadFactory(prefix);
+    }
+
+    /**
+     * Returns {@code true} if the running platform supports virtual threads.
+     *
+     * @return {@code true} if the running platform supports virtual threads
+     *
+     * @see #newVirtualThreadFactory(String)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return nonNull(virtualThreadFactory(null));
+    }
+
+    /**
+     * Creates a new {@link ThreadFactory} that creates virtual threads, by reflection to remain compatible with the
+     * platforms that do not support them.
+     *
+     * @param prefix the prefix of the name of created threads; if {@code null} the default name will be used
+     *
+     * @return a new thread factory, or {@code null} if the running platform does not support virtual threads
+     */
+    @Nullable
+    private static ThreadFactory virtualThreadFactory(@Nullable String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+
+            if (nonNull(prefix)) {
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix + "-", 1L);
+            }
+
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            // Not supported, or disabled preview feature
+            return null;
+        }
+    }
+
     /**
      * Adds a shutdown hook that will execute the {@code task} when the application will exit.
      *
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.annotation.Builder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A builder of thread pools with a bounded queue.
+ * <p>
+ * Unlike {@link MoreExecutors#newFixedThreadPool(int, String)}, the tasks waiting for a thread are stored in a queue of
+ * limited capacity: when the queue is full, the submission of a new task applies a {@link BackPressure} to its
+ * producer, which bounds the memory used by the pool under overload.
+ * <p>
+ * The pools are composed of daemon threads, and are closed when the application exits.
+ *
+ * @see MoreExecutors#gauges(java.util.concurrent.Executor)
+ */
+@Builder("builder")
+@ParametersAreNonnullByDefault
+public final class ThreadPoolBuilder {
+
+    /**
+     * The default capacity of the queue.
+     */
+    static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * The name of the pool.
+     */
+    @Nullable
+    private String name;
+
+    /**
+     * The number of threads kept in the pool.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of threads in the pool, or {@code -1} to use {@link #threads}.
+     */
+    private int maximumThreads = -1;
+
+    /**
+     * The capacity of the queue.
+     */
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * The behavior of the pool when its queue is full.
+     */
+    @Nonnull
+    private BackPressure backPressure = BackPressure.CALLER_RUNS;
+
+    /**
+     * The time that the threads beyond {@link #threads} may remain idle before being terminated, in nanoseconds.
+     */
+    private long keepAliveNanos = TimeUnit.MINUTES.toNanos(1);
+
+    private ThreadPoolBuilder() {
+    }
+
+    /**
+     * Creates a new {@code ThreadPoolBuilder} with default settings: as many threads as {@link
+     * Runtime#availableProcessors() available processors}, a queue of {@value #DEFAULT_QUEUE_CAPACITY} tasks, and the
+     * {@link BackPressure#CALLER_RUNS} back-pressure.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static ThreadPoolBuilder builder() {
+        return new ThreadPoolBuilder();
+    }
+
+    /**
+     * Defines the name of the pool, used as prefix of the name of its threads.
+     *
+     * @param name the name of the pool
+     *
+     * @return this builder (for chaining)
+     */
+    @Nonnull
+    public ThreadPoolBuilder name(@Nullable String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Defines the number of threads kept in the pool, even if they are idle.
+     *
+     * @param threads the number of threads
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code threads <= 0}
+     */
+    @Nonnull
+    public ThreadPoolBuilder threads(@Nonnegative int threads) {
+        checkGreaterThan(threads, 0, "threads (%d) must be greater than 0", threads);
+
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of threads in the pool. The threads beyond the {@link #threads(int) core threads} are
+     * only started when the queue is full, and are terminated once idle for the {@link #keepAlive(long, TimeUnit)
+     * keep-alive time}.
+     *
+     * @param maximumThreads the maximum number of threads
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code maximumThreads <= 0}
+     */
+    @Nonnull
+    public ThreadPoolBuilder maximumThreads(@Nonnegative int maximumThreads) {
+        checkGreaterThan(maximumThreads, 0, "maximumThreads (%d) must be greater than 0", maximumThreads);
+
+        this.maximumThreads = maximumThreads;
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of tasks waiting for a thread.
+     *
+     * @param queueCapacity the capacity of the queue
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws IllegalArgumentException if {@code queueCapacity <= 0}
+     */
+    @Nonnull
+    public ThreadPoolBuilder queueCapacity(@Nonnegative int queueCapacity) {
+        checkGreaterThan(queueCapacity, 0, "queueCapacity (%d) must be greater than 0", queueCapacity);
+
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Defines the behavior of the pool when a task is submitted while its queue is full.
+     *
+     * @param backPressure the behavior of the pool
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws NullPointerException if {@code backPressure} is {@code null}
+     */
+    @Nonnull
+    public ThreadPoolBuilder backPressure(BackPressure backPressure) {
+        this.backPressure = checkNotNull(backPressure, "backPressure");
+        return this;
+    }
+
+    /**
+     * Defines the time that the threads beyond the {@link #threads(int) core threads} may remain idle before being
+     * terminated.
+     *
+     * @param time the keep-alive time
+     * @param unit the time unit of the time argument
+     *
+     * @return this builder (for chaining)
+     *
+     * @throws NullPointerException     if {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code time < 0}
+     */
+    @Nonnull
+    public ThreadPoolBuilder keepAlive(long time, TimeUnit unit) {
+        checkNotNull(unit, "unit");
+        checkGreaterThanOrEqualTo(time, 0L, "time (%d) must not be negative", time);
+
+        this.keepAliveNanos = unit.toNanos(time);
+        return this;
+    }
+
+    /**
+     * Builds a new pool with the settings of this builder, that will be closed when the application will exit.
+     *
+     * @return a new service
+     *
+     * @throws IllegalArgumentException if the maximum number of threads is lower than the number of core threads
+     * @see MoreExecutors#shutdownAtExit(ExecutorService, long, TimeUnit, boolean)
+     */
+    @Nonnull
+    public ExecutorService build() {
+        int maximum = maximumThreads == -1 ? threads : maximumThreads;
+        checkGreaterThanOrEqualTo(maximum, threads, "maximumThreads (%d) must be greater than or equal to threads (%d)", maximum, threads);
+
+        ThreadPoolExecutor service = new ThreadPoolExecutor(
+                threads,
+                maximum,
+                keepAliveNanos,
+                TimeUnit.NANOSECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                MoreThreads.newThreadFactory(name),
+                backPressure.newHandler());
+
+        return MoreExecutors.shutdownAtExit(service, 100, TimeUnit.MILLISECONDS, true);
+    }
+}
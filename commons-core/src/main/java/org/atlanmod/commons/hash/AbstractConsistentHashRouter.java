@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotContainsNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract {@link ConsistentHashRouter} that routes keys from their 64-bit hash.
+ *
+ * @param <N> the type of nodes
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+abstract class AbstractConsistentHashRouter<N> implements ConsistentHashRouter<N> {
+
+    /**
+     * The hasher used to hash keys.
+     */
+    @Nonnull
+    protected final Hasher hasher;
+
+    /**
+     * The nodes of this router, in their original order.
+     */
+    @Nonnull
+    protected final Object[] nodes;
+
+    /**
+     * Constructs a new {@code AbstractConsistentHashRouter}.
+     *
+     * @param hasher the hasher used to hash keys
+     * @param nodes  the nodes of this router
+     */
+    protected AbstractConsistentHashRouter(Hasher hasher, Collection<? extends N> nodes) {
+        this.hasher = checkNotNull(hasher, "hasher");
+        this.nodes = checkNotContainsNull(nodes, "nodes").toArray();
+
+        checkArgument(this.nodes.length > 0, "nodes must not be empty");
+    }
+
+    /**
+     * Returns the index of the node of a key, from its 64-bit {@code hash}.
+     *
+     * @param hash the hash of the key
+     *
+     * @return the index of the node in {@link #nodes}
+     */
+    protected abstract int indexOf(long hash);
+
+    @Nonnull
+    @Override
+    public N route(String key) {
+        return nodeAt(indexOf(HashCodes.toLong(hasher, checkNotNull(key, "key"))));
+    }
+
+    @Nonnull
+    @Override
+    public N route(byte[] key) {
+        return nodeAt(indexOf(HashCodes.toLong(hasher, checkNotNull(key, "key"))));
+    }
+
+    @Nonnull
+    @Override
+    public N route(long key) {
+        return nodeAt(indexOf(HashCodes.toLong(hasher, key)));
+    }
+
+    @Nonnull
+    @Override
+    public N route(HashCode hashCode) {
+        return nodeAt(indexOf(HashCodes.truncateToLong(checkNotNull(hashCode, "hashCode"))));
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<N> nodes() {
+        return (List<N>) Collections.unmodifiableList(Arrays.asList(nodes));
+    }
+
+    /**
+     * Returns the node at the given {@code index}.
+     *
+     * @param index the index of the node
+     *
+     * @return the node
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private N nodeAt(int index) {
+        return (N) nodes[index];
+    }
+}
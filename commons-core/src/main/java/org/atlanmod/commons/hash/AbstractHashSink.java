@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract {@link HashSink} that encodes the values in a reusable {@link ByteBuffer}.
+ * <p>
+ * Primitive values are encoded with the {@link ByteOrder} of the buffer. Strings are encoded either in {@code UTF-8},
+ * as {@link org.atlanmod.commons.primitive.Strings#toBytes(String)}, or as a sequence of {@code char}s.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+abstract class AbstractHashSink implements HashSink {
+
+    /**
+     * The replacement byte of malformed surrogates in {@code UTF-8}, as {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static final byte MALFORMED = (byte) '?';
+
+    /**
+     * {@code true} if strings are encoded as a sequence of {@code char}s, {@code false} if they are encoded in {@code
+     * UTF-8}.
+     */
+    private final boolean charsAsUtf16;
+
+    /**
+     * The buffer where values are encoded before being hashed.
+     */
+    @Nonnull
+    protected ByteBuffer buffer;
+
+    /**
+     * Constructs a new {@code AbstractHashSink}.
+     *
+     * @param order        the byte order used to encode primitive values
+     * @param capacity     the initial capacity of the buffer
+     * @param charsAsUtf16 {@code true} if strings are encoded as a sequence of {@code char}s, {@code false} if they are
+     *                     encoded in {@code UTF-8}
+     */
+    protected AbstractHashSink(ByteOrder order, @Nonnegative int capacity, boolean charsAsUtf16) {
+        this.buffer = ByteBuffer.allocate(capacity).order(order);
+        this.charsAsUtf16 = charsAsUtf16;
+    }
+
+    /**
+     * Ensures that the buffer has at least {@code length} remaining bytes.
+     *
+     * @param length the number of bytes to write
+     */
+    protected abstract void ensureRemaining(@Nonnegative int length);
+
+    /**
+     * Calculates the {@link HashCode} of the values added to this sink. The buffer is cleared after this call.
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    protected abstract HashCode doHash();
+
+    @Nonnull
+    @Override
+    public HashSink putByte(byte data) {
+        ensureRemaining(Byte.BYTES);
+        buffer.put(data);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBoolean(boolean data) {
+        return putByte(data ? (byte) 1 : (byte) 0);
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putChar(char data) {
+        ensureRemaining(Character.BYTES);
+        buffer.putChar(data);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putShort(short data) {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort(data);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putInt(int data) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(data);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putLong(long data) {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(data);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putFloat(float data) {
+        return putInt(Float.floatToIntBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putDouble(double data) {
+        return putLong(Double.doubleToLongBits(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putString(String data) {
+        checkNotNull(data, "data");
+
+        if (charsAsUtf16) {
+            for (int i = 0, length = data.length(); i < length; i++) {
+                putChar(data.charAt(i));
+            }
+        }
+        else {
+            putUtf8(data);
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBytes(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        ensureRemaining(length);
+        buffer.put(data, offset, length);
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBytes(ByteBuffer data) {
+        ensureRemaining(data.remaining());
+        buffer.put(data.duplicate());
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash() {
+        try {
+            return doHash();
+        }
+        finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Encodes the {@code data} in {@code UTF-8}, without any intermediate array.
+     *
+     * @param data the string to encode
+     */
+    private void putUtf8(String data) {
+        for (int i = 0, length = data.length(); i < length; i++) {
+            char c = data.charAt(i);
+            ensureRemaining(4);
+
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            }
+            else if (c < 0x800) {
+                buffer.put((byte) (0xc0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            }
+            else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xe0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                buffer.put((byte) (0xf0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+            }
+            else {
+                buffer.put(MALFORMED);
+            }
+        }
+    }
+}
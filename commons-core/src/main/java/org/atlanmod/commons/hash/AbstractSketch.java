@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An abstract probabilistic data structure backed by an array of {@code long} words, that are updated atomically
+ * without locking.
+ * <p>
+ * Values are hashed once to a 64-bit hash, from which any number of indices are derived by double hashing, as
+ * described by Kirsch and Mitzenmacher in "Less Hashing, Same Performance: Building a Better Bloom Filter".
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+abstract class AbstractSketch {
+
+    /**
+     * The handle used to access the {@link #words} atomically.
+     */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The hasher used to hash values.
+     */
+    @Nonnull
+    protected final Hasher hasher;
+
+    /**
+     * The words of this structure.
+     */
+    @Nonnull
+    protected final long[] words;
+
+    /**
+     * Constructs a new {@code AbstractSketch}.
+     *
+     * @param hasher the hasher used to hash values
+     * @param words  the words of this structure
+     */
+    protected AbstractSketch(Hasher hasher, long[] words) {
+        this.hasher = checkNotNull(hasher, "hasher");
+        this.words = checkNotNull(words, "words");
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value}.
+     *
+     * @param value the value to hash
+     *
+     * @return the hash
+     */
+    protected final long hash(String value) {
+        return HashCodes.toLong(hasher, checkNotNull(value, "value"));
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value}.
+     *
+     * @param value the value to hash
+     *
+     * @return the hash
+     */
+    protected final long hash(byte[] value) {
+        return HashCodes.toLong(hasher, checkNotNull(value, "value"));
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value}.
+     *
+     * @param value the value to hash
+     *
+     * @return the hash
+     */
+    protected final long hash(long value) {
+        return HashCodes.toLong(hasher, value);
+    }
+
+    /**
+     * Returns the {@code i}-th index derived from the given {@code hash}, between {@code 0} (inclusive) and {@code
+     * bound} (exclusive).
+     *
+     * @param hash  the 64-bit hash of a value
+     * @param i     the number of the index
+     * @param bound the upper bound of the index
+     *
+     * @return the index
+     */
+    protected static long index(long hash, int i, @Nonnegative long bound) {
+        long combined = hash + i * Long.rotateLeft(hash, Integer.SIZE);
+        return (combined & Long.MAX_VALUE) % bound;
+    }
+
+    /**
+     * Returns the word at the given {@code index}, with volatile semantics.
+     *
+     * @param index the index of the word
+     *
+     * @return the word
+     */
+    protected final long getWord(int index) {
+        return (long) WORDS.getVolatile(words, index);
+    }
+
+    /**
+     * Sets the bits of the {@code mask} in the word at the given {@code index}, atomically.
+     *
+     * @param index the index of the word
+     * @param mask  the bits to set
+     *
+     * @return {@code true} if the word has changed
+     */
+    protected final boolean setBits(int index, long mask) {
+        long current;
+        do {
+            current = getWord(index);
+            if ((current & mask) == mask) {
+                return false;
+            }
+        }
+        while (!WORDS.compareAndSet(words, index, current, current | mask));
+
+        return true;
+    }
+
+    /**
+     * Adds the given {@code delta} to the word at the given {@code index}, atomically.
+     *
+     * @param index the index of the word
+     * @param delta the value to add
+     *
+     * @return the new value of the word
+     */
+    protected final long addToWord(int index, long delta) {
+        return (long) WORDS.getAndAdd(words, index, delta) + delta;
+    }
+}
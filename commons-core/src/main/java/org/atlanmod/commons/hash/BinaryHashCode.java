@@ -10,7 +10,9 @@ package org.atlanmod.commons.hash;
 
 import org.atlanmod.commons.primitive.Bytes;
 
-import java.security.MessageDigest;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -22,6 +24,11 @@ import static org.atlanmod.commons.Guards.checkNotNull;
 
 /**
  * An immutable hash code of arbitrary bit length.
+ * <p>
+ * A {@code BinaryHashCode} and a {@link FixedHashCode} with the same bytes are equal, and have the same {@link
+ * #hashCode()}.
+ *
+ * @see HashCodes#fromBytes(byte[])
  */
 @Immutable
 @ParametersAreNonnullByDefault
@@ -65,7 +72,18 @@ final class BinaryHashCode implements HashCode {
     @Nonnull
     @Override
     public String toHexString() {
-        return Bytes.toStringBinary(bytes);
+        return HashCodes.toHexString(bytes);
+    }
+
+    @Nonnull
+    @Override
+    public String toBase64String() {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(bytes);
     }
 
     @Override
@@ -77,11 +95,9 @@ final class BinaryHashCode implements HashCode {
                     | ((bytes[3] & 0xff) << 24);
         }
 
-        byte[] cloneBytes = toBytes();
-
-        int value = cloneBytes[0] & 0xFF;
-        for (int i = 1; i < cloneBytes.length; i++) {
-            value |= (cloneBytes[i] & 0xFF) << i * 8;
+        int value = bytes[0] & 0xFF;
+        for (int i = 1; i < bytes.length; i++) {
+            value |= (bytes[i] & 0xFF) << i * 8;
         }
         return value;
     }
@@ -91,12 +107,15 @@ final class BinaryHashCode implements HashCode {
         if (this == o) {
             return true;
         }
+        if (o instanceof FixedHashCode) {
+            return ((FixedHashCode) o).contentEquals(bytes);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
 
         BinaryHashCode that = (BinaryHashCode) o;
-        return MessageDigest.isEqual(bytes, that.bytes);
+        return Arrays.equals(bytes, that.bytes);
     }
 
     @Override
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.io.serializer.AbstractBinarySerializer;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkLessThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Bloom filter, a probabilistic data structure that tests whether a value is a member of a set, in constant memory.
+ * <p>
+ * A value that has been {@link #put(String) put} in the filter is always considered as a member, but a value that has
+ * never been put may also be considered as a member, with a probability that depends on the number of values in the
+ * filter: false positives are possible, false negatives are not.
+ * <p>
+ * Values are hashed once with a {@link Hasher}; the 64-bit result is then used to set or check the bits of the filter
+ * by double hashing. Bits are stored in a {@code long} array and set atomically without locking, so a filter can be
+ * shared between threads.
+ *
+ * @see #create(Hasher, long, double)
+ * @see #serializer(Hasher)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class BloomFilter extends AbstractSketch {
+
+    /**
+     * The number of hash functions used for each value.
+     */
+    @Nonnegative
+    private final int numHashes;
+
+    /**
+     * The number of bits of this filter.
+     */
+    @Nonnegative
+    private final long numBits;
+
+    /**
+     * Constructs a new {@code BloomFilter}.
+     *
+     * @param hasher    the hasher used to hash values
+     * @param numHashes the number of hash functions used for each value
+     * @param words     the bits of this filter
+     */
+    private BloomFilter(Hasher hasher, @Nonnegative int numHashes, long[] words) {
+        super(hasher, words);
+        this.numHashes = numHashes;
+        this.numBits = (long) words.length * Long.SIZE;
+    }
+
+    /**
+     * Creates a new {@code BloomFilter} sized for the given number of values and false positive probability.
+     *
+     * @param hasher             the hasher used to hash values
+     * @param expectedInsertions the number of values expected to be put in the filter
+     * @param fpp                the desired false positive probability, when {@code expectedInsertions} have been put
+     *
+     * @return a new filter
+     *
+     * @throws IllegalArgumentException if {@code expectedInsertions <= 0}, or if {@code fpp} is not between {@code 0}
+     *                                  and {@code 1} (exclusive)
+     */
+    @Nonnull
+    public static BloomFilter create(Hasher hasher, @Nonnegative long expectedInsertions, double fpp) {
+        checkNotNull(hasher, "hasher");
+        checkGreaterThan(expectedInsertions, 0L, "expectedInsertions (%d) must be positive", expectedInsertions);
+        checkGreaterThan(fpp, 0d, "fpp (%f) must be positive", fpp);
+        checkLessThan(fpp, 1d, "fpp (%f) must be less than 1", fpp);
+
+        double ln2 = Math.log(2);
+        long numBits = Math.max(Long.SIZE, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (ln2 * ln2)));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+
+        long numWords = (numBits + Long.SIZE - 1) / Long.SIZE;
+        checkArgument(numWords <= Integer.MAX_VALUE, "too many bits: %d", numBits);
+
+        return new BloomFilter(hasher, numHashes, new long[(int) numWords]);
+    }
+
+    /**
+     * Returns a {@link BinarySerializer} of {@code BloomFilter}s that use the given {@code hasher}.
+     *
+     * @param hasher the hasher used by the deserialized filters
+     *
+     * @return a new serializer
+     */
+    @Nonnull
+    public static BinarySerializer<BloomFilter> serializer(Hasher hasher) {
+        return new BloomFilterSerializer(hasher);
+    }
+
+    /**
+     * Puts the given {@code value} in this filter.
+     *
+     * @param value the value to put
+     *
+     * @return {@code true} if the bits of this filter have changed, i.e. if the value was definitely not a member
+     */
+    public boolean put(String value) {
+        return putHash(hash(value));
+    }
+
+    /**
+     * Puts the given {@code value} in this filter.
+     *
+     * @param value the value to put
+     *
+     * @return {@code true} if the bits of this filter have changed, i.e. if the value was definitely not a member
+     */
+    public boolean put(byte[] value) {
+        return putHash(hash(value));
+    }
+
+    /**
+     * Puts the given {@code value} in this filter.
+     *
+     * @param value the value to put
+     *
+     * @return {@code true} if the bits of this filter have changed, i.e. if the value was definitely not a member
+     */
+    public boolean put(long value) {
+        return putHash(hash(value));
+    }
+
+    /**
+     * Puts a value in this filter, from its already calculated {@code hashCode}.
+     *
+     * @param hashCode the hash code of the value to put
+     *
+     * @return {@code true} if the bits of this filter have changed, i.e. if the value was definitely not a member
+     */
+    public boolean put(HashCode hashCode) {
+        return putHash(HashCodes.truncateToLong(checkNotNull(hashCode, "hashCode")));
+    }
+
+    /**
+     * Checks whether the given {@code value} might have been put in this filter.
+     *
+     * @param value the value to check
+     *
+     * @return {@code false} if the value has definitely not been put in this filter
+     */
+    public boolean mightContain(String value) {
+        return mightContainHash(hash(value));
+    }
+
+    /**
+     * Checks whether the given {@code value} might have been put in this filter.
+     *
+     * @param value the value to check
+     *
+     * @return {@code false} if the value has definitely not been put in this filter
+     */
+    public boolean mightContain(byte[] value) {
+        return mightContainHash(hash(value));
+    }
+
+    /**
+     * Checks whether the given {@code value} might have been put in this filter.
+     *
+     * @param value the value to check
+     *
+     * @return {@code false} if the value has definitely not been put in this filter
+     */
+    public boolean mightContain(long value) {
+        return mightContainHash(hash(value));
+    }
+
+    /**
+     * Checks whether a value might have been put in this filter, from its already calculated {@code hashCode}.
+     *
+     * @param hashCode the hash code of the value to check
+     *
+     * @return {@code false} if the value has definitely not been put in this filter
+     */
+    public boolean mightContain(HashCode hashCode) {
+        return mightContainHash(HashCodes.truncateToLong(checkNotNull(hashCode, "hashCode")));
+    }
+
+    /**
+     * Merges the given {@code other} filter into this filter: this filter then contains the values of both filters.
+     *
+     * @param other the filter to merge
+     *
+     * @throws IllegalArgumentException if the filters don't have the same number of bits or hash functions
+     */
+    public void merge(BloomFilter other) {
+        checkNotNull(other, "other");
+        checkArgument(numBits == other.numBits && numHashes == other.numHashes,
+                "incompatible filters: %d bits/%d hashes and %d bits/%d hashes", numBits, numHashes, other.numBits, other.numHashes);
+
+        for (int i = 0; i < words.length; i++) {
+            long word = other.getWord(i);
+            if (word != 0L) {
+                setBits(i, word);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bits of this filter.
+     *
+     * @return the number of bits
+     */
+    @Nonnegative
+    public long bitSize() {
+        return numBits;
+    }
+
+    /**
+     * Returns the number of hash functions used for each value.
+     *
+     * @return the number of hash functions
+     */
+    @Nonnegative
+    public int numHashes() {
+        return numHashes;
+    }
+
+    /**
+     * Returns the probability that {@link #mightContain(String)} returns {@code true} for a value that has not been
+     * put in this filter, according to the number of bits currently set.
+     *
+     * @return the current false positive probability
+     */
+    public double expectedFpp() {
+        long bitCount = 0;
+        for (int i = 0; i < words.length; i++) {
+            bitCount += Long.bitCount(getWord(i));
+        }
+        return Math.pow((double) bitCount / numBits, numHashes);
+    }
+
+    /**
+     * Sets the bits of a value from its 64-bit {@code hash}.
+     *
+     * @param hash the hash of the value
+     *
+     * @return {@code true} if at least one bit has changed
+     */
+    private boolean putHash(long hash) {
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            long index = index(hash, i, numBits);
+            changed |= setBits((int) (index >>> 6), 1L << index);
+        }
+        return changed;
+    }
+
+    /**
+     * Checks the bits of a value from its 64-bit {@code hash}.
+     *
+     * @param hash the hash of the value
+     *
+     * @return {@code true} if all bits are set
+     */
+    private boolean mightContainHash(long hash) {
+        for (int i = 0; i < numHashes; i++) {
+            long index = index(hash, i, numBits);
+            if ((getWord((int) (index >>> 6)) & (1L << index)) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A {@link BinarySerializer} of {@link BloomFilter}s.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class BloomFilterSerializer extends AbstractBinarySerializer<BloomFilter> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = -3043157368264401925L;
+
+        /**
+         * The hasher used by the deserialized filters.
+         */
+        @Nonnull
+        private final Hasher hasher;
+
+        /**
+         * Constructs a new {@code BloomFilterSerializer}.
+         *
+         * @param hasher the hasher used by the deserialized filters
+         */
+        BloomFilterSerializer(Hasher hasher) {
+            this.hasher = checkNotNull(hasher, "hasher");
+        }
+
+        @Override
+        public void serialize(BloomFilter filter, @WillNotClose DataOutput out) throws IOException {
+            out.writeInt(filter.numHashes);
+            out.writeInt(filter.words.length);
+            for (int i = 0; i < filter.words.length; i++) {
+                out.writeLong(filter.getWord(i));
+            }
+        }
+
+        @Nonnull
+        @Override
+        public BloomFilter deserialize(@WillNotClose DataInput in) throws IOException {
+            int numHashes = in.readInt();
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return new BloomFilter(hasher, numHashes, words);
+        }
+    }
+}
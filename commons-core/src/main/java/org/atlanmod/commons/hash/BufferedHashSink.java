@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link HashSink} that accumulates all the values in a growing buffer, and hashes its content at once. The buffer
+ * is kept between two calls of {@link #hash()}, so a reused sink does not allocate once its buffer is large enough.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+class BufferedHashSink extends AbstractHashSink {
+
+    /**
+     * The default capacity of the buffer.
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The function used to hash the content of the buffer.
+     */
+    @Nonnull
+    private final RegionHasher hasher;
+
+    /**
+     * Constructs a new {@code BufferedHashSink}.
+     *
+     * @param order        the byte order used to encode primitive values
+     * @param charsAsUtf16 {@code true} if strings are encoded as a sequence of {@code char}s, {@code false} if they are
+     *                     encoded in {@code UTF-8}
+     * @param hasher       the function used to hash the content of the buffer
+     */
+    public BufferedHashSink(ByteOrder order, boolean charsAsUtf16, RegionHasher hasher) {
+        super(order, DEFAULT_CAPACITY, charsAsUtf16);
+        this.hasher = checkNotNull(hasher, "hasher");
+    }
+
+    @Override
+    protected void ensureRemaining(int length) {
+        if (buffer.remaining() < length) {
+            int newCapacity = Math.max(buffer.capacity() << 1, buffer.position() + length);
+
+            ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity).order(buffer.order());
+            buffer.flip();
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+    }
+
+    @Nonnull
+    @Override
+    protected HashCode doHash() {
+        return hasher.hash(buffer.array(), buffer.position());
+    }
+
+    /**
+     * A function that calculates the {@link HashCode} of the beginning of a {@code byte} array.
+     */
+    @FunctionalInterface
+    @ParametersAreNonnullByDefault
+    interface RegionHasher {
+
+        /**
+         * Calculates the {@link HashCode} of the {@code length} first bytes of the {@code data}.
+         *
+         * @param data   the {@code byte} array to hash
+         * @param length the number of bytes to hash
+         *
+         * @return a new hash code
+         */
+        @Nonnull
+        HashCode hash(byte[] data, @Nonnegative int length);
+    }
+}
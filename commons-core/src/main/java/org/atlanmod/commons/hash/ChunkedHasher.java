@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.log.Log;
+import org.atlanmod.commons.time.Stopwatch;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An object that calculates the {@link HashCode} of large files or streams, by reading them in fixed-size chunks with a
+ * bounded memory usage.
+ * <p>
+ * Files are read chunk by chunk, with positional reads in heap arrays of the size of a chunk: the chunks are never
+ * memory-mapped, as the buffers that are not backed by an array are not hashed in place by all hashers. The result
+ * depends on the type of hasher:
+ * <ul>
+ * <li>a {@link LongHasher} calculates a <i>tree hash</i>: each chunk is hashed independently, in parallel in a {@link
+ * ForkJoinPool}, then the hashes of the chunks are combined pairwise up to a single root hash. The result only
+ * depends on the content and on the size of the chunks, so streams and files with the same content have the same hash
+ * code, whatever the parallelism.</li>
+ * <li>any other {@link Hasher}, such as cryptographic hashers, is fed sequentially using a {@link HashSink}: the
+ * result is the same as {@link Hasher#hash(byte[])} on the whole content.</li>
+ * </ul>
+ * The throughput of each calculation is logged at the {@link org.atlanmod.commons.log.Level#DEBUG DEBUG} level.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class ChunkedHasher {
+
+    /**
+     * The default size of chunks, in bytes (4 MiB).
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * The hasher used to hash each chunk.
+     */
+    @Nonnull
+    private final Hasher hasher;
+
+    /**
+     * The size of chunks, in bytes.
+     */
+    @Nonnegative
+    private final int chunkSize;
+
+    /**
+     * The pool used to hash the chunks in parallel.
+     */
+    @Nonnull
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new {@code ChunkedHasher} with the {@link #DEFAULT_CHUNK_SIZE default chunk size}, using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param hasher the hasher used to hash each chunk
+     */
+    public ChunkedHasher(Hasher hasher) {
+        this(hasher, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code ChunkedHasher}.
+     *
+     * @param hasher    the hasher used to hash each chunk
+     * @param chunkSize the size of chunks, in bytes
+     * @param pool      the pool used to hash the chunks in parallel
+     *
+     * @throws IllegalArgumentException if {@code chunkSize <= 0}
+     */
+    public ChunkedHasher(Hasher hasher, @Nonnegative int chunkSize, ForkJoinPool pool) {
+        this.hasher = checkNotNull(hasher, "hasher");
+        this.chunkSize = checkGreaterThan(chunkSize, 0, "chunkSize (%d) must be positive", chunkSize);
+        this.pool = checkNotNull(pool, "pool");
+    }
+
+    /**
+     * Calculates the {@link HashCode} of the content of the given {@code file}.
+     *
+     * @param file the file to hash
+     *
+     * @return a new hash code
+     *
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    @Nonnull
+    public HashCode hash(Path file) throws IOException {
+        checkNotNull(file, "file");
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            HashCode hashCode;
+            if (hasher instanceof LongHasher) {
+                hashCode = new LongHashCode(treeHash(channel, size));
+            }
+            else {
+                HashSink sink = hasher.newSink();
+                final byte[] buffer = new byte[(int) Math.min(chunkSize, size)];
+                for (long position = 0; position < size; position += chunkSize) {
+                    sink.putBytes(buffer, 0, read(channel, position, size, buffer));
+                }
+                hashCode = sink.hash();
+            }
+
+            report(file, size, stopwatch.stop().elapsed());
+            return hashCode;
+        }
+    }
+
+    /**
+     * Calculates the {@link HashCode} of the content of the given {@code stream}, until its end.
+     * <p>
+     * Chunks are read and hashed sequentially, using a single buffer of the size of a chunk.
+     *
+     * @param stream the stream to hash
+     *
+     * @return a new hash code
+     *
+     * @throws IOException if an I/O error occurs while reading the stream
+     */
+    @Nonnull
+    public HashCode hash(@WillNotClose InputStream stream) throws IOException {
+        checkNotNull(stream, "stream");
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        final byte[] buffer = new byte[chunkSize];
+
+        long size = 0;
+        HashCode hashCode;
+        if (hasher instanceof LongHasher) {
+            LongHasher longHasher = (LongHasher) hasher;
+
+            long[] hashes = new long[16];
+            int count = 0;
+
+            int length;
+            while ((length = stream.readNBytes(buffer, 0, chunkSize)) > 0 || count == 0) {
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count << 1);
+                }
+                hashes[count++] = longHasher.hashToLong(buffer, 0, length);
+                size += length;
+
+                if (length < chunkSize) {
+                    break;
+                }
+            }
+
+            hashCode = new LongHashCode(combine(longHasher, hashes, 0, count));
+        }
+        else {
+            HashSink sink = hasher.newSink();
+
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                sink.putBytes(buffer, 0, length);
+                size += length;
+            }
+
+            hashCode = sink.hash();
+        }
+
+        report(stream, size, stopwatch.stop().elapsed());
+        return hashCode;
+    }
+
+    /**
+     * Calculates the tree hash of the content of the given {@code channel}, in parallel.
+     *
+     * @param channel the channel to read
+     * @param size    the size of the content of the channel
+     *
+     * @return the root hash
+     *
+     * @throws IOException if an I/O error occurs while reading the channel
+     */
+    private long treeHash(FileChannel channel, long size) throws IOException {
+        final long chunkCount = Math.max(1, (size + chunkSize - 1) / chunkSize);
+
+        try {
+            return pool.invoke(new TreeHashTask((LongHasher) hasher, channel, size, 0, chunkCount));
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the chunk of the {@code channel} starting at the given {@code position} in the {@code buffer}, without
+     * modifying the position of the channel.
+     *
+     * @param channel  the channel to read
+     * @param position the position of the chunk
+     * @param size     the size of the content of the channel
+     * @param buffer   the array where to store the chunk
+     *
+     * @return the size of the chunk
+     *
+     * @throws IOException if an I/O error occurs while reading the chunk, or if the channel has been truncated
+     */
+    private int read(FileChannel channel, long position, long size, byte[] buffer) throws IOException {
+        final int length = (int) Math.min(chunkSize, size - position);
+
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+        while (chunk.hasRemaining()) {
+            if (channel.read(chunk, position + chunk.position()) < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + chunk.position()));
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Combines the hashes in the range {@code [from, to[} pairwise, up to a single hash. The range is split in two
+     * halves recursively, in the same way as {@link TreeHashTask}.
+     *
+     * @param hasher the hasher used to combine the hashes
+     * @param hashes the hashes of the chunks
+     * @param from   the index of the first hash, inclusive
+     * @param to     the index of the last hash, exclusive
+     *
+     * @return the combined hash
+     */
+    private static long combine(LongHasher hasher, long[] hashes, int from, int to) {
+        if (to - from == 1) {
+            return hashes[from];
+        }
+
+        int middle = (from + to) >>> 1;
+        return combine(hasher, combine(hasher, hashes, from, middle), combine(hasher, hashes, middle, to));
+    }
+
+    /**
+     * Combines two hashes into a single one.
+     *
+     * @param hasher the hasher used to combine the hashes
+     * @param left   the left hash
+     * @param right  the right hash
+     *
+     * @return the combined hash
+     */
+    private static long combine(LongHasher hasher, long left, long right) {
+        return hasher.newSink().putLong(left).putLong(right).hash().toLong();
+    }
+
+    /**
+     * Logs the throughput of a calculation.
+     *
+     * @param source  the hashed source
+     * @param size    the number of hashed bytes
+     * @param elapsed the duration of the calculation
+     */
+    private static void report(Object source, long size, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos(), 1L) / 1e9;
+        Log.debug("Hashed {0} ({1} bytes) in {2} ms: {3,number,#.##} MB/s", source, size, elapsed.toMillis(), size / seconds / 1e6);
+    }
+
+    /**
+     * A {@link RecursiveTask} that calculates the tree hash of a range of chunks of a file.
+     */
+    @ParametersAreNonnullByDefault
+    private final class TreeHashTask extends RecursiveTask<Long> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 4412630527451093358L;
+
+        /**
+         * The hasher used to hash each chunk.
+         */
+        @Nonnull
+        private final LongHasher longHasher;
+
+        /**
+         * The channel to read.
+         */
+        @Nonnull
+        private final FileChannel channel;
+
+        /**
+         * The size of the content of the channel.
+         */
+        private final long size;
+
+        /**
+         * The index of the first chunk, inclusive.
+         */
+        private final long from;
+
+        /**
+         * The index of the last chunk, exclusive.
+         */
+        private final long to;
+
+        /**
+         * Constructs a new {@code TreeHashTask}.
+         *
+         * @param longHasher the hasher used to hash each chunk
+         * @param channel    the channel to read
+         * @param size       the size of the content of the channel
+         * @param from       the index of the first chunk, inclusive
+         * @param to         the index of the last chunk, exclusive
+         */
+        TreeHashTask(LongHasher longHasher, FileChannel channel, long size, long from, long to) {
+            this.longHasher = longHasher;
+            this.channel = channel;
+            this.size = size;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1) {
+                try {
+                    final long position = from * chunkSize;
+                    final byte[] buffer = new byte[(int) Math.min(chunkSize, size - position)];
+                    return longHasher.hashToLong(buffer, 0, read(channel, position, size, buffer));
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            long middle = (from + to) >>> 1;
+            TreeHashTask left = new TreeHashTask(longHasher, channel, size, from, middle);
+            TreeHashTask right = new TreeHashTask(longHasher, channel, size, middle, to);
+
+            left.fork();
+            long rightHash = right.compute();
+            return combine(longHasher, left.join(), rightHash);
+        }
+    }
+}
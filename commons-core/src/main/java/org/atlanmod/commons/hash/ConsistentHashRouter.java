@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+
+/**
+ * An object that maps keys to a set of nodes, such as shards or partitions, with <i>consistent hashing</i>: when a node
+ * is added, only the keys that are routed to the new node change of node.
+ * <p>
+ * Keys are hashed to 64 bits with a {@link Hasher}, then mapped to a node without any allocation. A router is
+ * immutable: to add or remove nodes, a new router must be created, and it routes the keys in the same way as the
+ * previous one for all the nodes they have in common.
+ *
+ * @param <N> the type of nodes
+ * @see #jump(Hasher, List)
+ * @see #ring(Hasher, Collection, int)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public interface ConsistentHashRouter<N> {
+
+    /**
+     * Creates a new router using the <i>jump consistent hash</i> algorithm of Lamping and Veach.
+     * <p>
+     * This router has no memory overhead and spreads keys evenly, but nodes can only be added or removed at the end
+     * of the list: the order of {@code nodes} must be stable between the successive routers.
+     *
+     * @param hasher the hasher used to hash keys
+     * @param nodes  the nodes, in a stable order
+     * @param <N>    the type of nodes
+     *
+     * @return a new router
+     *
+     * @throws IllegalArgumentException if {@code nodes} is empty
+     */
+    @Nonnull
+    static <N> ConsistentHashRouter<N> jump(Hasher hasher, List<? extends N> nodes) {
+        return new JumpHashRouter<>(hasher, nodes);
+    }
+
+    /**
+     * Creates a new router using a ring of virtual nodes: each node is placed {@code virtualNodes} times on a ring of
+     * hashes, from the hash of its {@link Object#toString() string representation}, and each key is routed to the next
+     * node on the ring.
+     * <p>
+     * Nodes can be added or removed in any order, but the string representation of each node must be unique and
+     * stable between the successive routers.
+     *
+     * @param hasher       the hasher used to hash keys and nodes
+     * @param nodes        the nodes
+     * @param virtualNodes the number of virtual nodes for each node
+     * @param <N>          the type of nodes
+     *
+     * @return a new router
+     *
+     * @throws IllegalArgumentException if {@code nodes} is empty, or if {@code virtualNodes <= 0}
+     */
+    @Nonnull
+    static <N> ConsistentHashRouter<N> ring(Hasher hasher, Collection<? extends N> nodes, @Nonnegative int virtualNodes) {
+        return new HashRingRouter<>(hasher, nodes, virtualNodes);
+    }
+
+    /**
+     * Maps the given 64-bit {@code key} to a bucket between {@code 0} (inclusive) and {@code buckets} (exclusive),
+     * using the <i>jump consistent hash</i> algorithm of Lamping and Veach.
+     *
+     * @param key     the key to map; should be a well-distributed hash
+     * @param buckets the number of buckets
+     *
+     * @return the bucket of the key
+     *
+     * @throws IllegalArgumentException if {@code buckets <= 0}
+     */
+    @Nonnegative
+    static int jumpHash(long key, @Nonnegative int buckets) {
+        checkGreaterThan(buckets, 0, "buckets (%d) must be positive", buckets);
+
+        return JumpHashRouter.bucketOf(key, buckets);
+    }
+
+    /**
+     * Returns the node of the given {@code key}.
+     *
+     * @param key the key to route
+     *
+     * @return the node
+     */
+    @Nonnull
+    N route(String key);
+
+    /**
+     * Returns the node of the given {@code key}.
+     *
+     * @param key the key to route
+     *
+     * @return the node
+     */
+    @Nonnull
+    N route(byte[] key);
+
+    /**
+     * Returns the node of the given {@code key}.
+     *
+     * @param key the key to route
+     *
+     * @return the node
+     */
+    @Nonnull
+    N route(long key);
+
+    /**
+     * Returns the node of a key, from its already calculated {@code hashCode}.
+     *
+     * @param hashCode the hash code of the key to route
+     *
+     * @return the node
+     */
+    @Nonnull
+    N route(HashCode hashCode);
+
+    /**
+     * Returns the nodes of this router.
+     *
+     * @return an immutable list
+     */
+    @Nonnull
+    List<N> nodes();
+}
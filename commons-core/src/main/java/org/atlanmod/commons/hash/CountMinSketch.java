@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.io.serializer.AbstractBinarySerializer;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.WillNotClose;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkLessThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A Count-Min sketch, a probabilistic data structure that estimates the frequency of values, in constant memory.
+ * <p>
+ * The estimated count of a value is never lower than its actual count, and exceeds it by at most {@code epsilon *
+ * totalCount()} with a probability of {@code confidence}.
+ * <p>
+ * Values are hashed once with a {@link Hasher}; the 64-bit result is then used to select one counter in each row of
+ * the sketch by double hashing. Counters are stored in a {@code long} array and incremented atomically without locking,
+ * so a sketch can be shared between threads.
+ *
+ * @see #create(Hasher, double, double)
+ * @see #serializer(Hasher)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class CountMinSketch extends AbstractSketch {
+
+    /**
+     * The number of rows of this sketch.
+     */
+    @Nonnegative
+    private final int depth;
+
+    /**
+     * The number of counters in each row of this sketch.
+     */
+    @Nonnegative
+    private final int width;
+
+    /**
+     * The sum of all the counts added to this sketch.
+     */
+    @Nonnull
+    private final LongAdder totalCount = new LongAdder();
+
+    /**
+     * Constructs a new {@code CountMinSketch}.
+     *
+     * @param hasher the hasher used to hash values
+     * @param depth  the number of rows of this sketch
+     * @param width  the number of counters in each row of this sketch
+     * @param words  the counters of this sketch, row by row
+     */
+    private CountMinSketch(Hasher hasher, @Nonnegative int depth, @Nonnegative int width, long[] words) {
+        super(hasher, words);
+        this.depth = depth;
+        this.width = width;
+    }
+
+    /**
+     * Creates a new {@code CountMinSketch} with the given accuracy.
+     *
+     * @param hasher     the hasher used to hash values
+     * @param epsilon    the maximum error of the estimations, relative to the {@link #totalCount()}
+     * @param confidence the probability that an estimation is within the maximum error
+     *
+     * @return a new sketch
+     *
+     * @throws IllegalArgumentException if {@code epsilon} or {@code confidence} is not between {@code 0} and {@code 1}
+     *                                  (exclusive)
+     */
+    @Nonnull
+    public static CountMinSketch create(Hasher hasher, double epsilon, double confidence) {
+        checkNotNull(hasher, "hasher");
+        checkGreaterThan(epsilon, 0d, "epsilon (%f) must be positive", epsilon);
+        checkLessThan(epsilon, 1d, "epsilon (%f) must be less than 1", epsilon);
+        checkGreaterThan(confidence, 0d, "confidence (%f) must be positive", confidence);
+        checkLessThan(confidence, 1d, "confidence (%f) must be less than 1", confidence);
+
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(-Math.log(1 - confidence));
+
+        return create(hasher, depth, width);
+    }
+
+    /**
+     * Creates a new {@code CountMinSketch} with the given dimensions.
+     *
+     * @param hasher the hasher used to hash values
+     * @param depth  the number of rows of the sketch
+     * @param width  the number of counters in each row of the sketch
+     *
+     * @return a new sketch
+     *
+     * @throws IllegalArgumentException if {@code depth <= 0} or {@code width <= 0}, or if the sketch is too large
+     */
+    @Nonnull
+    public static CountMinSketch create(Hasher hasher, @Nonnegative int depth, @Nonnegative int width) {
+        checkNotNull(hasher, "hasher");
+        checkGreaterThan(depth, 0, "depth (%d) must be positive", depth);
+        checkGreaterThan(width, 0, "width (%d) must be positive", width);
+        checkArgument((long) depth * width <= Integer.MAX_VALUE, "too many counters: %d x %d", depth, width);
+
+        return new CountMinSketch(hasher, depth, width, new long[depth * width]);
+    }
+
+    /**
+     * Returns a {@link BinarySerializer} of {@code CountMinSketch}es that use the given {@code hasher}.
+     *
+     * @param hasher the hasher used by the deserialized sketches
+     *
+     * @return a new serializer
+     */
+    @Nonnull
+    public static BinarySerializer<CountMinSketch> serializer(Hasher hasher) {
+        return new CountMinSketchSerializer(hasher);
+    }
+
+    /**
+     * Adds {@code count} occurrences of the given {@code value} to this sketch.
+     *
+     * @param value the value to add
+     * @param count the number of occurrences
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(String value, @Nonnegative long count) {
+        addHash(hash(value), count);
+    }
+
+    /**
+     * Adds {@code count} occurrences of the given {@code value} to this sketch.
+     *
+     * @param value the value to add
+     * @param count the number of occurrences
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(byte[] value, @Nonnegative long count) {
+        addHash(hash(value), count);
+    }
+
+    /**
+     * Adds {@code count} occurrences of the given {@code value} to this sketch.
+     *
+     * @param value the value to add
+     * @param count the number of occurrences
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(long value, @Nonnegative long count) {
+        addHash(hash(value), count);
+    }
+
+    /**
+     * Adds {@code count} occurrences of a value to this sketch, from its already calculated {@code hashCode}.
+     *
+     * @param hashCode the hash code of the value to add
+     * @param count    the number of occurrences
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(HashCode hashCode, @Nonnegative long count) {
+        addHash(HashCodes.truncateToLong(checkNotNull(hashCode, "hashCode")), count);
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the given {@code value}.
+     *
+     * @param value the value to estimate
+     *
+     * @return the estimated count, never lower than the actual count
+     */
+    @Nonnegative
+    public long estimateCount(String value) {
+        return estimateHash(hash(value));
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the given {@code value}.
+     *
+     * @param value the value to estimate
+     *
+     * @return the estimated count, never lower than the actual count
+     */
+    @Nonnegative
+    public long estimateCount(byte[] value) {
+        return estimateHash(hash(value));
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the given {@code value}.
+     *
+     * @param value the value to estimate
+     *
+     * @return the estimated count, never lower than the actual count
+     */
+    @Nonnegative
+    public long estimateCount(long value) {
+        return estimateHash(hash(value));
+    }
+
+    /**
+     * Returns the estimated number of occurrences of a value, from its already calculated {@code hashCode}.
+     *
+     * @param hashCode the hash code of the value to estimate
+     *
+     * @return the estimated count, never lower than the actual count
+     */
+    @Nonnegative
+    public long estimateCount(HashCode hashCode) {
+        return estimateHash(HashCodes.truncateToLong(checkNotNull(hashCode, "hashCode")));
+    }
+
+    /**
+     * Merges the given {@code other} sketch into this sketch: this sketch then counts the values of both sketches.
+     *
+     * @param other the sketch to merge
+     *
+     * @throws IllegalArgumentException if the sketches don't have the same dimensions
+     */
+    public void merge(CountMinSketch other) {
+        checkNotNull(other, "other");
+        checkArgument(depth == other.depth && width == other.width,
+                "incompatible sketches: %d x %d and %d x %d", depth, width, other.depth, other.width);
+
+        for (int i = 0; i < words.length; i++) {
+            long count = other.getWord(i);
+            if (count != 0L) {
+                addToWord(i, count);
+            }
+        }
+        totalCount.add(other.totalCount());
+    }
+
+    /**
+     * Returns the number of rows of this sketch.
+     *
+     * @return the depth
+     */
+    @Nonnegative
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of counters in each row of this sketch.
+     *
+     * @return the width
+     */
+    @Nonnegative
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns the sum of all the counts added to this sketch.
+     *
+     * @return the total count
+     */
+    @Nonnegative
+    public long totalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Adds {@code count} to the counters of a value, from its 64-bit {@code hash}.
+     *
+     * @param hash  the hash of the value
+     * @param count the number of occurrences
+     */
+    private void addHash(long hash, long count) {
+        checkGreaterThanOrEqualTo(count, 0L, "count (%d) must not be negative", count);
+
+        for (int i = 0; i < depth; i++) {
+            addToWord(i * width + (int) index(hash, i, width), count);
+        }
+        totalCount.add(count);
+    }
+
+    /**
+     * Returns the minimum of the counters of a value, from its 64-bit {@code hash}.
+     *
+     * @param hash the hash of the value
+     *
+     * @return the estimated count
+     */
+    private long estimateHash(long hash) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, getWord(i * width + (int) index(hash, i, width)));
+        }
+        return min;
+    }
+
+    /**
+     * A {@link BinarySerializer} of {@link CountMinSketch}es.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class CountMinSketchSerializer extends AbstractBinarySerializer<CountMinSketch> {
+
+        @SuppressWarnings("JavaDoc")
+        private static final long serialVersionUID = 6816347028614317265L;
+
+        /**
+         * The hasher used by the deserialized sketches.
+         */
+        @Nonnull
+        private final Hasher hasher;
+
+        /**
+         * Constructs a new {@code CountMinSketchSerializer}.
+         *
+         * @param hasher the hasher used by the deserialized sketches
+         */
+        CountMinSketchSerializer(Hasher hasher) {
+            this.hasher = checkNotNull(hasher, "hasher");
+        }
+
+        @Override
+        public void serialize(CountMinSketch sketch, @WillNotClose DataOutput out) throws IOException {
+            out.writeInt(sketch.depth);
+            out.writeInt(sketch.width);
+            out.writeLong(sketch.totalCount());
+            for (int i = 0; i < sketch.words.length; i++) {
+                out.writeLong(sketch.getWord(i));
+            }
+        }
+
+        @Nonnull
+        @Override
+        public CountMinSketch deserialize(@WillNotClose DataInput in) throws IOException {
+            int depth = in.readInt();
+            int width = in.readInt();
+            long totalCount = in.readLong();
+
+            CountMinSketch sketch = create(hasher, depth, width);
+            for (int i = 0; i < sketch.words.length; i++) {
+                sketch.words[i] = in.readLong();
+            }
+            sketch.totalCount.add(totalCount);
+            return sketch;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link HashSink} that streams all the values to a {@link MessageDigest}, through a small fixed-size buffer.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class DigestHashSink extends AbstractHashSink {
+
+    /**
+     * The capacity of the buffer.
+     */
+    private static final int CAPACITY = 128;
+
+    /**
+     * The digest where values are sent; owned by this sink.
+     */
+    @Nonnull
+    private final MessageDigest digest;
+
+    /**
+     * Constructs a new {@code DigestHashSink}.
+     *
+     * @param digest the digest where values are sent; must not be shared
+     */
+    public DigestHashSink(MessageDigest digest) {
+        super(ByteOrder.BIG_ENDIAN, CAPACITY, false);
+        this.digest = checkNotNull(digest, "digest");
+    }
+
+    @Override
+    protected void ensureRemaining(int length) {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBytes(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        if (length > buffer.remaining()) {
+            flush();
+            digest.update(data, offset, length);
+        }
+        else {
+            buffer.put(data, offset, length);
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public HashSink putBytes(ByteBuffer data) {
+        if (data.remaining() > buffer.remaining()) {
+            flush();
+            digest.update(data.duplicate());
+        }
+        else {
+            buffer.put(data.duplicate());
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    protected HashCode doHash() {
+        flush();
+        return HashCodes.fromBytes(digest.digest());
+    }
+
+    /**
+     * Sends the content of the buffer to the digest, and clears it.
+     */
+    private void flush() {
+        digest.update(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+}
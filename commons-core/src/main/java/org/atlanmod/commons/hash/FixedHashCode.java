@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.primitive.Bytes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * An immutable hash code of 128, 160 or 256 bits, such as MD5, SHA-1 or SHA-256 digests, stored as up to four {@code
+ * long}s in big-endian.
+ * <p>
+ * Unlike {@link BinaryHashCode}, {@link #equals(Object)} and {@link #hashCode()} only compare and read fields, without
+ * any array access or allocation, which makes this class suitable as a map key. A {@code FixedHashCode} and a {@link
+ * BinaryHashCode} with the same bytes are equal, and have the same {@link #hashCode()}.
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+final class FixedHashCode implements HashCode {
+
+    @SuppressWarnings("JavaDoc")
+    private static final long serialVersionUID = 2871604513458620411L;
+
+    /**
+     * The number of bytes of this hash code.
+     */
+    @Nonnegative
+    private final int length;
+
+    /**
+     * The bytes {@code [0, 8[} of this hash code.
+     */
+    private final long word0;
+
+    /**
+     * The bytes {@code [8, 16[} of this hash code.
+     */
+    private final long word1;
+
+    /**
+     * The bytes {@code [16, 24[} of this hash code, or {@code 0} if they don't exist. For a 160-bit hash code, only the
+     * 32 most significant bits are used.
+     */
+    private final long word2;
+
+    /**
+     * The bytes {@code [24, 32[} of this hash code, or {@code 0} if they don't exist.
+     */
+    private final long word3;
+
+    /**
+     * Constructs a new {@code FixedHashCode} with the given {@code hashCode}.
+     *
+     * @param hashCode the bytes representation of this hash code
+     *
+     * @throws IllegalArgumentException if the length of {@code hashCode} is not supported
+     * @see #supports(int)
+     */
+    public FixedHashCode(byte[] hashCode) {
+        checkNotNull(hashCode, "hashCode");
+        checkArgument(supports(hashCode.length), "unsupported length: %d", hashCode.length);
+
+        this.length = hashCode.length;
+        this.word0 = readWord(hashCode, 0);
+        this.word1 = readWord(hashCode, 1);
+        this.word2 = readWord(hashCode, 2);
+        this.word3 = readWord(hashCode, 3);
+    }
+
+    /**
+     * Checks whether a hash code of the given {@code length} can be stored in a {@code FixedHashCode}.
+     *
+     * @param length the number of bytes of the hash code
+     *
+     * @return {@code true} if the hash code has 128, 160 or 256 bits
+     */
+    public static boolean supports(int length) {
+        return length == 16 || length == 20 || length == 32;
+    }
+
+    /**
+     * Reads the word at the given {@code index} in big-endian. Missing bytes are read as {@code 0}.
+     *
+     * @param bytes the bytes to read
+     * @param index the index of the word
+     *
+     * @return the word
+     */
+    private static long readWord(byte[] bytes, int index) {
+        long value = 0L;
+        for (int i = 0, offset = index * Long.BYTES; i < Long.BYTES; i++) {
+            value <<= Byte.SIZE;
+            if (offset + i < bytes.length) {
+                value |= bytes[offset + i] & 0xffL;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the word at the given {@code index}.
+     *
+     * @param index the index of the word
+     *
+     * @return the word
+     */
+    private long word(int index) {
+        switch (index) {
+            case 0:
+                return word0;
+            case 1:
+                return word1;
+            case 2:
+                return word2;
+            default:
+                return word3;
+        }
+    }
+
+    @Nonnegative
+    @Override
+    public int bits() {
+        return length * Byte.SIZE;
+    }
+
+    @Nonnull
+    @Override
+    public byte[] toBytes() {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (word(i / Long.BYTES) >>> (Long.SIZE - Byte.SIZE - (i % Long.BYTES) * Byte.SIZE));
+        }
+        return bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As for a {@link BinaryHashCode} with the same bytes, this method fails because this hash code is not 64 bits
+     * long: use {@link HashCodes#truncateToLong(HashCode)} to retrieve its 64 most significant bits.
+     *
+     * @throws IllegalArgumentException always
+     */
+    @Override
+    public long toLong() {
+        return Bytes.toLong(toBytes());
+    }
+
+    /**
+     * Returns the 64 most significant bits of this hash code.
+     *
+     * @return the first 8 bytes of this hash code, in big-endian
+     *
+     * @see HashCodes#truncateToLong(HashCode)
+     */
+    long mostSignificantBits() {
+        return word0;
+    }
+
+    /**
+     * Checks whether this hash code has the same bytes representation as the given {@code bytes}, without any
+     * allocation.
+     *
+     * @param bytes the bytes to compare with
+     *
+     * @return {@code true} if the bytes are equal
+     */
+    boolean contentEquals(byte[] bytes) {
+        return length == bytes.length
+                && word0 == readWord(bytes, 0)
+                && word1 == readWord(bytes, 1)
+                && word2 == readWord(bytes, 2)
+                && word3 == readWord(bytes, 3);
+    }
+
+    @Nonnull
+    @Override
+    public String toHexString() {
+        byte[] result = new byte[length * 2];
+        for (int offset = 0, index = 0; offset < length; offset += Long.BYTES, index++) {
+            HashCodes.writeHex(word(index), Math.min(Long.BYTES, length - offset), result, offset * 2);
+        }
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        HashCodes.putLong(buffer, word0);
+        HashCodes.putLong(buffer, word1);
+
+        if (length == 20) {
+            HashCodes.putInt(buffer, (int) (word2 >>> Integer.SIZE));
+        }
+        else if (length == 32) {
+            HashCodes.putLong(buffer, word2);
+            HashCodes.putLong(buffer, word3);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as BinaryHashCode: the 4 first bytes, in little-endian
+        return Integer.reverseBytes((int) (word0 >>> Integer.SIZE));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof BinaryHashCode) {
+            return o.equals(this);
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FixedHashCode that = (FixedHashCode) o;
+        return length == that.length
+                && word0 == that.word0
+                && word1 == that.word1
+                && word2 == that.word2
+                && word3 == that.word3;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HashCode {%s}", toHexString());
+    }
+}
@@ -9,6 +9,8 @@
 package org.atlanmod.commons.hash;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Base64;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -52,4 +54,26 @@ public interface HashCode extends Serializable {
      */
     @Nonnull
     String toHexString();
+
+    /**
+     * Returns the {@code Base64} representation of this hash code, as {@link Base64#getEncoder()}.
+     *
+     * @return a string
+     */
+    @Nonnull
+    default String toBase64String() {
+        return Base64.getEncoder().encodeToString(toBytes());
+    }
+
+    /**
+     * Writes the value of this hash code in the given {@code buffer}, as {@link #toBytes()}, whatever the order of the
+     * buffer.
+     *
+     * @param buffer the buffer where to write this hash code
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has less than {@code bits() / 8} remaining bytes
+     */
+    default void writeTo(ByteBuffer buffer) {
+        buffer.put(toBytes());
+    }
 }
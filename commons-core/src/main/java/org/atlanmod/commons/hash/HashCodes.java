@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Static utility methods related to the creation and the encoding of {@link HashCode}s.
+ */
+@Static
+@ParametersAreNonnullByDefault
+final class HashCodes {
+
+    /**
+     * The hexadecimal digits, in lower case, as {@code ISO-8859-1} bytes.
+     */
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    private HashCodes() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Creates a new {@link HashCode} from the given {@code bytes}. Hash codes of 128, 160 and 256 bits are stored in
+     * a {@link FixedHashCode}, others in a {@link BinaryHashCode}.
+     *
+     * @param bytes the bytes representation of the hash code
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    public static HashCode fromBytes(byte[] bytes) {
+        return FixedHashCode.supports(bytes.length)
+                ? new FixedHashCode(bytes)
+                : new BinaryHashCode(bytes);
+    }
+
+    /**
+     * Returns the 64 most significant bits of the given {@code hashCode}, whatever its length: the first 8 bytes of
+     * its {@link HashCode#toBytes() bytes representation}, in big-endian. Shorter hash codes are padded with zeros.
+     * <p>
+     * Unlike {@link HashCode#toLong()}, this method never fails on hash codes that are not 64 bits long, such as
+     * digests.
+     *
+     * @param hashCode the hash code
+     *
+     * @return the 64 most significant bits
+     */
+    public static long truncateToLong(HashCode hashCode) {
+        if (hashCode instanceof FixedHashCode) {
+            return ((FixedHashCode) hashCode).mostSignificantBits();
+        }
+        if (hashCode.bits() == Long.SIZE) {
+            return hashCode.toLong();
+        }
+
+        byte[] bytes = hashCode.toBytes();
+
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value <<= Byte.SIZE;
+            if (i < bytes.length) {
+                value |= bytes[i] & 0xffL;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value} with the {@code hasher}, without creating any {@link
+     * HashCode} if the hasher is a {@link LongHasher}.
+     *
+     * @param hasher the hasher to use
+     * @param value  the value to hash
+     *
+     * @return the hash
+     */
+    public static long toLong(Hasher hasher, String value) {
+        return hasher instanceof LongHasher
+                ? ((LongHasher) hasher).hashToLong(value)
+                : truncateToLong(hasher.hash(value));
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value} with the {@code hasher}, without creating any {@link
+     * HashCode} if the hasher is a {@link LongHasher}.
+     *
+     * @param hasher the hasher to use
+     * @param value  the value to hash
+     *
+     * @return the hash
+     */
+    public static long toLong(Hasher hasher, byte[] value) {
+        return hasher instanceof LongHasher
+                ? ((LongHasher) hasher).hashToLong(value)
+                : truncateToLong(hasher.hash(value));
+    }
+
+    /**
+     * Calculates the 64-bit hash of the given {@code value} with the {@code hasher}, without creating any {@link
+     * HashCode} if the hasher is a {@link LongHasher}.
+     *
+     * @param hasher the hasher to use
+     * @param value  the value to hash
+     *
+     * @return the hash
+     */
+    public static long toLong(Hasher hasher, long value) {
+        return hasher instanceof LongHasher
+                ? ((LongHasher) hasher).hashToLong(value)
+                : truncateToLong(hasher.hash(value));
+    }
+
+    /**
+     * Encodes the given {@code bytes} as a {@link String} that contains each byte, in order, as a two-digit unsigned
+     * hexadecimal number in lower case.
+     * <p>
+     * Unlike {@link org.atlanmod.commons.primitive.Bytes#toStringBinary(byte[])}, the digits are written in a {@code
+     * ISO-8859-1} array, which is used as is by compact strings.
+     *
+     * @param bytes the bytes to encode
+     *
+     * @return a {@link String}
+     */
+    @Nonnull
+    public static String toHexString(byte[] bytes) {
+        byte[] result = new byte[bytes.length * 2];
+
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            result[j++] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            result[j++] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes the {@code length} most significant bytes of the given {@code value} as hexadecimal digits in lower case,
+     * from the {@code offset} of the {@code target} array.
+     *
+     * @param value  the value to encode
+     * @param length the number of bytes to encode, from the most significant
+     * @param target the array where to write the digits
+     * @param offset the index of the first digit in {@code target}
+     */
+    public static void writeHex(long value, @Nonnegative int length, byte[] target, @Nonnegative int offset) {
+        for (int i = 0, shift = Long.SIZE - 4; i < length * 2; i++, shift -= 4) {
+            target[offset + i] = HEX_DIGITS[(int) (value >>> shift) & 0xf];
+        }
+    }
+
+    /**
+     * Writes the given {@code value} in the {@code buffer} in big-endian, whatever the order of the buffer.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the value to write
+     */
+    public static void putLong(ByteBuffer buffer, long value) {
+        buffer.putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
+    /**
+     * Writes the given {@code value} in the {@code buffer} in big-endian, whatever the order of the buffer.
+     *
+     * @param buffer the buffer where to write the value
+     * @param value  the value to write
+     */
+    public static void putInt(ByteBuffer buffer, int value) {
+        buffer.putInt(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+import static org.atlanmod.commons.Guards.checkArgument;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+
+/**
+ * A {@link ConsistentHashRouter} using a ring of virtual nodes.
+ * <p>
+ * The ring is stored in two pre-sized arrays, sorted by hash: the position of each virtual node, and the index of the
+ * node it belongs to. A key is routed by a binary search of the first position greater than or equal to its hash.
+ *
+ * @param <N> the type of nodes
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+final class HashRingRouter<N> extends AbstractConsistentHashRouter<N> {
+
+    /**
+     * The positions of the virtual nodes on the ring, in ascending order.
+     */
+    @Nonnull
+    private final long[] positions;
+
+    /**
+     * The index of the node of each virtual node, in the same order as {@link #positions}.
+     */
+    @Nonnull
+    private final int[] owners;
+
+    /**
+     * Constructs a new {@code HashRingRouter}.
+     *
+     * @param hasher       the hasher used to hash keys and nodes
+     * @param nodes        the nodes of this router
+     * @param virtualNodes the number of virtual nodes for each node
+     */
+    public HashRingRouter(Hasher hasher, Collection<? extends N> nodes, @Nonnegative int virtualNodes) {
+        super(hasher, nodes);
+        checkGreaterThan(virtualNodes, 0, "virtualNodes (%d) must be positive", virtualNodes);
+        checkArgument((long) this.nodes.length * virtualNodes <= Integer.MAX_VALUE, "too many virtual nodes");
+
+        final int size = this.nodes.length * virtualNodes;
+        final long[] unsortedPositions = new long[size];
+
+        Set<String> names = new HashSet<>(this.nodes.length);
+        HashSink sink = hasher.newSink();
+        for (int i = 0; i < this.nodes.length; i++) {
+            String name = this.nodes[i].toString();
+            checkArgument(names.add(name), "duplicate node: %s", name);
+
+            for (int v = 0; v < virtualNodes; v++) {
+                unsortedPositions[i * virtualNodes + v] = HashCodes.truncateToLong(sink.putString(name).putInt(v).hash());
+            }
+        }
+
+        // Sort by position, then by node to be deterministic in case of collision
+        int[] order = IntStream.range(0, size)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(j -> unsortedPositions[j]).thenComparingInt(j -> j))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        this.positions = new long[size];
+        this.owners = new int[size];
+        for (int j = 0; j < size; j++) {
+            positions[j] = unsortedPositions[order[j]];
+            owners[j] = order[j] / virtualNodes;
+        }
+    }
+
+    @Override
+    protected int indexOf(long hash) {
+        int index = Arrays.binarySearch(positions, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == positions.length) {
+                index = 0;
+            }
+        }
+        return owners[index];
+    }
+}
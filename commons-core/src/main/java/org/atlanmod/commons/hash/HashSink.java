@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An incremental {@link Hasher}, that calculates a {@link HashCode} from a sequence of values without building an
+ * intermediate {@code byte} array.
+ * <p>
+ * Feeding a single value to a sink produces the same {@link HashCode} as the corresponding {@code Hasher#hash(...)}
+ * method. Once {@link #hash()} is called, the sink is reset and can be reused for another sequence of values.
+ * <p>
+ * Implementations of this interface are not thread-safe, and must not be shared between threads.
+ *
+ * @see Hasher#newSink()
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+public interface HashSink {
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code byte} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putByte(byte data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code boolean} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putBoolean(boolean data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code char} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putChar(char data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code short} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putShort(short data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code int} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putInt(int data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code long} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putLong(long data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code float} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putFloat(float data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the {@code double} to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putDouble(double data);
+
+    /**
+     * Adds the given {@code data} to this sink.
+     *
+     * @param data the string to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putString(String data);
+
+    /**
+     * Adds the given {@code byte} array to this sink.
+     *
+     * @param data the {@code byte} array to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    default HashSink putBytes(byte[] data) {
+        return putBytes(data, 0, data.length);
+    }
+
+    /**
+     * Adds a region of the given {@code byte} array to this sink.
+     *
+     * @param data   the {@code byte} array to hash
+     * @param offset the index of the first byte to hash
+     * @param length the number of bytes to hash
+     *
+     * @return this sink (for chaining)
+     *
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code data}
+     */
+    @Nonnull
+    HashSink putBytes(byte[] data, @Nonnegative int offset, @Nonnegative int length);
+
+    /**
+     * Adds the remaining bytes of the given {@code buffer} to this sink. The position of the buffer is not modified.
+     *
+     * @param data the buffer to hash
+     *
+     * @return this sink (for chaining)
+     */
+    @Nonnull
+    HashSink putBytes(ByteBuffer data);
+
+    /**
+     * Calculates the {@link HashCode} of all the values added to this sink since its creation or the last call of this
+     * method, and resets this sink.
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    HashCode hash();
+}
@@ -17,6 +17,12 @@ import org.atlanmod.commons.primitive.Longs;
 import org.atlanmod.commons.primitive.Shorts;
 import org.atlanmod.commons.primitive.Strings;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -144,4 +150,61 @@ public interface Hasher {
      */
     @Nonnull
     HashCode hash(byte[] data);
+
+    /**
+     * Calculates the {@link HashCode} of the remaining bytes of the given {@code buffer}. The position of the buffer is
+     * not modified.
+     * <p>
+     * The default implementation copies the remaining bytes in a new {@code byte} array, and calls {@link
+     * #hash(byte[])}.
+     *
+     * @param data the buffer to hash
+     *
+     * @return a new hash code
+     */
+    @Nonnull
+    default HashCode hash(ByteBuffer data) {
+        return hash(data, data.position(), data.remaining());
+    }
+
+    /**
+     * Calculates the {@link HashCode} of a region of the given {@code buffer}. The position and the limit of the buffer
+     * are ignored, and not modified.
+     * <p>
+     * The default implementation copies the region in a new {@code byte} array, and calls {@link #hash(byte[])}.
+     *
+     * @param data   the buffer to hash
+     * @param offset the absolute index of the first byte to hash
+     * @param length the number of bytes to hash
+     *
+     * @return a new hash code
+     *
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code data}
+     */
+    @Nonnull
+    default HashCode hash(ByteBuffer data, @Nonnegative int offset, @Nonnegative int length) {
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+
+        ByteBuffer region = data.duplicate();
+        region.clear();
+        region.position(offset).limit(offset + length);
+
+        byte[] bytes = new byte[length];
+        region.get(bytes);
+        return hash(bytes);
+    }
+
+    /**
+     * Creates a new {@link HashSink}, that calculates a {@link HashCode} with this hasher from a sequence of values
+     * without concatenating them first.
+     * <p>
+     * The default implementation accumulates all the values in a buffer, and calls {@link #hash(byte[])} on its
+     * content.
+     *
+     * @return a new sink
+     */
+    @Nonnull
+    default HashSink newSink() {
+        return new BufferedHashSink(ByteOrder.BIG_ENDIAN, false, (data, length) -> hash(Arrays.copyOf(data, length)));
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.util.List;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link ConsistentHashRouter} using the <i>jump consistent hash</i> algorithm, as described by Lamping and Veach in
+ * "A Fast, Minimal Memory, Consistent Hash Algorithm".
+ *
+ * @param <N> the type of nodes
+ */
+@Immutable
+@ParametersAreNonnullByDefault
+final class JumpHashRouter<N> extends AbstractConsistentHashRouter<N> {
+
+    /**
+     * Constructs a new {@code JumpHashRouter}.
+     *
+     * @param hasher the hasher used to hash keys
+     * @param nodes  the nodes of this router, in a stable order
+     */
+    public JumpHashRouter(Hasher hasher, List<? extends N> nodes) {
+        super(hasher, nodes);
+    }
+
+    /**
+     * Maps the given {@code key} to a bucket between {@code 0} (inclusive) and {@code buckets} (exclusive), without
+     * checking the arguments.
+     *
+     * @param key     the key to map
+     * @param buckets the number of buckets
+     *
+     * @return the bucket of the key
+     */
+    @Nonnegative
+    static int bucketOf(long key, @Nonnegative int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    @Override
+    protected int indexOf(long hash) {
+        return bucketOf(hash, nodes.length);
+    }
+}
@@ -10,7 +10,7 @@ package org.atlanmod.commons.hash;
 
 import org.atlanmod.commons.primitive.Longs;
 
-import java.util.Objects;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -64,9 +64,15 @@ final class LongHashCode implements HashCode {
         return Long.toHexString(value);
     }
 
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        HashCodes.putLong(buffer, value);
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        // Same as Objects.hash(value), without boxing
+        return 31 + Long.hashCode(value);
     }
 
     @Override
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A {@link Hasher} producing 64-bit hash codes, that can be retrieved as primitive {@code long}s without allocating any
+ * {@link HashCode}.
+ * <p>
+ * For any value {@code v}, {@code hash(v).toLong() == hashToLong(v)}.
+ */
+@ParametersAreNonnullByDefault
+public interface LongHasher extends Hasher {
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code byte} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(byte data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code boolean} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(boolean data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code char} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(char data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code short} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(short data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code int} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(int data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code long} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(long data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code float} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(float data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the {@code double} to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(double data);
+
+    /**
+     * Calculates the hash code of the given {@code data}, as a {@code long}.
+     *
+     * @param data the string to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(String data);
+
+    /**
+     * Calculates the hash code of the given {@code byte} array, as a {@code long}.
+     *
+     * @param data the {@code byte} array to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(byte[] data);
+
+    /**
+     * Calculates the hash code of a region of the given {@code byte} array, as a {@code long}.
+     *
+     * @param data   the {@code byte} array to hash
+     * @param offset the index of the first byte to hash
+     * @param length the number of bytes to hash
+     *
+     * @return the hash code
+     *
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code data}
+     */
+    long hashToLong(byte[] data, @Nonnegative int offset, @Nonnegative int length);
+
+    /**
+     * Calculates the hash code of the remaining bytes of the given {@code buffer}, as a {@code long}. The position of
+     * the buffer is not modified.
+     *
+     * @param data the buffer to hash
+     *
+     * @return the hash code
+     */
+    long hashToLong(ByteBuffer data);
+
+    /**
+     * Calculates the hash code of a region of the given {@code buffer}, as a {@code long}. The position and the limit of
+     * the buffer are ignored, and not modified.
+     *
+     * @param data   the buffer to hash
+     * @param offset the absolute index of the first byte to hash
+     * @param length the number of bytes to hash
+     *
+     * @return the hash code
+     *
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code data}
+     */
+    long hashToLong(ByteBuffer data, @Nonnegative int offset, @Nonnegative int length);
+
+    @Nonnull
+    @Override
+    default HashCode hash(byte data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(boolean data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(char data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(short data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(int data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(long data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(float data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(double data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(String data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(byte[] data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(ByteBuffer data) {
+        return new LongHashCode(hashToLong(data));
+    }
+
+    @Nonnull
+    @Override
+    default HashCode hash(ByteBuffer data, int offset, int length) {
+        return new LongHashCode(hashToLong(data, offset, length));
+    }
+}
@@ -10,25 +10,39 @@ package org.atlanmod.commons.hash;
 
 import org.atlanmod.commons.Throwables;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
 
 import static org.atlanmod.commons.Guards.checkNotNull;
 
 /**
  * A {@link Hasher} that delegate its calls to a {@link MessageDigest} from the Java API.
+ * <p>
+ * A {@link MessageDigest} is stateful and cannot be shared between threads: each thread uses its own instance, cloned
+ * from a prototype on first use, so that a single {@code NativeHasher} can be safely used by multiple concurrent
+ * threads without any locking.
  */
+@ThreadSafe
 @ParametersAreNonnullByDefault
 final class NativeHasher implements Hasher {
 
     /**
-     * The delegated hash function.
+     * The prototype of the delegated hash function, never used directly.
      */
     @Nonnull
-    private final MessageDigest digest;
+    private final MessageDigest prototype;
+
+    /**
+     * The delegated hash function, local to each thread.
+     */
+    @Nonnull
+    private final ThreadLocal<MessageDigest> digests;
 
     /**
      * Constructs a new {@code NativeHasher}.
@@ -38,7 +52,8 @@ final class NativeHasher implements Hasher {
     public NativeHasher(String algorithm) {
         checkNotNull(algorithm, "algorithm");
 
-        this.digest = create(algorithm);
+        this.prototype = create(algorithm);
+        this.digests = ThreadLocal.withInitial(this::copyPrototype);
     }
 
     /**
@@ -58,11 +73,65 @@ final class NativeHasher implements Hasher {
         }
     }
 
+    /**
+     * Creates a new instance of {@link MessageDigest} from the {@link #prototype}. If the underlying implementation
+     * does not support cloning, a new instance is created from the name of its algorithm.
+     *
+     * @return a new instance
+     */
+    @Nonnull
+    private MessageDigest copyPrototype() {
+        try {
+            return (MessageDigest) prototype.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return create(prototype.getAlgorithm());
+        }
+    }
+
+    /**
+     * Returns the {@link MessageDigest} of the current thread, in its initial state.
+     *
+     * @return the digest
+     */
+    @Nonnull
+    MessageDigest digest() {
+        return digests.get();
+    }
+
     @Nonnull
     @Override
     public HashCode hash(byte[] data) {
-        HashCode h = new BinaryHashCode(digest.digest(data));
-        digest.reset();
-        return h;
+        // MessageDigest#digest(byte[]) resets the digest after completion
+        return HashCodes.fromBytes(digest().digest(data));
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(ByteBuffer data) {
+        MessageDigest digest = digest();
+        digest.update(data.duplicate());
+        return HashCodes.fromBytes(digest.digest());
+    }
+
+    @Nonnull
+    @Override
+    public HashCode hash(ByteBuffer data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+
+        ByteBuffer region = data.duplicate();
+        region.clear();
+        region.position(offset).limit(offset + length);
+
+        MessageDigest digest = digest();
+        digest.update(region);
+        return HashCodes.fromBytes(digest.digest());
+    }
+
+    @Nonnull
+    @Override
+    public HashSink newSink() {
+        // A sink can outlive the current thread: it owns its digest
+        return new DigestHashSink(copyPrototype());
     }
 }
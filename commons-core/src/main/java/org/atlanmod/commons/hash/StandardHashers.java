@@ -48,6 +48,8 @@ public final class StandardHashers {
 
     /**
      * A {@link Hasher} that uses the {@code MurmurHash3 64-bit} algorithm (64 bits).
+     * <p>
+     * This hasher is also a {@link LongHasher}: see {@link #murmur3()}.
      *
      * @see <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp">aappleby/smhasher/../MurmurHash3.cpp</a>
      */
@@ -56,6 +58,8 @@ public final class StandardHashers {
 
     /**
      * A {@link Hasher} that uses the {@code xxHash} algorithm (64 bits).
+     * <p>
+     * This hasher is also a {@link LongHasher}: see {@link #xx()}.
      *
      * @see <a href="https://github.com/Cyan4973/xxHash">Cyan4973/xxHash</a>
      */
@@ -64,6 +68,8 @@ public final class StandardHashers {
 
     /**
      * A {@link Hasher} that uses the {@code CityHash} algorithm (64 bits).
+     * <p>
+     * This hasher is also a {@link LongHasher}: see {@link #city()}.
      *
      * @see <a href="https://github.com/google/cityhash">google/cityhash</a>
      */
@@ -72,6 +78,8 @@ public final class StandardHashers {
 
     /**
      * A {@link Hasher} that uses the {@code FarmHash NA} algorithm (64 bits).
+     * <p>
+     * This hasher is also a {@link LongHasher}: see {@link #farmNa()}.
      *
      * @see <a href="https://github.com/google/farmhash">google/farmhash</a>
      */
@@ -80,6 +88,8 @@ public final class StandardHashers {
 
     /**
      * A {@link Hasher} that uses the {@code FarmHash UO} algorithm (64 bits).
+     * <p>
+     * This hasher is also a {@link LongHasher}: see {@link #farmUo()}.
      *
      * @see <a href="https://github.com/google/farmhash">google/farmhash</a>
      */
@@ -90,6 +100,56 @@ public final class StandardHashers {
         throw Throwables.notInstantiableClass(getClass());
     }
 
+    /**
+     * Returns the {@link #MURMUR3} hasher, as a {@link LongHasher}.
+     *
+     * @return a {@link LongHasher} that uses the {@code MurmurHash3 64-bit} algorithm
+     */
+    @Nonnull
+    public static LongHasher murmur3() {
+        return (LongHasher) MURMUR3;
+    }
+
+    /**
+     * Returns the {@link #XX} hasher, as a {@link LongHasher}.
+     *
+     * @return a {@link LongHasher} that uses the {@code xxHash} algorithm
+     */
+    @Nonnull
+    public static LongHasher xx() {
+        return (LongHasher) XX;
+    }
+
+    /**
+     * Returns the {@link #CITY} hasher, as a {@link LongHasher}.
+     *
+     * @return a {@link LongHasher} that uses the {@code CityHash} algorithm
+     */
+    @Nonnull
+    public static LongHasher city() {
+        return (LongHasher) CITY;
+    }
+
+    /**
+     * Returns the {@link #FARM_NA} hasher, as a {@link LongHasher}.
+     *
+     * @return a {@link LongHasher} that uses the {@code FarmHash NA} algorithm
+     */
+    @Nonnull
+    public static LongHasher farmNa() {
+        return (LongHasher) FARM_NA;
+    }
+
+    /**
+     * Returns the {@link #FARM_UO} hasher, as a {@link LongHasher}.
+     *
+     * @return a {@link LongHasher} that uses the {@code FarmHash UO} algorithm
+     */
+    @Nonnull
+    public static LongHasher farmUo() {
+        return (LongHasher) FARM_UO;
+    }
+
     /**
      * Returns a {@link Hasher} with the specified {@code name}.
      *
@@ -104,7 +164,7 @@ public final class StandardHashers {
         }
         catch (IllegalAccessException | NoSuchFieldException e) {
             final String possibleValues = Arrays.stream(StandardHashers.class.getDeclaredFields())
-                    .filter(f -> f.getType().isAssignableFrom(Hasher.class))
+                    .filter(f -> Hasher.class.isAssignableFrom(f.getType()))
                     .filter(f -> Modifier.isStatic(f.getModifiers()))
                     .map(Field::getName)
                     .collect(Collectors.joining(" | "));
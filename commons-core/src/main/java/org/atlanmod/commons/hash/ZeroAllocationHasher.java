@@ -10,16 +10,29 @@ package org.atlanmod.commons.hash;
 
 import net.openhft.hashing.LongHashFunction;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
- * A {@link Hasher} that delegate its calls to a {@link LongHashFunction}.
+ * A {@link LongHasher} that delegate its calls to a {@link LongHashFunction}.
  *
  * @see <a href="https://github.com/OpenHFT/Zero-Allocation-Hashing">OpenHFT/Zero-Allocation-Hashing</a>.
  */
 @ParametersAreNonnullByDefault
-final class ZeroAllocationHasher implements Hasher {
+final class ZeroAllocationHasher implements LongHasher {
+
+    /**
+     * Whether the {@link LongHashFunction}s can read the buffers that are not backed by an array, such as direct,
+     * memory-mapped or read-only buffers.
+     * <p>
+     * These buffers are read through {@code sun.nio.ch.DirectBuffer}, which is not accessible since Java 16: the first
+     * failure is remembered, and the next buffers are copied on-heap instead.
+     */
+    private static volatile boolean directAccessSupported = true;
 
     /**
      * The delegated hash function.
@@ -36,75 +49,111 @@ final class ZeroAllocationHasher implements Hasher {
         this.delegate = delegate;
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(byte data) {
-        return createHashCode(delegate.hashByte(data));
+    public long hashToLong(byte data) {
+        return delegate.hashByte(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(boolean data) {
-        return createHashCode(delegate.hashBoolean(data));
+    public long hashToLong(boolean data) {
+        return delegate.hashBoolean(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(char data) {
-        return createHashCode(delegate.hashChar(data));
+    public long hashToLong(char data) {
+        return delegate.hashChar(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(short data) {
-        return createHashCode(delegate.hashShort(data));
+    public long hashToLong(short data) {
+        return delegate.hashShort(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(int data) {
-        return createHashCode(delegate.hashInt(data));
+    public long hashToLong(int data) {
+        return delegate.hashInt(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(long data) {
-        return createHashCode(delegate.hashLong(data));
+    public long hashToLong(long data) {
+        return delegate.hashLong(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(float data) {
-        return createHashCode(delegate.hashInt(Float.floatToRawIntBits(data)));
+    public long hashToLong(float data) {
+        return delegate.hashInt(Float.floatToRawIntBits(data));
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(double data) {
-        return createHashCode(delegate.hashLong(Double.doubleToRawLongBits(data)));
+    public long hashToLong(double data) {
+        return delegate.hashLong(Double.doubleToRawLongBits(data));
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(String data) {
-        return createHashCode(delegate.hashChars(data));
+    public long hashToLong(String data) {
+        return delegate.hashChars(data);
     }
 
-    @Nonnull
     @Override
-    public HashCode hash(byte[] data) {
-        return createHashCode(delegate.hashBytes(data));
+    public long hashToLong(byte[] data) {
+        return delegate.hashBytes(data);
+    }
+
+    @Override
+    public long hashToLong(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        return delegate.hashBytes(data, offset, length);
+    }
+
+    @Override
+    public long hashToLong(ByteBuffer data) {
+        return hashToLong(data, data.position(), data.remaining());
+    }
+
+    @Override
+    public long hashToLong(ByteBuffer data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+
+        if (data.hasArray()) {
+            return delegate.hashBytes(data.array(), data.arrayOffset() + offset, length);
+        }
+
+        if (directAccessSupported) {
+            try {
+                return delegate.hashBytes(data, offset, length);
+            }
+            catch (LinkageError e) {
+                // The internals of the JDK are not accessible: copy the buffers from now on
+                directAccessSupported = false;
+            }
+        }
+
+        ByteBuffer region = data.duplicate();
+        region.clear();
+        region.position(offset).limit(offset + length);
+
+        byte[] bytes = new byte[length];
+        region.get(bytes);
+        return delegate.hashBytes(bytes);
     }
 
-    /**
-     * Creates a new {@link HashCode} from a long {@code hashCode}.
-     *
-     * @param hashCode the result of the hash function
-     *
-     * @return a new {@link HashCode} instance
-     */
     @Nonnull
-    private HashCode createHashCode(long hashCode) {
-        return new LongHashCode(hashCode);
+    @Override
+    public HashSink newSink() {
+        // Primitives and chars are encoded as LongHashFunction does: little-endian
+        return new BufferedHashSink(ByteOrder.LITTLE_ENDIAN, true, (data, length) -> new LongHashCode(delegate.hashBytes(data, 0, length))) {
+            @Nonnull
+            @Override
+            public HashSink putFloat(float data) {
+                return putInt(Float.floatToRawIntBits(data));
+            }
+
+            @Nonnull
+            @Override
+            public HashSink putDouble(double data) {
+                return putLong(Double.doubleToRawLongBits(data));
+            }
+        };
     }
 }
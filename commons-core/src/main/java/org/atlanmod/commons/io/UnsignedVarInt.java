@@ -219,4 +219,47 @@ public class UnsignedVarInt extends UnsignedNumber implements Comparable<Unsigne
 
         return UnsignedVarInt.fromLong(value);
     }
+
+    /**
+     * Writes a {@code long} value to a {@code ByteBuffer}, using the same encoding as {@link #toBytes()}, without
+     * creating any intermediate object.
+     * The value is interpreted as an unsigned 64-bits integer, and uses between 1 and 10 bytes.
+     *
+     * @param buffer the buffer to write to.
+     * @param value  the value to write.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has not enough remaining space.
+     * @see #readLong(ByteBuffer)
+     */
+    public static void writeLong(ByteBuffer buffer, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) (0x80 | (remaining & 0x7F)));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads a {@code long} value written by {@link #writeLong(ByteBuffer, long)} from a {@code ByteBuffer}, without
+     * creating any intermediate object.
+     *
+     * @param buffer the buffer to read from.
+     * @return the unsigned 64-bits value.
+     *
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+     * @throws IllegalArgumentException if the value uses more than 10 bytes.
+     */
+    public static long readLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = buffer.get();
+            value |= (current & 0x7FL) << shift;
+
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed variable-length integer");
+    }
 }
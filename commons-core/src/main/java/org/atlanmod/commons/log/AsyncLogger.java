@@ -8,38 +8,44 @@
 
 package org.atlanmod.commons.log;
 
-import org.atlanmod.commons.concurrent.MoreExecutors;
 import org.slf4j.LoggerFactory;
 
-import java.text.MessageFormat;
-import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.function.Function;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import static java.util.Objects.nonNull;
 
 /**
  * A {@link Logger} that asynchronously invokes logging operations, respecting the order of invocation.
+ * <p>
+ * The logging operations are published in a bounded {@link LogRingBuffer}, shared by all the instances, and sent to
+ * the internal logger by a single thread, or stored in a {@link LogJournal} if one is {@linkplain
+ * Log#setJournal(LogJournal) defined}. The behavior of the loggers when the buffer is full is defined by the {@link
+ * OverflowPolicy}.
+ * <p>
+ * The enabled levels are cached as a threshold, so that a disabled logging operation only costs a field read. The
+ * threshold combines the levels enabled by the internal logger and the level {@linkplain Log#setLevel(String, Level)
+ * configured} for this logger, and is {@linkplain #refresh(Level) refreshed} when the configuration changes.
  */
 @ThreadSafe
-@Immutable
 @ParametersAreNonnullByDefault
 class AsyncLogger implements Logger {
 
     /**
-     * The logging concurrent pool.
+     * The buffer of pending logging events.
      * <p>
-     * A single thread pool is used for keeping events order.
+     * A single consumer is used for keeping events order.
      */
     @Nonnull
-    private static final ExecutorService POOL = MoreExecutors.newFixedThreadPool(1);
+    private static final LogRingBuffer BUFFER = LogRingBuffer.fromProperties(AsyncLogger::handle);
+
+    /**
+     * The journal where to store the events, or {@code null} to send them to their internal logger.
+     */
+    @Nullable
+    private static volatile LogJournal journal;
 
     static {
         // Configure the SimpleLogger, if no implementation is defined
@@ -48,63 +54,118 @@ class AsyncLogger implements Logger {
         System.setProperty("org.slf4j.simpleLogger.levelInBrackets", "true");
     }
 
+    /**
+     * The name of this logger.
+     */
+    @Nonnull
+    private final String name;
+
     /**
      * The internal logger.
      */
     @Nonnull
     private final org.slf4j.Logger logger;
 
+    /**
+     * The ordinal of the lowest enabled {@link Level}, or {@code Level.values().length} if no level is enabled.
+     */
+    private volatile int threshold;
+
     /**
      * Constructs a new {@code AsyncLogger} with the given {@code name}.
      *
-     * @param name the name of this logger
+     * @param name  the name of this logger
+     * @param level the level configured for this logger, or {@code null} to only use the levels of the internal logger
      */
-    public AsyncLogger(String name) {
-        this.logger = LoggerFactory.getLogger(name);
+    public AsyncLogger(String name, @Nullable Level level) {
+        this(name, LoggerFactory.getLogger(name), level);
     }
 
-    @Override
-    public void log(Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object... params) {
-        if (!level.isEnabledFor(logger)) {
-            // Don't send the request if the associated level is not enabled
-            return;
-        }
-
-        final Function<String, String> formatFunc = m -> nonNull(params) && params.length > 0
-                ? MessageFormat.format(m, params)
-                : m;
+    /**
+     * Constructs a new {@code AsyncLogger} on top of the given {@code logger}.
+     *
+     * @param name   the name of this logger
+     * @param logger the internal logger
+     * @param level  the level configured for this logger, or {@code null} to only use the levels of the internal
+     *               logger
+     */
+    AsyncLogger(String name, org.slf4j.Logger logger, @Nullable Level level) {
+        this.name = name;
+        this.logger = logger;
+        refresh(level);
+    }
 
-        execute(() -> {
-            try {
-                String formattedMessage = Optional.ofNullable(message)
-                        .map(CharSequence::toString)
-                        .map(formatFunc)
-                        .orElse(null);
+    /**
+     * Defines the journal where to store the events instead of sending them to their internal logger.
+     *
+     * @param journal the journal, or {@code null} to send the events to their internal logger
+     */
+    static void setJournal(@Nullable LogJournal journal) {
+        AsyncLogger.journal = journal;
+    }
 
-                level.logWith(logger, formattedMessage, e);
-            }
-            catch (Exception fe) {
-                Log.error(fe);
+    /**
+     * Handles an event of the {@link #BUFFER}: stores it in the journal if any, or formats it and sends it to its
+     * internal logger.
+     *
+     * @param event     the event to handle
+     * @param formatter the formatter of the message
+     */
+    private static void handle(LogEvent event, MessageFormatter formatter) {
+        LogJournal currentJournal = journal;
+        if (nonNull(currentJournal) && nonNull(event.logger()) && nonNull(event.level())) {
+            String name = event.logger().getName();
+            if (currentJournal.append(event.timestamp(), event.level(), name, event.throwable(), event.message(), event.params())) {
+                return;
             }
-        });
+        }
+
+        // No journal, or the journal is closed or full
+        event.dispatch(formatter);
     }
 
     /**
-     * Executes a {@link Runnable} in a concurrent pool to run asynchronously the logging methods. If the pool rejects
-     * the task, then it is executed synchronously.
+     * Returns the name of this logger.
      *
-     * @param runnable the function to execute
+     * @return the name
+     */
+    @Nonnull
+    String name() {
+        return name;
+    }
+
+    /**
+     * Refreshes the enabled levels of this logger. A level is enabled if it is enabled by the internal logger, and if
+     * it is greater than or equal to the configured {@code level}.
      *
-     * @see ExecutorService#submit(Runnable)
+     * @param level the level configured for this logger, or {@code null} to only use the levels of the internal logger
      */
-    private void execute(Runnable runnable) {
-        try {
-            // Asynchronous call
-            POOL.submit(runnable);
+    void refresh(@Nullable Level level) {
+        Level[] levels = Level.values();
+
+        int lowestEnabled = levels.length;
+        for (Level l : levels) {
+            if (l.isEnabledFor(logger)) {
+                lowestEnabled = l.ordinal();
+                break;
+            }
         }
-        catch (RejectedExecutionException e) {
-            // Synchronous call
-            runnable.run();
+
+        threshold = nonNull(level) ? Math.max(lowestEnabled, level.ordinal()) : lowestEnabled;
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    @Override
+    public void log(Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object... params) {
+        if (level.ordinal() < threshold) {
+            // Don't send the request if the associated level is not enabled
+            return;
         }
+
+        BUFFER.publish(logger, level, e, message, params);
     }
 }
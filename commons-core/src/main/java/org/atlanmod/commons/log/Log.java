@@ -11,16 +11,25 @@ package org.atlanmod.commons.log;
 import org.atlanmod.commons.Lazy;
 import org.atlanmod.commons.Throwables;
 import org.atlanmod.commons.annotation.Static;
-import org.atlanmod.commons.cache.Cache;
-import org.atlanmod.commons.cache.CacheBuilder;
 import org.atlanmod.commons.primitive.Strings;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNullableByDefault;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.atlanmod.commons.Guards.checkNotNull;
 
 /**
@@ -28,6 +37,11 @@ import static org.atlanmod.commons.Guards.checkNotNull;
  * <p>
  * It also provides static methods for logging without declaring a specific instance. In this case, the {@link #root()
  * root logger} is used by default.
+ * <p>
+ * The verbosity of the loggers can be changed at runtime with {@link #setLevel(String, Level)}: the level configured
+ * for a name applies to the logger with this name, and to all its descendants, unless they have their own level. For
+ * instance, the level of {@code "org.atlanmod"} applies to {@code "org.atlanmod.commons"}, and the level of the root
+ * logger ({@code ""}) applies to all loggers.
  */
 @Static
 @ThreadSafe
@@ -35,12 +49,28 @@ import static org.atlanmod.commons.Guards.checkNotNull;
 public final class Log {
 
     /**
-     * In-memory cache that holds loaded {@link Logger}s, identified by their name.
+     * The loaded {@link Logger}s, identified by their name.
+     * <p>
+     * The loggers are weakly referenced: a logger that is no longer used can be garbage collected, and a new instance
+     * is created on the next call to {@link #forName(String)}. The entries of the collected loggers are removed when
+     * another logger is created.
+     */
+    @Nonnull
+    private static final ConcurrentMap<String, LoggerReference> LOGGERS = new ConcurrentHashMap<>();
+
+    /**
+     * The queue where the references of the collected loggers are enqueued.
+     */
+    @Nonnull
+    @GuardedBy("LOGGERS")
+    private static final ReferenceQueue<AsyncLogger> COLLECTED = new ReferenceQueue<>();
+
+    /**
+     * The configured levels, identified by the name of their logger.
      */
     @Nonnull
-    private static final Cache<String, Logger> LOGGERS = CacheBuilder.builder()
-            .softValues()
-            .build(AsyncLogger::new);
+    @GuardedBy("LOGGERS")
+    private static final Map<String, Level> LEVELS = new HashMap<>();
 
     /**
      * The cached root {@link Logger}.
@@ -73,7 +103,193 @@ public final class Log {
      */
     @Nonnull
     public static Logger forName(@Nonnull String name) {
-        return LOGGERS.get(checkNotNull(name, "name"));
+        checkNotNull(name, "name");
+
+        LoggerReference reference = LOGGERS.get(name);
+        Logger logger = nonNull(reference) ? reference.get() : null;
+        if (nonNull(logger)) {
+            return logger;
+        }
+
+        // Created while holding the lock, to not miss a concurrent configuration
+        synchronized (LOGGERS) {
+            expungeCollectedLoggers();
+
+            reference = LOGGERS.get(name);
+            AsyncLogger newLogger = nonNull(reference) ? reference.get() : null;
+            if (isNull(newLogger)) {
+                newLogger = new AsyncLogger(name, effectiveLevel(name));
+                LOGGERS.put(name, new LoggerReference(newLogger, COLLECTED));
+            }
+            return newLogger;
+        }
+    }
+
+    /**
+     * Defines the level of the {@link Logger} with the specified name, and of its descendants that have no level. The
+     * logging operations of a lower level are ignored.
+     * <p>
+     * A level cannot enable the logging operations that are disabled by the underlying logging implementation. The
+     * loaded loggers are refreshed, so that this method also takes into account the changes of the levels of the
+     * underlying implementation.
+     *
+     * @param name  the logger name, or an empty string for the root logger
+     * @param level the level to define, or {@code null} to inherit the level of the parent logger
+     *
+     * @see #getLevel(String)
+     */
+    public static void setLevel(@Nonnull String name, @Nullable Level level) {
+        checkNotNull(name, "name");
+
+        synchronized (LOGGERS) {
+            if (nonNull(level)) {
+                LEVELS.put(name, level);
+            }
+            else {
+                LEVELS.remove(name);
+            }
+
+            for (LoggerReference reference : LOGGERS.values()) {
+                AsyncLogger logger = reference.get();
+                if (nonNull(logger)) {
+                    logger.refresh(effectiveLevel(logger.name()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the level of the {@link Logger} with the specified name, defined for itself or inherited from its nearest
+     * ancestor.
+     *
+     * @param name the logger name, or an empty string for the root logger
+     *
+     * @return the level, or {@code null} if no level is defined for this logger and its ancestors
+     *
+     * @see #setLevel(String, Level)
+     */
+    @Nullable
+    public static Level getLevel(@Nonnull String name) {
+        checkNotNull(name, "name");
+
+        synchronized (LOGGERS) {
+            return effectiveLevel(name);
+        }
+    }
+
+    /**
+     * Defines the journal where the logging events are stored in a binary form, instead of being formatted and sent to
+     * the underlying logging implementation. The events are sent to the underlying implementation again if the journal
+     * is closed, or if it cannot store an event.
+     * <p>
+     * The journal is not closed when it is replaced.
+     *
+     * @param journal the journal, or {@code null} to send the events to the underlying implementation
+     *
+     * @see LogJournalReader
+     */
+    public static void setJournal(@Nullable LogJournal journal) {
+        AsyncLogger.setJournal(journal);
+    }
+
+    /**
+     * Creates a logger that sends at most {@code permitsPerSecond} logging operations per second and per message
+     * template to the specified {@code logger}.
+     * <p>
+     * The suppressed operations are counted, and a summary is periodically sent for each message template.
+     *
+     * @param logger           the logger to limit
+     * @param permitsPerSecond the maximum number of operations per second and per message template
+     *
+     * @return a new logger
+     *
+     * @throws NullPointerException     if {@code logger} is {@code null}
+     * @throws IllegalArgumentException if {@code permitsPerSecond <= 0}
+     */
+    @Nonnull
+    public static Logger rateLimited(@Nonnull Logger logger, int permitsPerSecond) {
+        return new ThrottledLogger(logger, ThrottledLogger.rateLimit(permitsPerSecond, System::nanoTime));
+    }
+
+    /**
+     * Creates a logger that sends 1 logging operation out of {@code rate}, per message template, to the specified
+     * {@code logger}, starting with the first one.
+     * <p>
+     * The suppressed operations are counted, and a summary is periodically sent for each message template.
+     *
+     * @param logger the logger to sample
+     * @param rate   the sampling rate
+     *
+     * @return a new logger
+     *
+     * @throws NullPointerException     if {@code logger} is {@code null}
+     * @throws IllegalArgumentException if {@code rate <= 0}
+     */
+    @Nonnull
+    public static Logger sampled(@Nonnull Logger logger, int rate) {
+        return new ThrottledLogger(logger, ThrottledLogger.sample(rate));
+    }
+
+    /**
+     * Creates a logger that sends the first {@code count} logging operations of each message template to the specified
+     * {@code logger}, and suppresses the others.
+     * <p>
+     * The suppressed operations are counted, and a summary is periodically sent for each message template.
+     *
+     * @param logger the logger to limit
+     * @param count  the number of operations to send per message template
+     *
+     * @return a new logger
+     *
+     * @throws NullPointerException     if {@code logger} is {@code null}
+     * @throws IllegalArgumentException if {@code count <= 0}
+     */
+    @Nonnull
+    public static Logger limited(@Nonnull Logger logger, int count) {
+        return new ThrottledLogger(logger, ThrottledLogger.limit(count));
+    }
+
+    /**
+     * Removes the entries of the loggers that have been garbage collected.
+     */
+    @GuardedBy("LOGGERS")
+    private static void expungeCollectedLoggers() {
+        Reference<? extends AsyncLogger> reference;
+        while (nonNull(reference = COLLECTED.poll())) {
+            LoggerReference loggerReference = (LoggerReference) reference;
+            LOGGERS.remove(loggerReference.name, loggerReference);
+        }
+    }
+
+    /**
+     * Returns the number of loaded loggers, including the collected loggers whose entries have not been removed yet.
+     *
+     * @return the number of entries
+     */
+    static int loadedCount() {
+        return LOGGERS.size();
+    }
+
+    /**
+     * Returns the level defined for the logger with the specified name, or for its nearest ancestor.
+     *
+     * @param name the logger name
+     *
+     * @return the level, or {@code null} if no level is defined for this logger and its ancestors
+     */
+    @Nullable
+    @GuardedBy("LOGGERS")
+    private static Level effectiveLevel(String name) {
+        String current = name;
+        while (true) {
+            Level level = LEVELS.get(current);
+            if (nonNull(level) || current.isEmpty()) {
+                return level;
+            }
+
+            int separator = current.lastIndexOf('.');
+            current = separator == -1 ? Strings.EMPTY : current.substring(0, separator);
+        }
     }
 
     /**
@@ -113,6 +329,64 @@ public final class Log {
         root().trace(message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#TRACE TRACE} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(CharSequence, Object)
+     */
+    public static void trace(CharSequence message, Object param1) {
+        root().trace(message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(CharSequence, Object, Object)
+     */
+    public static void trace(CharSequence message, Object param1, Object param2) {
+        root().trace(message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(CharSequence, Object, Object, Object)
+     */
+    public static void trace(CharSequence message, Object param1, Object param2, Object param3) {
+        root().trace(message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#TRACE TRACE} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(CharSequence, Object, Object, Object, Object)
+     */
+    public static void trace(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().trace(message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#TRACE TRACE} level, using the root
      * logger.
@@ -155,6 +429,72 @@ public final class Log {
         root().trace(e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(Throwable, CharSequence, Object)
+     */
+    public static void trace(Throwable e, CharSequence message, Object param1) {
+        root().trace(e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(Throwable, CharSequence, Object, Object)
+     */
+    public static void trace(Throwable e, CharSequence message, Object param1, Object param2) {
+        root().trace(e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level including the stack trace of the
+     * given {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void trace(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().trace(e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#trace(Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void trace(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().trace(e, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs an object at the {@link Level#DEBUG DEBUG} level, using the root logger.
      *
@@ -192,6 +532,64 @@ public final class Log {
         root().debug(message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#DEBUG DEBUG} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(CharSequence, Object)
+     */
+    public static void debug(CharSequence message, Object param1) {
+        root().debug(message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(CharSequence, Object, Object)
+     */
+    public static void debug(CharSequence message, Object param1, Object param2) {
+        root().debug(message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(CharSequence, Object, Object, Object)
+     */
+    public static void debug(CharSequence message, Object param1, Object param2, Object param3) {
+        root().debug(message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#DEBUG DEBUG} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(CharSequence, Object, Object, Object, Object)
+     */
+    public static void debug(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().debug(message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#DEBUG DEBUG} level, using the root
      * logger.
@@ -234,6 +632,72 @@ public final class Log {
         root().debug(e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(Throwable, CharSequence, Object)
+     */
+    public static void debug(Throwable e, CharSequence message, Object param1) {
+        root().debug(e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(Throwable, CharSequence, Object, Object)
+     */
+    public static void debug(Throwable e, CharSequence message, Object param1, Object param2) {
+        root().debug(e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the
+     * given {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void debug(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().debug(e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#debug(Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void debug(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().debug(e, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs an object at the {@link Level#INFO INFO} level, using the root logger.
      *
@@ -271,6 +735,64 @@ public final class Log {
         root().info(message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#INFO INFO} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(CharSequence, Object)
+     */
+    public static void info(CharSequence message, Object param1) {
+        root().info(message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(CharSequence, Object, Object)
+     */
+    public static void info(CharSequence message, Object param1, Object param2) {
+        root().info(message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(CharSequence, Object, Object, Object)
+     */
+    public static void info(CharSequence message, Object param1, Object param2, Object param3) {
+        root().info(message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#INFO INFO} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(CharSequence, Object, Object, Object, Object)
+     */
+    public static void info(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().info(message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#INFO INFO} level, using the root logger.
      *
@@ -313,14 +835,80 @@ public final class Log {
     }
 
     /**
-     * Logs an object at the {@link Level#WARN WARN} level, using the root logger.
+     * Logs a message with one parameter at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
      *
-     * @param obj the object to log
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
      *
      * @see #root()
-     * @see Logger#warn(Object)
+     * @see Logger#info(Throwable, CharSequence, Object)
      */
-    public static void warn(Object obj) {
+    public static void info(Throwable e, CharSequence message, Object param1) {
+        root().info(e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(Throwable, CharSequence, Object, Object)
+     */
+    public static void info(Throwable e, CharSequence message, Object param1, Object param2) {
+        root().info(e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void info(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().info(e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#info(Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void info(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().info(e, message, param1, param2, param3, param4);
+    }
+
+    /**
+     * Logs an object at the {@link Level#WARN WARN} level, using the root logger.
+     *
+     * @param obj the object to log
+     *
+     * @see #root()
+     * @see Logger#warn(Object)
+     */
+    public static void warn(Object obj) {
         root().warn(obj);
     }
 
@@ -349,6 +937,64 @@ public final class Log {
         root().warn(message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#WARN WARN} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(CharSequence, Object)
+     */
+    public static void warn(CharSequence message, Object param1) {
+        root().warn(message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(CharSequence, Object, Object)
+     */
+    public static void warn(CharSequence message, Object param1, Object param2) {
+        root().warn(message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(CharSequence, Object, Object, Object)
+     */
+    public static void warn(CharSequence message, Object param1, Object param2, Object param3) {
+        root().warn(message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#WARN WARN} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(CharSequence, Object, Object, Object, Object)
+     */
+    public static void warn(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().warn(message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#WARN WARN} level, using the root logger.
      *
@@ -390,6 +1036,72 @@ public final class Log {
         root().warn(e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(Throwable, CharSequence, Object)
+     */
+    public static void warn(Throwable e, CharSequence message, Object param1) {
+        root().warn(e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(Throwable, CharSequence, Object, Object)
+     */
+    public static void warn(Throwable e, CharSequence message, Object param1, Object param2) {
+        root().warn(e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void warn(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().warn(e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#warn(Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void warn(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().warn(e, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs an object at the {@link Level#ERROR ERROR} level, using the root logger.
      *
@@ -427,6 +1139,64 @@ public final class Log {
         root().error(message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#ERROR ERROR} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(CharSequence, Object)
+     */
+    public static void error(CharSequence message, Object param1) {
+        root().error(message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(CharSequence, Object, Object)
+     */
+    public static void error(CharSequence message, Object param1, Object param2) {
+        root().error(message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(CharSequence, Object, Object, Object)
+     */
+    public static void error(CharSequence message, Object param1, Object param2, Object param3) {
+        root().error(message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#ERROR ERROR} level, using the root logger.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(CharSequence, Object, Object, Object, Object)
+     */
+    public static void error(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().error(message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#ERROR ERROR} level, using the root
      * logger.
@@ -469,6 +1239,72 @@ public final class Log {
         root().error(e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(Throwable, CharSequence, Object)
+     */
+    public static void error(Throwable e, CharSequence message, Object param1) {
+        root().error(e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(Throwable, CharSequence, Object, Object)
+     */
+    public static void error(Throwable e, CharSequence message, Object param1, Object param2) {
+        root().error(e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level including the stack trace of the
+     * given {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void error(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().error(e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}, using the root logger.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#error(Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void error(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().error(e, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs an object at the given {@code level}, using the root logger.
      *
@@ -509,6 +1345,68 @@ public final class Log {
         root().log(level, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the given {@code level}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, CharSequence, Object)
+     */
+    public static void log(@Nonnull Level level, CharSequence message, Object param1) {
+        root().log(level, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the given {@code level}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, CharSequence, Object, Object)
+     */
+    public static void log(@Nonnull Level level, CharSequence message, Object param1, Object param2) {
+        root().log(level, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the given {@code level}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, CharSequence, Object, Object, Object)
+     */
+    public static void log(@Nonnull Level level, CharSequence message, Object param1, Object param2, Object param3) {
+        root().log(level, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the given {@code level}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, CharSequence, Object, Object, Object, Object)
+     */
+    public static void log(@Nonnull Level level, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().log(level, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the given {@code level}, using the root logger.
      *
@@ -552,4 +1450,97 @@ public final class Log {
     public static void log(@Nonnull Level level, Throwable e, CharSequence message, Object... params) {
         root().log(level, e, message, params);
     }
+
+    /**
+     * Logs a message with one parameter at the given {@code level} including the stack trace of the given {@link
+     * Throwable}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, Throwable, CharSequence, Object)
+     */
+    public static void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1) {
+        root().log(level, e, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, Throwable, CharSequence, Object, Object)
+     */
+    public static void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2) {
+        root().log(level, e, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, Throwable, CharSequence, Object, Object, Object)
+     */
+    public static void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        root().log(level, e, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}, using the root logger.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     *
+     * @see #root()
+     * @see Logger#log(Level, Throwable, CharSequence, Object, Object, Object, Object)
+     */
+    public static void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        root().log(level, e, message, param1, param2, param3, param4);
+    }
+
+    /**
+     * A weak reference to a loaded {@link Logger}, that keeps its name to remove its entry once collected.
+     */
+    private static final class LoggerReference extends WeakReference<AsyncLogger> {
+
+        /**
+         * The name of the logger.
+         */
+        @Nonnull
+        final String name;
+
+        /**
+         * Constructs a new {@code LoggerReference}.
+         *
+         * @param logger the logger
+         * @param queue  the queue where this reference is enqueued once the logger is collected
+         */
+        LoggerReference(AsyncLogger logger, ReferenceQueue<AsyncLogger> queue) {
+            super(logger, queue);
+            this.name = logger.name();
+        }
+    }
 }
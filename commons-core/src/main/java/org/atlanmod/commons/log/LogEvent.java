@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A mutable logging event, stored in a slot of a {@link LogRingBuffer}.
+ * <p>
+ * The events are preallocated and reused: a producer fills an event with {@link #set(org.slf4j.Logger, Level,
+ * Throwable, CharSequence, Object[])}, the consumer sends it to its logger with {@link #dispatch()}, and then {@link
+ * #clear() clears} it, so that the slot does not retain the arguments of the logging operation.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class LogEvent {
+
+    /**
+     * The logger where to send this event.
+     */
+    @Nullable
+    private org.slf4j.Logger logger;
+
+    /**
+     * The level of this event.
+     */
+    @Nullable
+    private Level level;
+
+    /**
+     * The time of this event, in milliseconds since the epoch.
+     */
+    private long timestamp;
+
+    /**
+     * The exception to log, including its stack trace.
+     */
+    @Nullable
+    private Throwable throwable;
+
+    /**
+     * The message to log.
+     */
+    @Nullable
+    private CharSequence message;
+
+    /**
+     * The parameters of the message.
+     */
+    @Nullable
+    private Object[] params;
+
+    /**
+     * Defines the content of this event, that occurs now.
+     *
+     * @param logger    the logger where to send this event
+     * @param level     the level of this event
+     * @param throwable the exception to log, including its stack trace
+     * @param message   the message to log
+     * @param params    the parameters of the message
+     */
+    void set(org.slf4j.Logger logger, Level level, @Nullable Throwable throwable, @Nullable CharSequence message, @Nullable Object[] params) {
+        this.logger = logger;
+        this.level = level;
+        this.timestamp = System.currentTimeMillis();
+        this.throwable = throwable;
+        this.message = message;
+        this.params = params;
+    }
+
+    /**
+     * Returns the level of this event.
+     *
+     * @return the level, or {@code null} if this event is empty
+     */
+    @Nullable
+    Level level() {
+        return level;
+    }
+
+    /**
+     * Returns the logger where to send this event.
+     *
+     * @return the logger, or {@code null} if this event is empty
+     */
+    @Nullable
+    org.slf4j.Logger logger() {
+        return logger;
+    }
+
+    /**
+     * Returns the time of this event.
+     *
+     * @return the time, in milliseconds since the epoch
+     */
+    long timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the exception of this event.
+     *
+     * @return the exception, or {@code null} if this event has no exception
+     */
+    @Nullable
+    Throwable throwable() {
+        return throwable;
+    }
+
+    /**
+     * Returns the parameters of the message of this event.
+     *
+     * @return the parameters, or {@code null} if this event has no parameter
+     */
+    @Nullable
+    Object[] params() {
+        return params;
+    }
+
+    /**
+     * Returns the message of this event, before formatting.
+     *
+     * @return the message, or {@code null} if this event has no message
+     */
+    @Nullable
+    CharSequence message() {
+        return message;
+    }
+
+    /**
+     * Formats the message of this event and sends it to its logger. Does nothing if this event is empty.
+     *
+     * @param formatter the formatter of the message
+     */
+    void dispatch(MessageFormatter formatter) {
+        if (isNull(logger) || isNull(level)) {
+            return;
+        }
+
+        String formattedMessage = null;
+        if (nonNull(message)) {
+            formattedMessage = nonNull(params) && params.length > 0
+                    ? formatter.format(message, params)
+                    : message.toString();
+        }
+
+        level.logWith(logger, formattedMessage, throwable);
+    }
+
+    /**
+     * Clears the content of this event.
+     */
+    void clear() {
+        this.logger = null;
+        this.level = null;
+        this.timestamp = 0L;
+        this.throwable = null;
+        this.message = null;
+        this.params = null;
+    }
+}
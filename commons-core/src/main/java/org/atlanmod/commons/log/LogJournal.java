@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.io.UnsignedVarInt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkGreaterThanOrEqualTo;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A journal that stores logging events in a compact binary form, in a set of memory-mapped rolling files.
+ * <p>
+ * Each event is stored with its timestamp, its level, the identifier of its logger name, the identifier of its message
+ * template, and its typed parameters; the message is never formatted. The names and templates are defined once per
+ * segment, so that each segment can be decoded on its own by a {@link LogJournalReader}. Variable-length integers are
+ * encoded with {@link UnsignedVarInt#writeLong(ByteBuffer, long)}.
+ * <p>
+ * Appending an event only writes to a mapped memory region: the operating system writes the segments to the disk
+ * asynchronously. When a segment is full, a new segment is created, and the oldest segments are deleted to keep at most
+ * the given number of segments.
+ *
+ * @see Log#setJournal(LogJournal)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+public final class LogJournal implements Closeable {
+
+    /**
+     * The minimum size of a segment, in bytes.
+     */
+    public static final int MINIMUM_SEGMENT_SIZE = 64 * 1024;
+
+    /**
+     * The default size of a segment, in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default maximum number of segments.
+     */
+    public static final int DEFAULT_MAXIMUM_SEGMENTS = 8;
+
+    /**
+     * The extension of the segment files.
+     */
+    static final String EXTENSION = ".alog";
+
+    /**
+     * The prefix of the segment files.
+     */
+    static final String PREFIX = "journal-";
+
+    /**
+     * The magic number that starts a segment: {@code ALOG}.
+     */
+    static final int MAGIC = 0x414C4F47;
+
+    /**
+     * The version of the format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The type of the record that marks the end of a segment; the unused part of a segment is filled with zeros.
+     */
+    static final byte END = 0;
+
+    /**
+     * The type of the record that defines the identifier of a logger name.
+     */
+    static final byte NAME = 1;
+
+    /**
+     * The type of the record that defines the identifier of a message template.
+     */
+    static final byte TEMPLATE = 2;
+
+    /**
+     * The type of the record of a logging event.
+     */
+    static final byte EVENT = 3;
+
+    /**
+     * The type of a {@code null} parameter.
+     */
+    static final byte NULL_ARG = 0;
+
+    /**
+     * The type of a {@link Boolean} parameter.
+     */
+    static final byte BOOLEAN_ARG = 1;
+
+    /**
+     * The type of a {@link Byte}, {@link Short} or {@link Integer} parameter.
+     */
+    static final byte INT_ARG = 2;
+
+    /**
+     * The type of a {@link Long} parameter.
+     */
+    static final byte LONG_ARG = 3;
+
+    /**
+     * The type of a {@link Float} parameter.
+     */
+    static final byte FLOAT_ARG = 4;
+
+    /**
+     * The type of a {@link Double} parameter.
+     */
+    static final byte DOUBLE_ARG = 5;
+
+    /**
+     * The type of a {@link Character} parameter.
+     */
+    static final byte CHAR_ARG = 6;
+
+    /**
+     * The type of any other parameter, stored as its string representation.
+     */
+    static final byte STRING_ARG = 7;
+
+    /**
+     * The size of the header of a segment: the magic number, the version and the base timestamp.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES;
+
+    /**
+     * The maximum number of characters of a stored string.
+     */
+    private static final int MAXIMUM_STRING_LENGTH = 8 * 1024;
+
+    /**
+     * The directory of the segments.
+     */
+    @Nonnull
+    private final Path directory;
+
+    /**
+     * The size of each segment, in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The maximum number of segments.
+     */
+    private final int maximumSegments;
+
+    /**
+     * The existing segments, from the oldest to the newest.
+     */
+    @Nonnull
+    @GuardedBy("this")
+    private final Deque<Path> segments;
+
+    /**
+     * The identifiers of the logger names defined in the current segment.
+     */
+    @Nonnull
+    @GuardedBy("this")
+    private final Map<String, Integer> names = new HashMap<>();
+
+    /**
+     * The identifiers of the message templates defined in the current segment.
+     */
+    @Nonnull
+    @GuardedBy("this")
+    private final Map<String, Integer> templates = new HashMap<>();
+
+    /**
+     * The number of events that could not be stored.
+     */
+    @Nonnull
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * The buffer where the records are encoded before being copied to the current segment.
+     */
+    @Nonnull
+    @GuardedBy("this")
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+    /**
+     * The mapped region of the current segment.
+     */
+    @Nullable
+    @GuardedBy("this")
+    private MappedByteBuffer segment;
+
+    /**
+     * The index of the next segment to create.
+     */
+    @GuardedBy("this")
+    private long nextIndex;
+
+    /**
+     * The timestamp of the last event of the current segment.
+     */
+    @GuardedBy("this")
+    private long lastTimestamp;
+
+    /**
+     * Whether this journal is closed.
+     */
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code LogJournal}.
+     *
+     * @param directory       the directory of the segments
+     * @param segmentSize     the size of each segment, in bytes
+     * @param maximumSegments the maximum number of segments
+     *
+     * @throws IOException if the existing segments cannot be listed
+     */
+    private LogJournal(Path directory, int segmentSize, int maximumSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maximumSegments = maximumSegments;
+        this.segments = new ArrayDeque<>(segmentsIn(directory));
+
+        // Continue after the existing segments
+        this.nextIndex = segments.isEmpty() ? 0 : indexOf(segments.getLast()) + 1;
+    }
+
+    /**
+     * Opens a journal in the {@code directory}, with the default segment size and number of segments.
+     *
+     * @param directory the directory of the segments; created if it does not exist
+     *
+     * @return a new journal
+     *
+     * @throws IOException if the directory cannot be created or listed
+     * @see #open(Path, int, int)
+     */
+    @Nonnull
+    public static LogJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAXIMUM_SEGMENTS);
+    }
+
+    /**
+     * Opens a journal in the {@code directory}. The existing segments are kept, and the new events are stored in new
+     * segments.
+     *
+     * @param directory       the directory of the segments; created if it does not exist
+     * @param segmentSize     the size of each segment, in bytes
+     * @param maximumSegments the maximum number of segments to keep, including the existing segments
+     *
+     * @return a new journal
+     *
+     * @throws IllegalArgumentException if {@code segmentSize < MINIMUM_SEGMENT_SIZE} or {@code maximumSegments < 1}
+     * @throws IOException              if the directory cannot be created or listed
+     */
+    @Nonnull
+    public static LogJournal open(Path directory, @Nonnegative int segmentSize, @Nonnegative int maximumSegments) throws IOException {
+        checkNotNull(directory, "directory");
+        checkGreaterThanOrEqualTo(segmentSize, MINIMUM_SEGMENT_SIZE, "segmentSize (%d) must be greater than or equal to %d", segmentSize, MINIMUM_SEGMENT_SIZE);
+        checkGreaterThan(maximumSegments, 0, "maximumSegments (%d) must be greater than 0", maximumSegments);
+
+        Files.createDirectories(directory);
+        return new LogJournal(directory, segmentSize, maximumSegments);
+    }
+
+    /**
+     * Returns the segments of a journal in the {@code directory}, from the oldest to the newest.
+     *
+     * @param directory the directory of the segments
+     *
+     * @return the segments
+     *
+     * @throws IOException if the directory cannot be listed
+     */
+    @Nonnull
+    static List<Path> segmentsIn(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(LogJournal::isSegment)
+                    .sorted((p1, p2) -> Long.compare(indexOf(p1), indexOf(p2)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@code path} is a segment of a journal.
+     *
+     * @param path the path to test
+     *
+     * @return {@code true} if the {@code path} is a segment
+     */
+    private static boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(PREFIX) && fileName.endsWith(EXTENSION) && indexOf(path) >= 0;
+    }
+
+    /**
+     * Returns the index of a segment.
+     *
+     * @param path the segment
+     *
+     * @return the index, or {@code -1} if the name of the segment is not valid
+     */
+    private static long indexOf(Path path) {
+        String fileName = path.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(PREFIX.length(), fileName.length() - EXTENSION.length()));
+        }
+        catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of events that could not be stored, either because they were too large for a segment, or
+     * because a segment could not be created.
+     *
+     * @return the number of dropped events
+     */
+    @Nonnegative
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Appends an event to this journal.
+     *
+     * @param timestamp the time of the event, in milliseconds since the epoch
+     * @param level     the level of the event
+     * @param name      the name of the logger of the event
+     * @param e         the exception of the event, stored with its stack trace
+     * @param message   the message template of the event
+     * @param params    the parameters of the message
+     *
+     * @return {@code true} if the event has been stored, {@code false} if this journal is closed or if the event could
+     * not be stored
+     */
+    public synchronized boolean append(long timestamp, Level level, String name, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object[] params) {
+        checkNotNull(level, "level");
+        checkNotNull(name, "name");
+
+        if (closed) {
+            return false;
+        }
+
+        try {
+            if (isNull(segment) || !tryAppend(timestamp, level, name, e, message, params)) {
+                roll();
+
+                if (!tryAppend(timestamp, level, name, e, message, params)) {
+                    // The event is larger than an empty segment
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+            }
+            return true;
+        }
+        catch (IOException ioe) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Writes the current segment to the disk, and closes this journal. The next events are not stored.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (nonNull(segment)) {
+            segment.force();
+            segment = null;
+        }
+    }
+
+    /**
+     * Encodes an event, with the definitions of its name and template if needed, and copies it to the current segment
+     * if there is enough space.
+     *
+     * @return {@code true} if the event has been copied
+     */
+    @GuardedBy("this")
+    private boolean tryAppend(long timestamp, Level level, String name, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object[] params) {
+        String template = nonNull(message) ? message.toString() : null;
+
+        while (true) {
+            try {
+                scratch.clear();
+                encode(timestamp, level, name, e, template, params);
+                break;
+            }
+            catch (BufferOverflowException boe) {
+                if (scratch.capacity() >= segmentSize) {
+                    return false;
+                }
+                scratch = ByteBuffer.allocate(Math.min(scratch.capacity() * 2, segmentSize));
+            }
+        }
+
+        // Keep a byte for the end marker
+        if (scratch.position() >= segment.remaining()) {
+            return false;
+        }
+
+        scratch.flip();
+        segment.put(scratch);
+
+        // The definitions are only committed once written
+        names.putIfAbsent(name, names.size() + 1);
+        if (nonNull(template)) {
+            templates.putIfAbsent(template, templates.size() + 1);
+        }
+        lastTimestamp = timestamp;
+        return true;
+    }
+
+    /**
+     * Encodes an event in the {@link #scratch} buffer.
+     *
+     * @throws BufferOverflowException if the buffer is too small
+     */
+    @GuardedBy("this")
+    private void encode(long timestamp, Level level, String name, @Nullable Throwable e, @Nullable String template, @Nullable Object[] params) {
+        Integer nameId = names.get(name);
+        if (isNull(nameId)) {
+            nameId = names.size() + 1;
+            scratch.put(NAME);
+            UnsignedVarInt.writeLong(scratch, nameId);
+            putString(name);
+        }
+
+        int templateId = 0;
+        if (nonNull(template)) {
+            Integer id = templates.get(template);
+            if (isNull(id)) {
+                id = templates.size() + 1;
+                scratch.put(TEMPLATE);
+                UnsignedVarInt.writeLong(scratch, id);
+                putString(template);
+            }
+            templateId = id;
+        }
+
+        scratch.put(EVENT);
+        UnsignedVarInt.writeLong(scratch, zigZag(timestamp - lastTimestamp));
+        scratch.put((byte) level.ordinal());
+        UnsignedVarInt.writeLong(scratch, nameId);
+        UnsignedVarInt.writeLong(scratch, templateId);
+
+        int paramCount = nonNull(params) ? params.length : 0;
+        UnsignedVarInt.writeLong(scratch, paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            putParam(params[i]);
+        }
+
+        if (nonNull(e)) {
+            scratch.put((byte) 1);
+            StringWriter writer = new StringWriter();
+            e.printStackTrace(new PrintWriter(writer));
+            putString(writer.toString());
+        }
+        else {
+            scratch.put((byte) 0);
+        }
+    }
+
+    /**
+     * Encodes a typed parameter in the {@link #scratch} buffer.
+     */
+    @GuardedBy("this")
+    private void putParam(@Nullable Object param) {
+        if (isNull(param)) {
+            scratch.put(NULL_ARG);
+        }
+        else if (param instanceof Integer || param instanceof Short || param instanceof Byte) {
+            scratch.put(INT_ARG);
+            UnsignedVarInt.writeLong(scratch, zigZag(((Number) param).intValue()));
+        }
+        else if (param instanceof Long) {
+            scratch.put(LONG_ARG);
+            UnsignedVarInt.writeLong(scratch, zigZag((Long) param));
+        }
+        else if (param instanceof Double) {
+            scratch.put(DOUBLE_ARG);
+            scratch.putDouble((Double) param);
+        }
+        else if (param instanceof Float) {
+            scratch.put(FLOAT_ARG);
+            scratch.putFloat((Float) param);
+        }
+        else if (param instanceof Boolean) {
+            scratch.put(BOOLEAN_ARG);
+            scratch.put((byte) ((Boolean) param ? 1 : 0));
+        }
+        else if (param instanceof Character) {
+            scratch.put(CHAR_ARG);
+            UnsignedVarInt.writeLong(scratch, (Character) param);
+        }
+        else {
+            scratch.put(STRING_ARG);
+            putString(String.valueOf(param));
+        }
+    }
+
+    /**
+     * Encodes a string in the {@link #scratch} buffer, as its UTF-8 length and bytes. The strings longer than {@link
+     * #MAXIMUM_STRING_LENGTH} are truncated.
+     */
+    @GuardedBy("this")
+    private void putString(String value) {
+        String truncated = value.length() > MAXIMUM_STRING_LENGTH ? value.substring(0, MAXIMUM_STRING_LENGTH) : value;
+        byte[] bytes = truncated.getBytes(StandardCharsets.UTF_8);
+
+        UnsignedVarInt.writeLong(scratch, bytes.length);
+        scratch.put(bytes);
+    }
+
+    /**
+     * Creates and maps a new segment, and deletes the oldest segments.
+     *
+     * @throws IOException if the segment cannot be created
+     */
+    @GuardedBy("this")
+    private void roll() throws IOException {
+        segment = null;
+        names.clear();
+        templates.clear();
+
+        Path path = directory.resolve(String.format("%s%06d%s", PREFIX, nextIndex++, EXTENSION));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segments.addLast(path);
+
+        lastTimestamp = System.currentTimeMillis();
+        segment.putInt(MAGIC);
+        segment.put(VERSION);
+        segment.putLong(lastTimestamp);
+
+        while (segments.size() > maximumSegments) {
+            try {
+                Files.deleteIfExists(segments.removeFirst());
+            }
+            catch (IOException ignored) {
+                // Don't log from the journal, the event could be appended to it
+            }
+        }
+    }
+
+    /**
+     * Encodes a signed value, so that the values close to zero use few bytes.
+     *
+     * @param value the value to encode
+     *
+     * @return the encoded value
+     */
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Decodes a value encoded by {@link #zigZag(long)}.
+     *
+     * @param value the value to decode
+     *
+     * @return the decoded value
+     */
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.Throwables;
+import org.atlanmod.commons.annotation.Static;
+import org.atlanmod.commons.io.UnsignedVarInt;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A tool that decodes the segments of a {@link LogJournal}, and renders their events as text.
+ * <p>
+ * Each event is rendered on a line with its timestamp, its level, its logger name and its formatted message, followed
+ * by the stack trace of its exception, if any. The tool can be run from the command line with the path of a segment or
+ * of a journal directory as argument, and prints the events on the standard output.
+ */
+@Static
+@ParametersAreNonnullByDefault
+public final class LogJournalReader {
+
+    private LogJournalReader() {
+        throw Throwables.notInstantiableClass(getClass());
+    }
+
+    /**
+     * Decodes a segment, or all the segments of a journal directory, and prints their events on the standard output.
+     *
+     * @param args the path of a segment or of a journal directory
+     *
+     * @throws IOException if the segments cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: " + LogJournalReader.class.getName() + " <segment or journal directory>");
+            System.exit(1);
+        }
+
+        decode(Paths.get(args[0]), System.out);
+        System.out.flush();
+    }
+
+    /**
+     * Decodes a segment, or all the segments of a journal directory from the oldest to the newest, and renders their
+     * events to the {@code out}put.
+     *
+     * @param path the path of a segment or of a journal directory
+     * @param out  the output where to render the events
+     *
+     * @throws IOException if the segments cannot be read, or if a file is not a segment
+     */
+    public static void decode(Path path, Appendable out) throws IOException {
+        checkNotNull(path, "path");
+        checkNotNull(out, "out");
+
+        List<Path> segments = Files.isDirectory(path)
+                ? LogJournal.segmentsIn(path)
+                : Collections.singletonList(path);
+
+        for (Path segment : segments) {
+            decodeSegment(segment, out);
+        }
+    }
+
+    /**
+     * Decodes a segment, and renders its events to the {@code out}put. The decoding stops at the end marker, or at the
+     * first truncated record.
+     *
+     * @param path the path of the segment
+     * @param out  the output where to render the events
+     *
+     * @throws IOException if the segment cannot be read, or if the file is not a segment
+     */
+    private static void decodeSegment(Path path, Appendable out) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < LogJournal.HEADER_SIZE || buffer.getInt() != LogJournal.MAGIC) {
+            throw new IOException(String.format("%s is not a journal segment", path));
+        }
+
+        byte version = buffer.get();
+        if (version != LogJournal.VERSION) {
+            throw new IOException(String.format("unsupported version of %s: %d", path, version));
+        }
+
+        long timestamp = buffer.getLong();
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, String> templates = new HashMap<>();
+        StringBuilder builder = new StringBuilder();
+
+        try {
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+
+                if (type == LogJournal.NAME) {
+                    names.put(UnsignedVarInt.readLong(buffer), getString(buffer));
+                }
+                else if (type == LogJournal.TEMPLATE) {
+                    templates.put(UnsignedVarInt.readLong(buffer), getString(buffer));
+                }
+                else if (type == LogJournal.EVENT) {
+                    timestamp += LogJournal.unZigZag(UnsignedVarInt.readLong(buffer));
+                    Level level = Level.values()[buffer.get()];
+                    String name = names.get(UnsignedVarInt.readLong(buffer));
+                    String template = templates.get(UnsignedVarInt.readLong(buffer));
+
+                    // Each parameter uses at least one byte
+                    long paramCount = UnsignedVarInt.readLong(buffer);
+                    if (paramCount < 0 || paramCount > buffer.remaining()) {
+                        throw new BufferUnderflowException();
+                    }
+
+                    Object[] params = new Object[(int) paramCount];
+                    for (int i = 0; i < params.length; i++) {
+                        params[i] = getParam(buffer);
+                    }
+
+                    String stackTrace = buffer.get() != 0 ? getString(buffer) : null;
+
+                    builder.setLength(0);
+                    render(builder, timestamp, level, name, template, params, stackTrace);
+                    out.append(builder);
+                }
+                else {
+                    // The end marker, or the unused part of the segment
+                    break;
+                }
+            }
+        }
+        catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            // The last record has not been completely written
+        }
+    }
+
+    /**
+     * Renders an event.
+     *
+     * @param builder    the builder where to render the event
+     * @param timestamp  the time of the event, in milliseconds since the epoch
+     * @param level      the level of the event
+     * @param name       the name of the logger of the event
+     * @param template   the message template of the event
+     * @param params     the parameters of the message
+     * @param stackTrace the stack trace of the exception of the event
+     */
+    private static void render(StringBuilder builder, long timestamp, Level level, @Nullable String name, @Nullable String template, Object[] params, @Nullable String stackTrace) {
+        builder.append(Instant.ofEpochMilli(timestamp))
+                .append(" [").append(level).append("] ")
+                .append(isNull(name) || name.isEmpty() ? "root" : name);
+
+        if (nonNull(template)) {
+            builder.append(" - ");
+            try {
+                builder.append(params.length > 0 ? MessageFormat.format(template, params) : template);
+            }
+            catch (IllegalArgumentException e) {
+                // Not a valid pattern: render it as is
+                builder.append(template);
+            }
+        }
+        builder.append(System.lineSeparator());
+
+        if (nonNull(stackTrace)) {
+            builder.append(stackTrace);
+        }
+    }
+
+    /**
+     * Decodes a typed parameter.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the parameter
+     *
+     * @throws IllegalArgumentException if the type of the parameter is unknown
+     */
+    @Nullable
+    private static Object getParam(ByteBuffer buffer) {
+        byte type = buffer.get();
+        switch (type) {
+            case LogJournal.NULL_ARG:
+                return null;
+            case LogJournal.BOOLEAN_ARG:
+                return buffer.get() != 0;
+            case LogJournal.INT_ARG:
+                return (int) LogJournal.unZigZag(UnsignedVarInt.readLong(buffer));
+            case LogJournal.LONG_ARG:
+                return LogJournal.unZigZag(UnsignedVarInt.readLong(buffer));
+            case LogJournal.FLOAT_ARG:
+                return buffer.getFloat();
+            case LogJournal.DOUBLE_ARG:
+                return buffer.getDouble();
+            case LogJournal.CHAR_ARG:
+                return (char) UnsignedVarInt.readLong(buffer);
+            case LogJournal.STRING_ARG:
+                return getString(buffer);
+            default:
+                throw new IllegalArgumentException(String.format("unknown parameter type: %d", type));
+        }
+    }
+
+    /**
+     * Decodes a string.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the string
+     */
+    @Nonnull
+    private static String getString(ByteBuffer buffer) {
+        long length = UnsignedVarInt.readLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[(int) length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
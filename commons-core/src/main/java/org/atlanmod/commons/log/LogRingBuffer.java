@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.concurrent.MoreThreads;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A bounded multi-producer single-consumer ring buffer of {@link LogEvent}s, drained by a dedicated daemon thread.
+ * <p>
+ * All the events are preallocated and reused, so that publishing an event does not allocate any object. A producer
+ * claims a slot with a single CAS on the tail of the buffer, fills the event of this slot, and then publishes it by
+ * updating the sequence of the slot. The consumer drains all the published events in batches, in the order of their
+ * claim, and only parks when the buffer is empty.
+ * <p>
+ * When the buffer is full, the events are handled according to the {@link OverflowPolicy} of the buffer. The events
+ * published by the consumer thread itself are handled synchronously. Once the buffer has been {@linkplain #close(long,
+ * TimeUnit) closed}, the consumer drains the pending events and terminates: the next events are handled synchronously,
+ * after the pending ones.
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class LogRingBuffer {
+
+    /**
+     * The name of the system property that defines the capacity of the buffer.
+     */
+    static final String CAPACITY_PROPERTY = "org.atlanmod.commons.log.bufferSize";
+
+    /**
+     * The default capacity of the buffer.
+     */
+    static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * The maximum capacity of the buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The number of times the consumer checks for new events before parking.
+     */
+    private static final int SPIN_TRIES = 128;
+
+    /**
+     * The maximum time the consumer parks while the buffer is empty, in nanoseconds.
+     */
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The time a blocked producer parks before trying to claim a slot again, in nanoseconds.
+     */
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    /**
+     * The bit set on the tail when the consumer terminates, so that no slot can be claimed afterwards.
+     */
+    private static final long TERMINATED = Long.MIN_VALUE;
+
+    /**
+     * The preallocated events.
+     */
+    @Nonnull
+    private final LogEvent[] events;
+
+    /**
+     * The sequence of each slot: a slot at {@code position} can be claimed when its sequence is equal to {@code
+     * position}, and consumed when its sequence is equal to {@code position + 1}.
+     */
+    @Nonnull
+    private final AtomicLongArray sequences;
+
+    /**
+     * The mask used to compute the index of a slot from a position.
+     */
+    private final int mask;
+
+    /**
+     * The behavior of this buffer when it is full.
+     */
+    @Nonnull
+    private final OverflowPolicy policy;
+
+    /**
+     * The function that handles the events, with the formatter of the calling thread.
+     */
+    @Nonnull
+    private final BiConsumer<LogEvent, MessageFormatter> handler;
+
+    /**
+     * The formatter of the messages, only used by the consumer.
+     */
+    @Nonnull
+    private final MessageFormatter formatter = new MessageFormatter();
+
+    /**
+     * The position of the next slot to claim, with the {@link #TERMINATED} bit once the consumer has terminated.
+     */
+    @Nonnull
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The number of events discarded since the last report.
+     */
+    @Nonnull
+    private final AtomicLong discarded = new AtomicLong();
+
+    /**
+     * The thread that drains this buffer.
+     */
+    @Nonnull
+    private final Thread consumer;
+
+    /**
+     * The position of the next slot to consume. Only written by the consumer.
+     */
+    private volatile long head;
+
+    /**
+     * Whether the consumer is parked, or about to park.
+     */
+    private volatile boolean waiting;
+
+    /**
+     * Whether this buffer is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The time until which the events published after closing wait for the consumer to terminate, in nanoseconds.
+     */
+    private volatile long closeDeadline;
+
+    /**
+     * Constructs a new {@code LogRingBuffer}, and starts its consumer.
+     *
+     * @param capacity the minimum number of pending events; rounded up to the next power of two
+     * @param policy   the behavior of this buffer when it is full
+     * @param handler  the function that handles the events, with the formatter of the calling thread
+     *
+     * @throws IllegalArgumentException if {@code capacity < 2}
+     */
+    LogRingBuffer(@Nonnegative int capacity, OverflowPolicy policy, BiConsumer<LogEvent, MessageFormatter> handler) {
+        checkGreaterThan(capacity, 1, "capacity (%d) must be greater than 1", capacity);
+        checkNotNull(policy, "policy");
+        checkNotNull(handler, "handler");
+
+        int size = capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.events = new LogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            events[i] = new LogEvent();
+            sequences.set(i, i);
+        }
+
+        this.mask = size - 1;
+        this.policy = policy;
+        this.handler = handler;
+
+        this.consumer = MoreThreads.newThreadFactory("log").newThread(this::run);
+        this.consumer.start();
+    }
+
+    /**
+     * Creates a new {@code LogRingBuffer} configured by the system properties, and that will be drained when the
+     * application will exit.
+     *
+     * @param handler the function that handles the events, with the formatter of the calling thread
+     *
+     * @return a new buffer
+     *
+     * @see #CAPACITY_PROPERTY
+     * @see OverflowPolicy#PROPERTY
+     */
+    @Nonnull
+    static LogRingBuffer fromProperties(BiConsumer<LogEvent, MessageFormatter> handler) {
+        int capacity = Math.max(2, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+        OverflowPolicy policy;
+        try {
+            policy = OverflowPolicy.valueOf(System.getProperty(OverflowPolicy.PROPERTY, OverflowPolicy.BLOCK.name()).trim());
+        }
+        catch (IllegalArgumentException e) {
+            policy = OverflowPolicy.BLOCK;
+        }
+
+        LogRingBuffer buffer = new LogRingBuffer(capacity, policy, handler);
+        MoreThreads.executeAtExit(() -> buffer.close(1, TimeUnit.SECONDS));
+        return buffer;
+    }
+
+    /**
+     * Returns the number of events this buffer can hold.
+     *
+     * @return the capacity
+     */
+    @Nonnegative
+    int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Publishes a new event, or handles it according to the overflow policy if this buffer is full.
+     *
+     * @param logger  the logger where to send the event
+     * @param level   the level of the event
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log
+     * @param params  the parameters of the message
+     */
+    void publish(org.slf4j.Logger logger, Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object[] params) {
+        if (Thread.currentThread() == consumer) {
+            handleNow(logger, level, e, message, params);
+            return;
+        }
+
+        if (closed) {
+            // The pending events must be handled first
+            awaitTermination();
+            handleNow(logger, level, e, message, params);
+            return;
+        }
+
+        long position;
+        while ((position = claim()) < 0) {
+            if (position == TERMINATED) {
+                // The buffer has been closed and drained since the previous check
+                handleNow(logger, level, e, message, params);
+                return;
+            }
+
+            wakeUpConsumer();
+
+            if (policy == OverflowPolicy.BLOCK && consumer.isAlive()) {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+            else if (policy == OverflowPolicy.DISCARD_LOWEST_LEVELS && level.compareTo(Level.WARN) < 0) {
+                discarded.incrementAndGet();
+                return;
+            }
+            else {
+                handleNow(logger, level, e, message, params);
+                return;
+            }
+        }
+
+        int index = index(position);
+        events[index].set(logger, level, e, message, params);
+        sequences.set(index, position + 1);
+
+        if (waiting) {
+            wakeUpConsumer();
+        }
+    }
+
+    /**
+     * Waits until all the events published before this call have been handled.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     *
+     * @return {@code true} if the events have been handled, {@code false} if the timeout elapsed before
+     */
+    boolean flush(long timeout, TimeUnit unit) {
+        long target = tail.get() & ~TERMINATED;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (head < target) {
+            if (System.nanoTime() - deadline >= 0 || !consumer.isAlive()) {
+                return false;
+            }
+
+            wakeUpConsumer();
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Closes this buffer: the pending events are handled by the consumer, and the next events will be handled
+     * synchronously, once the pending events have been handled or the timeout has elapsed.
+     *
+     * @param timeout the maximum time to wait for the pending events
+     * @param unit    the time unit of the timeout argument
+     */
+    void close(long timeout, TimeUnit unit) {
+        closeDeadline = System.nanoTime() + unit.toNanos(timeout);
+        closed = true;
+        wakeUpConsumer();
+
+        try {
+            consumer.join(Math.max(1L, unit.toMillis(timeout)));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the consumer has terminated, or until the timeout of {@link #close(long, TimeUnit)} has elapsed.
+     */
+    private void awaitTermination() {
+        while (tail.get() >= 0 && consumer.isAlive() && System.nanoTime() - closeDeadline < 0) {
+            wakeUpConsumer();
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Claims the next slot of this buffer.
+     *
+     * @return the position of the claimed slot, {@code -1} if this buffer is full, or {@link #TERMINATED} if the
+     * consumer has terminated
+     */
+    private long claim() {
+        while (true) {
+            long position = tail.get();
+            if (position < 0) {
+                return TERMINATED;
+            }
+
+            long difference = sequences.get(index(position)) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            }
+            else if (difference < 0) {
+                return -1;
+            }
+            // Otherwise, the slot has been claimed by another producer in the meantime
+        }
+    }
+
+    /**
+     * Drains this buffer until it is closed and empty.
+     */
+    private void run() {
+        while (true) {
+            if (drain() > 0) {
+                reportDiscarded();
+            }
+            else if (closed) {
+                // Terminate atomically with the claims, so that an event claimed concurrently is not lost
+                long position = head;
+                if (tail.compareAndSet(position, position | TERMINATED)) {
+                    reportDiscarded();
+                    return;
+                }
+                // An event has been claimed, but not published yet
+                Thread.onSpinWait();
+            }
+            else {
+                idle();
+            }
+        }
+    }
+
+    /**
+     * Handles all the published events, in a single batch.
+     *
+     * @return the number of handled events
+     */
+    private int drain() {
+        long position = head;
+        int count = 0;
+
+        while (count < events.length) {
+            int index = index(position);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+
+            LogEvent event = events[index];
+            try {
+                handler.accept(event, formatter);
+            }
+            catch (Exception e) {
+                Log.error(e);
+            }
+            finally {
+                event.clear();
+            }
+
+            sequences.lazySet(index, position + events.length);
+            position++;
+            count++;
+        }
+
+        if (count > 0) {
+            head = position;
+        }
+        return count;
+    }
+
+    /**
+     * Waits for new events: spins for a short time, then parks until a producer wakes up the consumer.
+     */
+    private void idle() {
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            if (isAvailable() || closed) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+
+        waiting = true;
+        try {
+            // Check again, to not miss an event published before the flag was visible
+            if (!isAvailable() && !closed) {
+                LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+            }
+        }
+        finally {
+            waiting = false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the next event to consume has been published.
+     *
+     * @return {@code true} if an event is available
+     */
+    private boolean isAvailable() {
+        long position = head;
+        return sequences.get(index(position)) == position + 1;
+    }
+
+    /**
+     * Reports the number of events discarded since the last report, if any.
+     */
+    private void reportDiscarded() {
+        long count = discarded.getAndSet(0);
+        if (count > 0) {
+            handleNow(LoggerFactory.getLogger(LogRingBuffer.class), Level.WARN, null, "{0} log event(s) discarded because the buffer was full", new Object[]{count});
+        }
+    }
+
+    /**
+     * Handles an event synchronously, in the calling thread.
+     *
+     * @param logger  the logger where to send the event
+     * @param level   the level of the event
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log
+     * @param params  the parameters of the message
+     */
+    private void handleNow(org.slf4j.Logger logger, Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object[] params) {
+        LogEvent event = new LogEvent();
+        event.set(logger, level, e, message, params);
+
+        try {
+            // The formatter of the consumer is not thread-safe
+            handler.accept(event, Thread.currentThread() == consumer ? formatter : new MessageFormatter());
+        }
+        catch (Exception fe) {
+            // Don't report the failures of the consumer itself, that would be handled synchronously again
+            if (Thread.currentThread() != consumer) {
+                Log.error(fe);
+            }
+        }
+    }
+
+    /**
+     * Unparks the consumer.
+     */
+    private void wakeUpConsumer() {
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Returns the index of the slot at the given {@code position}.
+     *
+     * @param position the position of the slot
+     *
+     * @return the index of the slot
+     */
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
@@ -21,6 +21,10 @@ import javax.annotation.concurrent.ThreadSafe;
  * <p>
  * Implementations of this interface are expected to be thread-safe, and can be safely accessed by multiple concurrent
  * threads.
+ * <p>
+ * The messages with up to four parameters are logged by fixed-arity methods, that do not allocate any array if the
+ * level is disabled. An exception given as a {@code null} literal must be cast, as in {@code trace((Throwable) null,
+ * "{0}", value)}, to not be ambiguous with the methods without exception.
  */
 @FunctionalInterface
 @ThreadSafe
@@ -83,6 +87,56 @@ public interface Logger {
         trace(NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#TRACE TRACE} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void trace(CharSequence message, Object param1) {
+        trace(NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void trace(CharSequence message, Object param1, Object param2) {
+        trace(NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void trace(CharSequence message, Object param1, Object param2, Object param3) {
+        trace(NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#TRACE TRACE} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void trace(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        trace(NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#TRACE TRACE} level.
      *
@@ -114,6 +168,72 @@ public interface Logger {
         log(Level.TRACE, e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void trace(Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(Level.TRACE)) {
+            trace(e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void trace(Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(Level.TRACE)) {
+            trace(e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level including the stack trace of the
+     * given {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void trace(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(Level.TRACE)) {
+            trace(e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#TRACE TRACE} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void trace(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Level.TRACE)) {
+            trace(e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
     /**
      * Logs an object at the {@link Level#DEBUG DEBUG} level.
      *
@@ -142,6 +262,56 @@ public interface Logger {
         debug(NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#DEBUG DEBUG} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void debug(CharSequence message, Object param1) {
+        debug(NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void debug(CharSequence message, Object param1, Object param2) {
+        debug(NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void debug(CharSequence message, Object param1, Object param2, Object param3) {
+        debug(NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#DEBUG DEBUG} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void debug(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        debug(NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#DEBUG DEBUG} level.
      *
@@ -173,6 +343,72 @@ public interface Logger {
         log(Level.DEBUG, e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void debug(Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void debug(Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the
+     * given {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void debug(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#DEBUG DEBUG} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void debug(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
     /**
      * Logs an object at the {@link Level#INFO INFO} level.
      *
@@ -201,6 +437,56 @@ public interface Logger {
         info(NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#INFO INFO} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void info(CharSequence message, Object param1) {
+        info(NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void info(CharSequence message, Object param1, Object param2) {
+        info(NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void info(CharSequence message, Object param1, Object param2, Object param3) {
+        info(NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#INFO INFO} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void info(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        info(NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#INFO INFO} level.
      *
@@ -232,6 +518,72 @@ public interface Logger {
         log(Level.INFO, e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void info(Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(Level.INFO)) {
+            info(e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void info(Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(Level.INFO)) {
+            info(e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void info(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(Level.INFO)) {
+            info(e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#INFO INFO} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void info(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Level.INFO)) {
+            info(e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
     /**
      * Logs an object at the {@link Level#WARN WARN} level.
      *
@@ -260,6 +612,56 @@ public interface Logger {
         warn(NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#WARN WARN} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void warn(CharSequence message, Object param1) {
+        warn(NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void warn(CharSequence message, Object param1, Object param2) {
+        warn(NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void warn(CharSequence message, Object param1, Object param2, Object param3) {
+        warn(NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#WARN WARN} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void warn(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        warn(NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#WARN WARN} level.
      *
@@ -291,6 +693,72 @@ public interface Logger {
         log(Level.WARN, e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void warn(Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(Level.WARN)) {
+            warn(e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void warn(Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(Level.WARN)) {
+            warn(e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void warn(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(Level.WARN)) {
+            warn(e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#WARN WARN} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void warn(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Level.WARN)) {
+            warn(e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
     /**
      * Logs an object at the {@link Level#ERROR ERROR} level.
      *
@@ -319,6 +787,56 @@ public interface Logger {
         error(NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#ERROR ERROR} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void error(CharSequence message, Object param1) {
+        error(NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void error(CharSequence message, Object param1, Object param2) {
+        error(NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void error(CharSequence message, Object param1, Object param2, Object param3) {
+        error(NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#ERROR ERROR} level.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void error(CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        error(NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the {@link Level#ERROR ERROR} level.
      *
@@ -350,6 +868,72 @@ public interface Logger {
         log(Level.ERROR, e, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void error(Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(Level.ERROR)) {
+            error(e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void error(Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(Level.ERROR)) {
+            error(e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level including the stack trace of the
+     * given {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void error(Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(Level.ERROR)) {
+            error(e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the {@link Level#ERROR ERROR} level including the stack trace of the given
+     * {@link Throwable}.
+     * The parameters are only captured if this level is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void error(Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(Level.ERROR)) {
+            error(e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
     /**
      * Logs an object at the given {@code level}.
      *
@@ -381,6 +965,60 @@ public interface Logger {
         log(level, NO_EXCEPTION, message, params);
     }
 
+    /**
+     * Logs a message with one parameter at the given {@code level}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void log(@Nonnull Level level, CharSequence message, Object param1) {
+        log(level, NO_EXCEPTION, message, param1);
+    }
+
+    /**
+     * Logs a message with two parameters at the given {@code level}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void log(@Nonnull Level level, CharSequence message, Object param1, Object param2) {
+        log(level, NO_EXCEPTION, message, param1, param2);
+    }
+
+    /**
+     * Logs a message with three parameters at the given {@code level}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void log(@Nonnull Level level, CharSequence message, Object param1, Object param2, Object param3) {
+        log(level, NO_EXCEPTION, message, param1, param2, param3);
+    }
+
+    /**
+     * Logs a message with four parameters at the given {@code level}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void log(@Nonnull Level level, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        log(level, NO_EXCEPTION, message, param1, param2, param3, param4);
+    }
+
     /**
      * Logs the stack trace of the given {@link Throwable} at the given {@code level}.
      *
@@ -402,6 +1040,90 @@ public interface Logger {
         log(level, e, message, NO_PARAMS);
     }
 
+    /**
+     * Logs a message with one parameter at the given {@code level} including the stack trace of the given {@link
+     * Throwable}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     */
+    default void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1) {
+        if (isEnabled(level)) {
+            log(level, e, message, new Object[]{param1});
+        }
+    }
+
+    /**
+     * Logs a message with two parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     */
+    default void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2) {
+        if (isEnabled(level)) {
+            log(level, e, message, new Object[]{param1, param2});
+        }
+    }
+
+    /**
+     * Logs a message with three parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     */
+    default void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2, Object param3) {
+        if (isEnabled(level)) {
+            log(level, e, message, new Object[]{param1, param2, param3});
+        }
+    }
+
+    /**
+     * Logs a message with four parameters at the given {@code level} including the stack trace of the given {@link
+     * Throwable}.
+     * The parameters are only captured if the {@code level} is {@linkplain #isEnabled(Level) enabled}.
+     *
+     * @param level   the logging level
+     * @param e       the exception to log, including its stack trace
+     * @param message the message to log; the format depends on the {@link MessageFormat}
+     * @param param1  the first parameter to the message
+     * @param param2  the second parameter to the message
+     * @param param3  the third parameter to the message
+     * @param param4  the fourth parameter to the message
+     */
+    default void log(@Nonnull Level level, Throwable e, CharSequence message, Object param1, Object param2, Object param3, Object param4) {
+        if (isEnabled(level)) {
+            log(level, e, message, new Object[]{param1, param2, param3, param4});
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given {@code level} is enabled for this logger. The logging operations of a disabled
+     * level are ignored.
+     * <p>
+     * The default implementation considers that all the levels are enabled.
+     *
+     * @param level the logging level
+     *
+     * @return {@code true} if the {@code level} is enabled
+     */
+    default boolean isEnabled(@Nonnull Level level) {
+        return true;
+    }
+
     /**
      * Logs a message with parameters at the given {@code level} including the stack trace of the given {@link
      * Throwable}.
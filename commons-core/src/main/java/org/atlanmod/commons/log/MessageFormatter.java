@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static java.util.Objects.isNull;
+
+/**
+ * An object that formats the messages of the {@link LogEvent}s, as {@link MessageFormat#format(String, Object...)}
+ * would do.
+ * <p>
+ * The message templates are compiled once and cached, and the messages are built in a reused {@link StringBuilder}.
+ * The templates that only contain simple arguments, such as {@code {0}}, are formatted without {@link MessageFormat};
+ * the other templates are delegated to a cached {@link MessageFormat}.
+ * <p>
+ * A formatter is not thread-safe: it is intended to be used by the consumer of a {@link LogRingBuffer}.
+ */
+@NotThreadSafe
+@ParametersAreNonnullByDefault
+final class MessageFormatter {
+
+    /**
+     * The maximum number of compiled templates kept in the cache.
+     */
+    private static final int MAXIMUM_TEMPLATES = 512;
+
+    /**
+     * The maximum capacity of the builder kept between two messages, to not retain the memory of a huge message.
+     */
+    private static final int MAXIMUM_BUILDER_CAPACITY = 8192;
+
+    /**
+     * The compiled templates, identified by their pattern, in access order.
+     */
+    @Nonnull
+    private final Map<String, Template> templates = new LinkedHashMap<String, Template>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+            return size() > MAXIMUM_TEMPLATES;
+        }
+    };
+
+    /**
+     * The locale used to format the arguments.
+     */
+    @Nonnull
+    private final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+
+    /**
+     * The builder of the messages.
+     */
+    @Nonnull
+    private StringBuilder builder = new StringBuilder(256);
+
+    /**
+     * The format of the numeric arguments, created when needed.
+     */
+    @Nullable
+    private NumberFormat numberFormat;
+
+    /**
+     * The format of the date arguments, created when needed.
+     */
+    @Nullable
+    private DateFormat dateFormat;
+
+    /**
+     * Formats the {@code message} with the given {@code params}.
+     *
+     * @param message the message to format; the format depends on the {@link MessageFormat}
+     * @param params  the parameters of the message
+     *
+     * @return the formatted message
+     *
+     * @throws IllegalArgumentException if the {@code message} is not a valid pattern
+     */
+    @Nonnull
+    public String format(CharSequence message, Object[] params) {
+        String pattern = message.toString();
+
+        Template template = templates.get(pattern);
+        if (isNull(template)) {
+            template = compile(pattern);
+            templates.put(pattern, template);
+        }
+
+        if (builder.capacity() > MAXIMUM_BUILDER_CAPACITY) {
+            builder = new StringBuilder(256);
+        }
+        builder.setLength(0);
+
+        template.appendTo(builder, params);
+        return builder.toString();
+    }
+
+    /**
+     * Compiles the given {@code pattern}.
+     *
+     * @param pattern the pattern to compile
+     *
+     * @return a new template
+     *
+     * @throws IllegalArgumentException if the {@code pattern} is not valid
+     */
+    @Nonnull
+    private Template compile(String pattern) {
+        // Quotes and formatted arguments have a specific syntax, handled by MessageFormat
+        if (pattern.indexOf('\'') != -1) {
+            return new FormatTemplate(new MessageFormat(pattern, locale));
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+
+        int start = 0;
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c == '}') {
+                return new FormatTemplate(new MessageFormat(pattern, locale));
+            }
+            else if (c == '{') {
+                int end = pattern.indexOf('}', i);
+                int index = end > i + 1 && end - i <= 10 ? parseIndex(pattern, i + 1, end) : -1;
+                if (index == -1) {
+                    return new FormatTemplate(new MessageFormat(pattern, locale));
+                }
+
+                literals.add(pattern.substring(start, i));
+                indices.add(index);
+                start = end + 1;
+                i = end;
+            }
+        }
+        literals.add(pattern.substring(start));
+
+        return new SimpleTemplate(literals.toArray(new String[0]), indices.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Parses the index of a simple argument.
+     *
+     * @param pattern the pattern containing the argument
+     * @param start   the index of the first digit (inclusive)
+     * @param end     the index of the last digit (exclusive)
+     *
+     * @return the index of the argument, or {@code -1} if the argument is not a single number
+     */
+    private static int parseIndex(String pattern, int start, int end) {
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Appends a simple argument, formatted as {@link MessageFormat} would do without format type.
+     *
+     * @param builder the builder where to append the argument
+     * @param arg     the argument to append
+     */
+    private void appendArgument(StringBuilder builder, @Nullable Object arg) {
+        if (isNull(arg)) {
+            builder.append("null");
+        }
+        else if (arg instanceof Number) {
+            if (isNull(numberFormat)) {
+                numberFormat = NumberFormat.getInstance(locale);
+            }
+            builder.append(numberFormat.format(arg));
+        }
+        else if (arg instanceof Date) {
+            if (isNull(dateFormat)) {
+                dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+            }
+            builder.append(dateFormat.format(arg));
+        }
+        else if (arg instanceof String) {
+            builder.append((String) arg);
+        }
+        else {
+            builder.append(arg.toString());
+        }
+    }
+
+    /**
+     * A compiled message template.
+     */
+    @FunctionalInterface
+    private interface Template {
+
+        /**
+         * Appends the message built from this template and the given {@code params}.
+         *
+         * @param builder the builder where to append the message
+         * @param params  the parameters of the message
+         */
+        void appendTo(StringBuilder builder, Object[] params);
+    }
+
+    /**
+     * A template that only contains literals and simple arguments.
+     */
+    private final class SimpleTemplate implements Template {
+
+        /**
+         * The literals surrounding the arguments: the literal at {@code i} precedes the argument at {@code i}.
+         */
+        @Nonnull
+        private final String[] literals;
+
+        /**
+         * The index of each argument in the parameters.
+         */
+        @Nonnull
+        private final int[] indices;
+
+        /**
+         * Constructs a new {@code SimpleTemplate}.
+         *
+         * @param literals the literals surrounding the arguments; contains one more element than {@code indices}
+         * @param indices  the index of each argument in the parameters
+         */
+        SimpleTemplate(String[] literals, int[] indices) {
+            this.literals = literals;
+            this.indices = indices;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, Object[] params) {
+            for (int i = 0; i < indices.length; i++) {
+                builder.append(literals[i]);
+
+                int index = indices[i];
+                if (index < params.length) {
+                    appendArgument(builder, params[index]);
+                }
+                else {
+                    // Missing arguments are kept as is
+                    builder.append('{').append(index).append('}');
+                }
+            }
+            builder.append(literals[indices.length]);
+        }
+    }
+
+    /**
+     * A template delegated to a {@link MessageFormat}.
+     */
+    private static final class FormatTemplate implements Template {
+
+        /**
+         * The compiled format.
+         */
+        @Nonnull
+        private final MessageFormat format;
+
+        /**
+         * Constructs a new {@code FormatTemplate}.
+         *
+         * @param format the compiled format
+         */
+        FormatTemplate(MessageFormat format) {
+            this.format = format;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, Object[] params) {
+            builder.append(format.format(params, new StringBuffer(), null));
+        }
+    }
+}
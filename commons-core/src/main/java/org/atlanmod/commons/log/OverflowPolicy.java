@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+/**
+ * The behavior of the asynchronous {@link Logger}s when their buffer of pending events is full.
+ * <p>
+ * The policy is defined by the {@value #PROPERTY} system property, and defaults to {@link #BLOCK}; the capacity of the
+ * buffer is defined by the {@value LogRingBuffer#CAPACITY_PROPERTY} system property.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Waits until the buffer has room for the event. No event is lost, and the order of events is respected.
+     */
+    BLOCK,
+
+    /**
+     * Discards the events of the lowest levels ({@link Level#TRACE TRACE}, {@link Level#DEBUG DEBUG} and {@link
+     * Level#INFO INFO}) while the buffer is full, and logs the events of the highest levels synchronously. The number
+     * of discarded events is reported when the buffer has room again.
+     */
+    DISCARD_LOWEST_LEVELS,
+
+    /**
+     * Logs the event synchronously, in the calling thread. No event is lost, but the event may be logged before the
+     * pending events.
+     */
+    RUN_SYNCHRONOUSLY;
+
+    /**
+     * The name of the system property that defines the policy.
+     */
+    public static final String PROPERTY = "org.atlanmod.commons.log.overflowPolicy";
+}
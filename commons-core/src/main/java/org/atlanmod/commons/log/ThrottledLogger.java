@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.Lazy;
+import org.atlanmod.commons.concurrent.MoreThreads;
+import org.atlanmod.commons.primitive.Strings;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.atlanmod.commons.Guards.checkGreaterThan;
+import static org.atlanmod.commons.Guards.checkNotNull;
+
+/**
+ * A {@link Logger} that limits the number of logging operations sent to another logger, per message template.
+ * <p>
+ * Each message template, usually a constant of a call site, has its own counters, updated without locking. The
+ * operations that are not allowed by the {@link Throttle} of this logger are suppressed and counted; a summary of the
+ * suppressed operations of each template is periodically sent to the other logger, at the level of the last suppressed
+ * operation.
+ *
+ * @see Log#rateLimited(Logger, int)
+ * @see Log#sampled(Logger, int)
+ * @see Log#limited(Logger, int)
+ */
+@ThreadSafe
+@ParametersAreNonnullByDefault
+final class ThrottledLogger implements Logger {
+
+    /**
+     * The maximum number of templates with their own counters; the other templates share the same counters.
+     */
+    static final int MAXIMUM_TEMPLATES = 1024;
+
+    /**
+     * The period between two summaries of the suppressed operations, in seconds.
+     */
+    static final long SUMMARY_PERIOD = 60;
+
+    /**
+     * The template of the summaries.
+     */
+    static final String SUMMARY = "{0} message(s) suppressed since the last summary: {1}";
+
+    /**
+     * The created loggers, that will be periodically summarized.
+     */
+    @Nonnull
+    private static final Queue<WeakReference<ThrottledLogger>> INSTANCES = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The executor that periodically summarizes the suppressed operations of all loggers.
+     */
+    @Nonnull
+    private static final Lazy<ScheduledExecutorService> SCHEDULER = Lazy.with(() -> {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(MoreThreads.newThreadFactory("log-summary"));
+        scheduler.scheduleAtFixedRate(ThrottledLogger::summarizeAll, SUMMARY_PERIOD, SUMMARY_PERIOD, TimeUnit.SECONDS);
+        return scheduler;
+    });
+
+    /**
+     * The logger where to send the allowed operations and the summaries.
+     */
+    @Nonnull
+    private final Logger logger;
+
+    /**
+     * The function that decides whether an operation is allowed.
+     */
+    @Nonnull
+    private final Throttle throttle;
+
+    /**
+     * The counters of each template.
+     */
+    @Nonnull
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * The counter shared by the templates beyond {@link #MAXIMUM_TEMPLATES}.
+     */
+    @Nonnull
+    private final Counter overflowCounter = new Counter("<other messages>");
+
+    /**
+     * Constructs a new {@code ThrottledLogger}, and registers it to be periodically summarized.
+     *
+     * @param logger   the logger where to send the allowed operations and the summaries
+     * @param throttle the function that decides whether an operation is allowed
+     */
+    ThrottledLogger(Logger logger, Throttle throttle) {
+        this.logger = checkNotNull(logger, "logger");
+        this.throttle = checkNotNull(throttle, "throttle");
+
+        INSTANCES.add(new WeakReference<>(this));
+        SCHEDULER.get();
+    }
+
+    /**
+     * Summarizes the suppressed operations of all the loggers that are still in use.
+     */
+    private static void summarizeAll() {
+        Iterator<WeakReference<ThrottledLogger>> iterator = INSTANCES.iterator();
+        while (iterator.hasNext()) {
+            ThrottledLogger logger = iterator.next().get();
+            if (isNull(logger)) {
+                iterator.remove();
+            }
+            else {
+                logger.summarize();
+            }
+        }
+    }
+
+    /**
+     * Sends a summary of the operations suppressed since the last summary, for each template.
+     */
+    void summarize() {
+        counters.values().forEach(this::summarize);
+        summarize(overflowCounter);
+    }
+
+    /**
+     * Sends a summary of the operations of a template suppressed since the last summary, if any.
+     *
+     * @param counter the counter of the template
+     */
+    private void summarize(Counter counter) {
+        long suppressed = counter.suppressed.sumThenReset();
+        Level level = counter.lastLevel;
+
+        if (suppressed > 0 && nonNull(level)) {
+            logger.log(level, NO_EXCEPTION, SUMMARY, suppressed, counter.template);
+        }
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return logger.isEnabled(level);
+    }
+
+    @Override
+    public void log(Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object... params) {
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+
+        Counter counter = counterFor(message);
+        if (throttle.tryAcquire(counter.state)) {
+            logger.log(level, e, message, params);
+        }
+        else {
+            counter.lastLevel = level;
+            counter.suppressed.increment();
+        }
+    }
+
+    /**
+     * Returns the counter of the template of a {@code message}.
+     *
+     * @param message the message
+     *
+     * @return the counter
+     */
+    @Nonnull
+    private Counter counterFor(@Nullable CharSequence message) {
+        String template = nonNull(message) ? message.toString() : Strings.EMPTY;
+
+        Counter counter = counters.get(template);
+        if (nonNull(counter)) {
+            return counter;
+        }
+
+        if (counters.size() >= MAXIMUM_TEMPLATES) {
+            return overflowCounter;
+        }
+        return counters.computeIfAbsent(template, Counter::new);
+    }
+
+    /**
+     * Creates a throttle that allows at most {@code permits} operations per second.
+     *
+     * @param permits the maximum number of operations per second
+     * @param ticker  the source of time, in nanoseconds
+     *
+     * @return a new throttle
+     *
+     * @throws IllegalArgumentException if {@code permits <= 0}
+     */
+    @Nonnull
+    static Throttle rateLimit(@Nonnegative int permits, LongSupplier ticker) {
+        checkGreaterThan(permits, 0, "permits (%d) must be greater than 0", permits);
+        checkNotNull(ticker, "ticker");
+
+        // The state holds the current second in its high bits, and the number of operations in its low bits
+        return state -> {
+            long window = (ticker.getAsLong() / TimeUnit.SECONDS.toNanos(1)) & 0xFFFFFFFFL;
+            while (true) {
+                long current = state.get();
+                if ((current >>> 32) != window) {
+                    if (state.compareAndSet(current, (window << 32) | 1)) {
+                        return true;
+                    }
+                }
+                else if ((int) current < permits) {
+                    if (state.compareAndSet(current, current + 1)) {
+                        return true;
+                    }
+                }
+                else {
+                    return false;
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a throttle that allows 1 operation out of {@code rate}, starting with the first one.
+     *
+     * @param rate the sampling rate
+     *
+     * @return a new throttle
+     *
+     * @throws IllegalArgumentException if {@code rate <= 0}
+     */
+    @Nonnull
+    static Throttle sample(@Nonnegative int rate) {
+        checkGreaterThan(rate, 0, "rate (%d) must be greater than 0", rate);
+
+        return state -> state.getAndIncrement() % rate == 0;
+    }
+
+    /**
+     * Creates a throttle that allows the first {@code count} operations, and suppresses the others.
+     *
+     * @param count the number of allowed operations
+     *
+     * @return a new throttle
+     *
+     * @throws IllegalArgumentException if {@code count <= 0}
+     */
+    @Nonnull
+    static Throttle limit(@Nonnegative int count) {
+        checkGreaterThan(count, 0, "count (%d) must be greater than 0", count);
+
+        // Stop counting once the limit is reached
+        return state -> state.get() < count && state.getAndIncrement() < count;
+    }
+
+    /**
+     * A function that decides whether an operation is allowed, according to the state of the counter of its template.
+     */
+    @FunctionalInterface
+    interface Throttle {
+
+        /**
+         * Returns {@code true} if an operation is allowed, and updates the {@code state} of its template accordingly.
+         *
+         * @param state the state of the template, initially {@code 0}
+         *
+         * @return {@code true} if the operation is allowed
+         */
+        boolean tryAcquire(AtomicLong state);
+    }
+
+    /**
+     * The counters of a template.
+     */
+    private static final class Counter {
+
+        /**
+         * The template.
+         */
+        @Nonnull
+        final String template;
+
+        /**
+         * The state of the throttle.
+         */
+        @Nonnull
+        final AtomicLong state = new AtomicLong();
+
+        /**
+         * The number of operations suppressed since the last summary.
+         */
+        @Nonnull
+        final LongAdder suppressed = new LongAdder();
+
+        /**
+         * The level of the last suppressed operation.
+         */
+        @Nullable
+        volatile Level lastLevel;
+
+        /**
+         * Constructs a new {@code Counter}.
+         *
+         * @param template the template
+         */
+        Counter(String template) {
+            this.template = template;
+        }
+    }
+}
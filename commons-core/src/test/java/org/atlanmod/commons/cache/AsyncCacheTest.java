@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link AsyncCache}.
+ */
+@ParametersAreNonnullByDefault
+class AsyncCacheTest extends AbstractTest {
+
+    private ExecutorService executor;
+
+    private AsyncCache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+
+        cache = CacheBuilder.builder()
+                .maximumSize(10)
+                .executor(executor)
+                .buildAsync((Integer key) -> "Value" + key);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGet() {
+        assertThat(cache.getIfPresent(0)).isNull();
+
+        assertThat(cache.get(0).join()).isEqualTo("Value0");
+        assertThat(cache.getIfPresent(0)).isNotNull();
+        assertThat(cache.get(1, key -> "Other" + key).join()).isEqualTo("Other1");
+    }
+
+    @Test
+    void testGetAll() {
+        Map<Integer, String> result = cache.getAll(Arrays.asList(0, 1, 2)).join();
+
+        assertThat(result).containsOnlyKeys(0, 1, 2);
+        assertThat(result.get(2)).isEqualTo("Value2");
+    }
+
+    @Test
+    void testPut() {
+        cache.put(0, CompletableFuture.completedFuture("Put0"));
+
+        assertThat(cache.get(0).join()).isEqualTo("Put0");
+        assertThat(cache.synchronous().get(0)).isEqualTo("Put0");
+    }
+
+    @Test
+    void testSynchronous() {
+        assertThat(cache.synchronous().get(0)).isEqualTo("Value0");
+        assertThat(cache.getIfPresent(0)).isNotNull();
+    }
+
+    @Test
+    void testBulk() {
+        AsyncCache<Integer, String> bulkCache = CacheBuilder.builder()
+                .executor(executor)
+                .buildAsyncAll((Set<Integer> keys) -> keys.stream().collect(Collectors.toMap(Function.identity(), k -> "Bulk" + k)));
+
+        assertThat(bulkCache.getAll(Arrays.asList(0, 1)).join()).containsEntry(0, "Bulk0").containsEntry(1, "Bulk1");
+        assertThat(bulkCache.get(2).join()).isEqualTo("Bulk2");
+    }
+
+    @Test
+    void testWithSoftValues() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().softValues().buildAsync(key -> key)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link Cache} with a bulk loading {@link Function}.
+ */
+@ParametersAreNonnullByDefault
+class BulkLoadingCacheTest extends AbstractTest {
+
+    private List<Set<Integer>> loads;
+
+    private Cache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        loads = new CopyOnWriteArrayList<>();
+
+        cache = CacheBuilder.builder()
+                .maximumSize(10)
+                .executor(Runnable::run)
+                .buildAll(this::loadAll);
+    }
+
+    @Test
+    void testGet() {
+        assertThat(cache.get(0)).isEqualTo("Value0");
+        assertThat(cache.get(0)).isEqualTo("Value0");
+
+        assertThat(loads).containsExactly(new HashSet<>(Arrays.asList(0)));
+    }
+
+    @Test
+    void testGetAll() {
+        assertThat(cache.get(0)).isEqualTo("Value0");
+
+        Map<Integer, String> result = cache.getAll(Arrays.asList(0, 1, 2, 3));
+        assertThat(result).containsOnlyKeys(0, 1, 2, 3);
+        assertThat(result.get(3)).isEqualTo("Value3");
+
+        assertThat(loads).containsExactly(
+                new HashSet<>(Arrays.asList(0)),
+                new HashSet<>(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    void testRefresh() {
+        AtomicInteger version = new AtomicInteger();
+
+        Cache<Integer, String> refreshingCache = CacheBuilder.builder()
+                .executor(Runnable::run)
+                .refreshAfterWrite(Duration.ofMinutes(1))
+                .build((Integer key) -> "Value" + key + '.' + version.getAndIncrement());
+
+        assertThat(refreshingCache.get(0)).isEqualTo("Value0.0");
+
+        refreshingCache.refresh(0);
+        assertThat(refreshingCache.get(0)).isEqualTo("Value0.1");
+    }
+
+    @Test
+    void testExpireAfterWrite() throws InterruptedException {
+        Cache<Integer, String> expiringCache = CacheBuilder.builder()
+                .expireAfterWrite(Duration.ofMillis(50))
+                .build();
+
+        expiringCache.put(0, "Value0");
+        assertThat(expiringCache.get(0)).isEqualTo("Value0");
+
+        Thread.sleep(200);
+        assertThat(expiringCache.get(0)).isNull();
+    }
+
+    @Test
+    void testInvalidDurations() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterWrite(Duration.ofSeconds(-1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterAccess(Duration.ofSeconds(-1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().refreshAfterWrite(Duration.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Loads the values of the given {@code keys}, and records the call.
+     */
+    private Map<Integer, String> loadAll(Set<Integer> keys) {
+        loads.add(new HashSet<>(keys));
+        return keys.stream().collect(Collectors.toMap(Function.identity(), k -> "Value" + k));
+    }
+}
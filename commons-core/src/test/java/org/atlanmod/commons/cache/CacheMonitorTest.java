@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link CacheMonitor}, and of the {@link CacheMetrics} recorded by caches.
+ */
+@ParametersAreNonnullByDefault
+class CacheMonitorTest extends AbstractTest {
+
+    private RecordingReporter reporter;
+
+    private CacheMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new RecordingReporter();
+        monitor = CacheMonitor.create(Duration.ofHours(1), reporter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void testInterval() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .recordStats()
+                .build();
+
+        monitor.register("cache", cache);
+
+        cache.put(0, "Value0");
+        cache.get(0);
+        cache.get(1);
+
+        monitor.report();
+        assertThat(reporter.intervals.get("cache").stats().hitCount()).isEqualTo(1);
+        assertThat(reporter.intervals.get("cache").stats().missCount()).isEqualTo(1);
+
+        cache.get(0);
+
+        monitor.report();
+        assertThat(reporter.intervals.get("cache").stats().hitCount()).isEqualTo(1);
+        assertThat(reporter.intervals.get("cache").stats().missCount()).isEqualTo(0);
+        assertThat(reporter.totals.get("cache").stats().hitCount()).isEqualTo(2);
+        assertThat(reporter.totals.get("cache").stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLoadLatencies() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .recordStats()
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, k -> "Value" + k);
+        }
+
+        CacheMetrics metrics = cache.metrics();
+        assertThat(metrics.stats().loadSuccessCount()).isEqualTo(100);
+        assertThat(metrics.loadLatencies().count()).isEqualTo(100);
+        assertThat(metrics.loadLatencies().max()).isGreaterThanOrEqualTo(metrics.loadLatencies().p50());
+    }
+
+    @Test
+    void testEvictionCauses() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(5)
+                .recordStats()
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "Value" + i);
+        }
+        cache.cleanUp();
+
+        CacheMetrics metrics = cache.metrics();
+        assertThat(metrics.stats().evictionCount()).isEqualTo(5);
+        assertThat(metrics.evictionCount(EvictionCause.SIZE)).isEqualTo(5);
+        assertThat(metrics.evictionCount(EvictionCause.EXPIRED)).isEqualTo(0);
+        assertThat(metrics.evictionCount(EvictionCause.COLLECTED)).isEqualTo(0);
+    }
+
+    @Test
+    void testWithoutStats() {
+        Cache<Integer, String> cache = CacheBuilder.builder().build();
+
+        cache.put(0, "Value0");
+        cache.get(0);
+
+        assertThat(cache.metrics().stats().requestCount()).isEqualTo(0);
+        assertThat(cache.metrics().loadLatencies().count()).isEqualTo(0);
+    }
+
+    @Test
+    void testPrimitiveCache() {
+        LongCache<String> cache = CacheBuilder.builder()
+                .maximumSize(5)
+                .recordStats()
+                .buildLong();
+
+        monitor.register("long", cache::metrics);
+
+        cache.put(0L, "Value0");
+        cache.get(0L);
+
+        monitor.report();
+        assertThat(reporter.intervals.get("long").stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnregister() {
+        monitor.register("cache", CacheBuilder.builder().build());
+        monitor.report();
+        assertThat(reporter.intervals).containsKey("cache");
+
+        monitor.unregister("cache");
+        assertThat(reporter.removed).containsExactly("cache");
+
+        reporter.intervals.clear();
+        monitor.report();
+        assertThat(reporter.intervals).isEmpty();
+
+        // The name can be used again
+        monitor.register("cache", CacheBuilder.builder().build());
+    }
+
+    @Test
+    void testClose() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .recordStats()
+                .build();
+
+        monitor.register("cache", cache);
+        cache.get(0);
+
+        monitor.close();
+        assertThat(reporter.intervals.get("cache").stats().missCount()).isEqualTo(1);
+        assertThat(reporter.removed).containsExactly("cache");
+
+        assertThat(catchThrowable(() -> monitor.register("other", cache)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFailingReporter() {
+        CacheReporter failing = (name, interval, total) -> {
+            throw new IllegalStateException();
+        };
+
+        try (CacheMonitor other = CacheMonitor.create(Duration.ofHours(1), failing, reporter)) {
+            other.register("cache", CacheBuilder.builder().build());
+            other.report();
+
+            assertThat(reporter.intervals).containsKey("cache");
+        }
+    }
+
+    @Test
+    void testJmxReporter() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName objectName = JmxCacheReporter.objectName("cache,with=special*chars");
+
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .recordStats()
+                .build();
+
+        try (CacheMonitor other = CacheMonitor.create(Duration.ofHours(1), new JmxCacheReporter(server))) {
+            other.register("cache,with=special*chars", cache);
+
+            cache.put(0, "Value0");
+            cache.get(0);
+            cache.get(0);
+            cache.get(1);
+
+            other.report();
+            assertThat(server.isRegistered(objectName)).isTrue();
+            assertThat(server.getAttribute(objectName, "RequestCount")).isEqualTo(3L);
+            assertThat(server.getAttribute(objectName, "HitCount")).isEqualTo(2L);
+            assertThat(server.getAttribute(objectName, "TotalRequestCount")).isEqualTo(3L);
+
+            cache.get(0);
+
+            other.report();
+            assertThat(server.getAttribute(objectName, "RequestCount")).isEqualTo(1L);
+            assertThat(server.getAttribute(objectName, "HitRate")).isEqualTo(1.0);
+            assertThat(server.getAttribute(objectName, "TotalRequestCount")).isEqualTo(4L);
+        }
+
+        assertThat(server.isRegistered(objectName)).isFalse();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> CacheMonitor.create(Duration.ZERO, reporter)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheMonitor.create(Duration.ofSeconds(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        monitor.register("cache", CacheBuilder.builder().build());
+        assertThat(catchThrowable(() -> monitor.register("cache", CacheBuilder.builder().build())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * A {@link CacheReporter} that records the last reported metrics.
+     */
+    private static final class RecordingReporter implements CacheReporter {
+
+        final Map<String, CacheMetrics> intervals = new HashMap<>();
+
+        final Map<String, CacheMetrics> totals = new HashMap<>();
+
+        final List<String> removed = new ArrayList<>();
+
+        @Override
+        public void report(String name, CacheMetrics interval, CacheMetrics total) {
+            intervals.put(name, interval);
+            totals.put(name, total);
+        }
+
+        @Override
+        public void remove(String name) {
+            removed.add(name);
+        }
+    }
+}
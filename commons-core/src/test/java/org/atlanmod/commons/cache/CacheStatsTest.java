@@ -187,5 +187,22 @@ class CacheStatsTest extends AbstractTest {
 
         //noinspection EqualsReplaceableByObjectsCall
         assertThat(stats.equals(new CacheStats(30, 10, 15, 5, 2000, 0))).isFalse();
+
+        //noinspection EqualsReplaceableByObjectsCall
+        assertThat(stats.equals(new CacheStats(30, 10, 15, 5, 2000, 2, 1))).isFalse();
+    }
+
+    @Test
+    void testCoalescedWaitCount() {
+        assertThat(stats.coalescedWaitCount()).isEqualTo(0);
+
+        CacheStats other = new CacheStats(30, 10, 15, 5, 2000, 2, 7);
+        assertThat(other.coalescedWaitCount()).isEqualTo(7);
+        assertThat(other.plus(other).coalescedWaitCount()).isEqualTo(14);
+        assertThat(other.minus(stats).coalescedWaitCount()).isEqualTo(7);
+        assertThat(stats.minus(other).coalescedWaitCount()).isEqualTo(0);
+
+        assertThat(catchThrowable(() -> new CacheStats(0, 0, 0, 0, 0, 0, -1)))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
\ No newline at end of file
@@ -212,4 +212,22 @@ class CacheTest extends AbstractTest {
         CacheStats stats = cache.stats();
         assertThat(stats).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStatsOfSeveralCaches() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.builder()
+                .recordStats()
+                .recordStats();
+
+        Cache<Integer, String> first = builder.build();
+        Cache<Integer, String> second = builder.build();
+
+        first.get(0);
+        first.get(1);
+        second.get(0);
+
+        // Each cache has its own counter
+        assertThat(first.stats().missCount()).isEqualTo(2);
+        assertThat(second.stats().missCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of the manual {@link Cache}s that coalesce their loads.
+ *
+ * @see CacheBuilder#coalesceLoads(Duration)
+ */
+@ParametersAreNonnullByDefault
+class CoalescingCacheTest extends AbstractTest {
+
+    private static final int THREADS = 16;
+
+    private ExecutorService executor;
+
+    private Cache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        cache = CacheBuilder.builder()
+                .coalesceLoads(Duration.ofSeconds(10))
+                .recordStats()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testGet() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Function<Integer, String> mappingFunction = k -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "Value" + k;
+        };
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> cache.get(0, mappingFunction), executor));
+        }
+
+        awaitCoalescedWaits(THREADS - 1);
+        release.countDown();
+
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("Value0");
+        }
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.get(0)).isEqualTo("Value0");
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.coalescedWaitCount()).isEqualTo(THREADS - 1);
+    }
+
+    @Test
+    void testGetAll() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Set<Integer>> loadedKeys = new ArrayList<>();
+
+        CompletableFuture<Map<Integer, String>> first = CompletableFuture.supplyAsync(() -> cache.getAll(Arrays.asList(1, 2, 3), ks -> {
+            synchronized (loadedKeys) {
+                loadedKeys.add(new HashSet<>(ks));
+            }
+            await(release);
+            return ks.stream().collect(Collectors.toMap(Function.identity(), k -> "Value" + k));
+        }), executor);
+
+        // Wait for the first batch to start loading
+        while (loadedKeys.isEmpty()) {
+            Thread.sleep(1);
+        }
+
+        CompletableFuture<Map<Integer, String>> second = CompletableFuture.supplyAsync(() -> cache.getAll(Arrays.asList(2, 3, 4), ks -> {
+            synchronized (loadedKeys) {
+                loadedKeys.add(new HashSet<>(ks));
+            }
+            return ks.stream().collect(Collectors.toMap(Function.identity(), k -> "Value" + k));
+        }), executor);
+
+        awaitCoalescedWaits(2);
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsOnlyKeys(1, 2, 3);
+        assertThat(second.get(10, TimeUnit.SECONDS)).containsOnlyKeys(2, 3, 4);
+        assertThat(second.get().get(2)).isEqualTo("Value2");
+
+        // The overlapping keys are only loaded by the first batch
+        assertThat(loadedKeys).containsExactly(new HashSet<>(Arrays.asList(1, 2, 3)), new HashSet<>(Arrays.asList(4)));
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    void testGetAllPresent() {
+        cache.put(1, "Value1");
+
+        Map<Integer, String> result = cache.getAll(Arrays.asList(1, 2), ks -> {
+            assertThat(ks).containsExactly(2);
+            return ks.stream().collect(Collectors.toMap(Function.identity(), k -> "Loaded" + k));
+        });
+
+        assertThat(result).containsEntry(1, "Value1").containsEntry(2, "Loaded2");
+        assertThat(cache.get(2)).isEqualTo("Loaded2");
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .coalesceLoads(Duration.ofMillis(50))
+                .build();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cache.get(0, k -> {
+            started.countDown();
+            await(release);
+            return "Value0";
+        }), executor);
+
+        started.await();
+
+        Throwable thrown = catchThrowable(() -> cache.get(0, k -> "Other"));
+        assertThat(thrown).isInstanceOf(CompletionException.class);
+        assertThat(thrown.getCause()).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo("Value0");
+    }
+
+    @Test
+    void testFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> failing = CompletableFuture.supplyAsync(() -> cache.get(0, k -> {
+            await(release);
+            throw new IllegalArgumentException("failure");
+        }), executor);
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> cache.get(0, k -> "Other"), executor);
+
+        awaitCoalescedWaits(1);
+        release.countDown();
+
+        assertThat(catchThrowable(() -> failing.get(10, TimeUnit.SECONDS)).getCause()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> waiting.get(10, TimeUnit.SECONDS)).getCause()).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(0)).isNull();
+        assertThat(cache.stats().loadFailureCount()).isEqualTo(1);
+
+        // The key can be loaded again
+        assertThat(cache.get(0, k -> "Value0")).isEqualTo("Value0");
+    }
+
+    @Test
+    void testRecursive() {
+        assertThat(catchThrowable(() -> cache.get(0, k -> cache.get(0, k2 -> "Value0"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> cache.getAll(Arrays.asList(0, 1), ks -> cache.getAll(ks, ks2 -> null))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testWithoutCoalescing() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .recordStats()
+                .build();
+
+        cache.put(1, "Value1");
+
+        Map<Integer, String> result = cache.getAll(Arrays.asList(1, 2, 3), ks -> {
+            assertThat(ks).containsOnly(2, 3);
+            return ks.stream().collect(Collectors.toMap(Function.identity(), k -> "Loaded" + k));
+        });
+
+        assertThat(result).containsOnlyKeys(1, 2, 3);
+        assertThat(cache.get(3)).isEqualTo("Loaded3");
+        assertThat(cache.stats().coalescedWaitCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testPutIfAbsent() {
+        cache.putIfAbsent(0, "Value0");
+        cache.putIfAbsent(0, "Value0bis");
+
+        assertThat(cache.get(0)).isEqualTo("Value0");
+        assertThat(cache.stats().loadCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testUnsupported() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().coalesceLoads(Duration.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().coalesceLoads(Duration.ofSeconds(1)).build(k -> k)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().coalesceLoads(Duration.ofSeconds(1)).maximumSize(10).buildLong()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Waits until the cache has recorded the given number of coalesced waits.
+     */
+    private void awaitCoalescedWaits(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.stats().coalescedWaitCount() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
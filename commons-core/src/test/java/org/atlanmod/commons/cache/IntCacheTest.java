@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link IntCache}.
+ */
+@ParametersAreNonnullByDefault
+class IntCacheTest extends AbstractTest {
+
+    private IntCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = CacheBuilder.builder()
+                .maximumSize(5)
+                .recordStats()
+                .buildInt();
+    }
+
+    @Test
+    void testGetPut() {
+        cache.put(0, "Value0");
+        cache.put(Integer.MIN_VALUE, "ValueMin");
+
+        assertThat(cache.get(0)).isEqualTo("Value0");
+        assertThat(cache.get(Integer.MIN_VALUE)).isEqualTo("ValueMin");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1, key -> "Value" + key)).isEqualTo("Value1");
+        assertThat(cache.size()).isEqualTo(3);
+
+        cache.invalidate(0);
+        assertThat(cache.contains(0)).isFalse();
+        assertThat(cache.get(Integer.MIN_VALUE)).isEqualTo("ValueMin");
+    }
+
+    @Test
+    void testEviction() {
+        IntStream.range(0, 100).forEach(i -> {
+            cache.put(i, "Value" + i);
+            assertThat(cache.get(i)).isEqualTo("Value" + i);
+        });
+
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(cache.stats().evictionCount()).isEqualTo(95);
+        assertThat(cache.contains(99)).isTrue();
+    }
+
+    @Test
+    void testUnsupportedSettings() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().buildInt()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumSize(10).expireAfterAccess(Duration.ofSeconds(1)).buildInt()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link LongCache}.
+ */
+@ParametersAreNonnullByDefault
+class LongCacheTest extends AbstractTest {
+
+    private LongCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = CacheBuilder.builder()
+                .maximumSize(5)
+                .recordStats()
+                .buildLong();
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void testGetPut() {
+        cache.put(0L, "Value0");
+        cache.put(Long.MIN_VALUE, "ValueMin");
+
+        assertThat(cache.get(0L)).isEqualTo("Value0");
+        assertThat(cache.get(Long.MIN_VALUE)).isEqualTo("ValueMin");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.put(0L, "Value0bis");
+        assertThat(cache.get(0L)).isEqualTo("Value0bis");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testPutIfAbsent() {
+        cache.putIfAbsent(0L, "Value0");
+        cache.putIfAbsent(0L, "Value0bis");
+
+        assertThat(cache.get(0L)).isEqualTo("Value0");
+    }
+
+    @Test
+    void testGetWithFunction() {
+        assertThat(cache.get(0L, key -> "Value" + key)).isEqualTo("Value0");
+        assertThat(cache.get(0L, key -> "Other" + key)).isEqualTo("Value0");
+
+        assertThat(cache.get(1L, key -> null)).isNull();
+        assertThat(cache.contains(1L)).isFalse();
+
+        assertThat(catchThrowable(() -> cache.get(2L, key -> {
+            throw new IllegalStateException();
+        }))).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.contains(2L)).isFalse();
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.loadFailureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidate() {
+        LongStream.range(0, 5).forEach(i -> cache.put(i, "Value" + i));
+
+        cache.invalidate(2L);
+        assertThat(cache.contains(2L)).isFalse();
+        assertThat(cache.size()).isEqualTo(4);
+
+        // Entries that follow the removed entry in its probe sequence are still reachable
+        LongStream.of(0, 1, 3, 4).forEach(i -> assertThat(cache.get(i)).isEqualTo("Value" + i));
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+        LongStream.range(0, 5).forEach(i -> assertThat(cache.contains(i)).isFalse());
+    }
+
+    @Test
+    void testEviction() {
+        LongStream.range(0, 5).forEach(i -> cache.put(i, "Value" + i));
+
+        // Give a second chance to the first entry
+        assertThat(cache.get(0L)).isEqualTo("Value0");
+
+        cache.put(5L, "Value5");
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(cache.contains(0L)).isTrue();
+        assertThat(cache.contains(5L)).isTrue();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+
+        LongStream.range(6, 100).forEach(i -> cache.put(i, "Value" + i));
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(cache.stats().evictionCount()).isEqualTo(95);
+    }
+
+    @Test
+    void testZeroSize() {
+        LongCache<String> emptyCache = CacheBuilder.builder()
+                .maximumSize(0)
+                .recordStats()
+                .buildLong();
+
+        emptyCache.put(0L, "Value0");
+        assertThat(emptyCache.get(0L)).isNull();
+        assertThat(emptyCache.get(1L, key -> "Value" + key)).isEqualTo("Value1");
+        assertThat(emptyCache.size()).isEqualTo(0);
+        assertThat(emptyCache.stats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        LongCache<Long> concurrentCache = CacheBuilder.builder()
+                .maximumSize(1_000)
+                .buildLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 100_000; i++) {
+                        long key = random.nextLong(2_000);
+                        assertThat(concurrentCache.get(key, k -> k * 3)).isEqualTo(key * 3);
+                        if (random.nextInt(10) == 0) {
+                            concurrentCache.invalidate(key);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(concurrentCache.size()).isBetween(1L, 1_000L);
+    }
+
+    @Test
+    void testUnsupportedSettings() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().buildLong()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumSize(10).softValues().buildLong()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumSize(AbstractClockCache.MAXIMUM_SIZE + 1).buildLong()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
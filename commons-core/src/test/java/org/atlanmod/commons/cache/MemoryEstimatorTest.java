@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link MemoryEstimator}, and of the caches bounded by {@link
+ * CacheBuilder#maximumMemory(long)}.
+ */
+@ParametersAreNonnullByDefault
+class MemoryEstimatorTest extends AbstractTest {
+
+    @Test
+    void testShared() {
+        assertThat(MemoryEstimator.sizeOf(null)).isEqualTo(0);
+        assertThat(MemoryEstimator.sizeOf(DayOfWeek.MONDAY)).isEqualTo(0);
+        assertThat(MemoryEstimator.sizeOf(String.class)).isEqualTo(0);
+    }
+
+    @Test
+    void testBoxed() {
+        assertThat(MemoryEstimator.sizeOf(42)).isEqualTo(16);
+        assertThat(MemoryEstimator.sizeOf(42L)).isEqualTo(24);
+        assertThat(MemoryEstimator.sizeOf(true)).isEqualTo(16);
+        assertThat(MemoryEstimator.sizeOf('c')).isEqualTo(16);
+    }
+
+    @Test
+    void testPrimitiveArrays() {
+        assertThat(MemoryEstimator.sizeOf(new byte[0])).isEqualTo(16);
+        assertThat(MemoryEstimator.sizeOf(new byte[1])).isEqualTo(24);
+        assertThat(MemoryEstimator.sizeOf(new byte[1000])).isEqualTo(1016);
+        assertThat(MemoryEstimator.sizeOf(new boolean[1000])).isEqualTo(1016);
+        assertThat(MemoryEstimator.sizeOf(new char[1000])).isEqualTo(2016);
+        assertThat(MemoryEstimator.sizeOf(new short[1000])).isEqualTo(2016);
+        assertThat(MemoryEstimator.sizeOf(new int[1000])).isEqualTo(4016);
+        assertThat(MemoryEstimator.sizeOf(new float[1000])).isEqualTo(4016);
+        assertThat(MemoryEstimator.sizeOf(new long[1000])).isEqualTo(8016);
+        assertThat(MemoryEstimator.sizeOf(new double[1000])).isEqualTo(8016);
+    }
+
+    @Test
+    void testStrings() {
+        assertThat(MemoryEstimator.sizeOf("")).isEqualTo(40);
+        assertThat(MemoryEstimator.sizeOf("Value0")).isEqualTo(48);
+        assertThat(MemoryEstimator.sizeOf(repeat('a', 1000))).isEqualTo(1040);
+
+        // Non-Latin characters are stored on two bytes
+        assertThat(MemoryEstimator.sizeOf(repeat('λ', 1000))).isEqualTo(2040);
+    }
+
+    @Test
+    void testObjectArrays() {
+        String[] array = IntStream.range(0, 100).mapToObj(i -> "Value" + (i % 10)).toArray(String[]::new);
+
+        assertThat(MemoryEstimator.sizeOf(array)).isEqualTo(416 + 100 * 48);
+        assertThat(MemoryEstimator.sizeOf(new Object[10])).isEqualTo(56);
+    }
+
+    @Test
+    void testCollections() {
+        List<String> values = IntStream.range(0, 1000).mapToObj(i -> repeat('a', 100)).collect(Collectors.toList());
+        long valuesSize = 1000 * MemoryEstimator.sizeOf(repeat('a', 100));
+
+        long arrayListSize = MemoryEstimator.sizeOf(new ArrayList<>(values));
+        assertThat(arrayListSize).isBetween(valuesSize + 4000, valuesSize + 4100);
+
+        long linkedListSize = MemoryEstimator.sizeOf(new LinkedList<>(values));
+        assertThat(linkedListSize).isGreaterThan(arrayListSize);
+
+        Set<String> set = IntStream.range(0, 1000).mapToObj(i -> String.format("%0100d", i)).collect(Collectors.toSet());
+        assertThat(MemoryEstimator.sizeOf(new HashSet<>(set))).isGreaterThan(valuesSize);
+
+        assertThat(MemoryEstimator.sizeOf(Collections.emptyList())).isLessThan(64);
+    }
+
+    @Test
+    void testMaps() {
+        Map<Integer, byte[]> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, new byte[1000]);
+        }
+
+        assertThat(MemoryEstimator.sizeOf(map)).isBetween(1000L * (1016 + 16), 1000L * (1016 + 16 + 64));
+    }
+
+    @Test
+    void testNested() {
+        List<List<byte[]>> nested = Collections.singletonList(Collections.singletonList(new byte[1000]));
+        assertThat(MemoryEstimator.sizeOf(nested)).isGreaterThan(1016);
+
+        // A cyclic structure is bounded by the maximum depth
+        List<Object> cyclic = new ArrayList<>();
+        cyclic.add(cyclic);
+        assertThat(MemoryEstimator.sizeOf(cyclic)).isPositive();
+    }
+
+    @Test
+    void testSerializable() {
+        long smallSize = MemoryEstimator.sizeOf(new SerializableValue(10));
+        long largeSize = MemoryEstimator.sizeOf(new SerializableValue(10_000));
+
+        assertThat(smallSize).isPositive();
+        assertThat(largeSize).isGreaterThan(10_000);
+        assertThat(largeSize - smallSize).isBetween(9_900L, 10_100L);
+
+        // After the first samples, the sizes are averaged
+        for (int i = 0; i < MemoryEstimator.GRAPH_SAMPLE_SIZE; i++) {
+            MemoryEstimator.sizeOf(new SampledValue(1000));
+        }
+        assertThat(MemoryEstimator.sizeOf(new SampledValue(1))).isGreaterThan(1000);
+
+        // The referenced objects are followed up to the maximum depth
+        assertThat(MemoryEstimator.sizeOf(new NestedValue(null))).isEqualTo(16);
+        assertThat(MemoryEstimator.sizeOf(new NestedValue(new Object()))).isEqualTo(32);
+
+        NestedValue cyclic = new NestedValue(null);
+        cyclic.reference = cyclic;
+        assertThat(MemoryEstimator.sizeOf(cyclic)).isEqualTo(16L * (MemoryEstimator.MAXIMUM_DEPTH + 1));
+    }
+
+    @Test
+    void testNotSerializable() {
+        assertThat(MemoryEstimator.sizeOf(new Object())).isEqualTo(16);
+        assertThat(MemoryEstimator.sizeOf(new NotSerializableValue())).isEqualTo(24);
+    }
+
+    @Test
+    void testWeigh() {
+        assertThat(MemoryEstimator.weigh(42, new byte[1000])).isEqualTo(MemoryEstimator.ENTRY_OVERHEAD + 16 + 1016);
+    }
+
+    @Test
+    void testMaximumMemory() {
+        Cache<Integer, byte[]> cache = CacheBuilder.builder()
+                .maximumMemory(100_000)
+                .recordStats()
+                .build();
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, new byte[i % 2 == 0 ? 100 : 10_000]);
+        }
+        cache.cleanUp();
+
+        long retainedBytes = cache.asMap().entrySet().stream()
+                .mapToLong(e -> MemoryEstimator.weigh(e.getKey(), e.getValue()))
+                .sum();
+
+        assertThat(retainedBytes).isLessThanOrEqualTo(100_000);
+        assertThat(cache.size()).isLessThan(1000);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1000 - cache.size());
+    }
+
+    @Test
+    void testMaximumMemoryInvalid() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumMemory(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumMemory(1000).buildLong()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static final class SerializableValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] content;
+
+        SerializableValue(int length) {
+            this.content = new byte[length];
+        }
+    }
+
+    private static final class SampledValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] content;
+
+        SampledValue(int length) {
+            this.content = new byte[length];
+        }
+    }
+
+    private static final class NotSerializableValue {
+
+        private final long id = 0;
+
+        private final Object reference = null;
+    }
+
+    private static final class NestedValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Object reference;
+
+        NestedValue(@Nullable Object reference) {
+            this.reference = reference;
+        }
+    }
+}
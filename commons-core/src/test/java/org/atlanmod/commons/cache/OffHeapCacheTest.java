@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+import org.atlanmod.commons.io.serializer.BinarySerializerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of an off-heap {@link Cache}.
+ */
+@ParametersAreNonnullByDefault
+class OffHeapCacheTest extends AbstractTest {
+
+    private static final long MAXIMUM_BYTES = 1024 * 1024;
+
+    private final BinarySerializer<String> serializer = BinarySerializerFactory.getInstance().forAny();
+
+    private Cache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = CacheBuilder.builder()
+                .offHeap(MAXIMUM_BYTES, serializer)
+                .recordStats()
+                .build();
+    }
+
+    @Test
+    void testGetPut() {
+        String value0 = "Value0";
+
+        cache.put(0, value0);
+        cache.put(1, "Value1");
+
+        assertThat(cache.get(0)).isEqualTo(value0).isNotSameAs(value0);
+        assertThat(cache.get(1)).isEqualTo("Value1");
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.put(0, "Value0bis");
+        assertThat(cache.get(0)).isEqualTo("Value0bis");
+        assertThat(cache.size()).isEqualTo(2);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(3);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetWithFunction() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(0, k -> "Value" + loads.incrementAndGet())).isEqualTo("Value1");
+        assertThat(cache.get(0, k -> "Value" + loads.incrementAndGet())).isEqualTo("Value1");
+        assertThat(cache.get(1, k -> null)).isNull();
+        assertThat(cache.contains(1)).isFalse();
+
+        cache.putIfAbsent(0, "Other");
+        assertThat(cache.get(0)).isEqualTo("Value1");
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.loadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testPutIfAbsent() {
+        cache.putIfAbsent(0, "Value0");
+        cache.putIfAbsent(0, "Other");
+        assertThat(cache.size()).isEqualTo(1);
+
+        // The insertions are not recorded as lookups nor loads
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(0);
+        assertThat(stats.missCount()).isEqualTo(0);
+        assertThat(stats.loadSuccessCount()).isEqualTo(0);
+
+        assertThat(cache.get(0)).isEqualTo("Value0");
+    }
+
+    @Test
+    void testInvalidate() {
+        IntStream.range(0, 10).forEach(i -> cache.put(i, "Value" + i));
+
+        cache.invalidate(0);
+        cache.invalidateAll(Arrays.asList(1, 2));
+        assertThat(cache.size()).isEqualTo(7);
+        assertThat(cache.contains(0)).isFalse();
+        assertThat(cache.get(3)).isEqualTo("Value3");
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+
+        // The emptied slabs are reused
+        IntStream.range(0, 10).forEach(i -> cache.put(i, "Value" + i));
+        assertThat(cache.getAll(Arrays.asList(0, 9, 10))).containsOnlyKeys(0, 9);
+    }
+
+    @Test
+    void testEviction() {
+        String value = String.join("", Collections.nCopies(1_000, "x"));
+
+        IntStream.range(0, 2_000).forEach(i -> {
+            cache.put(i, value + i);
+
+            // Keep the first entry hot
+            if (i % 100 == 0) {
+                assertThat(cache.get(0)).isEqualTo(value + 0);
+            }
+        });
+
+        assertThat(cache.size()).isLessThan(MAXIMUM_BYTES / value.length());
+        assertThat(cache.stats().evictionCount()).isEqualTo(2_000 - cache.size());
+
+        assertThat(cache.contains(0)).isTrue();
+        assertThat(cache.contains(1)).isFalse();
+        assertThat(cache.get(1_999)).isEqualTo(value + 1_999);
+    }
+
+    @Test
+    void testLargeValue() {
+        String value = String.join("", Collections.nCopies((int) MAXIMUM_BYTES, "x"));
+
+        cache.put(0, value);
+
+        assertThat(cache.contains(0)).isFalse();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLoadingCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Cache<Integer, String> loadingCache = CacheBuilder.builder()
+                .offHeap(MAXIMUM_BYTES, serializer)
+                .executor(Runnable::run)
+                .build(k -> "Value" + k + '-' + loads.incrementAndGet());
+
+        assertThat(loadingCache.get(0)).isEqualTo("Value0-1");
+        assertThat(loadingCache.get(0)).isEqualTo("Value0-1");
+        assertThat(loadingCache.getAll(Arrays.asList(0, 1))).containsEntry(1, "Value1-2");
+
+        loadingCache.refresh(0);
+        assertThat(loadingCache.get(0)).isEqualTo("Value0-3");
+    }
+
+    @Test
+    void testConcurrentLoads() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    return cache.get(0, k -> {
+                        loads.incrementAndGet();
+                        return "Value" + k;
+                    });
+                }));
+            }
+
+            latch.countDown();
+            for (Future<String> f : futures) {
+                assertThat(f.get()).isEqualTo("Value0");
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsMap() {
+        ConcurrentMap<Integer, String> map = cache.asMap();
+
+        assertThat(map.put(0, "Value0")).isNull();
+        assertThat(map.put(0, "Value0bis")).isEqualTo("Value0");
+        assertThat(map.putIfAbsent(0, "Other")).isEqualTo("Value0bis");
+        assertThat(map.putIfAbsent(1, "Value1")).isNull();
+        assertThat(map.replace(1, "Other", "Value1bis")).isFalse();
+        assertThat(map.replace(1, "Value1", "Value1bis")).isTrue();
+        assertThat(map.remove(0, "Other")).isFalse();
+
+        assertThat(map).hasSize(2);
+        assertThat(new HashMap<>(map)).containsEntry(0, "Value0bis").containsEntry(1, "Value1bis");
+        assertThat(map.get(1)).isEqualTo("Value1bis");
+        assertThat(cache.get(1)).isEqualTo("Value1bis");
+
+        map.entrySet().removeIf(e -> e.getKey() == 0);
+        assertThat(map.keySet()).containsExactly(1);
+
+        assertThat(map.remove(1)).isEqualTo("Value1bis");
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void testUnsupportedSettings() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().offHeap(0, serializer)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().offHeap(MAXIMUM_BYTES, serializer).offHeap(MAXIMUM_BYTES, serializer)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumSize(10).offHeap(MAXIMUM_BYTES, serializer).build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().softValues().offHeap(MAXIMUM_BYTES, serializer).build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().offHeap(MAXIMUM_BYTES, serializer).buildAll(keys -> Collections.<Object, Object>emptyMap())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
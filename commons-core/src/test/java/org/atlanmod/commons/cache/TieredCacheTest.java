@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.cache;
+
+import org.atlanmod.commons.AbstractFileBasedTest;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+import org.atlanmod.commons.io.serializer.BinarySerializerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of a disk-backed {@link Cache}.
+ */
+@ParametersAreNonnullByDefault
+class TieredCacheTest extends AbstractFileBasedTest {
+
+    private static final long MAXIMUM_BYTES = 1024 * 1024;
+
+    private final BinarySerializer<Integer> keySerializer = BinarySerializerFactory.getInstance().forAny();
+
+    private final BinarySerializer<String> valueSerializer = BinarySerializerFactory.getInstance().forAny();
+
+    private final List<Cache<?, ?>> caches = new ArrayList<>();
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = currentTempFile().toPath();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Cache<?, ?> cache : caches) {
+            close(cache);
+        }
+    }
+
+    @Test
+    void testSpillAndPromote() {
+        Cache<Integer, String> cache = newCache(10);
+
+        IntStream.range(0, 100).forEach(i -> cache.put(i, "Value" + i));
+        assertThat(cache.size()).isEqualTo(100);
+
+        IntStream.range(0, 100).forEach(i -> assertThat(cache.get(i)).isEqualTo("Value" + i));
+        assertThat(cache.get(100)).isNull();
+
+        // The promoted values are kept on the disk, and counted once
+        assertThat(cache.size()).isEqualTo(100);
+
+        cache.invalidate(99);
+        cache.put(98, "Value98bis");
+        assertThat(cache.size()).isEqualTo(99);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(100);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.evictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testReplaceAndInvalidate() {
+        Cache<Integer, String> cache = newCache(10);
+
+        IntStream.range(0, 100).forEach(i -> cache.put(i, "Value" + i));
+
+        // The copies on the disk must not be returned, nor spilled back
+        cache.put(0, "Value0bis");
+        cache.invalidate(1);
+        IntStream.range(100, 200).forEach(i -> cache.put(i, "Value" + i));
+
+        assertThat(cache.get(0)).isEqualTo("Value0bis");
+        assertThat(cache.contains(1)).isFalse();
+        assertThat(cache.size()).isEqualTo(199);
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get(2)).isNull();
+    }
+
+    @Test
+    void testGetWithFunction() {
+        AtomicInteger loads = new AtomicInteger();
+        Cache<Integer, String> cache = newCache(10);
+
+        IntStream.range(0, 100).forEach(i -> cache.get(i, k -> "Value" + k + '-' + loads.incrementAndGet()));
+        assertThat(loads.get()).isEqualTo(100);
+
+        // The values on the disk are not loaded again
+        assertThat(cache.get(0, k -> "Other")).isEqualTo("Value0-1");
+        cache.putIfAbsent(1, "Other");
+        assertThat(cache.get(1)).isEqualTo("Value1-2");
+
+        // The insertions are not recorded as lookups
+        cache.putIfAbsent(100, "Value100");
+        assertThat(cache.contains(100)).isTrue();
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.loadSuccessCount()).isEqualTo(100);
+        assertThat(stats.missCount()).isEqualTo(100);
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testWarmRestart() throws IOException {
+        Cache<Integer, String> cache = newCache(10);
+        IntStream.range(0, 100).forEach(i -> cache.put(i, "Value" + i));
+        cache.invalidate(50);
+        close(cache);
+
+        Cache<Integer, String> restartedCache = newCache(10);
+        assertThat(restartedCache.size()).isEqualTo(99);
+        assertThat(restartedCache.contains(50)).isFalse();
+        IntStream.range(51, 100).forEach(i -> assertThat(restartedCache.get(i)).isEqualTo("Value" + i));
+
+        restartedCache.put(0, "Value0bis");
+        restartedCache.invalidate(1);
+        close(restartedCache);
+
+        Cache<Integer, String> twiceRestartedCache = newCache(10);
+        assertThat(twiceRestartedCache.get(0)).isEqualTo("Value0bis");
+        assertThat(twiceRestartedCache.contains(1)).isFalse();
+        assertThat(twiceRestartedCache.size()).isEqualTo(98);
+    }
+
+    @Test
+    void testRebuild() throws IOException {
+        CacheBuilder<Object, Object> builder = CacheBuilder.builder()
+                .maximumSize(10)
+                .diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer)
+                .executor(Runnable::run);
+
+        Cache<Integer, String> cache = builder.build();
+        caches.add(cache);
+        IntStream.range(0, 50).forEach(i -> cache.put(i, "Value" + i));
+        close(cache);
+
+        // The tier can be reopened from the same builder, and the evictions of the new cache are spilled
+        Cache<Integer, String> reopenedCache = builder.build();
+        caches.add(reopenedCache);
+        IntStream.range(50, 100).forEach(i -> reopenedCache.put(i, "Value" + i));
+
+        assertThat(reopenedCache.size()).isEqualTo(100);
+        IntStream.range(0, 100).forEach(i -> assertThat(reopenedCache.get(i)).isEqualTo("Value" + i));
+    }
+
+    @Test
+    void testCorruptedRecord() throws IOException {
+        Cache<Integer, String> cache = newCache(0);
+        IntStream.range(0, 10).forEach(i -> cache.put(i, "Value" + i));
+        close(cache);
+
+        // Corrupt the last record
+        Path segment = segments().get(0);
+        byte[] data = Files.readAllBytes(segment);
+        int last = data.length - 1;
+        while (data[last] == 0) {
+            last--;
+        }
+        data[last]++;
+        Files.write(segment, data);
+
+        Cache<Integer, String> restartedCache = newCache(0);
+        assertThat(restartedCache.size()).isEqualTo(9);
+
+        // New records overwrite the corrupted one
+        restartedCache.put(10, "Value10");
+        close(restartedCache);
+
+        assertThat(newCache(0).size()).isEqualTo(10);
+    }
+
+    @Test
+    void testSegmentDeletion() throws IOException {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(1)
+                .diskTier(directory, 64 * 1024, keySerializer, valueSerializer)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        caches.add(cache);
+
+        String value = String.join("", Collections.nCopies(100, "x"));
+        IntStream.range(0, 2_000).forEach(i -> cache.put(i, value + i));
+
+        assertThat(cache.size()).isLessThan(2_000);
+        assertThat(cache.stats().evictionCount()).isEqualTo(2_000 - cache.size());
+        assertThat(cache.contains(0)).isFalse();
+        assertThat(cache.get(1_998)).isEqualTo(value + 1_998);
+
+        assertThat(segments().size()).isLessThan(DiskStore.MINIMUM_SEGMENTS + 1);
+    }
+
+    @Test
+    void testLargeValue() {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(0)
+                .diskTier(directory, 64 * 1024, keySerializer, valueSerializer)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        caches.add(cache);
+
+        cache.put(0, String.join("", Collections.nCopies(64 * 1024, "x")));
+
+        assertThat(cache.contains(0)).isFalse();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLoadingCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(10)
+                .diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer)
+                .executor(Runnable::run)
+                .build(k -> "Value" + k + '-' + loads.incrementAndGet());
+        caches.add(cache);
+
+        IntStream.range(0, 100).forEach(cache::get);
+        assertThat(cache.get(0)).isEqualTo("Value0-1");
+        assertThat(loads.get()).isEqualTo(100);
+
+        cache.refresh(0);
+        assertThat(cache.get(0)).isEqualTo("Value0-101");
+    }
+
+    @Test
+    void testAsMap() {
+        Cache<Integer, String> cache = newCache(1);
+        ConcurrentMap<Integer, String> map = cache.asMap();
+
+        assertThat(map.put(0, "Value0")).isNull();
+        assertThat(map.put(1, "Value1")).isNull();
+
+        // The first entry is on the disk
+        assertThat(map.replace(0, "Value0", "Value0bis")).isTrue();
+        assertThat(map.putIfAbsent(1, "Other")).isEqualTo("Value1");
+        assertThat(map.remove(2)).isNull();
+
+        assertThat(map).hasSize(2);
+        assertThat(new HashMap<>(map)).containsEntry(0, "Value0bis").containsEntry(1, "Value1");
+
+        map.entrySet().removeIf(e -> e.getKey() == 0);
+        assertThat(map.keySet()).containsExactly(1);
+    }
+
+    @Test
+    void testLockedDirectory() {
+        newCache(10);
+
+        assertThat(catchThrowable(() -> newCache(10)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testUnsupportedSettings() {
+        assertThat(catchThrowable(() -> CacheBuilder.builder().diskTier(directory, 0, keySerializer, valueSerializer)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer).offHeap(MAXIMUM_BYTES, valueSerializer)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().expireAfterAccess(Duration.ofSeconds(1)).diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer).build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(catchThrowable(() -> CacheBuilder.builder().maximumSize(10).diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer).buildLong()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Cache<Integer, String> newCache(long maximumSize) {
+        Cache<Integer, String> cache = CacheBuilder.builder()
+                .maximumSize(maximumSize)
+                .diskTier(directory, MAXIMUM_BYTES, keySerializer, valueSerializer)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        caches.add(cache);
+        return cache;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().startsWith("segment-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void close(Cache<?, ?> cache) throws IOException {
+        assertThat(cache).isInstanceOf(Closeable.class);
+
+        ((Closeable) cache).close();
+    }
+}
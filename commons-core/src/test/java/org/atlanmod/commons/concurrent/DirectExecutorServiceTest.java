@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link DirectExecutorService}.
+ */
+@ParametersAreNonnullByDefault
+class DirectExecutorServiceTest extends AbstractTest {
+
+    @Test
+    void testExecute() throws Exception {
+        DirectExecutorService executor = new DirectExecutorService();
+
+        Thread[] thread = new Thread[1];
+        executor.execute(() -> thread[0] = Thread.currentThread());
+        assertThat(thread[0]).isSameAs(Thread.currentThread());
+
+        assertThat(executor.submit(() -> 42).get()).isEqualTo(42);
+        assertThat(executor.activeCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testShutdown() throws Exception {
+        DirectExecutorService executor = new DirectExecutorService();
+
+        assertThat(executor.isShutdown()).isFalse();
+        assertThat(executor.isTerminated()).isFalse();
+        assertThat(executor.awaitTermination(10, TimeUnit.MILLISECONDS)).isFalse();
+
+        executor.shutdown();
+
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+        assertThat(executor.awaitTermination(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(catchThrowable(() -> executor.execute(() -> {})))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testAwaitRunningTask() throws Exception {
+        DirectExecutorService executor = new DirectExecutorService();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> task = CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        executor.shutdown();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(executor.isTerminated()).isFalse();
+        assertThat(executor.activeCount()).isEqualTo(1);
+
+        CompletableFuture<Boolean> terminated = CompletableFuture.supplyAsync(() -> {
+            try {
+                return executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                return false;
+            }
+        });
+        Thread.sleep(20);
+        assertThat(terminated).isNotDone();
+
+        // The waiting thread is woken up by the end of the last task
+        release.countDown();
+        assertThat(terminated.get(10, TimeUnit.SECONDS)).isTrue();
+        task.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testInterruptedAwait() {
+        DirectExecutorService executor = new DirectExecutorService();
+
+        Thread.currentThread().interrupt();
+        assertThat(catchThrowable(() -> executor.awaitTermination(10, TimeUnit.SECONDS)))
+                .isInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void testConcurrentTasks() throws Exception {
+        DirectExecutorService executor = new DirectExecutorService();
+
+        int threads = 8;
+        int count = 10_000;
+        LongAdder executed = new LongAdder();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < count; i++) {
+                    executor.execute(executed::increment);
+                }
+            }));
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(executed.sum()).isEqualTo((long) threads * count);
+        assertThat(executor.activeCount()).isEqualTo(0);
+
+        executor.shutdown();
+        assertThat(executor.isTerminated()).isTrue();
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ExecutorMonitor}, and of the {@link ExecutorMetrics} recorded by
+ * {@link InstrumentedExecutorService}.
+ */
+@ParametersAreNonnullByDefault
+class ExecutorMonitorTest extends AbstractTest {
+
+    private RecordingReporter reporter;
+
+    private ExecutorMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new RecordingReporter();
+        monitor = ExecutorMonitor.create(Duration.ofHours(1), reporter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void testDirect() throws Exception {
+        InstrumentedExecutorService executor = MoreExecutors.instrument(MoreExecutors.newDirectPool());
+
+        executor.execute(() -> sleep(5));
+        Future<?> failed = executor.submit(() -> {
+            throw new IllegalStateException("failure");
+        });
+        assertThat(failed.isDone()).isTrue();
+
+        ExecutorMetrics metrics = executor.metrics();
+        assertThat(metrics.submittedCount()).isEqualTo(2);
+        assertThat(metrics.completedCount()).isEqualTo(2);
+        assertThat(metrics.failedCount()).isEqualTo(1);
+        assertThat(metrics.rejectedCount()).isEqualTo(0);
+        assertThat(metrics.queueDepth()).isEqualTo(0);
+        assertThat(metrics.activeCount()).isEqualTo(0);
+        assertThat(metrics.runTimes().count()).isEqualTo(2);
+        assertThat(metrics.runTimes().max()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+
+        executor.shutdown();
+        assertThat(catchThrowable(() -> executor.execute(() -> {})))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.metrics().rejectedCount()).isEqualTo(1);
+        assertThat(executor.isTerminated()).isTrue();
+    }
+
+    @Test
+    void testQueueWait() throws Exception {
+        ExecutorService pool = ThreadPoolBuilder.builder().threads(1).build();
+        InstrumentedExecutorService executor = MoreExecutors.instrument(pool);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> waiting = executor.submit(() -> {});
+
+            assertThat(executor.activeCount()).isEqualTo(1);
+            assertThat(executor.queueDepth()).isEqualTo(1);
+
+            Thread.sleep(20);
+            release.countDown();
+            waiting.get(10, TimeUnit.SECONDS);
+
+            ExecutorMetrics metrics = executor.metrics();
+            assertThat(metrics.queueWaits().count()).isEqualTo(2);
+            assertThat(metrics.queueWaits().max()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        }
+        finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testShutdownNow() throws Exception {
+        ExecutorService pool = ThreadPoolBuilder.builder().threads(1).build();
+        InstrumentedExecutorService executor = MoreExecutors.instrument(pool);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Runnable pending = () -> {};
+
+        executor.execute(() -> {
+            started.countDown();
+            sleep(TimeUnit.SECONDS.toMillis(10));
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(pending);
+
+        // The unstarted tasks are returned as submitted
+        assertThat(executor.shutdownNow()).containsExactly(pending);
+        assertThat(executor.queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    void testDroppedTasks() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.DiscardPolicy());
+        InstrumentedExecutorService executor = MoreExecutors.instrument(pool);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The second task is queued, and the third one is silently dropped by the pool
+            executor.execute(() -> {});
+            executor.execute(() -> {});
+            assertThat(executor.queueDepth()).isEqualTo(1);
+
+            release.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor.queueDepth()).isEqualTo(0);
+        }
+        finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCallerRunsAfterShutdown() {
+        InstrumentedExecutorService executor = MoreExecutors.instrument(ThreadPoolBuilder.builder().threads(1).build());
+        executor.shutdown();
+
+        assertThat(catchThrowable(() -> executor.execute(() -> {})))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        ExecutorMetrics metrics = executor.metrics();
+        assertThat(metrics.rejectedCount()).isEqualTo(1);
+        assertThat(metrics.queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    void testInterval() {
+        InstrumentedExecutorService executor = MoreExecutors.instrument(MoreExecutors.newDirectPool());
+        monitor.register("direct", executor);
+
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+
+        monitor.report();
+        assertThat(reporter.intervals.get("direct").completedCount()).isEqualTo(2);
+
+        executor.execute(() -> {});
+
+        monitor.report();
+        assertThat(reporter.intervals.get("direct").completedCount()).isEqualTo(1);
+        assertThat(reporter.intervals.get("direct").runTimes().count()).isEqualTo(1);
+        assertThat(reporter.totals.get("direct").completedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testRegister() {
+        InstrumentedExecutorService executor = MoreExecutors.instrument(MoreExecutors.newDirectPool());
+        monitor.register("direct", executor);
+
+        assertThat(catchThrowable(() -> monitor.register("direct", executor)))
+                .isInstanceOf(IllegalStateException.class);
+
+        monitor.unregister("direct");
+        assertThat(reporter.removed).containsExactly("direct");
+
+        monitor.close();
+        assertThat(catchThrowable(() -> monitor.register("direct", executor)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFailingSource() {
+        monitor.register("failing", () -> {
+            throw new IllegalStateException("failure");
+        });
+        monitor.register("direct", MoreExecutors.instrument(MoreExecutors.newDirectPool()));
+
+        monitor.report();
+        assertThat(reporter.totals).containsOnlyKeys("direct");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A reporter that keeps the last metrics of each executor.
+     */
+    private static final class RecordingReporter implements ExecutorReporter {
+
+        private final Map<String, ExecutorMetrics> intervals = new HashMap<>();
+
+        private final Map<String, ExecutorMetrics> totals = new HashMap<>();
+
+        private final List<String> removed = new ArrayList<>();
+
+        @Override
+        public void report(String name, ExecutorMetrics interval, ExecutorMetrics total) {
+            intervals.put(name, interval);
+            totals.put(name, total);
+        }
+
+        @Override
+        public void remove(String name) {
+            removed.add(name);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ForkJoinPoolBuilder}.
+ */
+@ParametersAreNonnullByDefault
+class ForkJoinPoolBuilderTest extends AbstractTest {
+
+    @Test
+    void testBuild() throws Exception {
+        ForkJoinPool pool = ForkJoinPoolBuilder.builder()
+                .name("stealing")
+                .parallelism(2)
+                .asyncMode()
+                .build();
+
+        try {
+            assertThat(pool.getParallelism()).isEqualTo(2);
+            assertThat(pool.getAsyncMode()).isTrue();
+
+            assertThat(pool.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS)).startsWith("stealing-");
+            assertThat(pool.invoke(new Sum(0, 10_000))).isEqualTo(49_995_000L);
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGauges() throws Exception {
+        ForkJoinPool pool = ForkJoinPoolBuilder.builder().parallelism(1).build();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            pool.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            pool.execute(() -> {});
+
+            ExecutorGauges gauges = MoreExecutors.gauges(pool);
+            assertThat(gauges.activeCount()).isEqualTo(1);
+            assertThat(gauges.queueDepth()).isEqualTo(1);
+        }
+        finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThat(catchThrowable(() -> ForkJoinPoolBuilder.builder().parallelism(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A task that sums the integers of a range, by splitting it.
+     */
+    private static final class Sum extends RecursiveTask<Long> {
+
+        private final int from;
+
+        private final int to;
+
+        Sum(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= 100) {
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += i;
+                }
+                return sum;
+            }
+
+            int middle = (from + to) >>> 1;
+            Sum left = new Sum(from, middle);
+            left.fork();
+            return new Sum(middle, to).compute() + left.join();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link LatencyRecorder} and {@link LatencyDistribution}.
+ */
+@ParametersAreNonnullByDefault
+class LatencyRecorderTest extends AbstractTest {
+
+    @Test
+    void testBuckets() {
+        assertThat(LatencyRecorder.indexOf(0)).isEqualTo(0);
+        assertThat(LatencyRecorder.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyRecorder.BUCKET_COUNT - 1);
+        assertThat(LatencyRecorder.highestValueOf(LatencyRecorder.BUCKET_COUNT - 1)).isEqualTo(Long.MAX_VALUE);
+
+        // Each bucket starts right after the previous one
+        for (int i = 1; i < LatencyRecorder.BUCKET_COUNT; i++) {
+            long lowestValue = LatencyRecorder.highestValueOf(i - 1) + 1;
+            assertThat(LatencyRecorder.indexOf(lowestValue)).isEqualTo(i);
+            assertThat(LatencyRecorder.indexOf(LatencyRecorder.highestValueOf(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        LatencyDistribution distribution = new LatencyRecorder().snapshot();
+
+        assertThat(distribution).isEqualTo(LatencyDistribution.empty());
+        assertThat(distribution.count()).isEqualTo(0);
+        assertThat(distribution.p50()).isEqualTo(Duration.ZERO);
+        assertThat(distribution.max()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long i = 1; i <= 10_000; i++) {
+            recorder.record(i * 1_000);
+        }
+
+        LatencyDistribution distribution = recorder.snapshot();
+        assertThat(distribution.count()).isEqualTo(10_000);
+
+        assertThat(distribution.p50().toNanos()).isBetween(4_900_000L, 5_100_000L);
+        assertThat(distribution.p99().toNanos()).isBetween(9_700_000L, 10_100_000L);
+        assertThat(distribution.p999().toNanos()).isBetween(9_790_000L, 10_190_000L);
+        assertThat(distribution.max().toNanos()).isBetween(9_800_000L, 10_200_000L);
+
+        assertThat(distribution.percentile(0)).isEqualTo(distribution.percentile(0.001));
+        assertThat(distribution.percentile(100)).isEqualTo(distribution.max());
+    }
+
+    @Test
+    void testNegative() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(-10);
+
+        assertThat(recorder.snapshot().max()).isEqualTo(Duration.ZERO);
+        assertThat(recorder.snapshot().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testMinusPlus() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(100);
+        recorder.record(200);
+
+        LatencyDistribution previous = recorder.snapshot();
+
+        recorder.record(1_000_000);
+
+        LatencyDistribution current = recorder.snapshot();
+        LatencyDistribution interval = current.minus(previous);
+
+        assertThat(interval.count()).isEqualTo(1);
+        assertThat(interval.p50()).isEqualTo(current.max());
+        assertThat(interval.plus(previous)).isEqualTo(current);
+        assertThat(previous.minus(current)).isEqualTo(LatencyDistribution.empty());
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        LatencyDistribution distribution = LatencyDistribution.empty();
+
+        assertThat(catchThrowable(() -> distribution.percentile(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> distribution.percentile(101)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
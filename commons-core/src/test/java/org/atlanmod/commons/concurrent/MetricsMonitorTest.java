@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link MetricsMonitor}.
+ */
+@ParametersAreNonnullByDefault
+class MetricsMonitorTest extends AbstractTest {
+
+    @Test
+    void testInterval() {
+        List<String> reports = new ArrayList<>();
+        AtomicLong counter = new AtomicLong();
+
+        MetricsReporter<Long> reporter = (name, interval, total) -> reports.add(name + ' ' + interval + '/' + total);
+        try (MetricsMonitor<Long> monitor = MetricsMonitor.create("test-monitor", Duration.ofHours(1), (a, b) -> a - b, Collections.singletonList(reporter))) {
+            monitor.register("counter", counter::get);
+
+            counter.addAndGet(3);
+            monitor.report();
+
+            counter.addAndGet(2);
+            monitor.report();
+
+            monitor.report();
+        }
+
+        // The last report is made on close
+        assertThat(reports).containsExactly("counter 3/3", "counter 2/5", "counter 0/5", "counter 0/5");
+    }
+
+    @Test
+    void testRegister() {
+        List<String> removed = new ArrayList<>();
+
+        MetricsReporter<Long> reporter = new MetricsReporter<Long>() {
+            @Override
+            public void report(String name, Long interval, Long total) {
+                // Do nothing
+            }
+
+            @Override
+            public void remove(String name) {
+                removed.add(name);
+            }
+        };
+
+        MetricsMonitor<Long> monitor = MetricsMonitor.create("test-monitor", Duration.ofHours(1), (a, b) -> a - b, Collections.singletonList(reporter));
+        monitor.register("a", () -> 0L);
+        monitor.register("b", () -> 0L);
+
+        assertThat(catchThrowable(() -> monitor.register("a", () -> 0L)))
+                .isInstanceOf(IllegalStateException.class);
+
+        monitor.unregister("a");
+        assertThat(removed).containsExactly("a");
+
+        monitor.close();
+        assertThat(removed).containsExactly("a", "b");
+
+        assertThat(catchThrowable(() -> monitor.register("c", () -> 0L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> MetricsMonitor.<Long>create("test-monitor", Duration.ZERO, (a, b) -> a - b, Collections.emptyList())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link MicroBatcher}.
+ */
+@ParametersAreNonnullByDefault
+class MicroBatcherTest extends AbstractTest {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Nullable
+    private MicroBatcher<Integer> batcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void testMaximumSize() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(3)
+                .maximumLatency(1, TimeUnit.HOURS)
+                .build(batches::add);
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(batcher.offer(i)).isTrue();
+        }
+
+        // The full batches are delivered without waiting
+        waitForBatches(2);
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5));
+        assertThat(batcher.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testMaximumLatency() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(100)
+                .maximumLatency(20, TimeUnit.MILLISECONDS)
+                .build(batches::add);
+
+        long start = System.nanoTime();
+        batcher.offer(0);
+        batcher.offer(1);
+
+        waitForBatches(1);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(batches).containsExactly(Arrays.asList(0, 1));
+    }
+
+    @Test
+    void testBackPressure() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(2)
+                .maximumLatency(1, TimeUnit.MILLISECONDS)
+                .capacity(2)
+                .build(this::blockingConsumer);
+
+        // The first batch blocks the consumer
+        batcher.offer(0);
+        batcher.offer(1);
+        waitForBatches(1);
+
+        assertThat(batcher.offer(2)).isTrue();
+        assertThat(batcher.offer(3)).isTrue();
+        assertThat(batcher.offer(4)).isFalse();
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                batcher.put(4);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(blocked).isNotDone();
+
+        release.countDown();
+        blocked.get(10, TimeUnit.SECONDS);
+
+        waitForBatches(3);
+        assertThat(batches).containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4));
+    }
+
+    @Test
+    void testClose() {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(2)
+                .maximumLatency(1, TimeUnit.HOURS)
+                .build(batches::add);
+
+        for (int i = 0; i < 5; i++) {
+            batcher.offer(i);
+        }
+
+        // The waiting items are delivered before closing
+        batcher.close();
+        assertThat(batches).containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4));
+
+        assertThat(catchThrowable(() -> batcher.offer(5)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testCloseInterrupted() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(1)
+                .build(this::blockingConsumer);
+
+        batcher.offer(0);
+        batcher.offer(1);
+        waitForBatches(1);
+
+        // The consumer hangs: an interrupted thread does not wait for it
+        Thread.currentThread().interrupt();
+        batcher.close();
+        assertThat(Thread.interrupted()).isTrue();
+
+        // The remaining items are delivered in the background
+        release.countDown();
+        waitForBatches(2);
+        assertThat(batches).containsExactly(Collections.singletonList(0), Collections.singletonList(1));
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int maximumSize = 64;
+        batcher = MicroBatcherBuilder.builder()
+                .name("concurrent-batcher")
+                .maximumSize(maximumSize)
+                .capacity(256)
+                .build(batches::add);
+
+        int producers = 4;
+        int count = 10_000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * count;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < count; i++) {
+                    try {
+                        batcher.put(offset + i);
+                    }
+                    catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }));
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        batcher.close();
+
+        Set<Integer> items = new HashSet<>();
+        for (List<Integer> batch : batches) {
+            assertThat(batch.size()).isBetween(1, maximumSize);
+            items.addAll(batch);
+        }
+        assertThat(items).hasSize(producers * count);
+    }
+
+    @Test
+    void testConsumerFailure() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(1)
+                .build(b -> {
+                    if (b.contains(0)) {
+                        throw new IllegalStateException("failure");
+                    }
+                    batches.add(b);
+                });
+
+        batcher.offer(0);
+        batcher.offer(1);
+
+        // A failure does not stop the consumer
+        waitForBatches(1);
+        assertThat(batches).containsExactly(Collections.singletonList(1));
+    }
+
+    @Test
+    void testConsumerError() throws Exception {
+        batcher = MicroBatcherBuilder.builder()
+                .maximumSize(1)
+                .capacity(1)
+                .build(b -> {
+                    if (b.contains(0)) {
+                        throw new StackOverflowError("failure");
+                    }
+                    batches.add(b);
+                });
+
+        // An error does not stop the consumer: the producers are not blocked, and the items are delivered on close
+        for (int i = 0; i < 4; i++) {
+            batcher.put(i);
+        }
+        batcher.close();
+
+        assertThat(batches).containsExactly(Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3));
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThat(catchThrowable(() -> MicroBatcherBuilder.builder().maximumSize(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> MicroBatcherBuilder.builder().maximumLatency(0, TimeUnit.SECONDS)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> MicroBatcherBuilder.builder().maximumSize(10).capacity(5).build(b -> {})))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void blockingConsumer(List<Integer> batch) {
+        batches.add(batch);
+        try {
+            release.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForBatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (batches.size() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
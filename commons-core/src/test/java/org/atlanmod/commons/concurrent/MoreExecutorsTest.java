@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link MoreExecutors}.
+ */
+@ParametersAreNonnullByDefault
+class MoreExecutorsTest extends AbstractTest {
+
+    @Test
+    void testVirtualThreadPerTaskExecutor() throws Exception {
+        ExecutorService executor = MoreExecutors.newVirtualThreadPerTaskExecutor("loader");
+
+        try {
+            Future<String> future = executor.submit(() -> Thread.currentThread().getName());
+            assertThat(future.get(10, TimeUnit.SECONDS)).startsWith("loader-");
+
+            // Blocking tasks do not wait for each other
+            int count = 100;
+            CountDownLatch latch = new CountDownLatch(count);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> {
+                    latch.countDown();
+                    return latch.await(10, TimeUnit.SECONDS);
+                }));
+            }
+
+            for (Future<Boolean> f : futures) {
+                assertThat(f.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvokeAllBounded() throws Exception {
+        ExecutorService executor = MoreExecutors.newVirtualThreadPerTaskExecutor("fan-out");
+
+        try {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                int value = i;
+                tasks.add(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    running.decrementAndGet();
+                    return value;
+                });
+            }
+
+            List<Integer> results = MoreExecutors.invokeAllBounded(executor, tasks, 4, 10, TimeUnit.SECONDS);
+
+            assertThat(results).hasSize(50);
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i)).isEqualTo(i);
+            }
+            assertThat(maxRunning.get()).isBetween(1, 4);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvokeAllBoundedFailure() throws Exception {
+        ExecutorService executor = MoreExecutors.newVirtualThreadPerTaskExecutor("fan-out");
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            Callable<Integer> blocking = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                }
+                catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return 0;
+            };
+            Callable<Integer> failing = () -> {
+                // Fail once the sibling is running, so that it is interrupted rather than cancelled before starting
+                started.await();
+                throw new IllegalStateException("failure");
+            };
+
+            Throwable thrown = catchThrowable(() -> MoreExecutors.invokeAllBounded(executor, Arrays.asList(blocking, failing), 2, 10, TimeUnit.SECONDS));
+            assertThat(thrown).isInstanceOf(ExecutionException.class);
+            assertThat(thrown.getCause()).isInstanceOf(IllegalStateException.class);
+
+            // The sibling has been cancelled
+            assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvokeAllBoundedTimeout() {
+        ExecutorService executor = MoreExecutors.newVirtualThreadPerTaskExecutor("fan-out");
+
+        try {
+            Callable<Integer> blocking = () -> {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                return 0;
+            };
+
+            Throwable thrown = catchThrowable(() -> MoreExecutors.invokeAllBounded(executor, Collections.singletonList(blocking), 1, 50, TimeUnit.MILLISECONDS));
+            assertThat(thrown).isInstanceOf(TimeoutException.class);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvokeAllBoundedDirect() throws Exception {
+        ExecutorService executor = MoreExecutors.newDirectPool();
+
+        List<Callable<String>> tasks = Arrays.asList(() -> "a", () -> "b", () -> "c");
+        assertThat(MoreExecutors.invokeAllBounded(executor, tasks, 2, 1, TimeUnit.SECONDS)).containsExactly("a", "b", "c");
+
+        assertThat(catchThrowable(() -> MoreExecutors.invokeAllBounded(executor, tasks, 0, 1, TimeUnit.SECONDS)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.concurrent;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ThreadPoolBuilder}.
+ */
+@ParametersAreNonnullByDefault
+class ThreadPoolBuilderTest extends AbstractTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void testCallerRuns() throws Exception {
+        ExecutorService executor = saturatedPool(BackPressure.CALLER_RUNS);
+
+        try {
+            AtomicReference<String> thread = new AtomicReference<>();
+            executor.execute(() -> thread.set(Thread.currentThread().getName()));
+
+            assertThat(thread.get()).isEqualTo(Thread.currentThread().getName());
+        }
+        finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCallerRunsAfterShutdown() {
+        ExecutorService executor = ThreadPoolBuilder.builder()
+                .threads(1)
+                .queueCapacity(2)
+                .backPressure(BackPressure.CALLER_RUNS)
+                .build();
+        executor.shutdown();
+
+        // The task is not discarded silently
+        assertThat(catchThrowable(() -> executor.submit(() -> {})))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testBlock() throws Exception {
+        ExecutorService executor = saturatedPool(BackPressure.BLOCK);
+
+        try {
+            CountDownLatch executed = new CountDownLatch(1);
+            CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> executor.execute(executed::countDown));
+
+            Thread.sleep(50);
+            assertThat(blocked).isNotDone();
+
+            release.countDown();
+            blocked.get(10, TimeUnit.SECONDS);
+            assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+        finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReject() throws Exception {
+        ExecutorService executor = saturatedPool(BackPressure.REJECT);
+
+        try {
+            assertThat(catchThrowable(() -> executor.execute(() -> {})))
+                    .isInstanceOf(RejectedExecutionException.class);
+        }
+        finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGauges() throws Exception {
+        ExecutorService executor = saturatedPool(BackPressure.REJECT);
+
+        try {
+            ExecutorGauges gauges = MoreExecutors.gauges(executor);
+            assertThat(gauges.activeCount()).isEqualTo(1);
+            assertThat(gauges.queueDepth()).isEqualTo(2);
+        }
+        finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThat(catchThrowable(() -> ThreadPoolBuilder.builder().threads(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> ThreadPoolBuilder.builder().queueCapacity(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> ThreadPoolBuilder.builder().threads(2).maximumThreads(1).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Creates a pool of 1 thread and a queue of 2 tasks, and fills it with tasks that wait for the {@link #release}
+     * latch.
+     */
+    private ExecutorService saturatedPool(BackPressure backPressure) throws InterruptedException {
+        ExecutorService executor = ThreadPoolBuilder.builder()
+                .name("bounded")
+                .threads(1)
+                .queueCapacity(2)
+                .backPressure(backPressure)
+                .build();
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        return executor;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link BloomFilter}.
+ */
+@ParametersAreNonnullByDefault
+class BloomFilterTest extends AbstractTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    private static final double FPP = 0.01;
+
+    @Test
+    void testPutAndMightContain() {
+        BloomFilter filter = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+
+        assertThat(filter.mightContain("value")).isFalse();
+        assertThat(filter.put("value")).isTrue();
+        assertThat(filter.put("value")).isFalse();
+        assertThat(filter.mightContain("value")).isTrue();
+
+        assertThat(filter.put(42L)).isTrue();
+        assertThat(filter.mightContain(42L)).isTrue();
+
+        assertThat(filter.put(new byte[]{1, 2, 3})).isTrue();
+        assertThat(filter.mightContain(new byte[]{1, 2, 3})).isTrue();
+
+        assertThat(filter.put(StandardHashers.SHA256.hash("hash"))).isTrue();
+        assertThat(filter.mightContain(StandardHashers.SHA256.hash("hash"))).isTrue();
+    }
+
+    @Test
+    void testFalsePositiveProbability() {
+        BloomFilter filter = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("in" + i));
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("in" + i))).isTrue();
+
+        long falsePositives = IntStream.range(0, INSERTIONS * 10).filter(i -> filter.mightContain("out" + i)).count();
+        assertThat((double) falsePositives / (INSERTIONS * 10)).isLessThan(FPP * 2);
+        assertThat(filter.expectedFpp()).isLessThan(FPP * 2);
+    }
+
+    @Test
+    void testConcurrentPut() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        IntStream.range(0, INSERTIONS).forEach(i -> pool.execute(() -> filter.put(i)));
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    void testMerge() {
+        BloomFilter filter0 = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+        filter0.put("value0");
+
+        BloomFilter filter1 = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+        filter1.put("value1");
+
+        filter0.merge(filter1);
+        assertThat(filter0.mightContain("value0")).isTrue();
+        assertThat(filter0.mightContain("value1")).isTrue();
+
+        BloomFilter other = BloomFilter.create(StandardHashers.XX, INSERTIONS * 2, FPP);
+        assertThat(catchThrowable(() -> filter0.merge(other))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSerialization() throws IOException {
+        BloomFilter filter = BloomFilter.create(StandardHashers.XX, INSERTIONS, FPP);
+        IntStream.range(0, 100).forEach(i -> filter.put("in" + i));
+
+        BinarySerializer<BloomFilter> serializer = BloomFilter.serializer(StandardHashers.XX);
+        BloomFilter result = serializer.deserialize(serializer.serialize(filter));
+
+        assertThat(result.bitSize()).isEqualTo(filter.bitSize());
+        assertThat(result.numHashes()).isEqualTo(filter.numHashes());
+        assertThat(IntStream.range(0, 100).allMatch(i -> result.mightContain("in" + i))).isTrue();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> BloomFilter.create(StandardHashers.XX, 0, FPP)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> BloomFilter.create(StandardHashers.XX, INSERTIONS, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractFileBasedTest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ChunkedHasher}.
+ */
+@ParametersAreNonnullByDefault
+class ChunkedHasherTest extends AbstractFileBasedTest {
+
+    /**
+     * The size of chunks used in tests.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, CHUNK_SIZE, CHUNK_SIZE * 4, CHUNK_SIZE * 4 + 100})
+    void testTreeHash(int size) throws IOException {
+        byte[] bytes = newBytes(size);
+        Path file = newFile(bytes);
+
+        ChunkedHasher hasher = new ChunkedHasher(StandardHashers.XX, CHUNK_SIZE, ForkJoinPool.commonPool());
+
+        HashCode fileHash = hasher.hash(file);
+        assertThat(hasher.hash(new ByteArrayInputStream(bytes))).isEqualTo(fileHash);
+
+        ChunkedHasher sequentialHasher = new ChunkedHasher(StandardHashers.XX, CHUNK_SIZE, new ForkJoinPool(1));
+        assertThat(sequentialHasher.hash(file)).isEqualTo(fileHash);
+    }
+
+    @Test
+    void testTreeHashSingleChunk() throws IOException {
+        byte[] bytes = newBytes(CHUNK_SIZE - 1);
+
+        ChunkedHasher hasher = new ChunkedHasher(StandardHashers.XX, CHUNK_SIZE, ForkJoinPool.commonPool());
+        assertThat(hasher.hash(newFile(bytes))).isEqualTo(StandardHashers.XX.hash(bytes));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, CHUNK_SIZE * 4 + 100})
+    void testSequentialHash(int size) throws IOException {
+        byte[] bytes = newBytes(size);
+        HashCode expected = StandardHashers.SHA256.hash(bytes);
+
+        ChunkedHasher hasher = new ChunkedHasher(StandardHashers.SHA256, CHUNK_SIZE, ForkJoinPool.commonPool());
+        assertThat(hasher.hash(newFile(bytes))).isEqualTo(expected);
+        assertThat(hasher.hash(new ByteArrayInputStream(bytes))).isEqualTo(expected);
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        assertThat(catchThrowable(() -> new ChunkedHasher(StandardHashers.XX, 0, ForkJoinPool.commonPool())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testMissingFile() throws IOException {
+        Path file = currentTempFile().toPath();
+
+        assertThat(catchThrowable(() -> new ChunkedHasher(StandardHashers.XX).hash(file)))
+                .isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Creates a new {@code byte} array of the given {@code size}.
+     */
+    private static byte[] newBytes(int size) {
+        byte[] bytes = new byte[size];
+        IntStream.range(0, size).forEach(i -> bytes[i] = (byte) (i * 31));
+        return bytes;
+    }
+
+    /**
+     * Writes the given {@code bytes} in the current temporary file.
+     */
+    private Path newFile(byte[] bytes) throws IOException {
+        return Files.write(currentTempFile().toPath(), bytes);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ConsistentHashRouter}.
+ */
+@ParametersAreNonnullByDefault
+class ConsistentHashRouterTest extends AbstractTest {
+
+    private static final int KEYS = 100_000;
+
+    private static final List<String> NODES = Arrays.asList("node0", "node1", "node2", "node3");
+
+    private static final List<String> MORE_NODES = Arrays.asList("node0", "node1", "node2", "node3", "node4");
+
+    @Test
+    void testJumpHash() {
+        assertThat(ConsistentHashRouter.jumpHash(0L, 1)).isZero();
+        assertThat(ConsistentHashRouter.jumpHash(256L, 1024)).isEqualTo(520);
+
+        assertThat(catchThrowable(() -> ConsistentHashRouter.jumpHash(0L, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jump", "ring"})
+    void testDistribution(String type) {
+        ConsistentHashRouter<String> router = create(type, NODES);
+
+        Map<String, Long> counts = IntStream.range(0, KEYS)
+                .mapToObj(i -> router.route("key" + i))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(counts).containsOnlyKeys(NODES);
+        counts.values().forEach(c -> assertThat(c).isBetween(KEYS / 4 * 7 / 10L, KEYS / 4 * 13 / 10L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jump", "ring"})
+    void testAddNode(String type) {
+        ConsistentHashRouter<String> router = create(type, NODES);
+        ConsistentHashRouter<String> newRouter = create(type, MORE_NODES);
+
+        IntStream.range(0, KEYS).mapToObj(i -> "key" + i).forEach(k -> {
+            String node = router.route(k);
+            String newNode = newRouter.route(k);
+            assertThat(newNode).isIn(node, "node4");
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jump", "ring"})
+    void testRouteTypes(String type) {
+        ConsistentHashRouter<String> router = create(type, NODES);
+
+        assertThat(router.route("key")).isEqualTo(router.route(StandardHashers.XX.hash("key")));
+        assertThat(router.route(42L)).isEqualTo(router.route(StandardHashers.XX.hash(42L)));
+        assertThat(router.route(new byte[]{1, 2})).isEqualTo(router.route(StandardHashers.XX.hash(new byte[]{1, 2})));
+
+        assertThat(router.nodes()).containsExactlyElementsOf(NODES);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> ConsistentHashRouter.jump(StandardHashers.XX, Collections.emptyList())))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> ConsistentHashRouter.ring(StandardHashers.XX, NODES, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> ConsistentHashRouter.ring(StandardHashers.XX, Arrays.asList("node0", "node0"), 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Creates a new router of the given {@code type}.
+     */
+    private static ConsistentHashRouter<String> create(String type, List<String> nodes) {
+        return "jump".equals(type)
+                ? ConsistentHashRouter.jump(StandardHashers.XX, nodes)
+                : ConsistentHashRouter.ring(StandardHashers.XX, nodes, 160);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.io.serializer.BinarySerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link CountMinSketch}.
+ */
+@ParametersAreNonnullByDefault
+class CountMinSketchTest extends AbstractTest {
+
+    private static final double EPSILON = 0.001;
+
+    private static final double CONFIDENCE = 0.99;
+
+    @Test
+    void testCreate() {
+        CountMinSketch sketch = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+
+        assertThat(sketch.width()).isEqualTo(2719);
+        assertThat(sketch.depth()).isEqualTo(5);
+        assertThat(sketch.totalCount()).isZero();
+    }
+
+    @Test
+    void testEstimateCount() {
+        CountMinSketch sketch = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+        IntStream.range(0, 1000).forEach(i -> sketch.add("value" + i, i));
+
+        long totalCount = sketch.totalCount();
+        assertThat(totalCount).isEqualTo(499_500);
+
+        IntStream.range(0, 1000).forEach(i -> assertThat(sketch.estimateCount("value" + i))
+                .isGreaterThanOrEqualTo(i)
+                .isLessThanOrEqualTo(i + (long) (EPSILON * totalCount)));
+
+        sketch.add(42L, 3);
+        sketch.add(new byte[]{1, 2, 3}, 4);
+        sketch.add(StandardHashers.SHA256.hash("hash"), 5);
+        assertThat(sketch.estimateCount(42L)).isGreaterThanOrEqualTo(3);
+        assertThat(sketch.estimateCount(new byte[]{1, 2, 3})).isGreaterThanOrEqualTo(4);
+        assertThat(sketch.estimateCount(StandardHashers.SHA256.hash("hash"))).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void testConcurrentAdd() throws InterruptedException {
+        CountMinSketch sketch = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        IntStream.range(0, 10_000).forEach(i -> pool.execute(() -> sketch.add(i % 10, 1)));
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(sketch.totalCount()).isEqualTo(10_000);
+        IntStream.range(0, 10).forEach(i -> assertThat(sketch.estimateCount(i)).isEqualTo(1000));
+    }
+
+    @Test
+    void testMerge() {
+        CountMinSketch sketch0 = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+        sketch0.add("value", 2);
+
+        CountMinSketch sketch1 = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+        sketch1.add("value", 3);
+
+        sketch0.merge(sketch1);
+        assertThat(sketch0.estimateCount("value")).isEqualTo(5);
+        assertThat(sketch0.totalCount()).isEqualTo(5);
+
+        CountMinSketch other = CountMinSketch.create(StandardHashers.XX, 4, 100);
+        assertThat(catchThrowable(() -> sketch0.merge(other))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSerialization() throws IOException {
+        CountMinSketch sketch = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+        IntStream.range(0, 100).forEach(i -> sketch.add("value" + i, i));
+
+        BinarySerializer<CountMinSketch> serializer = CountMinSketch.serializer(StandardHashers.XX);
+        CountMinSketch result = serializer.deserialize(serializer.serialize(sketch));
+
+        assertThat(result.depth()).isEqualTo(sketch.depth());
+        assertThat(result.width()).isEqualTo(sketch.width());
+        assertThat(result.totalCount()).isEqualTo(sketch.totalCount());
+        IntStream.range(0, 100).forEach(i -> assertThat(result.estimateCount("value" + i)).isEqualTo(sketch.estimateCount("value" + i)));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> CountMinSketch.create(StandardHashers.XX, 0, CONFIDENCE)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> CountMinSketch.create(StandardHashers.XX, 0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        CountMinSketch sketch = CountMinSketch.create(StandardHashers.XX, EPSILON, CONFIDENCE);
+        assertThat(catchThrowable(() -> sketch.add("value", -1))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.primitive.Strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link FixedHashCode}.
+ */
+@ParametersAreNonnullByDefault
+class FixedHashCodeTest extends AbstractTest {
+
+    /**
+     * The SHA-1 digest of "abc".
+     */
+    private static final String HEX = "a9993e364706816aba3e25717850c26c9cd0d89d";
+
+    private final static HashCode HASH = new FixedHashCode(Strings.toBytesBinary(HEX));
+
+    @Test
+    void testBits() {
+        assertThat(HASH.bits()).isEqualTo(160);
+    }
+
+    @Test
+    void testToBytes() {
+        assertThat(HASH.toBytes()).isEqualTo(Strings.toBytesBinary(HEX));
+    }
+
+    @Test
+    void testToLong() {
+        // Same as BinaryHashCode: only hash codes of 64 bits can be converted
+        assertThat(catchThrowable(HASH::toLong))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> new BinaryHashCode(Strings.toBytesBinary(HEX)).toLong()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testTruncateToLong() {
+        assertThat(HashCodes.truncateToLong(HASH)).isEqualTo(0xa9993e364706816aL);
+        assertThat(HashCodes.truncateToLong(new BinaryHashCode(Strings.toBytesBinary(HEX)))).isEqualTo(0xa9993e364706816aL);
+
+        assertThat(HashCodes.truncateToLong(new LongHashCode(42L))).isEqualTo(42L);
+        assertThat(HashCodes.truncateToLong(new BinaryHashCode(new byte[]{1, 2}))).isEqualTo(0x0102000000000000L);
+    }
+
+    @Test
+    void testToHexString() {
+        assertThat(HASH.toHexString()).isEqualTo(HEX);
+    }
+
+    @Test
+    void testToBase64String() {
+        assertThat(HASH.toBase64String()).isEqualTo("qZk+NkcGgWq6PiVxeFDCbJzQ2J0=");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 20, 32})
+    void testSameAsBinary(int length) {
+        byte[] bytes = new byte[length];
+        IntStream.range(0, length).forEach(i -> bytes[i] = (byte) (i * 37 + 11));
+
+        HashCode fixed = new FixedHashCode(bytes);
+        HashCode binary = new BinaryHashCode(bytes);
+
+        assertThat(fixed.bits()).isEqualTo(binary.bits());
+        assertThat(fixed.toBytes()).isEqualTo(binary.toBytes());
+        assertThat(fixed.toHexString()).isEqualTo(binary.toHexString());
+        assertThat(fixed.toBase64String()).isEqualTo(binary.toBase64String());
+        assertThat(fixed.hashCode()).isEqualTo(binary.hashCode());
+        assertThat(fixed).isEqualTo(binary);
+        assertThat(binary).isEqualTo(fixed);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    void testWriteTo(String order) {
+        ByteBuffer buffer = ByteBuffer.allocate(32)
+                .order("BIG_ENDIAN".equals(order) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+
+        HASH.writeTo(buffer);
+
+        assertThat(buffer.position()).isEqualTo(20);
+        assertThat(Arrays.copyOf(buffer.array(), 20)).isEqualTo(HASH.toBytes());
+    }
+
+    @Test
+    void testFromBytes() {
+        assertThat(HashCodes.fromBytes(new byte[16])).isInstanceOf(FixedHashCode.class);
+        assertThat(HashCodes.fromBytes(new byte[20])).isInstanceOf(FixedHashCode.class);
+        assertThat(HashCodes.fromBytes(new byte[32])).isInstanceOf(FixedHashCode.class);
+        assertThat(HashCodes.fromBytes(new byte[9])).isInstanceOf(BinaryHashCode.class);
+
+        assertThat(StandardHashers.SHA256.hash("abc")).isInstanceOf(FixedHashCode.class);
+    }
+
+    @Test
+    void testUnsupportedLength() {
+        assertThat(catchThrowable(() -> new FixedHashCode(new byte[9])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEquals() {
+        //noinspection EqualsWithItself
+        assertThat(HASH.equals(HASH)).isTrue();
+
+        //noinspection ConstantConditions
+        assertThat(HASH.equals(null)).isFalse();
+
+        assertThat(HASH.equals(new FixedHashCode(Strings.toBytesBinary(HEX)))).isTrue();
+
+        byte[] other = Strings.toBytesBinary(HEX);
+        other[19]++;
+        assertThat(HASH.equals(new FixedHashCode(other))).isFalse();
+
+        assertThat(HASH.equals(new FixedHashCode(Arrays.copyOf(Strings.toBytesBinary(HEX), 32)))).isFalse();
+    }
+
+    @Test
+    void testEqualsBinary() {
+        HashCode binary = new BinaryHashCode(Strings.toBytesBinary(HEX));
+
+        assertThat(HASH.equals(binary)).isTrue();
+        assertThat(binary.equals(HASH)).isTrue();
+        assertThat(HASH.hashCode()).isEqualTo(binary.hashCode());
+
+        byte[] other = Strings.toBytesBinary(HEX);
+        other[19]++;
+        assertThat(HASH.equals(new BinaryHashCode(other))).isFalse();
+        assertThat(new BinaryHashCode(other).equals(HASH)).isFalse();
+
+        assertThat(HASH.equals(new BinaryHashCode(Arrays.copyOf(Strings.toBytesBinary(HEX), 21)))).isFalse();
+        assertThat(new BinaryHashCode(Arrays.copyOf(Strings.toBytesBinary(HEX), 16)).equals(HASH)).isFalse();
+    }
+}
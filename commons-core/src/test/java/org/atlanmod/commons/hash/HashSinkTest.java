@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+import org.atlanmod.commons.primitive.Ints;
+import org.atlanmod.commons.primitive.Strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link HashSink}s.
+ */
+@ParametersAreNonnullByDefault
+class HashSinkTest extends AbstractTest {
+
+    /**
+     * A string containing multi-bytes characters, and a supplementary character.
+     */
+    private static final String DATA = "Lorem ipsum dolor sit amet, déjà vu 中 😀";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO"})
+    void testSingleValue(String name) {
+        Hasher hasher = StandardHashers.forName(name);
+        HashSink sink = hasher.newSink();
+
+        assertThat(sink.putByte((byte) 42).hash()).isEqualTo(hasher.hash((byte) 42));
+        assertThat(sink.putBoolean(true).hash()).isEqualTo(hasher.hash(true));
+        assertThat(sink.putChar('c').hash()).isEqualTo(hasher.hash('c'));
+        assertThat(sink.putShort((short) 42).hash()).isEqualTo(hasher.hash((short) 42));
+        assertThat(sink.putInt(42).hash()).isEqualTo(hasher.hash(42));
+        assertThat(sink.putLong(42L).hash()).isEqualTo(hasher.hash(42L));
+        assertThat(sink.putFloat(42.5f).hash()).isEqualTo(hasher.hash(42.5f));
+        assertThat(sink.putDouble(42.5d).hash()).isEqualTo(hasher.hash(42.5d));
+        assertThat(sink.putString(DATA).hash()).isEqualTo(hasher.hash(DATA));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX"})
+    void testLargeValues(String name) {
+        Hasher hasher = StandardHashers.forName(name);
+
+        byte[] bytes = new byte[4096];
+        IntStream.range(0, bytes.length).forEach(i -> bytes[i] = (byte) i);
+        assertThat(hasher.newSink().putBytes(bytes).hash()).isEqualTo(hasher.hash(bytes));
+
+        String string = String.join("", IntStream.range(0, 100).mapToObj(i -> DATA).toArray(String[]::new));
+        assertThat(hasher.newSink().putString(string).hash()).isEqualTo(hasher.hash(string));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX"})
+    void testByteBuffer(String name) {
+        Hasher hasher = StandardHashers.forName(name);
+
+        byte[] bytes = new byte[1024];
+        IntStream.range(0, bytes.length).forEach(i -> bytes[i] = (byte) i);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        assertThat(hasher.newSink().putBytes(buffer).hash()).isEqualTo(hasher.hash(bytes));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256"})
+    void testMultipleValues(String name) {
+        Hasher hasher = StandardHashers.forName(name);
+
+        byte[] name0 = Strings.toBytes("name");
+        byte[] expected = new byte[Integer.BYTES + name0.length];
+        System.arraycopy(Ints.toBytes(17), 0, expected, 0, Integer.BYTES);
+        System.arraycopy(name0, 0, expected, Integer.BYTES, name0.length);
+
+        assertThat(hasher.newSink().putInt(17).putString("name").hash()).isEqualTo(hasher.hash(expected));
+    }
+
+    @Test
+    void testReuse() {
+        HashSink sink = StandardHashers.XX.newSink();
+
+        HashCode first = sink.putInt(1).putLong(2L).putString("three").hash();
+        HashCode second = sink.putInt(1).putLong(2L).putString("three").hash();
+
+        assertThat(first).isEqualTo(second);
+        assertThat(sink.putInt(1).hash()).isEqualTo(StandardHashers.XX.hash(1));
+    }
+
+    @Test
+    void testDefaultSink() {
+        Hasher hasher = StandardHashers.SHA1::hash;
+
+        assertThat(hasher.newSink().putString(DATA).hash()).isEqualTo(StandardHashers.SHA1.hash(DATA));
+        assertThat(hasher.newSink().putLong(42L).hash()).isEqualTo(StandardHashers.SHA1.hash(42L));
+    }
+
+    @Test
+    void testInvalidRegion() {
+        assertThat(catchThrowable(() -> StandardHashers.MD5.newSink().putBytes(new byte[4], 2, 4)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(catchThrowable(() -> StandardHashers.XX.newSink().putBytes(new byte[4], -1, 2)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -11,11 +11,22 @@ package org.atlanmod.commons.hash;
 import org.atlanmod.commons.AbstractTest;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -106,4 +117,57 @@ class HasherTest extends AbstractTest {
     void testFarmHashUO() {
         assertThat(hashWith(StandardHashers.FARM_UO, "FARM_UO").toHexString()).isEqualToIgnoringCase("ea848ff9a62510e3");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNativeConcurrentAccess() throws Exception {
+        final String expected = "f94d9542e5fe295b1f3209fc2b1e23ff43ddd673350d91612e4ea69233da7a8b";
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> tasks = IntStream.range(0, 10_000)
+                    .mapToObj(i -> (Callable<String>) () -> StandardHashers.SHA256.hash(DATA).toHexString())
+                    .collect(Collectors.toList());
+
+            for (Future<String> future : pool.invokeAll(tasks)) {
+                assertThat(future.get()).isEqualToIgnoringCase(expected);
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MD5", "SHA1", "SHA256", "MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO"})
+    void testByteBuffer(String name) {
+        Hasher hasher = StandardHashers.forName(name);
+
+        byte[] bytes = new byte[256];
+        IntStream.range(0, bytes.length).forEach(i -> bytes[i] = (byte) i);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        buffer.position(16).limit(128);
+
+        assertThat(hasher.hash(buffer)).isEqualTo(hasher.hash(Arrays.copyOfRange(bytes, 16, 128)));
+        assertThat(hasher.hash(buffer, 192, 32)).isEqualTo(hasher.hash(Arrays.copyOfRange(bytes, 192, 224)));
+
+        assertThat(buffer.position()).isEqualTo(16);
+        assertThat(buffer.limit()).isEqualTo(128);
+
+        assertThat(catchThrowable(() -> hasher.hash(buffer, 192, 128)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testDefaultByteBuffer() {
+        Hasher hasher = StandardHashers.SHA1::hash;
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        buffer.position(2);
+
+        assertThat(hasher.hash(buffer)).isEqualTo(StandardHashers.SHA1.hash(new byte[]{3, 4, 5, 6, 7, 8}));
+        assertThat(hasher.hash(buffer, 0, 2)).isEqualTo(StandardHashers.SHA1.hash(new byte[]{1, 2}));
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+}
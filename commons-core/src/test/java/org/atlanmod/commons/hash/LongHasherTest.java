@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.hash;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link LongHasher}s.
+ */
+@ParametersAreNonnullByDefault
+class LongHasherTest extends AbstractTest {
+
+    /**
+     * A 64 bytes string.
+     */
+    private static final String DATA = "Lorem ipsum dolor sit amet, consectetur adipiscing elit volutpat";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MURMUR3", "XX", "CITY", "FARM_NA", "FARM_UO"})
+    void testHashToLong(String name) {
+        LongHasher hasher = (LongHasher) StandardHashers.forName(name);
+
+        assertThat(hasher.hashToLong((byte) 42)).isEqualTo(hasher.hash((byte) 42).toLong());
+        assertThat(hasher.hashToLong(true)).isEqualTo(hasher.hash(true).toLong());
+        assertThat(hasher.hashToLong('c')).isEqualTo(hasher.hash('c').toLong());
+        assertThat(hasher.hashToLong((short) 42)).isEqualTo(hasher.hash((short) 42).toLong());
+        assertThat(hasher.hashToLong(42)).isEqualTo(hasher.hash(42).toLong());
+        assertThat(hasher.hashToLong(42L)).isEqualTo(hasher.hash(42L).toLong());
+        assertThat(hasher.hashToLong(42.5f)).isEqualTo(hasher.hash(42.5f).toLong());
+        assertThat(hasher.hashToLong(42.5d)).isEqualTo(hasher.hash(42.5d).toLong());
+        assertThat(hasher.hashToLong(DATA)).isEqualTo(hasher.hash(DATA).toLong());
+    }
+
+    @Test
+    void testAccessors() throws NoSuchFieldException {
+        assertThat(StandardHashers.murmur3()).isSameAs(StandardHashers.MURMUR3);
+        assertThat(StandardHashers.xx()).isSameAs(StandardHashers.XX);
+        assertThat(StandardHashers.city()).isSameAs(StandardHashers.CITY);
+        assertThat(StandardHashers.farmNa()).isSameAs(StandardHashers.FARM_NA);
+        assertThat(StandardHashers.farmUo()).isSameAs(StandardHashers.FARM_UO);
+
+        // The type of the constants is part of the binary interface
+        assertThat(StandardHashers.class.getField("XX").getType()).isEqualTo(Hasher.class);
+    }
+
+    @Test
+    void testHashToLongRegions() {
+        LongHasher hasher = StandardHashers.xx();
+
+        byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThat(hasher.hashToLong(bytes, 2, 4)).isEqualTo(hasher.hashToLong(new byte[]{3, 4, 5, 6}));
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        assertThat(hasher.hashToLong(heap)).isEqualTo(hasher.hashToLong(bytes));
+        assertThat(hasher.hashToLong(heap, 2, 4)).isEqualTo(hasher.hashToLong(bytes, 2, 4));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertThat(hasher.hashToLong(direct)).isEqualTo(hasher.hashToLong(bytes));
+        assertThat(hasher.hashToLong(direct, 2, 4)).isEqualTo(hasher.hashToLong(bytes, 2, 4));
+        assertThat(direct.position()).isZero();
+    }
+
+    @Test
+    void testHashToLongBuffersWithoutAccessibleArray() {
+        LongHasher hasher = StandardHashers.xx();
+
+        byte[] bytes = DATA.getBytes();
+        long expected = hasher.hashToLong(bytes, 8, 32);
+
+        ByteBuffer slice = ByteBuffer.wrap(bytes);
+        slice.position(8).limit(40);
+        assertThat(hasher.hashToLong(slice.slice())).isEqualTo(expected);
+
+        ByteBuffer readOnly = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        assertThat(hasher.hashToLong(readOnly, 8, 32)).isEqualTo(expected);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        ByteBuffer readOnlyDirect = direct.asReadOnlyBuffer();
+        readOnlyDirect.position(8).limit(40);
+        assertThat(hasher.hashToLong(readOnlyDirect)).isEqualTo(expected);
+        assertThat(readOnlyDirect.position()).isEqualTo(8);
+
+        assertThat(hasher.hashToLong(direct, 8, 32)).isEqualTo(expected);
+    }
+
+    @Test
+    void testInvalidRegion() {
+        assertThat(catchThrowable(() -> StandardHashers.xx().hashToLong(new byte[4], 2, 4)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(catchThrowable(() -> StandardHashers.xx().hashToLong(ByteBuffer.allocate(4), 2, 4)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
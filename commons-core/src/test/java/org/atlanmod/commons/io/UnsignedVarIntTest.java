@@ -81,4 +81,26 @@ class UnsignedVarIntTest {
         UnsignedVarInt actual = UnsignedVarInt.fromByteBuffer(buffer);
         assertThat(actual).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 0x7FL, 0x80L, 0xFFL, 0XFFFFL, 0xFFFFFFL, 0xFFFFFFFFL, 0xFFFFFFFFFFFFFFL})
+    void testWriteLongSameAsToBytes(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        UnsignedVarInt.writeLong(buffer, value);
+
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        assertThat(bytes).isEqualTo(uvarint(value).toBytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 0x7FL, 0x80L, 0xFFFFFFFFL, Long.MAX_VALUE, -1L, Long.MIN_VALUE})
+    void testWriteLongAndBack(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        UnsignedVarInt.writeLong(buffer, value);
+        buffer.flip();
+
+        assertThat(UnsignedVarInt.readLong(buffer)).isEqualTo(value);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+import org.slf4j.Marker;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test-case that checks the behavior of {@link AsyncLogger}.
+ */
+@ParametersAreNonnullByDefault
+class AsyncLoggerTest extends AbstractTest {
+
+    @Test
+    void testInternalLevel() {
+        AsyncLogger logger = new AsyncLogger("test", new ThresholdLogger(Level.INFO), null);
+
+        assertThat(logger.isEnabled(Level.TRACE)).isFalse();
+        assertThat(logger.isEnabled(Level.DEBUG)).isFalse();
+        assertThat(logger.isEnabled(Level.INFO)).isTrue();
+        assertThat(logger.isEnabled(Level.ERROR)).isTrue();
+    }
+
+    @Test
+    void testConfiguredLevel() {
+        AsyncLogger logger = new AsyncLogger("test", new ThresholdLogger(Level.INFO), Level.WARN);
+
+        assertThat(logger.isEnabled(Level.INFO)).isFalse();
+        assertThat(logger.isEnabled(Level.WARN)).isTrue();
+
+        // A configured level cannot enable a level disabled by the internal logger
+        logger.refresh(Level.TRACE);
+        assertThat(logger.isEnabled(Level.DEBUG)).isFalse();
+        assertThat(logger.isEnabled(Level.INFO)).isTrue();
+
+        logger.refresh(null);
+        assertThat(logger.isEnabled(Level.INFO)).isTrue();
+    }
+
+    @Test
+    void testRefresh() {
+        ThresholdLogger internal = new ThresholdLogger(Level.ERROR);
+        AsyncLogger logger = new AsyncLogger("test", internal, null);
+        assertThat(logger.isEnabled(Level.WARN)).isFalse();
+
+        // The changes of the internal logger are taken into account when refreshing
+        internal.threshold = Level.DEBUG;
+        assertThat(logger.isEnabled(Level.WARN)).isFalse();
+
+        logger.refresh(null);
+        assertThat(logger.isEnabled(Level.WARN)).isTrue();
+        assertThat(logger.isEnabled(Level.DEBUG)).isTrue();
+        assertThat(logger.isEnabled(Level.TRACE)).isFalse();
+    }
+
+    @Test
+    void testNoLevel() {
+        AsyncLogger logger = new AsyncLogger("test", new ThresholdLogger(null), Level.TRACE);
+
+        for (Level level : Level.values()) {
+            assertThat(logger.isEnabled(level)).isFalse();
+        }
+    }
+
+    /**
+     * A {@link org.slf4j.Logger} that enables the levels greater than or equal to a threshold, and ignores the logging
+     * operations.
+     */
+    private static final class ThresholdLogger extends LegacyAbstractLogger {
+
+        @Nullable
+        private Level threshold;
+
+        ThresholdLogger(@Nullable Level threshold) {
+            this.threshold = threshold;
+        }
+
+        private boolean isEnabled(Level level) {
+            return threshold != null && level.compareTo(threshold) >= 0;
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return isEnabled(Level.TRACE);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return isEnabled(Level.DEBUG);
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return isEnabled(Level.INFO);
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return isEnabled(Level.WARN);
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return isEnabled(Level.ERROR);
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(org.slf4j.event.Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+        }
+    }
+}
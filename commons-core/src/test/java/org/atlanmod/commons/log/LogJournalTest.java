@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractFileBasedTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link LogJournal} and {@link LogJournalReader}.
+ */
+@ParametersAreNonnullByDefault
+class LogJournalTest extends AbstractFileBasedTest {
+
+    private static final long TIMESTAMP = 1_500_000_000_000L;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = currentTempFile().toPath();
+    }
+
+    @Test
+    void testAppendAndDecode() throws IOException {
+        try (LogJournal journal = LogJournal.open(directory)) {
+            assertThat(journal.append(TIMESTAMP, Level.INFO, "org.example", null, "Started", null)).isTrue();
+            assertThat(journal.append(TIMESTAMP + 5, Level.WARN, "org.example.sub", null, "{0} of {1} ({2}, {3}, {4})", new Object[]{3, 4L, 'c', true, null})).isTrue();
+            assertThat(journal.append(TIMESTAMP + 3, Level.DEBUG, "org.example", null, "{0} and {1}", new Object[]{1.5, Arrays.asList("a", "b")})).isTrue();
+            assertThat(journal.append(TIMESTAMP + 3, Level.ERROR, "", null, null, null)).isTrue();
+        }
+
+        assertThat(decode()).containsExactly(
+                Instant.ofEpochMilli(TIMESTAMP) + " [INFO] org.example - Started",
+                Instant.ofEpochMilli(TIMESTAMP + 5) + " [WARN] org.example.sub - 3 of 4 (c, true, null)",
+                Instant.ofEpochMilli(TIMESTAMP + 3) + " [DEBUG] org.example - 1.5 and [a, b]",
+                Instant.ofEpochMilli(TIMESTAMP + 3) + " [ERROR] root");
+    }
+
+    @Test
+    void testTypedParams() throws IOException {
+        Object[] params = {1234567, -42L, 0.25f, Long.MIN_VALUE};
+        String template = "{0} {1} {2} {3}";
+
+        try (LogJournal journal = LogJournal.open(directory)) {
+            journal.append(TIMESTAMP, Level.INFO, "test", null, template, params);
+        }
+
+        // The parameters are formatted with their original type
+        assertThat(decode()).containsExactly(Instant.ofEpochMilli(TIMESTAMP) + " [INFO] test - " + java.text.MessageFormat.format(template, params));
+    }
+
+    @Test
+    void testThrowable() throws IOException {
+        try (LogJournal journal = LogJournal.open(directory)) {
+            journal.append(TIMESTAMP, Level.ERROR, "test", new IllegalStateException("failure"), "Failed", null);
+        }
+
+        List<String> lines = decode();
+        assertThat(lines.get(0)).endsWith("[ERROR] test - Failed");
+        assertThat(lines.get(1)).isEqualTo("java.lang.IllegalStateException: failure");
+        assertThat(lines.get(2)).contains("LogJournalTest.testThrowable");
+    }
+
+    @Test
+    void testRolling() throws IOException {
+        String padding = new String(new char[1000]).replace('\0', 'x');
+        int count = 500;
+
+        try (LogJournal journal = LogJournal.open(directory, LogJournal.MINIMUM_SEGMENT_SIZE, 3)) {
+            for (int i = 0; i < count; i++) {
+                assertThat(journal.append(TIMESTAMP, Level.INFO, "test", null, "{0} {1}", new Object[]{i, padding})).isTrue();
+            }
+            assertThat(journal.droppedCount()).isEqualTo(0);
+        }
+
+        // Only the newest segments are kept
+        assertThat(LogJournal.segmentsIn(directory)).hasSize(3);
+
+        List<String> lines = decode();
+        assertThat(lines.size()).isLessThan(count);
+        assertThat(lines.get(lines.size() - 1)).endsWith("- " + (count - 1) + " " + padding);
+
+        // Each segment defines its own names and templates
+        for (int i = 1; i < lines.size(); i++) {
+            assertThat(lines.get(i)).contains("[INFO] test - ");
+        }
+    }
+
+    @Test
+    void testReopen() throws IOException {
+        try (LogJournal journal = LogJournal.open(directory)) {
+            journal.append(TIMESTAMP, Level.INFO, "test", null, "First", null);
+        }
+
+        try (LogJournal journal = LogJournal.open(directory)) {
+            journal.append(TIMESTAMP, Level.INFO, "test", null, "Second", null);
+        }
+
+        assertThat(LogJournal.segmentsIn(directory)).hasSize(2);
+        assertThat(decode()).containsExactly(
+                Instant.ofEpochMilli(TIMESTAMP) + " [INFO] test - First",
+                Instant.ofEpochMilli(TIMESTAMP) + " [INFO] test - Second");
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        LogJournal journal = LogJournal.open(directory);
+        journal.close();
+
+        assertThat(journal.append(TIMESTAMP, Level.INFO, "test", null, "Closed", null)).isFalse();
+        assertThat(decode()).isEmpty();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> LogJournal.open(directory, 1024, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> LogJournal.open(directory, LogJournal.MINIMUM_SEGMENT_SIZE, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testInvalidSegment() throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("other.log");
+        Files.write(file, "Not a journal".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(catchThrowable(() -> LogJournalReader.decode(file, new StringBuilder())))
+                .isInstanceOf(IOException.class);
+    }
+
+    private List<String> decode() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        LogJournalReader.decode(directory, builder);
+
+        String content = builder.toString();
+        return content.isEmpty()
+                ? Arrays.asList()
+                : Arrays.asList(content.split(System.lineSeparator()));
+    }
+}
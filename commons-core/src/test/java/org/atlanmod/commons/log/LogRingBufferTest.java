@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+import org.slf4j.helpers.NOPLogger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link LogRingBuffer}.
+ */
+@ParametersAreNonnullByDefault
+class LogRingBufferTest extends AbstractTest {
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Nullable
+    private LogRingBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+
+        if (buffer != null) {
+            buffer.close(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testCapacity() {
+        assertThat(capacityOf(2)).isEqualTo(2);
+        assertThat(capacityOf(100)).isEqualTo(128);
+        assertThat(capacityOf(128)).isEqualTo(128);
+
+        assertThat(catchThrowable(() -> new LogRingBuffer(1, OverflowPolicy.BLOCK, (e, f) -> {})))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testOrder() throws Exception {
+        buffer = new LogRingBuffer(16, OverflowPolicy.BLOCK, (e, f) -> record(e));
+
+        int producers = 4;
+        int count = 1000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String prefix = "P" + p + "-";
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < count; i++) {
+                    publish(Level.INFO, prefix + i);
+                }
+            }));
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(buffer.flush(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(messages).hasSize(producers * count);
+
+        // The events of each producer are handled in the order of their publication
+        for (int p = 0; p < producers; p++) {
+            String prefix = "P" + p + "-";
+            int last = -1;
+            for (String message : new ArrayList<>(messages)) {
+                if (message.startsWith(prefix)) {
+                    int index = Integer.parseInt(message.substring(prefix.length()));
+                    assertThat(index).isEqualTo(last + 1);
+                    last = index;
+                }
+            }
+            assertThat(last).isEqualTo(count - 1);
+        }
+
+        // All the events are handled by the consumer
+        for (String thread : new ArrayList<>(threads)) {
+            assertThat(thread).startsWith("log-");
+        }
+    }
+
+    @Test
+    void testBlock() throws Exception {
+        buffer = new LogRingBuffer(2, OverflowPolicy.BLOCK, blockingHandler());
+        fill();
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> publish(Level.DEBUG, "Overflow"));
+        Thread.sleep(50);
+        assertThat(blocked).isNotDone();
+
+        release.countDown();
+        blocked.get(10, TimeUnit.SECONDS);
+        assertThat(buffer.flush(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(messages).containsExactly("First", "Second", "Overflow");
+    }
+
+    @Test
+    void testDiscardLowestLevels() throws Exception {
+        buffer = new LogRingBuffer(2, OverflowPolicy.DISCARD_LOWEST_LEVELS, blockingHandler());
+        fill();
+
+        publish(Level.DEBUG, "Discarded");
+        publish(Level.INFO, "Discarded");
+        publish(Level.ERROR, "Synchronous");
+
+        // The highest levels are handled synchronously
+        assertThat(messages).containsExactly("Synchronous");
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+
+        release.countDown();
+        assertThat(buffer.flush(10, TimeUnit.SECONDS)).isTrue();
+
+        // The discarded events are reported once the buffer has room again
+        waitForMessages(4);
+        assertThat(messages).containsExactly("Synchronous", "First", "Second", "{0} log event(s) discarded because the buffer was full");
+    }
+
+    @Test
+    void testRunSynchronously() throws Exception {
+        buffer = new LogRingBuffer(2, OverflowPolicy.RUN_SYNCHRONOUSLY, blockingHandler());
+        fill();
+
+        publish(Level.TRACE, "Synchronous");
+        assertThat(messages).containsExactly("Synchronous");
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+
+        release.countDown();
+        assertThat(buffer.flush(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(messages).containsExactly("Synchronous", "First", "Second");
+    }
+
+    @Test
+    void testClose() {
+        buffer = new LogRingBuffer(16, OverflowPolicy.BLOCK, (e, f) -> record(e));
+
+        publish(Level.INFO, "Pending");
+        buffer.close(10, TimeUnit.SECONDS);
+        assertThat(messages).containsExactly("Pending");
+
+        // The events published after closing are handled synchronously
+        publish(Level.INFO, "Closed");
+        assertThat(messages).containsExactly("Pending", "Closed");
+        assertThat(threads.get(1)).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void testCloseOrder() throws Exception {
+        buffer = new LogRingBuffer(16, OverflowPolicy.BLOCK, blockingHandler());
+        fill();
+
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(() -> buffer.close(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        // The events published after closing wait for the pending events to be handled
+        CompletableFuture<Void> closed = CompletableFuture.runAsync(() -> publish(Level.INFO, "Closed"));
+        Thread.sleep(50);
+        assertThat(closed).isNotDone();
+
+        release.countDown();
+        closing.get(10, TimeUnit.SECONDS);
+        closed.get(10, TimeUnit.SECONDS);
+
+        assertThat(messages).containsExactly("First", "Second", "Closed");
+    }
+
+    @Test
+    void testCloseWhilePublishing() throws Exception {
+        buffer = new LogRingBuffer(16, OverflowPolicy.BLOCK, (e, f) -> record(e));
+
+        int producers = 4;
+        int count = 10_000;
+
+        CountDownLatch started = new CountDownLatch(producers);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                started.countDown();
+                for (int i = 0; i < count; i++) {
+                    publish(Level.INFO, "Event");
+                }
+            }));
+        }
+
+        started.await();
+        buffer.close(10, TimeUnit.SECONDS);
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        // No event is lost while the consumer terminates
+        assertThat(messages.size()).isEqualTo(producers * count);
+    }
+
+    @Test
+    void testHandlerFailure() {
+        buffer = new LogRingBuffer(16, OverflowPolicy.BLOCK, (e, f) -> {
+            if ("Failure".contentEquals(e.message())) {
+                throw new IllegalStateException("failure");
+            }
+            record(e);
+        });
+
+        publish(Level.INFO, "Failure");
+        publish(Level.INFO, "Success");
+
+        // A failure does not stop the consumer
+        assertThat(buffer.flush(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(messages).contains("Success");
+    }
+
+    /**
+     * Returns a handler that records the events, but that blocks on the first one until the {@link #release} latch is
+     * released.
+     */
+    private BiConsumer<LogEvent, MessageFormatter> blockingHandler() {
+        return (e, f) -> {
+            if (Thread.currentThread().getName().startsWith("log-")) {
+                try {
+                    release.await();
+                }
+                catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            record(e);
+        };
+    }
+
+    /**
+     * Fills a buffer of 2 events handled by a {@link #blockingHandler()}: the first event is being handled, and the
+     * second one is pending.
+     */
+    private void fill() throws InterruptedException {
+        publish(Level.INFO, "First");
+        publish(Level.INFO, "Second");
+
+        // Wait for the consumer to block on the first event
+        Thread.sleep(50);
+    }
+
+    private static int capacityOf(int capacity) {
+        LogRingBuffer buffer = new LogRingBuffer(capacity, OverflowPolicy.BLOCK, (e, f) -> {});
+        buffer.close(10, TimeUnit.SECONDS);
+        return buffer.capacity();
+    }
+
+    private void publish(Level level, String message) {
+        buffer.publish(NOPLogger.NOP_LOGGER, level, null, message, null);
+    }
+
+    private void record(LogEvent event) {
+        messages.add(String.valueOf(event.message()));
+        threads.add(Thread.currentThread().getName());
+    }
+
+    private void waitForMessages(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (messages.size() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.util.Objects.nonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test-case that checks the behavior of {@link Log}.
+ */
+@ParametersAreNonnullByDefault
+class LogTest extends AbstractTest {
+
+    @AfterEach
+    void tearDown() {
+        Log.setLevel("", null);
+        Log.setLevel("org.example", null);
+        Log.setLevel("org.example.sub", null);
+    }
+
+    @Test
+    void testForName() {
+        assertThat(Log.forName("org.example")).isSameAs(Log.forName("org.example"));
+        assertThat(Log.forName("")).isSameAs(Log.root());
+    }
+
+    @Test
+    void testLevelInheritance() {
+        assertThat(Log.getLevel("org.example.sub")).isNull();
+
+        Log.setLevel("org.example", Level.WARN);
+        assertThat(Log.getLevel("org.example")).isEqualTo(Level.WARN);
+        assertThat(Log.getLevel("org.example.sub")).isEqualTo(Level.WARN);
+        assertThat(Log.getLevel("org.example.sub.deep")).isEqualTo(Level.WARN);
+        assertThat(Log.getLevel("org")).isNull();
+        assertThat(Log.getLevel("org.examples")).isNull();
+
+        Log.setLevel("org.example.sub", Level.DEBUG);
+        assertThat(Log.getLevel("org.example.sub.deep")).isEqualTo(Level.DEBUG);
+
+        Log.setLevel("", Level.ERROR);
+        assertThat(Log.getLevel("org")).isEqualTo(Level.ERROR);
+
+        Log.setLevel("org.example", null);
+        assertThat(Log.getLevel("org.example")).isEqualTo(Level.ERROR);
+        assertThat(Log.getLevel("org.example.sub")).isEqualTo(Level.DEBUG);
+    }
+
+    @Test
+    void testLevelRefresh() {
+        Logger logger = Log.forName("org.example.sub");
+
+        // The loaded loggers are refreshed
+        Log.setLevel("org.example", Level.ERROR);
+        assertThat(logger.isEnabled(Level.WARN)).isFalse();
+
+        // The new loggers use the current configuration
+        assertThat(Log.forName("org.example.other").isEnabled(Level.WARN)).isFalse();
+    }
+
+    @Test
+    void testRetention() throws InterruptedException {
+        Logger used = Log.forName("org.example.used");
+
+        WeakReference<Logger> unused = new WeakReference<>(Log.forName("org.example.unused"));
+        int loadedCount = Log.loadedCount();
+        for (int i = 0; i < 1000; i++) {
+            Log.forName("org.example.unused" + i);
+        }
+
+        // The unused loggers are collected, and their entries are removed when another logger is created
+        for (int i = 0; i < 100 && (nonNull(unused.get()) || Log.loadedCount() > loadedCount); i++) {
+            System.gc();
+            Thread.sleep(10);
+            Log.forName("org.example.other");
+        }
+
+        assertThat(unused.get()).isNull();
+        assertThat(Log.loadedCount()).isLessThanOrEqualTo(loadedCount);
+
+        // The used loggers are kept
+        assertThat(Log.forName("org.example.used")).isSameAs(used);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test-case that checks the behavior of the default methods of {@link Logger}.
+ */
+@ParametersAreNonnullByDefault
+class LoggerTest extends AbstractTest {
+
+    @Test
+    void testFixedArity() {
+        RecordingLogger logger = new RecordingLogger(Level.DEBUG);
+
+        logger.debug("{0}", 1);
+        logger.info("{0} {1}", 1, 2);
+        logger.warn("{0} {1} {2}", 1, 2, 3);
+        logger.error("{0} {1} {2} {3}", 1, 2, 3, 4);
+        logger.log(Level.INFO, "{0}", 1);
+
+        assertThat(logger.events).containsExactly(
+                "DEBUG [1]",
+                "INFO [1, 2]",
+                "WARN [1, 2, 3]",
+                "ERROR [1, 2, 3, 4]",
+                "INFO [1]");
+    }
+
+    @Test
+    void testFixedArityDisabled() {
+        RecordingLogger logger = new RecordingLogger(Level.WARN);
+
+        logger.trace("{0}", 1);
+        logger.debug("{0} {1}", 1, 2);
+        logger.info("{0} {1} {2}", 1, 2, 3);
+        logger.log(Level.INFO, "{0} {1} {2} {3}", 1, 2, 3, 4);
+
+        assertThat(logger.events).isEmpty();
+    }
+
+    @Test
+    void testFixedArityWithException() {
+        RecordingLogger logger = new RecordingLogger(Level.DEBUG);
+        Exception e = new IllegalStateException("failure");
+
+        logger.trace(e, "{0}", 1);
+        logger.debug(e, "{0}", 1);
+        logger.info(e, "{0} {1}", 1, 2);
+        logger.warn(e, "{0} {1} {2}", 1, 2, 3);
+        logger.error(e, "{0} {1} {2} {3}", 1, 2, 3, 4);
+        logger.log(Level.INFO, e, "{0}", 1);
+
+        // A null exception must be typed to not be ambiguous with the message
+        logger.info((Throwable) null, "{0} {1}", 1, 2);
+        logger.log(Level.WARN, (Throwable) null, "{0}", 1);
+
+        assertThat(logger.events).containsExactly(
+                "DEBUG failure [1]",
+                "INFO failure [1, 2]",
+                "WARN failure [1, 2, 3]",
+                "ERROR failure [1, 2, 3, 4]",
+                "INFO failure [1]",
+                "INFO [1, 2]",
+                "WARN [1]");
+    }
+
+    /**
+     * A logger that records its events with their parameters, and that only enables the levels greater than or equal
+     * to a threshold.
+     */
+    private static final class RecordingLogger implements Logger {
+
+        private final List<String> events = new ArrayList<>();
+
+        private final Level threshold;
+
+        RecordingLogger(Level threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return level.compareTo(threshold) >= 0;
+        }
+
+        @Override
+        public void log(Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object... params) {
+            events.add(level + (e != null ? " " + e.getMessage() : "") + " " + Arrays.toString(params));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.Date;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link MessageFormatter}.
+ */
+@ParametersAreNonnullByDefault
+class MessageFormatterTest extends AbstractTest {
+
+    private final MessageFormatter formatter = new MessageFormatter();
+
+    @Test
+    void testSimpleArguments() {
+        assertSameAsMessageFormat("Hello {0}", "World");
+        assertSameAsMessageFormat("{0} + {1} = {2}", 1, 2, 3);
+        assertSameAsMessageFormat("{1}{0}", "a", "b");
+        assertSameAsMessageFormat("No argument", "unused");
+        assertSameAsMessageFormat("{0} and {0} again", 'c');
+        assertSameAsMessageFormat("{0}", (Object) null);
+        assertSameAsMessageFormat("{12}", "a");
+    }
+
+    @Test
+    void testFormattedArguments() {
+        assertSameAsMessageFormat("A large number: {0}", 1234567.891);
+        assertSameAsMessageFormat("A date: {0}", new Date(0));
+        assertSameAsMessageFormat("A percentage: {0,number,percent}", 0.25);
+        assertSameAsMessageFormat("A choice: {0,choice,0#none|1#one|1<many}", 2);
+    }
+
+    @Test
+    void testMissingArguments() {
+        assertSameAsMessageFormat("{0} {1} {2}", "a");
+    }
+
+    @Test
+    void testQuotes() {
+        assertSameAsMessageFormat("It''s {0}", "quoted");
+        assertSameAsMessageFormat("'{0}' is not an argument", "a");
+    }
+
+    @Test
+    void testInvalidPattern() {
+        assertThat(catchThrowable(() -> formatter.format("Unmatched {0", new Object[]{"a"})))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> formatter.format("Invalid {a}", new Object[]{"a"})))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testReuse() {
+        String longValue = new String(new char[10_000]).replace('\0', 'x');
+
+        assertThat(formatter.format("{0}", new Object[]{longValue})).isEqualTo(longValue);
+        assertThat(formatter.format("{0}", new Object[]{"short"})).isEqualTo("short");
+        assertThat(formatter.format(new StringBuilder("Built {0}"), new Object[]{"message"})).isEqualTo("Built message");
+    }
+
+    private void assertSameAsMessageFormat(String pattern, Object... params) {
+        // Formatted twice, to use the compiled pattern
+        assertThat(formatter.format(pattern, params)).isEqualTo(MessageFormat.format(pattern, params));
+        assertThat(formatter.format(pattern, params)).isEqualTo(MessageFormat.format(pattern, params));
+    }
+}
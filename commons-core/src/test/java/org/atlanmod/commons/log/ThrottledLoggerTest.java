@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2017 Atlanmod.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v2.0 which accompanies
+ * this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+
+package org.atlanmod.commons.log;
+
+import org.atlanmod.commons.AbstractTest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * A test-case that checks the behavior of {@link ThrottledLogger}.
+ */
+@ParametersAreNonnullByDefault
+class ThrottledLoggerTest extends AbstractTest {
+
+    private final RecordingLogger recorder = new RecordingLogger(Level.DEBUG);
+
+    @Test
+    void testRateLimit() {
+        AtomicLong ticker = new AtomicLong();
+        ThrottledLogger logger = new ThrottledLogger(recorder, ThrottledLogger.rateLimit(2, ticker::get));
+
+        for (int i = 0; i < 5; i++) {
+            logger.info("A {0}", i);
+        }
+        logger.info("B {0}", 0);
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        logger.info("A {0}", 5);
+
+        assertThat(recorder.events).containsExactly("INFO A {0} [0]", "INFO A {0} [1]", "INFO B {0} [0]", "INFO A {0} [5]");
+
+        logger.summarize();
+        assertThat(recorder.events).endsWith("INFO " + ThrottledLogger.SUMMARY + " [3, A {0}]");
+    }
+
+    @Test
+    void testSample() {
+        ThrottledLogger logger = new ThrottledLogger(recorder, ThrottledLogger.sample(3));
+
+        for (int i = 0; i < 7; i++) {
+            logger.warn("A {0}", i);
+        }
+
+        assertThat(recorder.events).containsExactly("WARN A {0} [0]", "WARN A {0} [3]", "WARN A {0} [6]");
+
+        logger.summarize();
+        assertThat(recorder.events).endsWith("WARN " + ThrottledLogger.SUMMARY + " [4, A {0}]");
+    }
+
+    @Test
+    void testLimit() {
+        ThrottledLogger logger = new ThrottledLogger(recorder, ThrottledLogger.limit(2));
+
+        for (int i = 0; i < 5; i++) {
+            logger.info("A {0}", i);
+        }
+        logger.error("A {0}", 5);
+
+        assertThat(recorder.events).containsExactly("INFO A {0} [0]", "INFO A {0} [1]");
+
+        // The summary uses the level of the last suppressed operation
+        logger.summarize();
+        assertThat(recorder.events).endsWith("ERROR " + ThrottledLogger.SUMMARY + " [4, A {0}]");
+
+        // The counters are reset after each summary
+        int size = recorder.events.size();
+        logger.summarize();
+        assertThat(recorder.events).hasSize(size);
+    }
+
+    @Test
+    void testDisabled() {
+        ThrottledLogger logger = new ThrottledLogger(recorder, ThrottledLogger.limit(1));
+
+        // The disabled levels are not counted
+        logger.trace("A");
+        logger.debug("A");
+        logger.trace("A");
+
+        logger.summarize();
+        assertThat(recorder.events).containsExactly("DEBUG A []");
+        assertThat(logger.isEnabled(Level.TRACE)).isFalse();
+    }
+
+    @Test
+    void testConcurrentLimit() throws Exception {
+        ThrottledLogger logger = new ThrottledLogger(recorder, ThrottledLogger.limit(100));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    logger.info("A");
+                }
+            }));
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(recorder.events).hasSize(100);
+
+        logger.summarize();
+        assertThat(recorder.events).endsWith("INFO " + ThrottledLogger.SUMMARY + " [3900, A]");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThat(catchThrowable(() -> ThrottledLogger.rateLimit(0, System::nanoTime)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> Log.sampled(recorder, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(catchThrowable(() -> Log.limited(recorder, -1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A logger that records its events with their parameters, and that only enables the levels greater than or equal
+     * to a threshold.
+     */
+    private static final class RecordingLogger implements Logger {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        private final Level threshold;
+
+        RecordingLogger(Level threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return level.compareTo(threshold) >= 0;
+        }
+
+        @Override
+        public void log(Level level, @Nullable Throwable e, @Nullable CharSequence message, @Nullable Object... params) {
+            if (isEnabled(level)) {
+                events.add(level + " " + message + " " + Arrays.toString(params));
+            }
+        }
+    }
+}